@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the committed baseline and exits with status 1 when a
+ * benchmark got slower, or allocates more per operation, than the tolerated ratio.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.json> <result.json> [tolerance-percent]}. Both files are
+ * in the format written by {@code -rf json}; allocation is only compared when both runs used
+ * {@code -prof gc}. The check also fails when the baseline is missing or empty, or has no entry for a
+ * benchmark in the results, since such a benchmark could regress unnoticed; benchmarks in the baseline
+ * that the run did not include are only reported.
+ */
+public final class BaselineComparator {
+
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10.0;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    /**
+     * Allocation differences below this many bytes per operation are noise, not regressions.
+     */
+    private static final double ALLOCATION_SLACK_BYTES = 16.0;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [tolerance-percent]");
+            System.exit(2);
+        }
+        double tolerance = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT) / 100.0;
+        Path baselineFile = Path.of(args[0]);
+        if (!Files.exists(baselineFile)) {
+            fail("Baseline " + baselineFile + " does not exist; record one on the CI runner");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselineFile.toFile()));
+        Map<String, JsonNode> results = index(objectMapper.readTree(Path.of(args[1]).toFile()));
+        if (baseline.isEmpty()) {
+            fail("Baseline " + baselineFile + " has no results; record one on the CI runner");
+        }
+        if (results.isEmpty()) {
+            fail("Result file " + args[1] + " has no results");
+        }
+
+        List<String> regressions = new ArrayList<>();
+        List<String> unbaselined = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                unbaselined.add(entry.getKey());
+                continue;
+            }
+            compareScore(entry.getKey(), previous, entry.getValue(), tolerance, regressions);
+            compareAllocation(entry.getKey(), previous, entry.getValue(), tolerance, regressions);
+        }
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.printf("MISSING    %s%n", key));
+
+        if (!regressions.isEmpty()) {
+            System.out.printf("%d regression(s) beyond %.1f%%:%n", regressions.size(), tolerance * 100);
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+        if (!unbaselined.isEmpty()) {
+            System.out.printf("%d benchmark(s) without a baseline:%n", unbaselined.size());
+            unbaselined.forEach(key -> System.out.println("  " + key));
+            System.out.println("Refresh the baseline with a result file recorded on the CI runner");
+            System.exit(1);
+        }
+        System.out.println("No regressions against the baseline");
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        System.exit(1);
+    }
+
+    private static void compareScore(String key, JsonNode previous, JsonNode current, double tolerance,
+                                     List<String> regressions) {
+        double before = previous.path("primaryMetric").path("score").asDouble();
+        double after = current.path("primaryMetric").path("score").asDouble();
+        String unit = current.path("primaryMetric").path("scoreUnit").asText();
+        // Throughput regresses downwards, every time-based mode upwards
+        boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+        double change = before == 0 ? 0 : (after - before) / before;
+        boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+        System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+                regressed ? "REGRESSED" : "OK", key, before, after, unit, change * 100);
+        if (regressed) {
+            regressions.add(String.format("%s score %.3f -> %.3f %s", key, before, after, unit));
+        }
+    }
+
+    private static void compareAllocation(String key, JsonNode previous, JsonNode current, double tolerance,
+                                          List<String> regressions) {
+        JsonNode before = allocation(previous);
+        JsonNode after = allocation(current);
+        if (before == null || after == null) {
+            return;
+        }
+        double bytesBefore = before.path("score").asDouble();
+        double bytesAfter = after.path("score").asDouble();
+        if (bytesAfter - bytesBefore > Math.max(ALLOCATION_SLACK_BYTES, bytesBefore * tolerance)) {
+            System.out.printf("%-10s %s: %.1f -> %.1f B/op allocated%n", "REGRESSED", key, bytesBefore, bytesAfter);
+            regressions.add(String.format("%s allocation %.1f -> %.1f B/op", key, bytesBefore, bytesAfter));
+        }
+    }
+
+    /**
+     * Finds the normalised allocation rate; older JMH versions prefix secondary metric names with a dot.
+     */
+    private static JsonNode allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Keys every result by benchmark, mode and parameters, so parameterised runs are compared pairwise.
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields()
+                    .forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            String key = result.path("benchmark").asText() + " [" + result.path("mode").asText() + "]"
+                    + (params.isEmpty() ? "" : " " + params);
+            indexed.put(key, result);
+        }
+        return indexed;
+    }
+}
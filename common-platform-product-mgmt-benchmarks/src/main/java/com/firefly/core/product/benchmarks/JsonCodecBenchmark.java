@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.benchmarks.support.BenchmarkData;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encode and decode cost of the API payloads, using an {@link ObjectMapper} configured the way
+ * Spring Boot configures the WebFlux codecs. Also covers decoding and scoping a filter request, the
+ * part of the {@code FilterUtils} path that runs before any SQL is issued.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    private static final TypeReference<PaginationResponse<ProductDTO>> PRODUCT_PAGE = new TypeReference<>() {
+    };
+    private static final TypeReference<FilterRequest<ProductConfigurationDTO>> CONFIGURATION_FILTER = new TypeReference<>() {
+    };
+
+    @Param({"100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final UUID productId = BenchmarkData.productId(0);
+
+    private ProductDTO productDto;
+    private String productJson;
+    private PaginationResponse<ProductDTO> productPage;
+    private String productPageJson;
+    private String filterRequestJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        productDto = BenchmarkData.productDto(1);
+        productJson = objectMapper.writeValueAsString(productDto);
+        List<ProductDTO> content = BenchmarkData.productDtos(pageSize);
+        productPage = PaginationResponse.<ProductDTO>builder()
+                .content(content)
+                .totalElements(10L * pageSize)
+                .totalPages(10)
+                .currentPage(0)
+                .build();
+        productPageJson = objectMapper.writeValueAsString(productPage);
+        filterRequestJson = "{\"filters\":{\"configKey\":\"limit.1\",\"configType\":\"LIMITS\"}}";
+    }
+
+    @Benchmark
+    public String encodeProduct() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(productDto);
+    }
+
+    @Benchmark
+    public ProductDTO decodeProduct() throws JsonProcessingException {
+        return objectMapper.readValue(productJson, ProductDTO.class);
+    }
+
+    @Benchmark
+    public String encodeProductPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(productPage);
+    }
+
+    @Benchmark
+    public PaginationResponse<ProductDTO> decodeProductPage() throws JsonProcessingException {
+        return objectMapper.readValue(productPageJson, PRODUCT_PAGE);
+    }
+
+    @Benchmark
+    public FilterRequest<ProductConfigurationDTO> decodeAndScopeFilterRequest() throws JsonProcessingException {
+        FilterRequest<ProductConfigurationDTO> request = objectMapper.readValue(filterRequestJson, CONFIGURATION_FILTER);
+        return FilterRequestUtils.scoped(request, ProductConfigurationDTO::new,
+                filters -> filters.setProductId(productId));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks;
+
+import com.firefly.core.product.benchmarks.support.BenchmarkData;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping cost of the generated MapStruct mappers, for single rows and full pages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+    private final ProductConfigurationMapper configurationMapper = Mappers.getMapper(ProductConfigurationMapper.class);
+
+    private Product product;
+    private ProductDTO productDto;
+    private ProductConfiguration configuration;
+    private ProductConfigurationDTO configurationDto;
+    private List<Product> page;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkData.product(1);
+        productDto = BenchmarkData.productDto(1);
+        configuration = BenchmarkData.configuration(1);
+        configurationDto = BenchmarkData.configurationDto(1);
+        page = BenchmarkData.products(pageSize);
+    }
+
+    @Benchmark
+    public ProductDTO productToDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product productToEntity() {
+        return productMapper.toEntity(productDto);
+    }
+
+    @Benchmark
+    public Product productUpdateEntityFromDto() {
+        Product target = new Product();
+        productMapper.updateEntityFromDto(productDto, target);
+        return target;
+    }
+
+    @Benchmark
+    public ProductConfigurationDTO configurationToDto() {
+        return configurationMapper.toDto(configuration);
+    }
+
+    @Benchmark
+    public ProductConfiguration configurationToEntity() {
+        return configurationMapper.toEntity(configurationDto);
+    }
+
+    @Benchmark
+    public List<ProductDTO> productPageToDtos() {
+        return page.stream().map(productMapper::toDto).toList();
+    }
+}
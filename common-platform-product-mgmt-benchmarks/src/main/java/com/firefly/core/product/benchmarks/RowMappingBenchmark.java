@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks;
+
+import com.firefly.core.product.benchmarks.support.BenchmarkData;
+import com.firefly.core.product.benchmarks.support.InMemoryRow;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import com.firefly.core.product.models.conversions.EntityConverters;
+import com.firefly.core.product.models.conversions.PostgresEnums;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import io.r2dbc.spi.Row;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Row to entity mapping cost of the R2DBC converter for pages of products and configurations: the
+ * reflective mapping with the enum columns read as text and converted by Spring Data ({@code text}) or
+ * decoded by the {@link PostgresEnums} codec ({@code codec}), and the {@link EntityConverters}
+ * ({@code handWritten}). The DTO benchmarks compare the hand-written entity read followed by the mapper
+ * with the direct {@link DtoProjections} read of the listing endpoints. The write benchmarks turn a page
+ * of products into outbound rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowMappingBenchmark {
+
+    @Param({"100"})
+    private int pageSize;
+
+    private MappingR2dbcConverter textConverter;
+    private MappingR2dbcConverter codecConverter;
+    private MappingR2dbcConverter handWrittenConverter;
+    private ProductMapper productMapper;
+
+    private List<Row> textProductRows;
+    private List<Row> codecProductRows;
+    private List<Row> textConfigurationRows;
+    private List<Row> codecConfigurationRows;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        textConverter = converter(List.of());
+        codecConverter = converter(PostgresEnums.writingConverters());
+        List<Object> converters = new ArrayList<>(PostgresEnums.writingConverters());
+        converters.addAll(EntityConverters.all());
+        handWrittenConverter = converter(converters);
+        productMapper = Mappers.getMapper(ProductMapper.class);
+        textProductRows = rows(index -> productColumns(BenchmarkData.product(index), true));
+        codecProductRows = rows(index -> productColumns(BenchmarkData.product(index), false));
+        textConfigurationRows = rows(index -> configurationColumns(BenchmarkData.configuration(index), true));
+        codecConfigurationRows = rows(index -> configurationColumns(BenchmarkData.configuration(index), false));
+        products = BenchmarkData.products(pageSize);
+    }
+
+    @Benchmark
+    public List<Product> productPageText() {
+        return read(textConverter, Product.class, textProductRows);
+    }
+
+    @Benchmark
+    public List<Product> productPageCodec() {
+        return read(codecConverter, Product.class, codecProductRows);
+    }
+
+    @Benchmark
+    public List<Product> productPageHandWritten() {
+        return read(handWrittenConverter, Product.class, codecProductRows);
+    }
+
+    @Benchmark
+    public List<ProductDTO> productDtoPageMapped() {
+        List<ProductDTO> dtos = new ArrayList<>(codecProductRows.size());
+        for (Row row : codecProductRows) {
+            dtos.add(productMapper.toDto(handWrittenConverter.read(Product.class, row, row.getMetadata())));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ProductDTO> productDtoPageProjected() {
+        List<ProductDTO> dtos = new ArrayList<>(codecProductRows.size());
+        for (Row row : codecProductRows) {
+            dtos.add(DtoProjections.product(row, row.getMetadata()));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ProductConfiguration> configurationPageText() {
+        return read(textConverter, ProductConfiguration.class, textConfigurationRows);
+    }
+
+    @Benchmark
+    public List<ProductConfiguration> configurationPageCodec() {
+        return read(codecConverter, ProductConfiguration.class, codecConfigurationRows);
+    }
+
+    @Benchmark
+    public List<ProductConfiguration> configurationPageHandWritten() {
+        return read(handWrittenConverter, ProductConfiguration.class, codecConfigurationRows);
+    }
+
+    @Benchmark
+    public List<OutboundRow> productWriteCodec() {
+        return write(codecConverter, products);
+    }
+
+    @Benchmark
+    public List<OutboundRow> productWriteHandWritten() {
+        return write(handWrittenConverter, products);
+    }
+
+    private static <T> List<T> read(MappingR2dbcConverter converter, Class<T> type, List<Row> rows) {
+        List<T> entities = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            entities.add(converter.read(type, row, row.getMetadata()));
+        }
+        return entities;
+    }
+
+    private static List<OutboundRow> write(MappingR2dbcConverter converter, List<?> entities) {
+        List<OutboundRow> rows = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            OutboundRow row = new OutboundRow();
+            converter.write(entity, row);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static MappingR2dbcConverter converter(List<Object> converters) {
+        R2dbcCustomConversions conversions = R2dbcCustomConversions.of(PostgresDialect.INSTANCE, converters);
+        R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        return new MappingR2dbcConverter(mappingContext, conversions);
+    }
+
+    private List<Row> rows(Function<Integer, Map<String, Object>> columns) {
+        List<Row> rows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            rows.add(InMemoryRow.of(columns.apply(i)));
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> productColumns(Product product, boolean enumsAsText) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("product_id", product.getProductId());
+        columns.put("tenant_id", product.getTenantId());
+        columns.put("product_category_id", product.getProductCategoryId());
+        columns.put("product_type", enumColumn(product.getProductType(), enumsAsText));
+        columns.put("product_name", product.getProductName());
+        columns.put("product_code", product.getProductCode());
+        columns.put("product_description", product.getProductDescription());
+        columns.put("product_status", enumColumn(product.getProductStatus(), enumsAsText));
+        columns.put("launch_date", product.getLaunchDate());
+        columns.put("end_date", product.getEndDate());
+        columns.put("date_created", product.getDateCreated());
+        columns.put("date_updated", product.getDateUpdated());
+        columns.put("row_version", 1L);
+        return columns;
+    }
+
+    private static Map<String, Object> configurationColumns(ProductConfiguration configuration, boolean enumsAsText) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("product_configuration_id", configuration.getProductConfigurationId());
+        columns.put("product_id", configuration.getProductId());
+        columns.put("config_type", enumColumn(configuration.getConfigType(), enumsAsText));
+        columns.put("config_key", configuration.getConfigKey());
+        columns.put("config_value", configuration.getConfigValue());
+        columns.put("date_created", configuration.getDateCreated());
+        columns.put("date_updated", configuration.getDateUpdated());
+        columns.put("row_version", 1L);
+        return columns;
+    }
+
+    // Without the codec the driver returns the label of a PostgreSQL enum as a String
+    private static Object enumColumn(Enum<?> value, boolean asText) {
+        return asText ? value.name() : value;
+    }
+}
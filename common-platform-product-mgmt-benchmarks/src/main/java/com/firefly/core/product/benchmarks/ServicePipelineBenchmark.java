@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks;
+
+import com.firefly.core.product.benchmarks.support.BenchmarkData;
+import com.firefly.core.product.benchmarks.support.InMemoryProductRepository;
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.services.impl.CachingProductService;
+import com.firefly.core.product.core.services.impl.ProductServiceImpl;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the reactive product service pipelines (lookup, mapping, cursor handling and
+ * operator overhead) against an in-memory repository, so the numbers exclude database latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServicePipelineBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private ProductService service;
+    private ProductService cachingService;
+    private UUID productId;
+    private ProductDTO update;
+
+    @Setup
+    public void setUp() {
+        ProductServiceImpl impl = new ProductServiceImpl();
+        BenchmarkData.inject(impl, "repository", InMemoryProductRepository.create(BenchmarkData.products(rows)));
+        BenchmarkData.inject(impl, "mapper", Mappers.getMapper(ProductMapper.class));
+        service = impl;
+
+        CachingProductService caching = new CachingProductService();
+        BenchmarkData.inject(caching, "delegate", impl);
+        BenchmarkData.inject(caching, "caches", new ProductCaches(
+                new ProductCacheProperties(),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+        cachingService = caching;
+
+        productId = BenchmarkData.productId(rows / 2);
+        update = BenchmarkData.productDto(rows / 2);
+        // Warm the cache so the cached benchmark measures hits only
+        cachingService.getProductById(productId).block();
+    }
+
+    @Benchmark
+    public ProductDTO getProductById() {
+        return service.getProductById(productId).block();
+    }
+
+    @Benchmark
+    public ProductDTO getProductByIdCached() {
+        return cachingService.getProductById(productId).block();
+    }
+
+    @Benchmark
+    public CursorPaginationResponse<ProductDTO> getProductsByTenantFirstPage() {
+        return service.getProductsByTenantId(BenchmarkData.TENANT_ID, null, pageSize).block();
+    }
+
+    @Benchmark
+    public Long streamProductsByTenant() {
+        return service.streamProductsByTenantId(BenchmarkData.TENANT_ID, null, pageSize).count().block();
+    }
+
+    @Benchmark
+    public ProductDTO updateProduct() {
+        return service.updateProduct(productId, update).block();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks.support;
+
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shared by the benchmarks, so runs are comparable with the baseline.
+ */
+public final class BenchmarkData {
+
+    public static final UUID TENANT_ID = UUID.fromString("00000000-0000-0000-0000-00000000a001");
+    public static final UUID CATEGORY_ID = UUID.fromString("00000000-0000-0000-0000-00000000c001");
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static UUID productId(int index) {
+        return new UUID(0x5EED_0000_0000_0000L, index);
+    }
+
+    public static Product product(int index) {
+        Product product = new Product(
+                productId(index),
+                TENANT_ID,
+                CATEGORY_ID,
+                ProductTypeEnum.FINANCIAL,
+                "Product " + index,
+                "PRD-" + index,
+                "Benchmark product number " + index + " with a description of realistic length",
+                ProductStatusEnum.ACTIVE,
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2030, 12, 31));
+        product.setDateCreated(TIMESTAMP);
+        product.setDateUpdated(TIMESTAMP);
+        return product;
+    }
+
+    public static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    public static ProductDTO productDto(int index) {
+        return ProductDTO.builder()
+                .productId(productId(index))
+                .tenantId(TENANT_ID)
+                .productCategoryId(CATEGORY_ID)
+                .productType(ProductTypeEnum.FINANCIAL)
+                .productName("Product " + index)
+                .productCode("PRD-" + index)
+                .productDescription("Benchmark product number " + index + " with a description of realistic length")
+                .productStatus(ProductStatusEnum.ACTIVE)
+                .launchDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2030, 12, 31))
+                .dateCreated(TIMESTAMP)
+                .dateUpdated(TIMESTAMP)
+                .build();
+    }
+
+    public static List<ProductDTO> productDtos(int count) {
+        List<ProductDTO> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(productDto(i));
+        }
+        return products;
+    }
+
+    public static ProductConfiguration configuration(int index) {
+        ProductConfiguration configuration = new ProductConfiguration();
+        configuration.setProductConfigurationId(new UUID(0xC0F1_0000_0000_0000L, index));
+        configuration.setProductId(productId(0));
+        configuration.setConfigType(ProductConfigTypeEnum.LIMITS);
+        configuration.setConfigKey("limit." + index);
+        configuration.setConfigValue(Integer.toString(index * 100));
+        configuration.setDateCreated(TIMESTAMP);
+        configuration.setDateUpdated(TIMESTAMP);
+        return configuration;
+    }
+
+    public static ProductConfigurationDTO configurationDto(int index) {
+        return ProductConfigurationDTO.builder()
+                .productConfigurationId(new UUID(0xC0F1_0000_0000_0000L, index))
+                .productId(productId(0))
+                .configType(ProductConfigTypeEnum.LIMITS)
+                .configKey("limit." + index)
+                .configValue(Integer.toString(index * 100))
+                .dateCreated(TIMESTAMP)
+                .dateUpdated(TIMESTAMP)
+                .build();
+    }
+
+    /**
+     * Sets a private field, standing in for Spring's field injection of the service beans.
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName + " into " + target.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks.support;
+
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import org.mapstruct.factory.Mappers;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * {@link ProductRepository} backed by a sorted in-memory map, so service pipelines can be measured
+ * without a database. Only the methods used by the benchmarked service paths are implemented; any
+ * other call fails with {@link UnsupportedOperationException}.
+ */
+public final class InMemoryProductRepository implements InvocationHandler {
+
+    private static final ProductMapper MAPPER = Mappers.getMapper(ProductMapper.class);
+
+    private final NavigableMap<UUID, Product> rows = new ConcurrentSkipListMap<>();
+
+    private InMemoryProductRepository(Collection<Product> products) {
+        products.forEach(product -> rows.put(product.getProductId(), product));
+    }
+
+    public static ProductRepository create(Collection<Product> products) {
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                new InMemoryProductRepository(products));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findById" -> Mono.justOrEmpty(rows.get((UUID) args[0]));
+            case "save" -> save((Product) args[0]);
+            case "findDtoPageByTenantId" -> tenantPage(
+                    args[1] == null ? rows : rows.tailMap((UUID) args[1], false), (UUID) args[0], (int) args[2]);
+            case "updateAll" -> Flux.fromIterable((List<Product>) args[0])
+                    .filter(product -> rows.containsKey(product.getProductId()))
+                    .doOnNext(product -> rows.put(product.getProductId(), product));
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryProductRepository[" + rows.size() + " rows]";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+
+    private Mono<Product> save(Product product) {
+        if (product.getProductId() == null) {
+            product.setProductId(UUID.randomUUID());
+        }
+        rows.put(product.getProductId(), product);
+        return Mono.just(product);
+    }
+
+    /**
+     * Projects each stored product into a new DTO, as the database fragment reads one DTO per row.
+     */
+    private static Flux<ProductDTO> tenantPage(NavigableMap<UUID, Product> source, UUID tenantId, int limit) {
+        return Flux.fromIterable(source.values())
+                .filter(product -> tenantId.equals(product.getTenantId()))
+                .take(limit)
+                .map(MAPPER::toDto);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.benchmarks.support;
+
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link Row} holding already decoded column values, so the row to entity mapping of the R2DBC
+ * converter can be measured without a driver. Values are returned as stored; asking for another
+ * type fails with {@link ClassCastException}, as it would in a driver without a matching codec.
+ */
+public final class InMemoryRow implements Row {
+
+    private final Metadata metadata;
+    private final Object[] values;
+
+    private InMemoryRow(Metadata metadata, Object[] values) {
+        this.metadata = metadata;
+        this.values = values;
+    }
+
+    /**
+     * Creates a row from column values in column order; null values are typed as {@link Object}.
+     */
+    public static InMemoryRow of(Map<String, Object> columns) {
+        List<Column> metadata = new ArrayList<>(columns.size());
+        Object[] values = new Object[columns.size()];
+        int index = 0;
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            Object value = column.getValue();
+            metadata.add(new Column(column.getKey(), value == null ? Object.class : value.getClass()));
+            values[index++] = value;
+        }
+        return new InMemoryRow(new Metadata(List.copyOf(metadata)), values);
+    }
+
+    @Override
+    public RowMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return type.cast(values[index]);
+    }
+
+    @Override
+    public <T> T get(String name, Class<T> type) {
+        return get(metadata.indexOf(name), type);
+    }
+
+    private record Column(String name, Class<?> javaType) implements ColumnMetadata {
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Class<?> getJavaType() {
+            return javaType;
+        }
+
+        @Override
+        public Type getType() {
+            return new JavaType(javaType);
+        }
+    }
+
+    private record JavaType(Class<?> javaType) implements Type {
+
+        @Override
+        public Class<?> getJavaType() {
+            return javaType;
+        }
+
+        @Override
+        public String getName() {
+            return javaType.getSimpleName();
+        }
+    }
+
+    private record Metadata(List<Column> columns) implements RowMetadata {
+
+        int indexOf(String name) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).name().equalsIgnoreCase(name)) {
+                    return i;
+                }
+            }
+            throw new NoSuchElementException("Unknown column: " + name);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return columns.get(index);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return columns.get(indexOf(name));
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return columns;
+        }
+
+        @Override
+        public boolean contains(String columnName) {
+            return columns.stream().anyMatch(column -> column.name().equalsIgnoreCase(columnName));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.batch;
+
+import com.firefly.core.product.interfaces.dtos.BatchItemResultDTO;
+import com.firefly.core.product.interfaces.dtos.BatchResponseDTO;
+import com.firefly.core.product.interfaces.enums.BatchItemStatusEnum;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executes batch requests: validates every item, splits the valid ones into chunks of
+ * {@link BatchProperties#getChunkSize()} and hands each chunk to a {@link ChunkWriter}.
+ * <p>
+ * Without {@code atomic} every chunk is committed on its own; when a chunk statement fails its items are
+ * retried one by one so that a single bad item does not fail its neighbours. With {@code atomic} all chunks
+ * run in one transaction and the first failed item rolls back the whole batch: the failed items are reported
+ * as {@link BatchItemStatusEnum#FAILED}, all others as {@link BatchItemStatusEnum#ROLLED_BACK}.
+ */
+@Component
+public class BatchExecutor {
+
+    private final BatchProperties properties;
+    private final TransactionalOperator transactionalOperator;
+
+    public BatchExecutor(BatchProperties properties, TransactionalOperator transactionalOperator) {
+        this.properties = properties;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /**
+     * Executes a batch.
+     *
+     * @param items the request items
+     * @param atomic whether the batch is written all-or-nothing
+     * @param validator returns the reason an item is rejected before any write, or null when it is valid
+     * @param identifier returns the identifier of the entity an item targets, or null when not yet known
+     * @param writer writes one chunk of valid items
+     * @return a Mono emitting one result per item, in request order
+     */
+    public <I, R> Mono<BatchResponseDTO<R>> execute(Flux<I> items, boolean atomic,
+                                                   Function<I, String> validator,
+                                                   Function<I, UUID> identifier,
+                                                   ChunkWriter<I, R> writer) {
+        return items
+                .index((index, item) -> new BatchItem<>(index.intValue(), item))
+                .collectList()
+                .flatMap(batch -> {
+                    List<BatchItemResultDTO<R>> rejected = new ArrayList<>();
+                    List<BatchItem<I>> accepted = new ArrayList<>(batch.size());
+                    for (BatchItem<I> item : batch) {
+                        String error = validator.apply(item.value());
+                        if (error == null) {
+                            accepted.add(item);
+                        } else {
+                            rejected.add(BatchResults.failed(item.index(), identifier.apply(item.value()), error));
+                        }
+                    }
+
+                    Mono<List<BatchItemResultDTO<R>>> written;
+                    if (!atomic) {
+                        written = writeIndependently(accepted, writer);
+                    } else if (rejected.isEmpty()) {
+                        written = writeAtomically(accepted, identifier, writer);
+                    } else {
+                        written = Mono.just(rollBack(accepted, identifier, Map.of()));
+                    }
+                    return written.map(results -> respond(batch.size(), rejected, results));
+                });
+    }
+
+    private <I, R> Mono<List<BatchItemResultDTO<R>>> writeIndependently(List<BatchItem<I>> items,
+                                                                       ChunkWriter<I, R> writer) {
+        return Flux.fromIterable(items)
+                .buffer(properties.effectiveChunkSize())
+                .concatMap(chunk -> writer.write(chunk)
+                        .collectList()
+                        .onErrorResume(error -> Flux.fromIterable(chunk)
+                                .concatMap(item -> writer.write(List.of(item))
+                                        .onErrorResume(itemError -> Mono.just(
+                                                BatchResults.<R>failed(item.index(), null, itemError.getMessage()))))
+                                .collectList()))
+                .concatMapIterable(Function.identity())
+                .collectList();
+    }
+
+    private <I, R> Mono<List<BatchItemResultDTO<R>>> writeAtomically(List<BatchItem<I>> items,
+                                                                    Function<I, UUID> identifier,
+                                                                    ChunkWriter<I, R> writer) {
+        Mono<List<BatchItemResultDTO<R>>> written = Flux.fromIterable(items)
+                .buffer(properties.effectiveChunkSize())
+                .concatMap(chunk -> writer.write(chunk)
+                        .collectList()
+                        .onErrorMap(error -> new BatchAbortedException(chunk.stream()
+                                .map(item -> BatchResults.<R>failed(item.index(), identifier.apply(item.value()), error.getMessage()))
+                                .collect(Collectors.toList())))
+                        .flatMap(results -> {
+                            List<BatchItemResultDTO<R>> failures = results.stream()
+                                    .filter(result -> result.getStatus() == BatchItemStatusEnum.FAILED)
+                                    .collect(Collectors.toList());
+                            if (!failures.isEmpty()) {
+                                return Mono.<List<BatchItemResultDTO<R>>>error(new BatchAbortedException(failures));
+                            }
+                            return Mono.just(results);
+                        }))
+                .concatMapIterable(Function.identity())
+                .collectList();
+        return transactionalOperator.transactional(written)
+                .onErrorResume(BatchAbortedException.class,
+                        aborted -> Mono.just(rollBack(items, identifier, aborted.failuresByIndex())));
+    }
+
+    /**
+     * Reports the given failures as failed and every other item as rolled back.
+     */
+    @SuppressWarnings("unchecked")
+    private static <I, R> List<BatchItemResultDTO<R>> rollBack(List<BatchItem<I>> items,
+                                                             Function<I, UUID> identifier,
+                                                             Map<Integer, BatchItemResultDTO<?>> failures) {
+        List<BatchItemResultDTO<R>> results = new ArrayList<>(items.size());
+        for (BatchItem<I> item : items) {
+            BatchItemResultDTO<?> failure = failures.get(item.index());
+            results.add(failure != null
+                    ? (BatchItemResultDTO<R>) failure
+                    : BatchResults.rolledBack(item.index(), identifier.apply(item.value()),
+                            "Batch rolled back because another item failed"));
+        }
+        return results;
+    }
+
+    private static <R> BatchResponseDTO<R> respond(int total, List<BatchItemResultDTO<R>> rejected,
+                                                   List<BatchItemResultDTO<R>> written) {
+        List<BatchItemResultDTO<R>> results = new ArrayList<>(total);
+        results.addAll(rejected);
+        results.addAll(written);
+        results.sort(Comparator.comparingInt(BatchItemResultDTO::getIndex));
+        int succeeded = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchItemStatusEnum.SUCCEEDED)
+                .count();
+        return BatchResponseDTO.<R>builder()
+                .total(total)
+                .succeeded(succeeded)
+                .failed(total - succeeded)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Aborts the transaction of an atomic batch, carrying the results of the failed items.
+     */
+    private static class BatchAbortedException extends RuntimeException {
+
+        private final transient List<? extends BatchItemResultDTO<?>> failures;
+
+        BatchAbortedException(List<? extends BatchItemResultDTO<?>> failures) {
+            super("Batch aborted after " + failures.size() + " failed item(s)", null, false, false);
+            this.failures = failures;
+        }
+
+        Map<Integer, BatchItemResultDTO<?>> failuresByIndex() {
+            Map<Integer, BatchItemResultDTO<?>> byIndex = new HashMap<>();
+            for (BatchItemResultDTO<?> failure : failures) {
+                byIndex.put(failure.getIndex(), failure);
+            }
+            return byIndex;
+        }
+    }
+}
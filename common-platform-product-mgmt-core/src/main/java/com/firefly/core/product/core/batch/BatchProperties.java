@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the batch write endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.batch")
+public class BatchProperties {
+
+    /**
+     * Upper bound of the chunk size, keeps a multi-row statement well below the PostgreSQL
+     * limit of 65535 bind parameters.
+     */
+    public static final int MAX_CHUNK_SIZE = 5_000;
+
+    /**
+     * Number of items written by a single multi-row statement.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Returns the chunk size clamped to {@code [1, MAX_CHUNK_SIZE]}.
+     */
+    public int effectiveChunkSize() {
+        return Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.batch;
+
+import com.firefly.core.product.interfaces.dtos.BatchItemResultDTO;
+import com.firefly.core.product.interfaces.enums.BatchItemStatusEnum;
+
+import java.util.UUID;
+
+/**
+ * Factory methods for {@link BatchItemResultDTO}.
+ */
+public final class BatchResults {
+
+    private BatchResults() {
+    }
+
+    public static <R> BatchItemResultDTO<R> succeeded(int index, UUID id, R data) {
+        return BatchItemResultDTO.<R>builder()
+                .index(index)
+                .status(BatchItemStatusEnum.SUCCEEDED)
+                .id(id)
+                .data(data)
+                .build();
+    }
+
+    public static <R> BatchItemResultDTO<R> failed(int index, UUID id, String error) {
+        return BatchItemResultDTO.<R>builder()
+                .index(index)
+                .status(BatchItemStatusEnum.FAILED)
+                .id(id)
+                .error(error)
+                .build();
+    }
+
+    public static <R> BatchItemResultDTO<R> rolledBack(int index, UUID id, String error) {
+        return BatchItemResultDTO.<R>builder()
+                .index(index)
+                .status(BatchItemStatusEnum.ROLLED_BACK)
+                .id(id)
+                .error(error)
+                .build();
+    }
+}
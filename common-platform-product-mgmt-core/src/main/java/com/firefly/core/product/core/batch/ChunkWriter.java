@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.batch;
+
+import com.firefly.core.product.interfaces.dtos.BatchItemResultDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Writes one chunk of a batch, typically with a single multi-row statement.
+ *
+ * @param <I> the type of the request items
+ * @param <R> the type of the result data
+ */
+@FunctionalInterface
+public interface ChunkWriter<I, R> {
+
+    /**
+     * Writes the chunk.
+     *
+     * @param chunk the items to write
+     * @return a Flux emitting exactly one result per item, or an error if the statement failed
+     */
+    Flux<BatchItemResultDTO<R>> write(List<BatchItem<I>> chunk);
+}
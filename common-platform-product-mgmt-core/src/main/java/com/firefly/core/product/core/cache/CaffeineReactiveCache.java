@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-process {@link ReactiveCache} backed by a size and TTL bounded Caffeine {@link AsyncCache}.
+ * The cache stores the load future, so concurrent misses for the same key subscribe to the same load.
+ */
+public class CaffeineReactiveCache<K, V> implements ReactiveCache<K, V>, MeterBinder {
+
+    private final String name;
+    private final AsyncCache<K, V> cache;
+
+    public CaffeineReactiveCache(String name, long maximumSize, Duration timeToLive) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+    }
+
+    @Override
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        // A null completion (empty loader) or a failed future is never retained by Caffeine.
+        // Cancellation is suppressed so one cancelled subscriber does not abort a load shared with others.
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> loader.apply(k).toFuture()), true);
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Mono<Map<K, V>>> loader) {
+        return Mono.fromFuture(() -> cache.getAll(keys, (missing, executor) ->
+                loader.apply(new LinkedHashSet<>(missing)).defaultIfEmpty(Map.of()).toFuture()), true);
+    }
+
+    @Override
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    @Override
+    public void invalidateIfStale(K key, Predicate<V> stale) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally() && stale.test(cached.join())) {
+            // Only removes the entry that was tested, not one loaded again in the meantime
+            cache.asMap().remove(key, cached);
+        }
+    }
+
+    @Override
+    public void invalidateIf(Predicate<K> predicate) {
+        cache.asMap().keySet().removeIf(predicate);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.product.core.localization.LocaleFallbackChain;
+import com.firefly.core.product.core.services.CatalogueChangeService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Evicts cached entries from the committed changes of the catalogue change feed. Every instance follows
+ * the feed from the position it had reached when it started, so a write made through any instance evicts
+ * the entries of all of them once the outbox relay has published it; entries are therefore stale for at
+ * most the relay and feed poll intervals instead of the cache time to live. The evictions done by the
+ * caching services on the writing instance only make its own reads see the write sooner.
+ * <p>
+ * After a failure the feed is followed again from the last change applied, so no change is skipped.
+ */
+@Slf4j
+@Component
+public class CatalogueCacheInvalidator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ProductCaches caches;
+    private final ProductCacheProperties properties;
+    private final CatalogueChangeService changeService;
+    private final CatalogueChangeRepository repository;
+    private final AtomicReference<String> position = new AtomicReference<>();
+    private volatile Disposable subscription;
+
+    public CatalogueCacheInvalidator(ProductCaches caches, ProductCacheProperties properties,
+                                     CatalogueChangeService changeService, CatalogueChangeRepository repository) {
+        this.caches = caches;
+        this.properties = properties;
+        this.changeService = changeService;
+        this.repository = repository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled() || !properties.isFollowChangeFeed()) {
+            return;
+        }
+        subscription = follow()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofMinutes(1)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Follows the change feed from the last applied change, or from the newest published change on the
+     * first subscription, and evicts the entries each change makes stale.
+     *
+     * @return an endless Flux of the applied changes
+     */
+    Flux<CatalogueChangeEventDTO> follow() {
+        return Mono.defer(() -> position.get() != null
+                        ? Mono.just(position.get())
+                        : repository.findLastSequenceNumber().map(CursorUtils::encodeSequence))
+                .flatMapMany(changeService::streamChanges)
+                .doOnNext(change -> {
+                    evict(change);
+                    position.set(change.getCursor());
+                })
+                .doOnError(error -> log.warn("Following the catalogue change feed failed: {}", error.getMessage()));
+    }
+
+    void evict(CatalogueChangeEventDTO change) {
+        UUID productId = change.getAggregateId();
+        switch (change.getEntityType()) {
+            case PRODUCT -> {
+                if (change.getChangeType() == ChangeTypeEnum.DELETED) {
+                    caches.evictProduct(productId);
+                } else {
+                    caches.products().invalidate(productId);
+                }
+            }
+            case PRODUCT_CONFIGURATION -> caches.evictConfigurations(productId);
+            case PRODUCT_LOCALIZATION -> {
+                caches.localizationsById().invalidate(new ProductScopedKey<>(productId, change.getEntityId()));
+                evictLanguage(productId, change);
+            }
+            case PRODUCT_DOCUMENTATION_REQUIREMENT -> caches.documentationRequirementSets().invalidate(productId);
+            default -> {
+                // Nothing cached depends on the other entities; version snapshots are immutable
+            }
+        }
+    }
+
+    /**
+     * Evicts the language of a new localization. The previous language of an updated or deleted
+     * localization is not part of the change, so those evict every language of the product.
+     */
+    private void evictLanguage(UUID productId, CatalogueChangeEventDTO change) {
+        String languageCode = change.getChangeType() == ChangeTypeEnum.CREATED
+                ? languageCode(change.getPayload())
+                : null;
+        if (languageCode == null) {
+            caches.localizationsByLanguage().invalidateIf(key -> key.belongsTo(productId));
+        } else {
+            caches.localizationsByLanguage().invalidate(
+                    new ProductScopedKey<>(productId, LocaleFallbackChain.canonical(languageCode)));
+        }
+    }
+
+    private static String languageCode(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            JsonNode languageCode = OBJECT_MAPPER.readTree(payload).get("language_code");
+            return languageCode == null || languageCode.isNull() ? null : languageCode.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
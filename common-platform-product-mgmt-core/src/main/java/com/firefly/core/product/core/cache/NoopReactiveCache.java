@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@link ReactiveCache} that always delegates to the loader. Used when caching is disabled.
+ */
+public class NoopReactiveCache<K, V> implements ReactiveCache<K, V> {
+
+    @Override
+    public Mono<V> get(K key, Function<K, Mono<V>> loader) {
+        return Mono.defer(() -> loader.apply(key));
+    }
+
+    @Override
+    public Mono<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Mono<Map<K, V>>> loader) {
+        return Mono.defer(() -> loader.apply(new LinkedHashSet<>(keys))).defaultIfEmpty(Map.of());
+    }
+
+    @Override
+    public void invalidate(K key) {
+    }
+
+    @Override
+    public void invalidateIfStale(K key, Predicate<V> stale) {
+    }
+
+    @Override
+    public void invalidateIf(Predicate<K> predicate) {
+    }
+
+    @Override
+    public void invalidateAll() {
+    }
+}
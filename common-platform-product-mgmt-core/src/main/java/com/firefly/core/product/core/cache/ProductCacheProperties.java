@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process catalogue caches.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * Whether the read-through caches are enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of entries held by each cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time an entry is kept after being loaded.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /**
+     * Whether entries are also evicted from the committed changes of the catalogue change feed, so that
+     * writes made through other instances are seen before the entries expire.
+     */
+    private boolean followChangeFeed = true;
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import com.firefly.core.product.core.configuration.ResolvedProductConfiguration;
+import com.firefly.core.product.core.documentation.DocumentationRequirementSet;
+import com.firefly.core.product.core.snapshot.ProductVersionSnapshot;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of the catalogue caches. Creates every cache with the configured bounds, binds its
+ * hit/miss/eviction statistics to the Micrometer registry and knows how to evict everything cached
+ * for a product.
+ */
+@Component
+public class ProductCaches {
+
+    private final ProductCacheProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<ReactiveCache<? extends ProductScopedKey<?>, ?>> productScopedCaches = new CopyOnWriteArrayList<>();
+
+    private final ReactiveCache<UUID, ProductDTO> products;
+    private final ReactiveCache<ProductScopedKey<UUID>, ProductConfigurationDTO> configurationsById;
+    private final ReactiveCache<ProductScopedKey<String>, ProductConfigurationDTO> configurationsByKey;
+    private final ReactiveCache<ProductScopedKey<UUID>, ProductLocalizationDTO> localizationsById;
+    private final ReactiveCache<UUID, ResolvedProductConfiguration> resolvedConfigurations;
+    private final ReactiveCache<UUID, ProductVersionSnapshot> versionSnapshots;
+    private final ReactiveCache<ProductScopedKey<String>, Optional<ProductLocalizationDTO>> localizationsByLanguage;
+    private final ReactiveCache<UUID, DocumentationRequirementSet> documentationRequirementSets;
+
+    public ProductCaches(ProductCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.products = create("products");
+        this.configurationsById = createProductScoped("product-configurations");
+        this.configurationsByKey = createProductScoped("product-configurations-by-key");
+        this.localizationsById = createProductScoped("product-localizations");
+        this.resolvedConfigurations = create("product-resolved-configurations");
+        this.versionSnapshots = create("product-version-snapshots");
+        this.localizationsByLanguage = createProductScoped("product-localizations-by-language");
+        this.documentationRequirementSets = create("product-documentation-requirement-sets");
+    }
+
+    /**
+     * Creates a cache with the configured bounds and registers its metrics.
+     *
+     * @param name the cache name, used as the {@code cache} tag of the metrics
+     * @return the new cache, or a pass-through cache when caching is disabled
+     */
+    public <K, V> ReactiveCache<K, V> create(String name) {
+        if (!properties.isEnabled()) {
+            return new NoopReactiveCache<>();
+        }
+        CaffeineReactiveCache<K, V> cache =
+                new CaffeineReactiveCache<>(name, properties.getMaximumSize(), properties.getTimeToLive());
+        meterRegistry.ifAvailable(cache::bindTo);
+        return cache;
+    }
+
+    /**
+     * Creates a cache keyed by {@link ProductScopedKey} whose entries are evicted by {@link #evictProduct(UUID)}.
+     *
+     * @param name the cache name, used as the {@code cache} tag of the metrics
+     * @return the new cache
+     */
+    public <T, V> ReactiveCache<ProductScopedKey<T>, V> createProductScoped(String name) {
+        ReactiveCache<ProductScopedKey<T>, V> cache = create(name);
+        productScopedCaches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Evicts the product and every product-scoped entry belonging to it.
+     *
+     * @param productId the unique identifier of the product
+     */
+    public void evictProduct(UUID productId) {
+        products.invalidate(productId);
+        resolvedConfigurations.invalidate(productId);
+        documentationRequirementSets.invalidate(productId);
+        productScopedCaches.forEach(cache -> evictProductScoped(cache, productId));
+    }
+
+    /**
+     * Evicts every cached configuration of the product, including its resolved configurations.
+     *
+     * @param productId the unique identifier of the product
+     */
+    public void evictConfigurations(UUID productId) {
+        configurationsById.invalidateIf(key -> key.belongsTo(productId));
+        configurationsByKey.invalidateIf(key -> key.belongsTo(productId));
+        resolvedConfigurations.invalidate(productId);
+    }
+
+    public ReactiveCache<UUID, ProductDTO> products() {
+        return products;
+    }
+
+    public ReactiveCache<ProductScopedKey<UUID>, ProductConfigurationDTO> configurationsById() {
+        return configurationsById;
+    }
+
+    public ReactiveCache<ProductScopedKey<String>, ProductConfigurationDTO> configurationsByKey() {
+        return configurationsByKey;
+    }
+
+    public ReactiveCache<ProductScopedKey<UUID>, ProductLocalizationDTO> localizationsById() {
+        return localizationsById;
+    }
+
+    public ReactiveCache<UUID, ResolvedProductConfiguration> resolvedConfigurations() {
+        return resolvedConfigurations;
+    }
+
+    /**
+     * Snapshots by product version ID. Snapshots are immutable, so writes to the product never evict them.
+     */
+    public ReactiveCache<UUID, ProductVersionSnapshot> versionSnapshots() {
+        return versionSnapshots;
+    }
+
+    /**
+     * The localization of a product in a canonical language tag, for the localization resolver. A product
+     * without a localization in the language is cached as empty, since most fallback steps miss. Evicted by
+     * product and language on localization writes.
+     */
+    public ReactiveCache<ProductScopedKey<String>, Optional<ProductLocalizationDTO>> localizationsByLanguage() {
+        return localizationsByLanguage;
+    }
+
+    /**
+     * Compiled documentation requirements by product ID, for the documentation checklist.
+     * Evicted by product on documentation requirement writes.
+     */
+    public ReactiveCache<UUID, DocumentationRequirementSet> documentationRequirementSets() {
+        return documentationRequirementSets;
+    }
+
+    private static <K extends ProductScopedKey<?>> void evictProductScoped(ReactiveCache<K, ?> cache, UUID productId) {
+        cache.invalidateIf(key -> key.belongsTo(productId));
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import java.util.UUID;
+
+/**
+ * Cache key for entities owned by a product, so all entries of a product can be evicted at once.
+ *
+ * @param productId the owning product
+ * @param key the entity key within the product (identifier, config key, ...)
+ */
+public record ProductScopedKey<T>(UUID productId, T key) {
+
+    public boolean belongsTo(UUID productId) {
+        return this.productId.equals(productId);
+    }
+}
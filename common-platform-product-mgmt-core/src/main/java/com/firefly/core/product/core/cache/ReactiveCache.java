@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reactive read-through cache abstraction used in front of the catalogue services.
+ * Implementations must not cache empty results or errors.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public interface ReactiveCache<K, V> {
+
+    /**
+     * Returns the cached value for the given key, loading it with the given loader on a miss.
+     * Concurrent misses for the same key share a single load.
+     *
+     * @param key the cache key
+     * @param loader the function loading the value when it is not cached
+     * @return a Mono emitting the cached or loaded value, or empty if the loader is empty
+     */
+    Mono<V> get(K key, Function<K, Mono<V>> loader);
+
+    /**
+     * Returns the cached values for the given keys, loading every key that is not cached with a single
+     * call of the given loader. Keys the loader does not return are neither cached nor part of the result.
+     *
+     * @param keys the cache keys
+     * @param loader the function loading the values of the keys that are not cached
+     * @return a Mono emitting the cached and loaded values by key
+     */
+    Mono<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Mono<Map<K, V>>> loader);
+
+    /**
+     * Removes the entry for the given key, including any load in flight.
+     *
+     * @param key the cache key
+     */
+    void invalidate(K key);
+
+    /**
+     * Removes the loaded entry for the given key if its value matches the given predicate. A load in
+     * flight is left alone.
+     *
+     * @param key the cache key
+     * @param stale the predicate selecting a value that must not be served any more
+     */
+    void invalidateIfStale(K key, Predicate<V> stale);
+
+    /**
+     * Removes every entry whose key matches the given predicate.
+     *
+     * @param predicate the predicate selecting the keys to remove
+     */
+    void invalidateIf(Predicate<K> predicate);
+
+    /**
+     * Removes every entry of the cache.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.core.product.interfaces.enums.ConfigValueTypeEnum;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * Detects the type of a stored configuration value and parses it. The first matching rule wins:
+ * <ol>
+ *     <li>{@code true} / {@code false} (case-insensitive) is a {@link ConfigValueTypeEnum#BOOLEAN}</li>
+ *     <li>an integral number within the {@code long} range is an {@link ConfigValueTypeEnum#INTEGER}</li>
+ *     <li>any other plain or scientific number is a {@link ConfigValueTypeEnum#DECIMAL}</li>
+ *     <li>an ISO-8601 duration such as {@code PT30M} or {@code P2D} is a {@link ConfigValueTypeEnum#DURATION}</li>
+ *     <li>a JSON object or array is {@link ConfigValueTypeEnum#JSON}</li>
+ *     <li>anything else, including null, stays a {@link ConfigValueTypeEnum#STRING}</li>
+ * </ol>
+ */
+public final class ConfigValueParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern INTEGER = Pattern.compile("[-+]?\\d+");
+    private static final Pattern DECIMAL = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+    private ConfigValueParser() {
+    }
+
+    public static ResolvedConfigurationValue parse(String raw) {
+        if (raw == null) {
+            return new ResolvedConfigurationValue(ConfigValueTypeEnum.STRING, null, null);
+        }
+        String value = raw.trim();
+        if ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value)) {
+            return new ResolvedConfigurationValue(ConfigValueTypeEnum.BOOLEAN, Boolean.parseBoolean(value), raw);
+        }
+        if (INTEGER.matcher(value).matches()) {
+            try {
+                return new ResolvedConfigurationValue(ConfigValueTypeEnum.INTEGER, Long.parseLong(value), raw);
+            } catch (NumberFormatException e) {
+                // Out of the long range, kept exact as a decimal
+                return new ResolvedConfigurationValue(ConfigValueTypeEnum.DECIMAL, new BigDecimal(value), raw);
+            }
+        }
+        if (DECIMAL.matcher(value).matches()) {
+            return new ResolvedConfigurationValue(ConfigValueTypeEnum.DECIMAL, new BigDecimal(value), raw);
+        }
+        if (value.length() > 1 && (value.charAt(0) == 'P' || value.charAt(0) == 'p')) {
+            try {
+                return new ResolvedConfigurationValue(ConfigValueTypeEnum.DURATION, Duration.parse(value), raw);
+            } catch (DateTimeParseException e) {
+                // Not a duration, e.g. a period in months or a word starting with P
+            }
+        }
+        if (value.startsWith("{") || value.startsWith("[")) {
+            try {
+                return new ResolvedConfigurationValue(ConfigValueTypeEnum.JSON, OBJECT_MAPPER.readTree(value), raw);
+            } catch (JsonProcessingException e) {
+                // Not well-formed JSON, kept as text
+            }
+        }
+        return new ResolvedConfigurationValue(ConfigValueTypeEnum.STRING, raw, raw);
+    }
+}
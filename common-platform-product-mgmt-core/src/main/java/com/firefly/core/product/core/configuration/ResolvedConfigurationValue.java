@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.configuration;
+
+import com.firefly.core.product.interfaces.enums.ConfigValueTypeEnum;
+
+/**
+ * A configuration value parsed once into its detected type.
+ *
+ * @param type the detected type
+ * @param value the parsed value: {@link Boolean}, {@link Long}, {@link java.math.BigDecimal},
+ *              {@link java.time.Duration}, {@link com.fasterxml.jackson.databind.JsonNode} or {@link String}
+ * @param raw the value as stored
+ */
+public record ResolvedConfigurationValue(ConfigValueTypeEnum type, Object value, String raw) {
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.configuration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.firefly.core.product.interfaces.enums.ConfigValueTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Compiled, immutable view of all configurations of a product. Values are parsed once by
+ * {@link ConfigValueParser}, so a lookup is a hash probe by configuration type and key.
+ * <p>
+ * The typed getters return empty when the key is absent and throw an {@link IllegalStateException}
+ * when the value has a different type; integers are accepted where a decimal is expected.
+ * Returned JSON documents are shared and must not be modified.
+ */
+public final class ResolvedProductConfiguration {
+
+    private final UUID productId;
+    private final Map<ProductConfigTypeEnum, Map<String, ResolvedConfigurationValue>> values;
+
+    private ResolvedProductConfiguration(UUID productId, Map<ProductConfigTypeEnum, Map<String, ResolvedConfigurationValue>> values) {
+        this.productId = productId;
+        this.values = values;
+    }
+
+    /**
+     * Parses the configurations of a product into a snapshot.
+     *
+     * @param productId the unique identifier of the product
+     * @param configurations all configurations of the product
+     * @return the compiled snapshot
+     */
+    public static ResolvedProductConfiguration compile(UUID productId, Collection<ProductConfiguration> configurations) {
+        Map<ProductConfigTypeEnum, Map<String, ResolvedConfigurationValue>> byType = new EnumMap<>(ProductConfigTypeEnum.class);
+        for (ProductConfiguration configuration : configurations) {
+            byType.computeIfAbsent(configuration.getConfigType(), type -> new HashMap<>())
+                    .put(configuration.getConfigKey(), ConfigValueParser.parse(configuration.getConfigValue()));
+        }
+        byType.replaceAll((type, byKey) -> Collections.unmodifiableMap(byKey));
+        return new ResolvedProductConfiguration(productId, Collections.unmodifiableMap(byType));
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    /**
+     * Returns every value, by configuration type and then by configuration key.
+     */
+    public Map<ProductConfigTypeEnum, Map<String, ResolvedConfigurationValue>> getValues() {
+        return values;
+    }
+
+    public Optional<ResolvedConfigurationValue> get(ProductConfigTypeEnum type, String key) {
+        Map<String, ResolvedConfigurationValue> byKey = values.get(type);
+        return byKey == null ? Optional.empty() : Optional.ofNullable(byKey.get(key));
+    }
+
+    public Optional<Boolean> getBoolean(ProductConfigTypeEnum type, String key) {
+        return typed(type, key, ConfigValueTypeEnum.BOOLEAN, Boolean.class);
+    }
+
+    public Optional<Long> getInteger(ProductConfigTypeEnum type, String key) {
+        return typed(type, key, ConfigValueTypeEnum.INTEGER, Long.class);
+    }
+
+    public Optional<BigDecimal> getDecimal(ProductConfigTypeEnum type, String key) {
+        return get(type, key).map(value -> switch (value.type()) {
+            case DECIMAL -> (BigDecimal) value.value();
+            case INTEGER -> BigDecimal.valueOf((Long) value.value());
+            default -> throw mismatch(type, key, value, ConfigValueTypeEnum.DECIMAL);
+        });
+    }
+
+    public Optional<Duration> getDuration(ProductConfigTypeEnum type, String key) {
+        return typed(type, key, ConfigValueTypeEnum.DURATION, Duration.class);
+    }
+
+    public Optional<JsonNode> getJson(ProductConfigTypeEnum type, String key) {
+        return typed(type, key, ConfigValueTypeEnum.JSON, JsonNode.class);
+    }
+
+    /**
+     * Returns the value as stored, whatever its detected type.
+     */
+    public Optional<String> getString(ProductConfigTypeEnum type, String key) {
+        return get(type, key).map(ResolvedConfigurationValue::raw);
+    }
+
+    private <T> Optional<T> typed(ProductConfigTypeEnum type, String key, ConfigValueTypeEnum expected, Class<T> javaType) {
+        return get(type, key).map(value -> {
+            if (value.type() != expected) {
+                throw mismatch(type, key, value, expected);
+            }
+            return javaType.cast(value.value());
+        });
+    }
+
+    private IllegalStateException mismatch(ProductConfigTypeEnum type, String key, ResolvedConfigurationValue value,
+                                           ConfigValueTypeEnum expected) {
+        return new IllegalStateException("Configuration " + type + "/" + key + " of product " + productId
+                + " is " + value.type() + ", not " + expected);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.delta;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position in the catalogue delta sync. Entities of all types are read in one order: write time, then
+ * kind (the ordinal of the entity type, tombstones last), then identifier compared as unsigned bytes
+ * like PostgreSQL does. Tokens are the URL-safe Base64 encoding of the position.
+ *
+ * @param dateUpdated the write time of the last entity returned
+ * @param kind        the kind of the last entity returned
+ * @param id          the identifier of the last entity returned
+ */
+public record DeltaWatermark(LocalDateTime dateUpdated, int kind, UUID id) {
+
+    /**
+     * Kind of the tombstones of deleted entities, after every entity type.
+     */
+    public static final int TOMBSTONE_KIND = 8;
+
+    /**
+     * Position before every write, for clients that start a sync.
+     */
+    public static final DeltaWatermark START = new DeltaWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), -1, new UUID(0L, 0L));
+
+    public static final Comparator<DeltaWatermark> ORDER = Comparator.comparing(DeltaWatermark::dateUpdated)
+            .thenComparingInt(DeltaWatermark::kind)
+            .thenComparing(DeltaWatermark::id, DeltaWatermark::compareUnsigned);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    private static final int TOKEN_LENGTH = 8 + 1 + 16;
+
+    /**
+     * Translates this position into the {@code (date_updated, id) > (dateUpdated, afterId)} keyset of one
+     * kind: kinds ordered before this one have already been read up to and including this write time,
+     * kinds ordered after it not at all.
+     *
+     * @param rowKind the kind read by the keyset query
+     * @return the identifier to read after at {@link #dateUpdated()}
+     */
+    public UUID afterIdFor(int rowKind) {
+        if (rowKind < kind) {
+            return MAX_ID;
+        }
+        return rowKind > kind ? MIN_ID : id;
+    }
+
+    /**
+     * Encodes this position as an opaque watermark token.
+     *
+     * @return the watermark token
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH);
+        buffer.putLong(ChronoUnit.MICROS.between(EPOCH, dateUpdated));
+        buffer.put((byte) kind);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a watermark token previously produced by {@link #encode()}.
+     *
+     * @param token the watermark token, may be null or blank to start a sync
+     * @return the position to resume after, {@link #START} when no token is given
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static DeltaWatermark decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid watermark token: " + token, e);
+        }
+        if (bytes.length != TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid watermark token: " + token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        LocalDateTime dateUpdated = EPOCH.plus(buffer.getLong(), ChronoUnit.MICROS);
+        int kind = buffer.get();
+        if (kind < -1 || kind > TOMBSTONE_KIND) {
+            throw new IllegalArgumentException("Invalid watermark token: " + token);
+        }
+        return new DeltaWatermark(dateUpdated, kind, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+
+    private static int compareUnsigned(UUID left, UUID right) {
+        int result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+}
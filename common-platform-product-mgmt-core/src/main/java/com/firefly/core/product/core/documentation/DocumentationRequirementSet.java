@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.documentation;
+
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Documentation requirements of one product compiled into mandatory and optional {@link EnumSet}s, so
+ * that checklists over many products merge and subtract them as bitmasks. A type listed both as
+ * mandatory and as optional is mandatory. Instances are immutable.
+ */
+public final class DocumentationRequirementSet {
+
+    private static final DocumentationRequirementSet EMPTY = new DocumentationRequirementSet(
+            EnumSet.noneOf(ContractingDocTypeEnum.class), EnumSet.noneOf(ContractingDocTypeEnum.class));
+
+    private final EnumSet<ContractingDocTypeEnum> mandatory;
+    private final EnumSet<ContractingDocTypeEnum> optional;
+
+    private DocumentationRequirementSet(EnumSet<ContractingDocTypeEnum> mandatory,
+                                        EnumSet<ContractingDocTypeEnum> optional) {
+        this.mandatory = mandatory;
+        this.optional = optional;
+    }
+
+    /**
+     * Compiles the documentation requirements of a product. Requirements without a type are ignored,
+     * and a requirement without a mandatory flag is optional.
+     *
+     * @param requirements the requirements of one product
+     * @return the compiled set, empty when the product has no requirements
+     */
+    public static DocumentationRequirementSet of(Collection<ProductDocumentationRequirement> requirements) {
+        if (requirements.isEmpty()) {
+            return EMPTY;
+        }
+        EnumSet<ContractingDocTypeEnum> mandatory = EnumSet.noneOf(ContractingDocTypeEnum.class);
+        EnumSet<ContractingDocTypeEnum> optional = EnumSet.noneOf(ContractingDocTypeEnum.class);
+        for (ProductDocumentationRequirement requirement : requirements) {
+            if (requirement.getDocType() != null) {
+                (Boolean.TRUE.equals(requirement.getIsMandatory()) ? mandatory : optional).add(requirement.getDocType());
+            }
+        }
+        optional.removeAll(mandatory);
+        return new DocumentationRequirementSet(mandatory, optional);
+    }
+
+    /**
+     * Adds the requirements of this set to the given accumulators.
+     *
+     * @param mandatoryTypes accumulator of the mandatory types
+     * @param optionalTypes  accumulator of the optional types
+     */
+    public void addTo(EnumSet<ContractingDocTypeEnum> mandatoryTypes, EnumSet<ContractingDocTypeEnum> optionalTypes) {
+        mandatoryTypes.addAll(mandatory);
+        optionalTypes.addAll(optional);
+    }
+
+    public Set<ContractingDocTypeEnum> mandatory() {
+        return Collections.unmodifiableSet(mandatory);
+    }
+
+    public Set<ContractingDocTypeEnum> optional() {
+        return Collections.unmodifiableSet(optional);
+    }
+}
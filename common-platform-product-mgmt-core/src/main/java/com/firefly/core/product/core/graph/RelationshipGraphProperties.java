@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.graph;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the product relationship graph traversals.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.relationship-graph")
+public class RelationshipGraphProperties {
+
+    /**
+     * Maximum number of relationships on a traversed path, and the depth of traversals that do not set one.
+     */
+    private int maxDepth = 10;
+
+    /**
+     * Depth of the cross-sell fan-out when the request does not set one.
+     */
+    private int crossSellDepth = 1;
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.models.entities.ProductCategory;
+import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of the category hierarchy. Holds an immutable {@link CategoryTreeSnapshot} that is
+ * loaded from the database once the application is ready, reloaded every
+ * {@code firefly.product.category-index.refresh-interval}, and rebuilt in full from the current snapshot
+ * on every category write of this instance once its transaction has committed. A new snapshot is swapped
+ * in atomically, so readers never block and always see a consistent tree.
+ * <p>
+ * Until the first load completes every lookup reports the category as unknown, and callers are expected
+ * to fall back to the database. Writes made by other instances become visible with the next reload.
+ * Rebuild times are recorded by the {@code product.category.index.rebuild} timer, tagged by
+ * {@code trigger} ({@code refresh} or {@code write}). Positions, depths and ancestor chains of a moved
+ * subtree shift with the move, so a write rebuilds every array rather than patching the snapshot.
+ */
+@Slf4j
+@Component
+public class CategoryTreeIndex {
+
+    static final String REBUILD_TIMER = "product.category.index.rebuild";
+    static final String SIZE_GAUGE = "product.category.index.size";
+
+    private final ProductCategoryRepository repository;
+    private final CategoryTreeIndexProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+    private final Object writeLock = new Object();
+    private long writes;
+    private Disposable refreshes;
+
+    public CategoryTreeIndex(ProductCategoryRepository repository, CategoryTreeIndexProperties properties,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.ifAvailable(registry -> Gauge.builder(SIZE_GAUGE, this, CategoryTreeIndex::size)
+                .description("Number of categories held by the in-memory category tree index")
+                .register(registry));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            log.info("Category tree index disabled, hierarchy lookups use the database");
+            return;
+        }
+        refreshes = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(error -> {
+                            log.warn("Category tree index refresh failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshes != null) {
+            refreshes.dispose();
+        }
+    }
+
+    /**
+     * Reloads every category from the database and swaps in the rebuilt snapshot. The result is
+     * discarded when this instance wrote a category during the load, as the loaded rows may predate
+     * that write; the next refresh catches up.
+     *
+     * @return a Mono that completes once the reload has been applied or discarded
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            long writesAtStart = writeCount();
+            return repository.findAll()
+                    .collectList()
+                    .doOnNext(categories -> {
+                        synchronized (writeLock) {
+                            if (snapshot.get() != null && writes != writesAtStart) {
+                                log.debug("Category tree index refresh discarded after a concurrent write");
+                                return;
+                            }
+                            snapshot.set(rebuild(categories, "refresh"));
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Returns whether the index has been loaded and answers lookups.
+     */
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Returns the number of indexed categories, zero until the index is loaded.
+     */
+    public int size() {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Returns whether the category is known to the index.
+     */
+    public boolean contains(UUID categoryId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current != null && categoryId != null && current.contains(categoryId);
+    }
+
+    /**
+     * Looks a category up. The returned category's level is its depth in the indexed tree.
+     *
+     * @param categoryId the unique identifier of the category
+     * @return the category, or empty if it is unknown to the index
+     */
+    public Optional<ProductCategory> find(UUID categoryId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current == null || categoryId == null ? Optional.empty() : current.find(categoryId);
+    }
+
+    /**
+     * Returns whether {@code candidateId} is {@code categoryId} itself or one of its descendants.
+     * Only meaningful when both categories are {@link #contains(UUID) known} to the index.
+     */
+    public boolean isInSubtree(UUID categoryId, UUID candidateId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current != null && current.isInSubtree(categoryId, candidateId);
+    }
+
+    /**
+     * Returns the direct children of a category in name order, or an empty list if it is unknown.
+     */
+    public List<ProductCategory> children(UUID categoryId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current == null ? List.of() : current.children(categoryId);
+    }
+
+    /**
+     * Returns the category and all of its descendants ordered by depth, or an empty list if it is unknown.
+     */
+    public List<ProductCategory> subtree(UUID categoryId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current == null ? List.of() : current.subtree(categoryId);
+    }
+
+    /**
+     * Returns the ancestor chain from the root down to the category, or an empty list if it is unknown.
+     */
+    public List<ProductCategory> ancestors(UUID categoryId) {
+        CategoryTreeSnapshot current = snapshot.get();
+        return current == null ? List.of() : current.ancestors(categoryId);
+    }
+
+    /**
+     * Applies a created or updated category to the index. Ignored until the index is loaded.
+     *
+     * @param category the category as committed to the database
+     */
+    public void upsert(ProductCategory category) {
+        synchronized (writeLock) {
+            writes++;
+            CategoryTreeSnapshot current = snapshot.get();
+            if (current == null) {
+                return;
+            }
+            List<ProductCategory> categories = new ArrayList<>(current.size() + 1);
+            for (ProductCategory existing : current.categories()) {
+                if (!existing.getProductCategoryId().equals(category.getProductCategoryId())) {
+                    categories.add(existing);
+                }
+            }
+            categories.add(category);
+            snapshot.set(rebuild(categories, "write"));
+        }
+    }
+
+    /**
+     * Removes a deleted category from the index. Ignored until the index is loaded.
+     *
+     * @param categoryId the unique identifier of the deleted category
+     */
+    public void remove(UUID categoryId) {
+        synchronized (writeLock) {
+            writes++;
+            CategoryTreeSnapshot current = snapshot.get();
+            if (current == null || !current.contains(categoryId)) {
+                return;
+            }
+            List<ProductCategory> categories = new ArrayList<>(current.categories());
+            categories.removeIf(existing -> existing.getProductCategoryId().equals(categoryId));
+            snapshot.set(rebuild(categories, "write"));
+        }
+    }
+
+    private long writeCount() {
+        synchronized (writeLock) {
+            return writes;
+        }
+    }
+
+    private CategoryTreeSnapshot rebuild(List<ProductCategory> categories, String trigger) {
+        long start = System.nanoTime();
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(categories);
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.ifAvailable(registry -> Timer.builder(REBUILD_TIMER)
+                .description("Time taken to rebuild the in-memory category tree index")
+                .tag("type", "full")
+                .tag("trigger", trigger)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS));
+        if (rebuilt.size() < categories.size()) {
+            log.warn("Category tree index left out {} categories caught in a parent cycle",
+                    categories.size() - rebuilt.size());
+        }
+        return rebuilt;
+    }
+}
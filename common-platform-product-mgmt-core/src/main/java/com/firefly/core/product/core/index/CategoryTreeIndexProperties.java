@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory category tree index.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.category-index")
+public class CategoryTreeIndexProperties {
+
+    /**
+     * Whether the index is loaded; when disabled every hierarchy lookup goes to the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval of the full reload from the database, which picks up changes made by other instances.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+}
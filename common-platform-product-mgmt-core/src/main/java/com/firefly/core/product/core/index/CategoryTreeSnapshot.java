@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.models.entities.ProductCategory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable array representation of the category tree. Every category reachable from a root gets a
+ * position; parent, children, depth and the root-first ancestor chain are stored per position, so
+ * lookups never walk object graphs or touch the database.
+ * <p>
+ * Categories whose parent is unknown are treated as roots. Categories caught in a parent cycle are not
+ * reachable from any root and are left out. The stored categories are copies whose level is the
+ * computed depth; callers must not modify them.
+ */
+final class CategoryTreeSnapshot {
+
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private static final Comparator<ProductCategory> BY_NAME = Comparator
+            .comparing(ProductCategory::getCategoryName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductCategory::getProductCategoryId);
+
+    private final Map<UUID, Integer> positions;
+    private final ProductCategory[] categories;
+    private final int[] depths;
+    private final int[][] children;
+    private final int[][] ancestors;
+
+    private CategoryTreeSnapshot(Map<UUID, Integer> positions, ProductCategory[] categories, int[] depths,
+                                 int[][] children, int[][] ancestors) {
+        this.positions = positions;
+        this.categories = categories;
+        this.depths = depths;
+        this.children = children;
+        this.ancestors = ancestors;
+    }
+
+    /**
+     * Builds a snapshot by walking the tree breadth first from its roots, children in name order.
+     *
+     * @param source the categories to index; later duplicates of an identifier replace earlier ones
+     * @return the snapshot
+     */
+    static CategoryTreeSnapshot build(Collection<ProductCategory> source) {
+        Map<UUID, ProductCategory> byId = new LinkedHashMap<>();
+        for (ProductCategory category : source) {
+            byId.put(category.getProductCategoryId(), category);
+        }
+        List<ProductCategory> roots = new ArrayList<>();
+        Map<UUID, List<ProductCategory>> childrenByParent = new HashMap<>();
+        for (ProductCategory category : byId.values()) {
+            UUID parentId = category.getParentCategoryId();
+            if (parentId == null || !byId.containsKey(parentId)) {
+                roots.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(parentId, id -> new ArrayList<>()).add(category);
+            }
+        }
+        roots.sort(BY_NAME);
+        childrenByParent.values().forEach(list -> list.sort(BY_NAME));
+
+        int capacity = byId.size();
+        Map<UUID, Integer> positions = new HashMap<>(capacity * 2);
+        ProductCategory[] categories = new ProductCategory[capacity];
+        int[] depths = new int[capacity];
+        int[][] children = new int[capacity][];
+        int[][] ancestors = new int[capacity][];
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        int next = 0;
+        for (ProductCategory root : roots) {
+            categories[next] = copy(root, 0);
+            positions.put(root.getProductCategoryId(), next);
+            ancestors[next] = new int[]{next};
+            queue.add(next++);
+        }
+        while (!queue.isEmpty()) {
+            int position = queue.poll();
+            List<ProductCategory> direct = childrenByParent.getOrDefault(
+                    categories[position].getProductCategoryId(), Collections.emptyList());
+            int[] childPositions = direct.isEmpty() ? NO_CHILDREN : new int[direct.size()];
+            for (int i = 0; i < direct.size(); i++) {
+                ProductCategory child = direct.get(i);
+                int depth = depths[position] + 1;
+                categories[next] = copy(child, depth);
+                depths[next] = depth;
+                positions.put(child.getProductCategoryId(), next);
+                int[] chain = Arrays.copyOf(ancestors[position], ancestors[position].length + 1);
+                chain[chain.length - 1] = next;
+                ancestors[next] = chain;
+                childPositions[i] = next;
+                queue.add(next++);
+            }
+            children[position] = childPositions;
+        }
+
+        return new CategoryTreeSnapshot(positions,
+                Arrays.copyOf(categories, next),
+                Arrays.copyOf(depths, next),
+                Arrays.copyOf(children, next),
+                Arrays.copyOf(ancestors, next));
+    }
+
+    int size() {
+        return categories.length;
+    }
+
+    /**
+     * Returns the indexed categories, in breadth first order.
+     */
+    List<ProductCategory> categories() {
+        return Arrays.asList(categories);
+    }
+
+    Optional<ProductCategory> find(UUID categoryId) {
+        Integer position = positions.get(categoryId);
+        return position == null ? Optional.empty() : Optional.of(categories[position]);
+    }
+
+    boolean contains(UUID categoryId) {
+        return positions.containsKey(categoryId);
+    }
+
+    /**
+     * Returns whether {@code candidateId} is {@code categoryId} or one of its descendants, by scanning
+     * the ancestor chain of the candidate.
+     */
+    boolean isInSubtree(UUID categoryId, UUID candidateId) {
+        Integer root = positions.get(categoryId);
+        Integer candidate = positions.get(candidateId);
+        if (root == null || candidate == null) {
+            return false;
+        }
+        int[] chain = ancestors[candidate];
+        // A node sits at index depth in every chain that contains it
+        int depth = depths[root];
+        return depth < chain.length && chain[depth] == root;
+    }
+
+    /**
+     * Returns the direct children of a category in name order.
+     */
+    List<ProductCategory> children(UUID categoryId) {
+        Integer position = positions.get(categoryId);
+        if (position == null) {
+            return List.of();
+        }
+        return toCategories(children[position]);
+    }
+
+    /**
+     * Returns the category and all of its descendants ordered by depth, then name.
+     */
+    List<ProductCategory> subtree(UUID categoryId) {
+        Integer position = positions.get(categoryId);
+        if (position == null) {
+            return List.of();
+        }
+        List<ProductCategory> result = new ArrayList<>();
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(position);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            result.add(categories[current]);
+            for (int child : children[current]) {
+                queue.add(child);
+            }
+        }
+        result.sort(Comparator.comparing(ProductCategory::getLevel).thenComparing(BY_NAME));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the ancestor chain of a category from its root down to the category itself.
+     */
+    List<ProductCategory> ancestors(UUID categoryId) {
+        Integer position = positions.get(categoryId);
+        if (position == null) {
+            return List.of();
+        }
+        return toCategories(ancestors[position]);
+    }
+
+    private List<ProductCategory> toCategories(int[] positions) {
+        List<ProductCategory> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(categories[position]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static ProductCategory copy(ProductCategory source, int depth) {
+        ProductCategory copy = new ProductCategory(
+                source.getProductCategoryId(),
+                source.getCategoryName(),
+                source.getCategoryDescription(),
+                source.getParentCategoryId(),
+                depth);
+        copy.setDateCreated(source.getDateCreated());
+        copy.setDateUpdated(source.getDateUpdated());
+        copy.setRowVersion(source.getRowVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A product recommended alongside a set of held products.
+ *
+ * @param productId     the unique identifier of the recommended product
+ * @param score         the summed weight of the relationships linking it to the held products
+ * @param recommendedBy the held products it is linked to, in identifier order
+ */
+public record CrossSellCandidate(UUID productId, double score, List<UUID> recommendedBy) {
+
+    public CrossSellCandidate {
+        recommendedBy = List.copyOf(recommendedBy);
+    }
+}
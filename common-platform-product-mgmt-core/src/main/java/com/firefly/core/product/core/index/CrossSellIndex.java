@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of the {@code CROSS_SELL} and {@code COMPLIMENTARY} relationships. Holds an immutable
+ * {@link CrossSellSnapshot} that is loaded from the database once the application is ready, reloaded every
+ * {@code firefly.product.cross-sell-index.refresh-interval}, and rebuilt in full from the current snapshot on
+ * every relationship write of this instance once its transaction has committed. A new snapshot is swapped in
+ * atomically, so readers never block.
+ * <p>
+ * Until the first load completes the index is not {@link #isReady() ready} and callers are expected to
+ * fall back to the database. Writes made by other instances become visible with the next reload.
+ * Rebuild times are recorded by the {@code product.cross-sell.index.rebuild} timer, tagged by
+ * {@code trigger} ({@code refresh} or {@code write}).
+ */
+@Slf4j
+@Component
+public class CrossSellIndex {
+
+    static final String REBUILD_TIMER = "product.cross-sell.index.rebuild";
+    static final String SIZE_GAUGE = "product.cross-sell.index.size";
+
+    /**
+     * Relationship types held by the index.
+     */
+    public static final Set<RelationshipTypeEnum> TYPES =
+            EnumSet.of(RelationshipTypeEnum.CROSS_SELL, RelationshipTypeEnum.COMPLIMENTARY);
+
+    private final ProductRelationshipRepository repository;
+    private final CrossSellIndexProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final AtomicReference<CrossSellSnapshot> snapshot = new AtomicReference<>();
+    private final Object writeLock = new Object();
+    private long writes;
+    private Disposable refreshes;
+
+    public CrossSellIndex(ProductRelationshipRepository repository, CrossSellIndexProperties properties,
+                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.ifAvailable(registry -> Gauge.builder(SIZE_GAUGE, this, CrossSellIndex::size)
+                .description("Number of relationships held by the in-memory cross-sell index")
+                .register(registry));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            log.info("Cross-sell index disabled, recommendations use the database");
+            return;
+        }
+        refreshes = Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(error -> {
+                            log.warn("Cross-sell index refresh failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshes != null) {
+            refreshes.dispose();
+        }
+    }
+
+    /**
+     * Reloads the indexed relationships from the database and swaps in the rebuilt snapshot. The result
+     * is discarded when this instance wrote a relationship during the load, as the loaded rows may predate
+     * that write; the next refresh catches up.
+     *
+     * @return a Mono that completes once the reload has been applied or discarded
+     */
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            long writesAtStart = writeCount();
+            return repository.findByRelationshipTypeIn(TYPES)
+                    .collectList()
+                    .doOnNext(relationships -> {
+                        synchronized (writeLock) {
+                            if (snapshot.get() != null && writes != writesAtStart) {
+                                log.debug("Cross-sell index refresh discarded after a concurrent write");
+                                return;
+                            }
+                            snapshot.set(rebuild(relationships, "refresh"));
+                        }
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Returns whether the index has been loaded and answers lookups.
+     */
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    /**
+     * Returns the number of indexed relationships, zero until the index is loaded.
+     */
+    public int size() {
+        CrossSellSnapshot current = snapshot.get();
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Ranks the products linked to the held products. Only meaningful once the index is {@link #isReady() ready}.
+     *
+     * @param heldProductIds the products the customer already holds, never returned as candidates
+     * @return every candidate, best first, or an empty list until the index is loaded
+     */
+    public List<CrossSellCandidate> candidates(Set<UUID> heldProductIds) {
+        CrossSellSnapshot current = snapshot.get();
+        return current == null ? List.of() : current.candidates(heldProductIds);
+    }
+
+    /**
+     * Applies a created or updated relationship to the index; a relationship whose type is no longer
+     * indexed is removed. Ignored until the index is loaded.
+     *
+     * @param relationship the relationship as committed to the database
+     */
+    public void upsert(ProductRelationship relationship) {
+        synchronized (writeLock) {
+            writes++;
+            CrossSellSnapshot current = snapshot.get();
+            if (current == null
+                    || (!TYPES.contains(relationship.getRelationshipType())
+                    && !current.contains(relationship.getProductRelationshipId()))) {
+                return;
+            }
+            List<ProductRelationship> relationships = new ArrayList<>(current.size() + 1);
+            relationships.addAll(current.relationships());
+            relationships.add(relationship);
+            snapshot.set(rebuild(relationships, "write"));
+        }
+    }
+
+    /**
+     * Removes a deleted relationship from the index. Ignored until the index is loaded.
+     *
+     * @param relationshipId the unique identifier of the deleted relationship
+     */
+    public void remove(UUID relationshipId) {
+        synchronized (writeLock) {
+            writes++;
+            CrossSellSnapshot current = snapshot.get();
+            if (current == null || !current.contains(relationshipId)) {
+                return;
+            }
+            List<ProductRelationship> relationships = new ArrayList<>(current.relationships());
+            relationships.removeIf(existing -> existing.getProductRelationshipId().equals(relationshipId));
+            snapshot.set(rebuild(relationships, "write"));
+        }
+    }
+
+    private long writeCount() {
+        synchronized (writeLock) {
+            return writes;
+        }
+    }
+
+    private CrossSellSnapshot rebuild(Collection<ProductRelationship> relationships, String trigger) {
+        long start = System.nanoTime();
+        CrossSellSnapshot rebuilt = CrossSellSnapshot.build(relationships, properties);
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.ifAvailable(registry -> Timer.builder(REBUILD_TIMER)
+                .description("Time taken to rebuild the in-memory cross-sell index")
+                .tag("type", "full")
+                .tag("trigger", trigger)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS));
+        return rebuilt;
+    }
+}
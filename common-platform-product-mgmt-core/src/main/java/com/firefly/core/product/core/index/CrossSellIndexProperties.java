@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory cross-sell index and of the cross-sell recommendations served from it.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.cross-sell-index")
+public class CrossSellIndexProperties {
+
+    /**
+     * Whether the index is loaded; when disabled every recommendation reads the relationships from the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval of the full reload from the database, which picks up changes made by other instances.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Score contributed by a {@code CROSS_SELL} relationship between a held product and a candidate.
+     */
+    private double crossSellWeight = 1.0;
+
+    /**
+     * Score contributed by a {@code COMPLIMENTARY} relationship between a held product and a candidate.
+     */
+    private double complementaryWeight = 0.5;
+
+    /**
+     * Maximum number of distinct held products in one recommendation request.
+     */
+    private int maxHeldProducts = 200;
+
+    /**
+     * Number of candidates returned when the request does not set a limit.
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * Upper bound of the number of candidates returned by one request.
+     */
+    private int maxLimit = 100;
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.entities.ProductRelationship;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Immutable symmetric weight map of the cross-sell graph. For every product it holds the products linked
+ * to it by {@code CROSS_SELL} or {@code COMPLIMENTARY} relationships in either direction, with the summed
+ * weight of those relationships, so ranking candidates for a set of held products only reads the held
+ * products' entries.
+ * <p>
+ * The relationships themselves are kept by identifier, so that a snapshot can be rebuilt after a single
+ * relationship is written or deleted.
+ */
+public final class CrossSellSnapshot {
+
+    private static final Comparator<CrossSellCandidate> BY_RANK = Comparator
+            .comparingDouble(CrossSellCandidate::score).reversed()
+            .thenComparing(candidate -> -candidate.recommendedBy().size())
+            .thenComparing(CrossSellCandidate::productId);
+
+    private final Map<UUID, ProductRelationship> relationships;
+    private final Map<UUID, Map<UUID, Double>> weights;
+
+    private CrossSellSnapshot(Map<UUID, ProductRelationship> relationships, Map<UUID, Map<UUID, Double>> weights) {
+        this.relationships = relationships;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds a snapshot from relationships. Relationships of other types, without a related product or
+     * linking a product to itself are left out.
+     *
+     * @param source     the relationships; later duplicates of an identifier replace earlier ones
+     * @param properties the weights of the relationship types
+     * @return the snapshot
+     */
+    public static CrossSellSnapshot build(Collection<ProductRelationship> source, CrossSellIndexProperties properties) {
+        Map<UUID, ProductRelationship> relationships = new LinkedHashMap<>();
+        Map<UUID, Map<UUID, Double>> weights = new HashMap<>();
+        for (ProductRelationship relationship : source) {
+            relationships.remove(relationship.getProductRelationshipId());
+            double weight = weight(relationship.getRelationshipType(), properties);
+            UUID productId = relationship.getProductId();
+            UUID relatedProductId = relationship.getRelatedProductId();
+            if (weight <= 0 || productId == null || relatedProductId == null || productId.equals(relatedProductId)) {
+                continue;
+            }
+            relationships.put(relationship.getProductRelationshipId(), relationship);
+        }
+        for (ProductRelationship relationship : relationships.values()) {
+            double weight = weight(relationship.getRelationshipType(), properties);
+            weights.computeIfAbsent(relationship.getProductId(), id -> new HashMap<>())
+                    .merge(relationship.getRelatedProductId(), weight, Double::sum);
+            weights.computeIfAbsent(relationship.getRelatedProductId(), id -> new HashMap<>())
+                    .merge(relationship.getProductId(), weight, Double::sum);
+        }
+        return new CrossSellSnapshot(relationships, weights);
+    }
+
+    int size() {
+        return relationships.size();
+    }
+
+    /**
+     * Returns the indexed relationships, in no particular order.
+     */
+    Collection<ProductRelationship> relationships() {
+        return relationships.values();
+    }
+
+    boolean contains(UUID relationshipId) {
+        return relationships.containsKey(relationshipId);
+    }
+
+    /**
+     * Ranks the products linked to any of the held products, by summed weight, then by the number of held
+     * products they are linked to, then by identifier. Held products are never candidates.
+     *
+     * @param heldProductIds the products the customer already holds
+     * @return every candidate, best first
+     */
+    public List<CrossSellCandidate> candidates(Set<UUID> heldProductIds) {
+        Map<UUID, Double> scores = new HashMap<>();
+        Map<UUID, Set<UUID>> sources = new HashMap<>();
+        for (UUID heldProductId : heldProductIds) {
+            weights.getOrDefault(heldProductId, Map.of()).forEach((candidateId, weight) -> {
+                if (!heldProductIds.contains(candidateId)) {
+                    scores.merge(candidateId, weight, Double::sum);
+                    sources.computeIfAbsent(candidateId, id -> new TreeSet<>()).add(heldProductId);
+                }
+            });
+        }
+        List<CrossSellCandidate> candidates = new ArrayList<>(scores.size());
+        scores.forEach((candidateId, score) -> candidates.add(
+                new CrossSellCandidate(candidateId, score, new ArrayList<>(sources.get(candidateId)))));
+        candidates.sort(BY_RANK);
+        return candidates;
+    }
+
+    private static double weight(RelationshipTypeEnum type, CrossSellIndexProperties properties) {
+        if (type == RelationshipTypeEnum.CROSS_SELL) {
+            return properties.getCrossSellWeight();
+        }
+        if (type == RelationshipTypeEnum.COMPLIMENTARY) {
+            return properties.getComplementaryWeight();
+        }
+        return 0;
+    }
+}
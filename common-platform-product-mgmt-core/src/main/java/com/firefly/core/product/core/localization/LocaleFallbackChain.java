@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.localization;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the ordered list of language tags tried when resolving a localization for a locale.
+ * <p>
+ * Each tag of the locale is followed by its configured fallbacks and then by its parent tag, down to the
+ * bare language; the default language comes last. {@code es-ES} with default {@code en} gives
+ * {@code [es-ES, es, en]}. Tags are canonicalised as BCP 47 ({@code es_es} becomes {@code es-ES}), which is
+ * the form expected in {@code product_localization.language_code}.
+ */
+public final class LocaleFallbackChain {
+
+    private LocaleFallbackChain() {
+    }
+
+    /**
+     * @param locale the requested locale, or null or blank for the default language only
+     * @param properties the default language and the configured fallbacks
+     * @return the distinct language tags to try, most specific first
+     */
+    public static List<String> of(String locale, LocalizationProperties properties) {
+        Set<String> chain = new LinkedHashSet<>();
+        String tag = canonical(locale);
+        while (!tag.isEmpty()) {
+            chain.add(tag);
+            chain.addAll(configuredFallbacks(tag, properties.getFallbacks()));
+            int separator = tag.lastIndexOf('-');
+            tag = separator > 0 ? tag.substring(0, separator) : "";
+        }
+        String defaultLanguage = canonical(properties.getDefaultLanguage());
+        if (!defaultLanguage.isEmpty()) {
+            chain.add(defaultLanguage);
+        }
+        return List.copyOf(chain);
+    }
+
+    private static List<String> configuredFallbacks(String tag, Map<String, List<String>> fallbacks) {
+        if (fallbacks == null) {
+            return List.of();
+        }
+        // Configured keys are compared in canonical form, so pt_br and pt-BR are the same entry
+        return fallbacks.entrySet().stream()
+                .filter(entry -> tag.equals(canonical(entry.getKey())) && entry.getValue() != null)
+                .flatMap(entry -> entry.getValue().stream())
+                .map(LocaleFallbackChain::canonical)
+                .filter(fallback -> !fallback.isEmpty())
+                .toList();
+    }
+
+    /**
+     * @return the canonical BCP 47 form of the tag, or an empty string if it is absent or not well-formed
+     */
+    public static String canonical(String tag) {
+        if (tag == null || tag.isBlank()) {
+            return "";
+        }
+        String canonical = Locale.forLanguageTag(tag.strip().replace('_', '-')).toLanguageTag();
+        return "und".equals(canonical) ? "" : canonical;
+    }
+}
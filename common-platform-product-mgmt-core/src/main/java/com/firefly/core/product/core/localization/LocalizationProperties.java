@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.localization;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of the localization resolver.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.localization")
+public class LocalizationProperties {
+
+    /**
+     * Language tried last for every locale.
+     */
+    private String defaultLanguage = "en";
+
+    /**
+     * Additional languages tried after a language tag and before its parent, e.g. {@code pt-BR: [pt-PT]}.
+     */
+    private Map<String, List<String>> fallbacks = new LinkedHashMap<>();
+
+    /**
+     * Maximum number of distinct products in one resolution request.
+     */
+    private int maxProducts = 1_000;
+}
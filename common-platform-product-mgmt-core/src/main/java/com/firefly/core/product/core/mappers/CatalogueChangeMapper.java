@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.mappers;
+
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import org.mapstruct.*;
+
+@Mapper(componentModel = "spring", imports = CursorUtils.class)
+public interface CatalogueChangeMapper {
+    @Mapping(target = "cursor", expression = "java(CursorUtils.encodeSequence(entity.getSequenceNumber()))")
+    CatalogueChangeEventDTO toDto(CatalogueChange entity);
+}
@@ -28,6 +28,7 @@ public interface ProductCategoryMapper {
 
     @Mapping(target = "productCategoryId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductCategoryDTO dto, @MappingTarget ProductCategory entity);
 }
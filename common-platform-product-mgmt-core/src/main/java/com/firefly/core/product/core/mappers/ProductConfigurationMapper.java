@@ -29,6 +29,7 @@ public interface ProductConfigurationMapper {
     @Mapping(target = "productConfigurationId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductConfigurationDTO dto, @MappingTarget ProductConfiguration entity);
 }
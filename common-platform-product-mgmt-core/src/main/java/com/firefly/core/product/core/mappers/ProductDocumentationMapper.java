@@ -29,6 +29,7 @@ public interface ProductDocumentationMapper {
     @Mapping(target = "productDocumentationId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductDocumentationDTO dto, @MappingTarget ProductDocumentation entity);
 }
\ No newline at end of file
@@ -51,6 +51,7 @@ public interface ProductDocumentationRequirementMapper {
     @Mapping(target = "productDocRequirementId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductDocumentationRequirementDTO dto, @MappingTarget ProductDocumentationRequirement entity);
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ public interface ProductLocalizationMapper {
     @Mapping(target = "productLocalizationId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductLocalizationDTO dto, @MappingTarget ProductLocalization entity);
 }
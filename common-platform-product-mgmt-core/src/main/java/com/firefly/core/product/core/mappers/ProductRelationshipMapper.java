@@ -29,6 +29,7 @@ public interface ProductRelationshipMapper {
     @Mapping(target = "productRelationshipId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductRelationshipDTO dto, @MappingTarget ProductRelationship entity);
 }
\ No newline at end of file
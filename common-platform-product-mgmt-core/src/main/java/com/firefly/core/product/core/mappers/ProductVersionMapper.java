@@ -29,6 +29,7 @@ public interface ProductVersionMapper {
     @Mapping(target = "productVersionId", ignore = true)
     @Mapping(target = "productId", ignore = true)
     @Mapping(target = "dateCreated", ignore = true)
+    @Mapping(target = "rowVersion", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ProductVersionDTO dto, @MappingTarget ProductVersion entity);
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.outbox;
+
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Destination of the events relayed from the catalogue outbox. A broker-backed implementation should
+ * use {@link CatalogueChangeEventDTO#getAggregateId()} as the message key, so events of the same product
+ * stay ordered within a partition.
+ */
+public interface CatalogueEventPublisher {
+
+    /**
+     * Publishes a batch of events. The batch is only marked published when the returned Mono completes;
+     * an error rolls the batch back and it is retried with the next relay run.
+     *
+     * @param events the events in sequence order
+     * @return a Mono completing once every event has been accepted
+     */
+    Mono<Void> publish(List<CatalogueChangeEventDTO> events);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the catalogue outbox relay and of the change feed.
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.product.outbox")
+public class CatalogueOutboxProperties {
+
+    /**
+     * Whether this instance relays outbox events; at most one instance relays at a time.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Interval at which the relay looks for unpublished events and the change feed for new ones.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of events published per relay transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long published events stay readable through the change feed.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Interval of the purge of events past the retention period.
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    /**
+     * Upper bound of the time a change feed request waits for new events.
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.outbox;
+
+import com.firefly.core.product.core.mappers.CatalogueChangeMapper;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Relays events from the catalogue outbox to the {@link CatalogueEventPublisher}. Every
+ * {@code firefly.product.outbox.poll-interval} the relay takes a transaction-scoped advisory lock,
+ * numbers the oldest unpublished events, publishes them and commits; a failed publish rolls the batch
+ * back so it is retried, giving at-least-once delivery. The lock lets every instance run a relay while
+ * only one publishes at a time, which keeps sequence numbers in commit order.
+ * <p>
+ * Published events are purged once they are older than {@code firefly.product.outbox.retention}.
+ * The number of relayed events is recorded by the {@code product.catalogue.outbox.published} counter.
+ */
+@Slf4j
+@Component
+public class CatalogueOutboxRelay {
+
+    static final String PUBLISHED_COUNTER = "product.catalogue.outbox.published";
+
+    /**
+     * Advisory lock key of the relay, shared by all instances.
+     */
+    static final long RELAY_LOCK_KEY = 0x63617461_6c6f6775L;
+
+    private final CatalogueChangeRepository repository;
+    private final CatalogueChangeMapper mapper;
+    private final CatalogueEventPublisher publisher;
+    private final CatalogueOutboxProperties properties;
+    private final TransactionalOperator transactionalOperator;
+    private final Counter published;
+    private final Disposable.Composite schedules = Disposables.composite();
+
+    public CatalogueOutboxRelay(CatalogueChangeRepository repository, CatalogueChangeMapper mapper,
+                                CatalogueEventPublisher publisher, CatalogueOutboxProperties properties,
+                                TransactionalOperator transactionalOperator,
+                                ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.transactionalOperator = transactionalOperator;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.published = registry == null ? null : Counter.builder(PUBLISHED_COUNTER)
+                .description("Number of catalogue change events relayed from the outbox")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isRelayEnabled()) {
+            log.info("Catalogue outbox relay disabled on this instance");
+            return;
+        }
+        schedules.add(Flux.interval(Duration.ZERO, properties.getPollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> drain()
+                        .onErrorResume(error -> {
+                            log.warn("Catalogue outbox relay failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe());
+        schedules.add(Flux.interval(properties.getPurgeInterval(), properties.getPurgeInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> purge()
+                        .onErrorResume(error -> {
+                            log.warn("Catalogue outbox purge failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        schedules.dispose();
+    }
+
+    /**
+     * Relays batches until the outbox has no more unpublished events or another instance holds the lock.
+     *
+     * @return a Mono emitting the total number of relayed events
+     */
+    public Mono<Long> drain() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        return relayBatch()
+                .expand(count -> count == batchSize ? relayBatch() : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Relays one batch of at most {@code firefly.product.outbox.batch-size} events in one transaction.
+     *
+     * @return a Mono emitting the number of relayed events, 0 when there were none or the lock is held elsewhere
+     */
+    public Mono<Integer> relayBatch() {
+        Mono<Integer> relayed = repository.tryRelayLock(RELAY_LOCK_KEY)
+                .filter(Boolean::booleanValue)
+                .flatMap(locked -> repository.publishPending(Math.max(1, properties.getBatchSize()))
+                        .sort(Comparator.comparing(CatalogueChange::getSequenceNumber))
+                        .map(mapper::toDto)
+                        .collectList())
+                .flatMap(events -> events.isEmpty()
+                        ? Mono.just(0)
+                        : publisher.publish(events).thenReturn(events.size()))
+                .defaultIfEmpty(0);
+        return transactionalOperator.transactional(relayed)
+                .doOnNext(count -> {
+                    if (published != null && count > 0) {
+                        published.increment(count);
+                    }
+                });
+    }
+
+    /**
+     * Deletes published events older than the retention period.
+     *
+     * @return a Mono emitting the number of deleted events
+     */
+    public Mono<Integer> purge() {
+        return Mono.defer(() -> repository.deletePublishedBefore(LocalDateTime.now().minus(properties.getRetention())))
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.debug("Purged {} published catalogue outbox events", deleted);
+                    }
+                });
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.outbox;
+
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+/**
+ * In-process stand-in for a message broker: relayed events are multicast to the subscribers of
+ * {@link #events()} on this instance. Subscribers that cannot keep up miss events and are expected to
+ * catch up through the change feed. Declare a {@code @Primary} {@link CatalogueEventPublisher} to relay
+ * to a real broker instead.
+ */
+@Component
+public class InProcessCatalogueEventPublisher implements CatalogueEventPublisher {
+
+    private final Sinks.Many<CatalogueChangeEventDTO> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(List<CatalogueChangeEventDTO> events) {
+        return Mono.fromRunnable(() -> {
+            // The relay publishes one batch at a time, so emissions are never concurrent
+            events.forEach(event -> sink.emitNext(event, Sinks.EmitFailureHandler.FAIL_FAST));
+        });
+    }
+
+    /**
+     * Returns the events relayed by this instance from now on.
+     */
+    public Flux<CatalogueChangeEventDTO> events() {
+        return sink.asFlux();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.search;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the ranked product search: the rank and product ID of the last match returned.
+ * Tokens are the URL-safe Base64 encoding of the position.
+ *
+ * @param rank      the rank of the last match returned
+ * @param productId the product ID of the last match returned
+ */
+public record SearchCursor(float rank, UUID productId) {
+
+    private static final int TOKEN_LENGTH = 4 + 16;
+
+    /**
+     * Encodes this position as an opaque cursor token.
+     *
+     * @return the cursor token
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH);
+        buffer.putFloat(rank);
+        buffer.putLong(productId.getMostSignificantBits());
+        buffer.putLong(productId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor token previously produced by {@link #encode()}.
+     *
+     * @param token the cursor token, may be null or blank for the first page
+     * @return the position to resume after, or null to start from the best match
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token, e);
+        }
+        if (bytes.length != TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        float rank = buffer.getFloat();
+        if (!Float.isFinite(rank)) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token);
+        }
+        return new SearchCursor(rank, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
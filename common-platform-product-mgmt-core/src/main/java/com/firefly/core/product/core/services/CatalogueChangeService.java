@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangesDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Service interface for reading the catalogue change feed, i.e. the published events of the catalogue outbox.
+ */
+public interface CatalogueChangeService {
+
+    /**
+     * Retrieves the changes published after a position of the feed. When there are none yet, the
+     * request waits up to {@code wait} for new ones before returning an empty page (long poll).
+     *
+     * @param since the cursor of the last change seen, null to read from the oldest retained change
+     * @param limit the maximum number of changes, defaulted and capped like other cursor pages
+     * @param wait how long to wait for new changes, null or zero to return immediately; capped by
+     *             {@code firefly.product.outbox.max-wait}
+     * @return a Mono emitting the changes and the cursor to resume from
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    Mono<CatalogueChangesDTO> getChanges(String since, Integer limit, Duration wait);
+
+    /**
+     * Streams the changes published after a position of the feed, then keeps streaming new changes
+     * as they are published until the subscriber cancels.
+     *
+     * @param since the cursor of the last change seen, null to start from the oldest retained change
+     * @return an endless Flux of changes in publication order
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    Flux<CatalogueChangeEventDTO> streamChanges(String since);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.CatalogueDeltaDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for the catalogue delta sync: the current state of every catalogue entity written,
+ * and a tombstone of every entity deleted, since a watermark.
+ */
+public interface CatalogueDeltaService {
+
+    /**
+     * Retrieves the entities of all types written or deleted after a watermark, ordered by write time.
+     * Only writes older than the start of the oldest write transaction still in flight are returned, so
+     * that no transaction can commit behind the returned watermark. An entity written several times since
+     * the watermark is returned once, with its latest state.
+     *
+     * @param since the watermark returned by the previous request, null to read the whole catalogue
+     * @param limit the maximum number of entities, defaulted and capped like cursor pages
+     * @return a Mono emitting the entities and the watermark to resume from
+     * @throws IllegalArgumentException if the watermark is malformed
+     */
+    Mono<CatalogueDeltaDTO> getDelta(String since, Integer limit);
+}
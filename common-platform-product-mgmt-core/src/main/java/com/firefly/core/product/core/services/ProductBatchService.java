@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.BatchResponseDTO;
+import com.firefly.core.product.interfaces.dtos.BatchUpdateItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service interface for bulk writes of products and product configurations.
+ * Items are written in chunks with multi-row statements and reported individually.
+ */
+public interface ProductBatchService {
+
+    /**
+     * Creates products in bulk.
+     *
+     * @param products the products to create
+     * @param atomic whether all products are created or none
+     * @return a Mono emitting one result per product, in request order
+     */
+    Mono<BatchResponseDTO<ProductDTO>> createProducts(Flux<ProductDTO> products, boolean atomic);
+
+    /**
+     * Updates products in bulk. Null fields keep their current value.
+     *
+     * @param items the identifiers of the products to update together with the fields to change
+     * @param atomic whether all products are updated or none
+     * @return a Mono emitting one result per item, in request order
+     */
+    Mono<BatchResponseDTO<ProductDTO>> updateProducts(Flux<BatchUpdateItemDTO<ProductDTO>> items, boolean atomic);
+
+    /**
+     * Deletes products in bulk.
+     *
+     * @param productIds the identifiers of the products to delete
+     * @param atomic whether all products are deleted or none
+     * @return a Mono emitting one result per identifier, in request order
+     */
+    Mono<BatchResponseDTO<ProductDTO>> deleteProducts(Flux<UUID> productIds, boolean atomic);
+
+    /**
+     * Creates configurations of a product in bulk.
+     *
+     * @param productId the unique identifier of the product
+     * @param configurations the configurations to create
+     * @param atomic whether all configurations are created or none
+     * @return a Mono emitting one result per configuration, in request order
+     */
+    Mono<BatchResponseDTO<ProductConfigurationDTO>> createConfigurations(
+            UUID productId, Flux<ProductConfigurationDTO> configurations, boolean atomic);
+
+    /**
+     * Updates configurations of a product in bulk. Null fields keep their current value.
+     *
+     * @param productId the unique identifier of the product
+     * @param items the identifiers of the configurations to update together with the fields to change
+     * @param atomic whether all configurations are updated or none
+     * @return a Mono emitting one result per item, in request order
+     */
+    Mono<BatchResponseDTO<ProductConfigurationDTO>> updateConfigurations(
+            UUID productId, Flux<BatchUpdateItemDTO<ProductConfigurationDTO>> items, boolean atomic);
+
+    /**
+     * Deletes configurations of a product in bulk.
+     *
+     * @param productId the unique identifier of the product
+     * @param configIds the identifiers of the configurations to delete
+     * @param atomic whether all configurations are deleted or none
+     * @return a Mono emitting one result per identifier, in request order
+     */
+    Mono<BatchResponseDTO<ProductConfigurationDTO>> deleteConfigurations(
+            UUID productId, Flux<UUID> configIds, boolean atomic);
+}
@@ -19,7 +19,10 @@ package com.firefly.core.product.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -81,6 +84,26 @@ public interface ProductCategoryService {
      */
     Mono<ProductCategoryDTO> updateCategory(UUID categoryId, ProductCategoryDTO categoryDTO);
 
+    /**
+     * Updates an existing category if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param categoryId the unique identifier of the category to be updated
+     * @param categoryDTO the data transfer object containing the updated details of the category
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductCategoryDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductCategoryDTO> updateCategory(UUID categoryId, ProductCategoryDTO categoryDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a category without loading it, to answer conditional requests cheaply.
+     *
+     * @param categoryId the unique identifier of the category
+     * @return a reactive Mono containing the row version, or empty if the category does not exist
+     */
+    Mono<Long> getCategoryRowVersion(UUID categoryId);
+
     /**
      * Deletes a product category identified by its unique ID.
      *
@@ -88,4 +111,34 @@ public interface ProductCategoryService {
      * @return a Mono that completes when the category is successfully deleted or errors if the deletion fails
      */
     Mono<Void> deleteCategory(UUID categoryId);
+
+    /**
+     * Retrieves a category together with all of its descendants.
+     *
+     * @param categoryId the unique identifier of the subtree root
+     * @return a Flux emitting the subtree ordered by depth, starting with the category itself,
+     *         or an error if the category does not exist
+     */
+    Flux<ProductCategoryDTO> getCategorySubtree(UUID categoryId);
+
+    /**
+     * Retrieves the ancestor chain (breadcrumb) of a category.
+     *
+     * @param categoryId the unique identifier of the category
+     * @return a Flux emitting the ancestors from the root down to the category itself,
+     *         or an error if the category does not exist
+     */
+    Flux<ProductCategoryDTO> getCategoryAncestors(UUID categoryId);
+
+    /**
+     * Retrieves a keyset paginated page of the products assigned to a category or any of its descendants,
+     * ordered by product ID.
+     *
+     * @param categoryId the unique identifier of the subtree root
+     * @param cursor the cursor returned by the previous page, or null to start from the beginning
+     * @param pageSize the requested page size, clamped to the supported range
+     * @return a Mono emitting the page and the cursor to resume the scan,
+     *         or an error if the category does not exist
+     */
+    Mono<CursorPaginationResponse<ProductDTO>> getProductsInCategorySubtree(UUID categoryId, String cursor, Integer pageSize);
 }
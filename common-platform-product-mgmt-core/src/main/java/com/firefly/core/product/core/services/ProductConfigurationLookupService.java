@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupRequestDTO;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupResponseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for reading configurations of many products at once.
+ */
+public interface ProductConfigurationLookupService {
+
+    /**
+     * Looks up the configurations matching the request with a single query and groups their values by
+     * product and key.
+     *
+     * @param request the products, keys and types to look up
+     * @return a Mono emitting the values by product ID, then by configuration key
+     * @throws IllegalArgumentException if no product is given or a limit of the request is exceeded
+     */
+    Mono<ConfigurationLookupResponseDTO> lookup(ConfigurationLookupRequestDTO request);
+
+    /**
+     * Streams the configurations matching the request, ordered by product ID and key, as the rows are
+     * read from the database.
+     *
+     * @param request the products, keys and types to look up
+     * @return a Flux emitting the matching configurations
+     * @throws IllegalArgumentException if no product is given or a limit of the request is exceeded
+     */
+    Flux<ProductConfigurationDTO> streamLookup(ConfigurationLookupRequestDTO request);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.core.configuration.ResolvedProductConfiguration;
+import com.firefly.core.product.interfaces.dtos.ResolvedConfigurationsDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Service interface for resolving all configurations of a product into typed values.
+ */
+public interface ProductConfigurationResolutionService {
+
+    /**
+     * Resolves all configurations of a product into a compiled snapshot. The snapshot is loaded with a
+     * single query, cached, and evicted whenever a configuration of the product is written, so
+     * in-process callers can look values up repeatedly without further database access.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Mono emitting the compiled snapshot, empty of values if the product has no configurations
+     */
+    Mono<ResolvedProductConfiguration> resolve(UUID productId);
+
+    /**
+     * Retrieves all configurations of a product with their values parsed, grouped by type and key.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Mono emitting the resolved configurations
+     */
+    Mono<ResolvedConfigurationsDTO> getResolvedConfigurations(UUID productId);
+}
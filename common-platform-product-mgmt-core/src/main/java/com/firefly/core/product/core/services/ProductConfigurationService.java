@@ -89,6 +89,41 @@ public interface ProductConfigurationService {
     Mono<ProductConfigurationDTO> updateConfiguration(
             UUID productId, UUID configId, ProductConfigurationDTO configDTO);
 
+    /**
+     * Updates an existing configuration if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the configuration
+     * @param configId the unique identifier of the configuration to be updated
+     * @param configDTO the data transfer object containing the updated details of the configuration
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductConfigurationDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductConfigurationDTO> updateConfiguration(
+            UUID productId, UUID configId, ProductConfigurationDTO configDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a configuration without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the configuration
+     * @param configId the unique identifier of the configuration
+     * @return a reactive Mono containing the row version, or empty if the configuration does not exist
+     */
+    Mono<Long> getConfigurationRowVersion(UUID productId, UUID configId);
+
+    /**
+     * Creates the configuration with the given key, or replaces its type and value if the product
+     * already has one, in a single statement.
+     *
+     * @param productId the unique identifier of the product that owns the configuration
+     * @param configKey the key of the configuration
+     * @param configDTO the data transfer object containing the type and value of the configuration
+     * @return a reactive Mono containing the created or updated ProductConfigurationDTO
+     */
+    Mono<ProductConfigurationDTO> upsertConfigurationByKey(
+            UUID productId, String configKey, ProductConfigurationDTO configDTO);
+
     /**
      * Deletes a configuration identified by its unique ID, validating product ownership.
      *
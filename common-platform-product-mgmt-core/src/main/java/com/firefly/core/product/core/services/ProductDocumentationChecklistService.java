@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistDTO;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistRequestDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for checking the documents supplied for an application against the documentation
+ * requirements of its products.
+ */
+public interface ProductDocumentationChecklistService {
+
+    /**
+     * Evaluates the documentation checklist of a set of products. The requirements of each product are
+     * compiled once and kept in memory until one of them is written.
+     *
+     * @param request the products and the types of the documents already supplied
+     * @return a Mono emitting the mandatory and optional types still to be supplied, merged over the products
+     * @throws IllegalArgumentException if no product is given, too many products are given or a product
+     *                                  does not exist
+     */
+    Mono<DocumentationChecklistDTO> evaluate(DocumentationChecklistRequestDTO request);
+}
@@ -83,6 +83,29 @@ public interface ProductDocumentationRequirementService {
     Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
             UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO);
 
+    /**
+     * Updates an existing documentation requirement if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the requirement
+     * @param requirementId the unique identifier of the requirement to be updated
+     * @param requirementDTO the data transfer object containing the updated details of the documentation requirement
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductDocumentationRequirementDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
+            UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a documentation requirement without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the requirement
+     * @param requirementId the unique identifier of the requirement
+     * @return a reactive Mono containing the row version, or empty if the documentation requirement does not exist
+     */
+    Mono<Long> getDocumentationRequirementRowVersion(UUID productId, UUID requirementId);
+
     /**
      * Deletes a documentation requirement identified by its unique ID, validating product ownership.
      *
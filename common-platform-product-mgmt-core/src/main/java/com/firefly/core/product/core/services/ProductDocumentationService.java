@@ -67,6 +67,29 @@ public interface ProductDocumentationService {
      */
     Mono<ProductDocumentationDTO> updateDocumentation(UUID productId, UUID documentationId, ProductDocumentationDTO documentationDTO);
 
+    /**
+     * Updates an existing documentation if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the documentation
+     * @param documentationId the unique identifier of the documentation to be updated
+     * @param documentationDTO the data transfer object containing the updated details of the documentation
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductDocumentationDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductDocumentationDTO> updateDocumentation(
+            UUID productId, UUID documentationId, ProductDocumentationDTO documentationDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a documentation without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the documentation
+     * @param documentationId the unique identifier of the documentation
+     * @return a reactive Mono containing the row version, or empty if the documentation does not exist
+     */
+    Mono<Long> getDocumentationRowVersion(UUID productId, UUID documentationId);
+
     /**
      * Deletes a documentation identified by its unique ID, validating product ownership.
      *
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionRequestDTO;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionResponseDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for resolving the localization of products in a locale, falling back from the
+ * locale to its parent languages and then to the default language.
+ */
+public interface ProductLocalizationResolutionService {
+
+    /**
+     * Resolves the localization of every listed product for the requested locale. The localizations of
+     * each language of the fallback chain are read once and kept in memory until a localization write.
+     *
+     * @param request the products and the locale
+     * @return a Mono emitting the localization of each product from the first language of the chain that has one
+     * @throws IllegalArgumentException if no product is given or too many products are given
+     */
+    Mono<LocalizationResolutionResponseDTO> resolve(LocalizationResolutionRequestDTO request);
+}
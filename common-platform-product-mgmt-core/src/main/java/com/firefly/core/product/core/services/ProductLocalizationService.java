@@ -67,6 +67,29 @@ public interface ProductLocalizationService {
      */
     Mono<ProductLocalizationDTO> updateLocalization(UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO);
 
+    /**
+     * Updates an existing localization if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the localization
+     * @param localizationId the unique identifier of the localization to be updated
+     * @param localizationDTO the data transfer object containing the updated details of the localization
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductLocalizationDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductLocalizationDTO> updateLocalization(
+            UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a localization without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the localization
+     * @param localizationId the unique identifier of the localization
+     * @return a reactive Mono containing the row version, or empty if the localization does not exist
+     */
+    Mono<Long> getLocalizationRowVersion(UUID productId, UUID localizationId);
+
     /**
      * Deletes a localization identified by its unique ID, validating product ownership.
      *
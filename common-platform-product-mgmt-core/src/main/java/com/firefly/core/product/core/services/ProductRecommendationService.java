@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.CrossSellRecommendationsDTO;
+import com.firefly.core.product.interfaces.dtos.CrossSellRequestDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for product recommendations derived from product relationships.
+ */
+public interface ProductRecommendationService {
+
+    /**
+     * Ranks the products linked to any of the held products by {@code CROSS_SELL} or {@code COMPLIMENTARY}
+     * relationships, in either direction. Held products, retired products and products that no longer exist
+     * are never returned.
+     *
+     * @param request the held products and the maximum number of candidates
+     * @return a Mono emitting the candidates, best first
+     * @throws IllegalArgumentException if no held product is given or too many are given
+     */
+    Mono<CrossSellRecommendationsDTO> recommendCrossSell(CrossSellRequestDTO request);
+}
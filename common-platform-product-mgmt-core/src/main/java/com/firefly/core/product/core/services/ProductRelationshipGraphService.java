@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.ProductGraphNodeDTO;
+import com.firefly.core.product.interfaces.dtos.ProductPathDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for multi-hop queries over the product relationship graph, each answered by one
+ * recursive query.
+ */
+public interface ProductRelationshipGraphService {
+
+    /**
+     * Retrieves the transitive closure of a product: every product reachable through relationships of the
+     * given types, e.g. all direct and indirect prerequisites.
+     *
+     * @param productId the unique identifier of the start product
+     * @param types     the relationship types to follow
+     * @param direction the direction in which relationships are followed, outgoing if null
+     * @param maxDepth  the maximum number of relationships on a path, the configured maximum if null
+     * @return a Flux emitting each reached product once, ordered by its distance from the start product
+     * @throws IllegalArgumentException if no type is given or the depth is out of range
+     */
+    Flux<ProductGraphNodeDTO> getReachableProducts(UUID productId, List<RelationshipTypeEnum> types,
+                                                   RelationshipDirectionEnum direction, Integer maxDepth);
+
+    /**
+     * Retrieves the shortest chain of {@code UPGRADE} relationships from one product to another.
+     *
+     * @param productId       the unique identifier of the product to upgrade from
+     * @param targetProductId the unique identifier of the product to upgrade to
+     * @return a Mono emitting the path, or empty if the target cannot be reached within the configured maximum depth
+     */
+    Mono<ProductPathDTO> getUpgradePath(UUID productId, UUID targetProductId);
+
+    /**
+     * Retrieves the products to offer alongside a product: those linked to it through {@code CROSS_SELL} or
+     * {@code COMPLIMENTARY} relationships in either direction.
+     *
+     * @param productId the unique identifier of the product
+     * @param maxDepth  the maximum number of relationships on a path, the configured fan-out depth if null
+     * @return a Flux emitting each related product once, nearest first
+     * @throws IllegalArgumentException if the depth is out of range
+     */
+    Flux<ProductGraphNodeDTO> getCrossSellFanOut(UUID productId, Integer maxDepth);
+}
@@ -67,6 +67,29 @@ public interface ProductRelationshipService {
      */
     Mono<ProductRelationshipDTO> updateRelationship(UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO);
 
+    /**
+     * Updates an existing relationship if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the relationship
+     * @param relationshipId the unique identifier of the relationship to be updated
+     * @param relationshipDTO the data transfer object containing the updated details of the relationship
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductRelationshipDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductRelationshipDTO> updateRelationship(
+            UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a relationship without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the relationship
+     * @param relationshipId the unique identifier of the relationship
+     * @return a reactive Mono containing the row version, or empty if the relationship does not exist
+     */
+    Mono<Long> getRelationshipRowVersion(UUID productId, UUID relationshipId);
+
     /**
      * Deletes a relationship identified by its unique ID, validating product ownership.
      *
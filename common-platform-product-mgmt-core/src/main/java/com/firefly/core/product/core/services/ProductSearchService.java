@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductSearchResultDTO;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for the ranked full-text and fuzzy product search.
+ */
+public interface ProductSearchService {
+
+    /**
+     * Searches products by name, code, description and category name, and by the localized name and
+     * description of the given language. Every word must match, the last one as a prefix so that the
+     * search can back a typeahead; products with a similar name match as well, to tolerate typos.
+     *
+     * @param query the text to search for
+     * @param languageCode the language of the localizations to search (e.g. "en"), null to search the product only
+     * @param cursor the cursor returned by the previous page, null or blank for the best matches
+     * @param pageSize the requested page size, defaulted and capped like other cursor pages
+     * @return a Mono emitting a page of matches ordered by descending relevance
+     * @throws IllegalArgumentException if the query is blank or the cursor is malformed
+     */
+    Mono<CursorPaginationResponse<ProductSearchResultDTO>> searchProducts(
+            String query, String languageCode, String cursor, Integer pageSize);
+}
@@ -19,10 +19,12 @@ package com.firefly.core.product.core.services;
 
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -58,6 +60,15 @@ public interface ProductService {
      */
     Mono<ProductDTO> getProductById(UUID productId);
 
+    /**
+     * Retrieves many products by their unique identifiers with a single query.
+     *
+     * @param productIds the unique identifiers of the products to retrieve; nulls and duplicates are ignored
+     * @return a Flux emitting the products that exist, in no particular order,
+     *         or an error if no identifier or too many identifiers are given
+     */
+    Flux<ProductDTO> getProductsByIds(List<UUID> productIds);
+
     /**
      * Retrieves all products belonging to a specific tenant.
      *
@@ -66,6 +77,28 @@ public interface ProductService {
      */
     Flux<ProductDTO> getProductsByTenantId(UUID tenantId);
 
+    /**
+     * Retrieves a keyset paginated page of the products belonging to a specific tenant,
+     * ordered by product ID.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @param cursor the cursor returned by the previous page, or null to start from the beginning
+     * @param pageSize the requested page size, clamped to the server maximum
+     * @return a Mono emitting the page and the cursor to resume the scan
+     */
+    Mono<CursorPaginationResponse<ProductDTO>> getProductsByTenantId(UUID tenantId, String cursor, Integer pageSize);
+
+    /**
+     * Streams all products belonging to a specific tenant, ordered by product ID.
+     * Products are fetched lazily in keyset batches of {@code batchSize} as the subscriber requests them.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @param cursor the cursor to resume after, or null to start from the beginning
+     * @param batchSize the number of rows fetched per database round trip, clamped to the server maximum
+     * @return a Flux emitting the tenant's products
+     */
+    Flux<ProductDTO> streamProductsByTenantId(UUID tenantId, String cursor, Integer batchSize);
+
     /**
      * Updates an existing product with updated information.
      *
@@ -75,6 +108,26 @@ public interface ProductService {
      */
     Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO);
 
+    /**
+     * Updates an existing product if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product to be updated
+     * @param productDTO the data transfer object containing the updated details of the product
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a product without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product
+     * @return a reactive Mono containing the row version, or empty if the product does not exist
+     */
+    Mono<Long> getProductRowVersion(UUID productId);
+
     /**
      * Deletes a product identified by its unique ID.
      *
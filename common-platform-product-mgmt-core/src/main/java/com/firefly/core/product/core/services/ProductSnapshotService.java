@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services;
+
+import com.firefly.core.product.interfaces.dtos.ProductAsOfDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSnapshotDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for the composite product snapshot read model.
+ */
+public interface ProductSnapshotService {
+
+    /**
+     * Retrieves a product together with all of its child entities in a single document.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Mono emitting the {@link ProductSnapshotDTO} including its entity tag,
+     *         or empty if the product does not exist
+     */
+    Mono<ProductSnapshotDTO> getProductSnapshot(UUID productId);
+
+    /**
+     * Resolves a product as it stood at a point in time: the product and its configurations captured when
+     * the product version in effect at that time was created. Changes made after that creation and before
+     * the point in time are not reflected; versions that predate snapshots are flagged as backfilled.
+     *
+     * @param productId the unique identifier of the product
+     * @param asOf the point in time
+     * @return a Mono emitting the {@link ProductAsOfDTO}, or empty if the product does not exist or none of its
+     *         versions is effective at that time
+     */
+    Mono<ProductAsOfDTO> getProductAsOf(UUID productId, LocalDateTime asOf);
+}
@@ -67,6 +67,29 @@ public interface ProductVersionService {
      */
     Mono<ProductVersionDTO> updateProductVersion(UUID productId, UUID versionId, ProductVersionDTO productVersionDTO);
 
+    /**
+     * Updates an existing product version if it has not been modified since the client read it. The row is locked
+     * while the row version is checked, so a concurrent write cannot be lost.
+     *
+     * @param productId the unique identifier of the product that owns the version
+     * @param versionId the unique identifier of the product version to be updated
+     * @param productVersionDTO the data transfer object containing the updated details of the product version
+     * @param expectedRowVersion the row version the client last saw (its ETag), null to update unconditionally
+     * @return a reactive Mono containing the updated ProductVersionDTO, or an
+     *         {@link org.springframework.dao.OptimisticLockingFailureException} if the row version has changed
+     */
+    Mono<ProductVersionDTO> updateProductVersion(
+            UUID productId, UUID versionId, ProductVersionDTO productVersionDTO, Long expectedRowVersion);
+
+    /**
+     * Retrieves the row version of a product version without loading it, to answer conditional requests cheaply.
+     *
+     * @param productId the unique identifier of the product that owns the version
+     * @param versionId the unique identifier of the product version
+     * @return a reactive Mono containing the row version, or empty if the product version does not exist
+     */
+    Mono<Long> getProductVersionRowVersion(UUID productId, UUID versionId);
+
     /**
      * Deletes a product version identified by its unique ID, validating product ownership.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.cache.CatalogueCacheInvalidator;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.cache.ProductScopedKey;
+import com.firefly.core.product.core.services.ProductConfigurationService;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-through caching decorator of {@link ProductConfigurationServiceImpl}.
+ * Any configuration write evicts the cached configurations of the owning product, since an update
+ * may also change the key a configuration is looked up by. The eviction is local and runs as soon as
+ * the delegate returns; other instances evict from the committed change through
+ * {@link CatalogueCacheInvalidator}.
+ */
+@Service
+@Primary
+public class CachingProductConfigurationService implements ProductConfigurationService {
+
+    @Autowired
+    @Qualifier("productConfigurationServiceImpl")
+    private ProductConfigurationService delegate;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<PaginationResponse<ProductConfigurationDTO>> filterConfigurations(
+            UUID productId, FilterRequest<ProductConfigurationDTO> filterRequest) {
+        return delegate.filterConfigurations(productId, filterRequest);
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> createConfiguration(UUID productId, ProductConfigurationDTO configDTO) {
+        return delegate.createConfiguration(productId, configDTO)
+                .doOnSuccess(created -> evict(productId));
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> getConfigurationById(UUID productId, UUID configId) {
+        return caches.configurationsById().get(new ProductScopedKey<>(productId, configId),
+                key -> delegate.getConfigurationById(productId, configId));
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> getConfigurationByKey(UUID productId, String configKey) {
+        return caches.configurationsByKey().get(new ProductScopedKey<>(productId, configKey),
+                key -> delegate.getConfigurationByKey(productId, configKey));
+    }
+
+    @Override
+    public Flux<ProductConfigurationDTO> getConfigurationsByType(UUID productId, ProductConfigTypeEnum configType) {
+        return delegate.getConfigurationsByType(productId, configType);
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> updateConfiguration(
+            UUID productId, UUID configId, ProductConfigurationDTO configDTO) {
+        return delegate.updateConfiguration(productId, configId, configDTO)
+                .doOnSuccess(updated -> evict(productId));
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> updateConfiguration(
+            UUID productId, UUID configId, ProductConfigurationDTO configDTO, Long expectedRowVersion) {
+        return delegate.updateConfiguration(productId, configId, configDTO, expectedRowVersion)
+                .doOnSuccess(updated -> evict(productId));
+    }
+
+    @Override
+    public Mono<Long> getConfigurationRowVersion(UUID productId, UUID configId) {
+        return delegate.getConfigurationRowVersion(productId, configId)
+                .doOnNext(rowVersion -> caches.configurationsById().invalidateIfStale(
+                        new ProductScopedKey<>(productId, configId),
+                        cached -> !rowVersion.equals(cached.getRowVersion())));
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> upsertConfigurationByKey(
+            UUID productId, String configKey, ProductConfigurationDTO configDTO) {
+        return delegate.upsertConfigurationByKey(productId, configKey, configDTO)
+                .doOnSuccess(upserted -> evict(productId));
+    }
+
+    @Override
+    public Mono<Void> deleteConfiguration(UUID productId, UUID configId) {
+        return delegate.deleteConfiguration(productId, configId)
+                .doOnSuccess(ignored -> evict(productId));
+    }
+
+    private void evict(UUID productId) {
+        caches.evictConfigurations(productId);
+    }
+}
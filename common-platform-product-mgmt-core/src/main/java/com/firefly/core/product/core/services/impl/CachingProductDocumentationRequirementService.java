@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.cache.CatalogueCacheInvalidator;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.services.ProductDocumentationRequirementService;
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationRequirementDTO;
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Decorator of {@link ProductDocumentationRequirementServiceImpl} that keeps the compiled requirement
+ * sets of the documentation checklist current: any requirement write evicts the set of the owning product
+ * on this instance, and other instances evict it from the committed change through
+ * {@link CatalogueCacheInvalidator}.
+ */
+@Service
+@Primary
+public class CachingProductDocumentationRequirementService implements ProductDocumentationRequirementService {
+
+    @Autowired
+    @Qualifier("productDocumentationRequirementServiceImpl")
+    private ProductDocumentationRequirementService delegate;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<PaginationResponse<ProductDocumentationRequirementDTO>> filterDocumentationRequirements(
+            UUID productId, FilterRequest<ProductDocumentationRequirementDTO> filterRequest) {
+        return delegate.filterDocumentationRequirements(productId, filterRequest);
+    }
+
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> createDocumentationRequirement(
+            UUID productId, ProductDocumentationRequirementDTO requirementDTO) {
+        return delegate.createDocumentationRequirement(productId, requirementDTO)
+                .doOnSuccess(created -> evict(productId));
+    }
+
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> getDocumentationRequirementById(
+            UUID productId, UUID requirementId) {
+        return delegate.getDocumentationRequirementById(productId, requirementId);
+    }
+
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> getDocumentationRequirementByType(
+            UUID productId, ContractingDocTypeEnum docType) {
+        return delegate.getDocumentationRequirementByType(productId, docType);
+    }
+
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
+            UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO) {
+        return delegate.updateDocumentationRequirement(productId, requirementId, requirementDTO)
+                .doOnSuccess(updated -> evict(productId));
+    }
+
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
+            UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO, Long expectedRowVersion) {
+        return delegate.updateDocumentationRequirement(productId, requirementId, requirementDTO, expectedRowVersion)
+                .doOnSuccess(updated -> evict(productId));
+    }
+
+    @Override
+    public Mono<Long> getDocumentationRequirementRowVersion(UUID productId, UUID requirementId) {
+        return delegate.getDocumentationRequirementRowVersion(productId, requirementId);
+    }
+
+    @Override
+    public Mono<Void> deleteDocumentationRequirement(UUID productId, UUID requirementId) {
+        return delegate.deleteDocumentationRequirement(productId, requirementId)
+                .doOnSuccess(ignored -> evict(productId));
+    }
+
+    @Override
+    public Flux<ProductDocumentationRequirementDTO> filterMandatoryDocumentationRequirements(UUID productId) {
+        return delegate.filterMandatoryDocumentationRequirements(productId);
+    }
+
+    private void evict(UUID productId) {
+        caches.documentationRequirementSets().invalidate(productId);
+    }
+}
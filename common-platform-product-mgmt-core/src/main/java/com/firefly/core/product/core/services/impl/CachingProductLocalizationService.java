@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.cache.CatalogueCacheInvalidator;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.cache.ProductScopedKey;
+import com.firefly.core.product.core.localization.LocaleFallbackChain;
+import com.firefly.core.product.core.services.ProductLocalizationService;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Read-through caching decorator of {@link ProductLocalizationServiceImpl}. Writes evict on this
+ * instance as soon as the delegate returns; other instances evict from the committed change through
+ * {@link CatalogueCacheInvalidator}.
+ */
+@Service
+@Primary
+public class CachingProductLocalizationService implements ProductLocalizationService {
+
+    @Autowired
+    @Qualifier("productLocalizationServiceImpl")
+    private ProductLocalizationService delegate;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<PaginationResponse<ProductLocalizationDTO>> filterLocalizations(
+            UUID productId, FilterRequest<ProductLocalizationDTO> filterRequest) {
+        return delegate.filterLocalizations(productId, filterRequest);
+    }
+
+    @Override
+    public Mono<ProductLocalizationDTO> createLocalization(UUID productId, ProductLocalizationDTO localizationDTO) {
+        return delegate.createLocalization(productId, localizationDTO)
+                .doOnSuccess(created -> evictLanguage(productId, created));
+    }
+
+    @Override
+    public Mono<ProductLocalizationDTO> getLocalizationById(UUID productId, UUID localizationId) {
+        return caches.localizationsById().get(new ProductScopedKey<>(productId, localizationId),
+                key -> delegate.getLocalizationById(productId, localizationId));
+    }
+
+    @Override
+    public Mono<ProductLocalizationDTO> updateLocalization(
+            UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO) {
+        return delegate.updateLocalization(productId, localizationId, localizationDTO)
+                .doOnSuccess(updated -> {
+                    caches.localizationsById().invalidate(new ProductScopedKey<>(productId, localizationId));
+                    evictLanguages(productId, localizationDTO, updated);
+                });
+    }
+
+    @Override
+    public Mono<ProductLocalizationDTO> updateLocalization(
+            UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO, Long expectedRowVersion) {
+        return delegate.updateLocalization(productId, localizationId, localizationDTO, expectedRowVersion)
+                .doOnSuccess(updated -> {
+                    caches.localizationsById().invalidate(new ProductScopedKey<>(productId, localizationId));
+                    evictLanguages(productId, localizationDTO, updated);
+                });
+    }
+
+    @Override
+    public Mono<Long> getLocalizationRowVersion(UUID productId, UUID localizationId) {
+        return delegate.getLocalizationRowVersion(productId, localizationId)
+                .doOnNext(rowVersion -> caches.localizationsById().invalidateIfStale(
+                        new ProductScopedKey<>(productId, localizationId),
+                        cached -> !rowVersion.equals(cached.getRowVersion())));
+    }
+
+    @Override
+    public Mono<Void> deleteLocalization(UUID productId, UUID localizationId) {
+        return delegate.deleteLocalization(productId, localizationId)
+                .doOnSuccess(ignored -> {
+                    caches.localizationsById().invalidate(new ProductScopedKey<>(productId, localizationId));
+                    // The language of the deleted row is not known here
+                    caches.localizationsByLanguage().invalidateIf(key -> key.belongsTo(productId));
+                });
+    }
+
+    private void evictLanguages(UUID productId, ProductLocalizationDTO change, ProductLocalizationDTO updated) {
+        if (change.getLanguageCode() != null) {
+            // The language may have changed, and the previous one is not known here
+            caches.localizationsByLanguage().invalidateIf(key -> key.belongsTo(productId));
+        } else {
+            evictLanguage(productId, updated);
+        }
+    }
+
+    private void evictLanguage(UUID productId, ProductLocalizationDTO localization) {
+        if (localization != null) {
+            caches.localizationsByLanguage().invalidate(
+                    new ProductScopedKey<>(productId, LocaleFallbackChain.canonical(localization.getLanguageCode())));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.cache.CatalogueCacheInvalidator;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-through caching decorator of {@link ProductServiceImpl}.
+ * Single product reads are served from the products cache. Writes evict the product on this instance
+ * as soon as the delegate returns; every instance evicts it again from the committed change through
+ * {@link CatalogueCacheInvalidator}, which also covers entries reloaded before the write committed.
+ * Reading the row version for a conditional request evicts a cached product of another version, so the
+ * body returned next carries the version the request was compared with.
+ */
+@Service
+@Primary
+public class CachingProductService implements ProductService {
+
+    @Autowired
+    @Qualifier("productServiceImpl")
+    private ProductService delegate;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<PaginationResponse<ProductDTO>> filterProducts(FilterRequest<ProductDTO> filterRequest) {
+        return delegate.filterProducts(filterRequest);
+    }
+
+    @Override
+    public Mono<ProductDTO> createProduct(ProductDTO productDTO) {
+        return delegate.createProduct(productDTO);
+    }
+
+    @Override
+    public Mono<ProductDTO> getProductById(UUID productId) {
+        return caches.products().get(productId, delegate::getProductById);
+    }
+
+    @Override
+    public Flux<ProductDTO> getProductsByIds(List<UUID> productIds) {
+        return delegate.getProductsByIds(productIds);
+    }
+
+    @Override
+    public Flux<ProductDTO> getProductsByTenantId(UUID tenantId) {
+        return delegate.getProductsByTenantId(tenantId);
+    }
+
+    @Override
+    public Mono<CursorPaginationResponse<ProductDTO>> getProductsByTenantId(UUID tenantId, String cursor, Integer pageSize) {
+        return delegate.getProductsByTenantId(tenantId, cursor, pageSize);
+    }
+
+    @Override
+    public Flux<ProductDTO> streamProductsByTenantId(UUID tenantId, String cursor, Integer batchSize) {
+        return delegate.streamProductsByTenantId(tenantId, cursor, batchSize);
+    }
+
+    @Override
+    public Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO) {
+        return delegate.updateProduct(productId, productDTO)
+                .doOnSuccess(updated -> caches.products().invalidate(productId));
+    }
+
+    @Override
+    public Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO, Long expectedRowVersion) {
+        return delegate.updateProduct(productId, productDTO, expectedRowVersion)
+                .doOnSuccess(updated -> caches.products().invalidate(productId));
+    }
+
+    @Override
+    public Mono<Long> getProductRowVersion(UUID productId) {
+        return delegate.getProductRowVersion(productId)
+                .doOnNext(rowVersion -> caches.products().invalidateIfStale(productId,
+                        cached -> !rowVersion.equals(cached.getRowVersion())));
+    }
+
+    @Override
+    public Mono<Void> deleteProduct(UUID productId) {
+        return delegate.deleteProduct(productId)
+                .doOnSuccess(ignored -> caches.evictProduct(productId));
+    }
+}
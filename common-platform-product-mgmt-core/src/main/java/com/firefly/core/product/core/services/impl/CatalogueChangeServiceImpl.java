@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.mappers.CatalogueChangeMapper;
+import com.firefly.core.product.core.outbox.CatalogueOutboxProperties;
+import com.firefly.core.product.core.services.CatalogueChangeService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangesDTO;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+@Service
+public class CatalogueChangeServiceImpl implements CatalogueChangeService {
+
+    @Autowired
+    private CatalogueChangeRepository repository;
+
+    @Autowired
+    private CatalogueChangeMapper mapper;
+
+    @Autowired
+    private CatalogueOutboxProperties properties;
+
+    @Override
+    public Mono<CatalogueChangesDTO> getChanges(String since, Integer limit, Duration wait) {
+        int size = CursorUtils.clampPageSize(limit);
+        return Mono.defer(() -> {
+            long after = CursorUtils.decodeSequence(since);
+            Duration timeout = effectiveWait(wait);
+            // Fetch one extra row to know whether another page exists without a count query
+            Mono<List<CatalogueChange>> page = Mono.defer(() -> repository.findPublishedAfter(after, size + 1).collectList());
+            Mono<List<CatalogueChange>> rows = timeout.isZero()
+                    ? page
+                    : page.filter(found -> !found.isEmpty())
+                            .repeatWhenEmpty(attempts -> attempts.delayElements(properties.getPollInterval()))
+                            .timeout(timeout, Mono.just(List.of()));
+            return rows.map(found -> {
+                boolean hasMore = found.size() > size;
+                List<CatalogueChange> changes = hasMore ? found.subList(0, size) : found;
+                return CatalogueChangesDTO.builder()
+                        .changes(changes.stream().map(mapper::toDto).toList())
+                        .nextCursor(CursorUtils.encodeSequence(lastSequence(changes, after)))
+                        .hasMore(hasMore)
+                        .build();
+            });
+        });
+    }
+
+    @Override
+    public Flux<CatalogueChangeEventDTO> streamChanges(String since) {
+        int size = CursorUtils.MAX_PAGE_SIZE;
+        return Mono.fromCallable(() -> CursorUtils.decodeSequence(since))
+                .flatMap(after -> fetch(after, size))
+                // A full batch is followed right away, otherwise the feed is polled again after the interval
+                .expand(batch -> Mono.delay(batch.changes().size() < size ? properties.getPollInterval() : Duration.ZERO)
+                        .then(fetch(lastSequence(batch.changes(), batch.after()), size)))
+                .concatMapIterable(FeedBatch::changes)
+                .map(mapper::toDto);
+    }
+
+    private Mono<FeedBatch> fetch(long after, int limit) {
+        return repository.findPublishedAfter(after, limit)
+                .collectList()
+                .map(changes -> new FeedBatch(after, changes));
+    }
+
+    private Duration effectiveWait(Duration wait) {
+        if (wait == null || wait.isNegative()) {
+            return Duration.ZERO;
+        }
+        return wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+    }
+
+    private static long lastSequence(List<CatalogueChange> changes, long after) {
+        return changes.isEmpty() ? after : changes.get(changes.size() - 1).getSequenceNumber();
+    }
+
+    private record FeedBatch(long after, List<CatalogueChange> changes) {
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.delta.DeltaWatermark;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.mappers.ProductCategoryMapper;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationRequirementMapper;
+import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
+import com.firefly.core.product.core.mappers.ProductRelationshipMapper;
+import com.firefly.core.product.core.mappers.ProductVersionMapper;
+import com.firefly.core.product.core.services.CatalogueDeltaService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueDeltaDTO;
+import com.firefly.core.product.interfaces.dtos.CatalogueDeltaItemDTO;
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.entities.BaseEntity;
+import com.firefly.core.product.models.entities.CatalogueTombstone;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductCategory;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.entities.ProductDocumentation;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+import com.firefly.core.product.models.entities.ProductLocalization;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import com.firefly.core.product.models.entities.ProductVersion;
+import com.firefly.core.product.models.repositories.CatalogueTombstoneRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class CatalogueDeltaServiceImpl implements CatalogueDeltaService {
+
+    private static final Comparator<DeltaRow> ROW_ORDER = Comparator.comparing(DeltaRow::position, DeltaWatermark.ORDER);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductConfigurationRepository configurationRepository;
+
+    @Autowired
+    private ProductDocumentationRepository documentationRepository;
+
+    @Autowired
+    private ProductDocumentationRequirementRepository documentationRequirementRepository;
+
+    @Autowired
+    private ProductLocalizationRepository localizationRepository;
+
+    @Autowired
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Autowired
+    private ProductVersionRepository versionRepository;
+
+    @Autowired
+    private CatalogueTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductCategoryMapper categoryMapper;
+
+    @Autowired
+    private ProductConfigurationMapper configurationMapper;
+
+    @Autowired
+    private ProductDocumentationMapper documentationMapper;
+
+    @Autowired
+    private ProductDocumentationRequirementMapper documentationRequirementMapper;
+
+    @Autowired
+    private ProductLocalizationMapper localizationMapper;
+
+    @Autowired
+    private ProductRelationshipMapper relationshipMapper;
+
+    @Autowired
+    private ProductVersionMapper versionMapper;
+
+    @Override
+    public Mono<CatalogueDeltaDTO> getDelta(String since, Integer limit) {
+        int size = CursorUtils.clampPageSize(limit);
+        return Mono.defer(() -> {
+            DeltaWatermark after = DeltaWatermark.decode(since);
+            return tombstoneRepository.findStableWatermark()
+                    // Each type is read in the shared order, so merging the sorted streams orders the page;
+                    // one extra row tells whether another page exists
+                    .flatMap(until -> Flux.mergeComparing(ROW_ORDER, rows(after, until, size + 1))
+                            .take(size + 1)
+                            .collectList())
+                    .map(found -> {
+                        boolean hasMore = found.size() > size;
+                        List<DeltaRow> page = hasMore ? found.subList(0, size) : found;
+                        DeltaWatermark next = page.isEmpty() ? after : page.get(page.size() - 1).position();
+                        return CatalogueDeltaDTO.builder()
+                                .changes(page.stream().map(DeltaRow::item).toList())
+                                .watermark(next.encode())
+                                .hasMore(hasMore)
+                                .build();
+                    });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flux<DeltaRow>[] rows(DeltaWatermark after, LocalDateTime until, int limit) {
+        return new Flux[]{
+                live(CatalogueEntityTypeEnum.PRODUCT,
+                        productRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT.ordinal()), until, limit),
+                        Product::getProductId, Product::getProductId, productMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_CATEGORY,
+                        categoryRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_CATEGORY.ordinal()), until, limit),
+                        ProductCategory::getProductCategoryId, ProductCategory::getProductCategoryId, categoryMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_CONFIGURATION,
+                        configurationRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_CONFIGURATION.ordinal()), until, limit),
+                        ProductConfiguration::getProductConfigurationId, ProductConfiguration::getProductId, configurationMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_DOCUMENTATION,
+                        documentationRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_DOCUMENTATION.ordinal()), until, limit),
+                        ProductDocumentation::getProductDocumentationId, ProductDocumentation::getProductId, documentationMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_DOCUMENTATION_REQUIREMENT,
+                        documentationRequirementRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_DOCUMENTATION_REQUIREMENT.ordinal()), until, limit),
+                        ProductDocumentationRequirement::getProductDocRequirementId, ProductDocumentationRequirement::getProductId, documentationRequirementMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_LOCALIZATION,
+                        localizationRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_LOCALIZATION.ordinal()), until, limit),
+                        ProductLocalization::getProductLocalizationId, ProductLocalization::getProductId, localizationMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_RELATIONSHIP,
+                        relationshipRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_RELATIONSHIP.ordinal()), until, limit),
+                        ProductRelationship::getProductRelationshipId, ProductRelationship::getProductId, relationshipMapper::toDto),
+                live(CatalogueEntityTypeEnum.PRODUCT_VERSION,
+                        versionRepository.findUpdatedAfter(after.dateUpdated(), after.afterIdFor(CatalogueEntityTypeEnum.PRODUCT_VERSION.ordinal()), until, limit),
+                        ProductVersion::getProductVersionId, ProductVersion::getProductId, versionMapper::toDto),
+                tombstoneRepository.findDeletedAfter(after.dateUpdated(), after.afterIdFor(DeltaWatermark.TOMBSTONE_KIND), until, limit)
+                        .map(CatalogueDeltaServiceImpl::tombstone)
+        };
+    }
+
+    private static <E extends BaseEntity> Flux<DeltaRow> live(CatalogueEntityTypeEnum type, Flux<E> entities,
+                                                              Function<E, UUID> entityId, Function<E, UUID> aggregateId,
+                                                              Function<E, ?> toDto) {
+        int kind = type.ordinal();
+        return entities.map(entity -> new DeltaRow(
+                new DeltaWatermark(entity.getDateUpdated(), kind, entityId.apply(entity)),
+                CatalogueDeltaItemDTO.builder()
+                        .entityType(type)
+                        .entityId(entityId.apply(entity))
+                        .aggregateId(aggregateId.apply(entity))
+                        .changeType(ChangeTypeEnum.UPDATED)
+                        .dateUpdated(entity.getDateUpdated())
+                        .data(toDto.apply(entity))
+                        .build()));
+    }
+
+    private static DeltaRow tombstone(CatalogueTombstone tombstone) {
+        return new DeltaRow(
+                new DeltaWatermark(tombstone.getDeletedAt(), DeltaWatermark.TOMBSTONE_KIND, tombstone.getEntityId()),
+                CatalogueDeltaItemDTO.builder()
+                        .entityType(tombstone.getEntityType())
+                        .entityId(tombstone.getEntityId())
+                        .aggregateId(tombstone.getAggregateId())
+                        .changeType(ChangeTypeEnum.DELETED)
+                        .dateUpdated(tombstone.getDeletedAt())
+                        .build());
+    }
+
+    private record DeltaRow(DeltaWatermark position, CatalogueDeltaItemDTO item) {
+    }
+}
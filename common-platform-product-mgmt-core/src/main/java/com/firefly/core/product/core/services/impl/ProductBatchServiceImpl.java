@@ -0,0 +1,261 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.batch.BatchExecutor;
+import com.firefly.core.product.core.batch.BatchItem;
+import com.firefly.core.product.core.batch.BatchResults;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.services.ProductBatchService;
+import com.firefly.core.product.interfaces.dtos.BatchItemResultDTO;
+import com.firefly.core.product.interfaces.dtos.BatchResponseDTO;
+import com.firefly.core.product.interfaces.dtos.BatchUpdateItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.enums.BatchItemStatusEnum;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactions are managed per chunk by the {@link BatchExecutor}, hence no class level {@code @Transactional}.
+ */
+@Service
+public class ProductBatchServiceImpl implements ProductBatchService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductConfigurationRepository configurationRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductConfigurationMapper configurationMapper;
+
+    @Autowired
+    private BatchExecutor executor;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<BatchResponseDTO<ProductDTO>> createProducts(Flux<ProductDTO> products, boolean atomic) {
+        return executor.execute(products, atomic,
+                product -> product.getTenantId() == null ? "Tenant ID is required when creating a product" : null,
+                product -> null,
+                chunk -> {
+                    // IDs are assigned up front: the rows returned by the insert come in no guaranteed order
+                    List<Product> entities = chunk.stream().map(item -> {
+                        Product product = productMapper.toEntity(item.value());
+                        product.setProductId(UUID.randomUUID());
+                        return product;
+                    }).toList();
+                    return productRepository.insertAll(entities)
+                            .collectMap(Product::getProductId, productMapper::toDto)
+                            .flatMapIterable(created -> createResults(chunk, entities, Product::getProductId, created));
+                });
+    }
+
+    @Override
+    public Mono<BatchResponseDTO<ProductDTO>> updateProducts(Flux<BatchUpdateItemDTO<ProductDTO>> items, boolean atomic) {
+        return executor.execute(items, atomic,
+                item -> validateUpdate(item, "Product"),
+                BatchUpdateItemDTO::getId,
+                chunk -> productRepository
+                        .updateAll(chunk.stream().map(item -> {
+                            Product product = productMapper.toEntity(item.value().getData());
+                            product.setProductId(item.value().getId());
+                            return product;
+                        }).toList())
+                        .collectMap(Product::getProductId, productMapper::toDto)
+                        .flatMapIterable(updated -> chunk.stream()
+                                .map(item -> updateResult(item.index(), item.value().getId(), updated,
+                                        "Product not found with ID: " + item.value().getId()))
+                                .toList()))
+                .doOnSuccess(response -> succeededIds(response).forEach(caches::evictProduct));
+    }
+
+    @Override
+    public Mono<BatchResponseDTO<ProductDTO>> deleteProducts(Flux<UUID> productIds, boolean atomic) {
+        return executor.<UUID, ProductDTO>execute(productIds, atomic,
+                        productId -> productId == null ? "Product ID is required" : null,
+                        Function.identity(),
+                        chunk -> productRepository
+                                .deleteAllByProductIdIn(chunk.stream().map(BatchItem::value).toList())
+                                .collect(Collectors.toSet())
+                                .flatMapIterable(deleted -> chunk.stream()
+                                        .map(item -> ProductBatchServiceImpl.<ProductDTO>deleteResult(item.index(), item.value(),
+                                                deleted, "Product not found with ID: " + item.value()))
+                                        .toList()))
+                .doOnSuccess(response -> succeededIds(response).forEach(caches::evictProduct));
+    }
+
+    @Override
+    public Mono<BatchResponseDTO<ProductConfigurationDTO>> createConfigurations(
+            UUID productId, Flux<ProductConfigurationDTO> configurations, boolean atomic) {
+        // The validator remembers the keys seen so far, so it is created anew for every subscription
+        return Mono.defer(() -> executor.execute(
+                        configurations.doOnNext(configuration -> configuration.setProductId(productId)), atomic,
+                        configurationValidator(),
+                        configuration -> null,
+                        chunk -> {
+                            List<ProductConfiguration> entities = chunk.stream().map(item -> {
+                                ProductConfiguration configuration = configurationMapper.toEntity(item.value());
+                                configuration.setProductConfigurationId(UUID.randomUUID());
+                                return configuration;
+                            }).toList();
+                            return configurationRepository.insertAll(entities)
+                                    .collectMap(ProductConfiguration::getProductConfigurationId, configurationMapper::toDto)
+                                    .flatMapIterable(created -> createResults(chunk, entities,
+                                            ProductConfiguration::getProductConfigurationId, created));
+                        }))
+                .doOnSuccess(response -> evictConfigurations(productId, response));
+    }
+
+    @Override
+    public Mono<BatchResponseDTO<ProductConfigurationDTO>> updateConfigurations(
+            UUID productId, Flux<BatchUpdateItemDTO<ProductConfigurationDTO>> items, boolean atomic) {
+        return executor.execute(items, atomic,
+                        item -> validateUpdate(item, "Configuration"),
+                        BatchUpdateItemDTO::getId,
+                        chunk -> configurationRepository
+                                .updateAllOfProduct(productId, chunk.stream().map(item -> {
+                                    ProductConfiguration configuration = configurationMapper.toEntity(item.value().getData());
+                                    configuration.setProductConfigurationId(item.value().getId());
+                                    return configuration;
+                                }).toList())
+                                .collectMap(ProductConfiguration::getProductConfigurationId, configurationMapper::toDto)
+                                .flatMapIterable(updated -> chunk.stream()
+                                        .map(item -> updateResult(item.index(), item.value().getId(), updated,
+                                                configurationNotFound(productId, item.value().getId())))
+                                        .toList()))
+                .doOnSuccess(response -> evictConfigurations(productId, response));
+    }
+
+    @Override
+    public Mono<BatchResponseDTO<ProductConfigurationDTO>> deleteConfigurations(
+            UUID productId, Flux<UUID> configIds, boolean atomic) {
+        return executor.<UUID, ProductConfigurationDTO>execute(configIds, atomic,
+                        configId -> configId == null ? "Configuration ID is required" : null,
+                        Function.identity(),
+                        chunk -> configurationRepository
+                                .deleteAllOfProduct(productId, chunk.stream().map(BatchItem::value).toList())
+                                .collect(Collectors.toSet())
+                                .flatMapIterable(deleted -> chunk.stream()
+                                        .map(item -> ProductBatchServiceImpl.<ProductConfigurationDTO>deleteResult(item.index(),
+                                                item.value(), deleted, configurationNotFound(productId, item.value())))
+                                        .toList()))
+                .doOnSuccess(response -> evictConfigurations(productId, response));
+    }
+
+    /**
+     * Rejects configurations without a key or type, and every repetition of a key within the batch: a key
+     * is unique within a product, and a repeated key would otherwise fail its whole chunk on insert.
+     */
+    private static Function<ProductConfigurationDTO, String> configurationValidator() {
+        Set<String> seenKeys = new HashSet<>();
+        return configuration -> {
+            if (configuration.getConfigKey() == null) {
+                return "Configuration key is required";
+            }
+            if (configuration.getConfigType() == null) {
+                return "Configuration type is required when creating configuration " + configuration.getConfigKey();
+            }
+            if (!seenKeys.add(configuration.getConfigKey())) {
+                return "Configuration key " + configuration.getConfigKey() + " appears more than once in the batch";
+            }
+            return null;
+        };
+    }
+
+    private static String validateUpdate(BatchUpdateItemDTO<?> item, String entity) {
+        if (item.getId() == null) {
+            return entity + " ID is required";
+        }
+        if (item.getData() == null) {
+            return entity + " data is required";
+        }
+        return null;
+    }
+
+    /**
+     * Matches the created rows to the chunk items by the ID assigned to each item's entity.
+     */
+    private static <T, E, R> List<BatchItemResultDTO<R>> createResults(
+            List<BatchItem<T>> chunk, List<E> entities, Function<E, UUID> id, Map<UUID, R> created) {
+        List<BatchItemResultDTO<R>> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            UUID createdId = id.apply(entities.get(i));
+            R data = created.get(createdId);
+            results.add(data != null
+                    ? BatchResults.succeeded(chunk.get(i).index(), createdId, data)
+                    : BatchResults.failed(chunk.get(i).index(), createdId, "Row was not returned by the insert"));
+        }
+        return results;
+    }
+
+    private static <R> BatchItemResultDTO<R> updateResult(int index, UUID id, Map<UUID, R> updated, String notFound) {
+        R data = updated.get(id);
+        return data != null ? BatchResults.succeeded(index, id, data) : BatchResults.failed(index, id, notFound);
+    }
+
+    private static <R> BatchItemResultDTO<R> deleteResult(int index, UUID id, Set<UUID> deleted, String notFound) {
+        return deleted.contains(id) ? BatchResults.succeeded(index, id, null) : BatchResults.failed(index, id, notFound);
+    }
+
+    private static String configurationNotFound(UUID productId, UUID configId) {
+        return "Configuration with ID " + configId + " not found for product " + productId;
+    }
+
+    private static Set<UUID> succeededIds(BatchResponseDTO<?> response) {
+        Set<UUID> ids = new HashSet<>();
+        for (BatchItemResultDTO<?> result : response.getResults()) {
+            if (result.getStatus() == BatchItemStatusEnum.SUCCEEDED && result.getId() != null) {
+                ids.add(result.getId());
+            }
+        }
+        return ids;
+    }
+
+    private void evictConfigurations(UUID productId, BatchResponseDTO<?> response) {
+        if (response.getSucceeded() > 0) {
+            caches.evictConfigurations(productId);
+        }
+    }
+}
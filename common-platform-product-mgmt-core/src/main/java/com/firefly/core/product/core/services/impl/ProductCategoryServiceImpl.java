@@ -20,16 +20,27 @@ package com.firefly.core.product.core.services.impl;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.index.CategoryTreeIndex;
 import com.firefly.core.product.core.mappers.ProductCategoryMapper;
 import com.firefly.core.product.core.services.ProductCategoryService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.core.utils.TransactionUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import com.firefly.core.product.models.entities.ProductCategory;
 import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
@@ -42,6 +53,12 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
     @Autowired
     private ProductCategoryMapper mapper;
 
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryTreeIndex treeIndex;
+
     @Override
     public Mono<PaginationResponse<ProductCategoryDTO>> filterRootCategories(FilterRequest<ProductCategoryDTO> filterRequest) {
         return FilterUtils
@@ -54,14 +71,15 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
 
     @Override
     public Mono<PaginationResponse<ProductCategoryDTO>> filterChildCategories(UUID parentCategoryId, FilterRequest<ProductCategoryDTO> filterRequest) {
-        return repository.findById(parentCategoryId)
+        return findCategory(parentCategoryId)
                 .switchIfEmpty(Mono.error(new RuntimeException("Parent category not found with ID: " + parentCategoryId)))
                 .flatMap(parent -> FilterUtils
                         .createFilter(
                                 ProductCategory.class,
                                 mapper::toDto
                         )
-                        .filter(filterRequest));
+                        .filter(FilterRequestUtils.scoped(filterRequest, ProductCategoryDTO::new,
+                                filters -> filters.setParentCategoryId(parentCategoryId))));
     }
 
     @Override
@@ -71,7 +89,8 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
                         ProductCategory.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductCategoryDTO::new,
+                        filters -> filters.setCategoryName(namePattern)));
     }
 
     @Override
@@ -80,6 +99,8 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
                 .flatMap(this::validateAndSetLevel)
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(saved -> repository.insertClosure(saved.getProductCategoryId(), saved.getParentCategoryId())
+                        .then(indexAfterCommit(saved)))
                 .map(mapper::toDto);
     }
 
@@ -99,17 +120,41 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
                     if (categoryDTO.getParentCategoryId() != null && categoryDTO.getParentCategoryId().equals(categoryId)) {
                         return Mono.error(new RuntimeException("A category cannot be its own parent"));
                     }
-                    return validateNoCircularReference(categoryId, categoryDTO.getParentCategoryId())
-                            .then(calculateLevel(categoryDTO.getParentCategoryId()))
+                    // Null fields are not mapped, so an absent parent keeps the current one
+                    UUID previousParentId = existingEntity.getParentCategoryId();
+                    UUID newParentId = categoryDTO.getParentCategoryId() != null
+                            ? categoryDTO.getParentCategoryId()
+                            : previousParentId;
+                    boolean moved = !Objects.equals(previousParentId, newParentId);
+                    int previousLevel = existingEntity.getLevel() != null ? existingEntity.getLevel() : 0;
+                    return validateNoCircularReference(categoryId, moved ? newParentId : null)
+                            .then(calculateLevel(newParentId))
                             .flatMap(level -> {
                                 mapper.updateEntityFromDto(categoryDTO, existingEntity);
                                 existingEntity.setLevel(level);
-                                return repository.save(existingEntity);
+                                return repository.save(existingEntity)
+                                        .flatMap(saved -> moved
+                                                ? moveSubtree(categoryId, newParentId, level - previousLevel).thenReturn(saved)
+                                                : Mono.just(saved));
                             })
+                            .flatMap(this::indexAfterCommit)
                             .map(mapper::toDto);
                 });
     }
 
+    @Override
+    public Mono<ProductCategoryDTO> updateCategory(
+            UUID categoryId, ProductCategoryDTO categoryDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionById(categoryId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Category " + categoryId)
+                .then(Mono.defer(() -> updateCategory(categoryId, categoryDTO)));
+    }
+
+    @Override
+    public Mono<Long> getCategoryRowVersion(UUID categoryId) {
+        return repository.findRowVersionById(categoryId);
+    }
+
     @Override
     public Mono<Void> deleteCategory(UUID categoryId) {
         return repository.findById(categoryId)
@@ -120,11 +165,74 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
                                 if (count > 0) {
                                     return Mono.error(new RuntimeException("Cannot delete category with ID " + categoryId + " because it has child categories"));
                                 }
-                                return repository.deleteById(categoryId);
+                                return repository.deleteById(categoryId)
+                                        .then(TransactionUtils.afterCommit(() -> treeIndex.remove(categoryId)));
                             })
                 );
     }
 
+    @Override
+    public Flux<ProductCategoryDTO> getCategorySubtree(UUID categoryId) {
+        if (treeIndex.contains(categoryId)) {
+            return Flux.fromIterable(treeIndex.subtree(categoryId))
+                    .map(mapper::toDto);
+        }
+        // The subtree always contains the category itself, so an empty result means it does not exist
+        return repository.findDtoSubtree(categoryId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Category not found with ID: " + categoryId)));
+    }
+
+    @Override
+    public Flux<ProductCategoryDTO> getCategoryAncestors(UUID categoryId) {
+        if (treeIndex.contains(categoryId)) {
+            return Flux.fromIterable(treeIndex.ancestors(categoryId))
+                    .map(mapper::toDto);
+        }
+        return repository.findDtoAncestors(categoryId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Category not found with ID: " + categoryId)));
+    }
+
+    @Override
+    public Mono<CursorPaginationResponse<ProductDTO>> getProductsInCategorySubtree(UUID categoryId, String cursor, Integer pageSize) {
+        int size = CursorUtils.clampPageSize(pageSize);
+        return findCategory(categoryId)
+                .switchIfEmpty(Mono.error(new RuntimeException("Category not found with ID: " + categoryId)))
+                // Fetch one extra row to know whether another page exists without a count query
+                .flatMap(category -> productRepository
+                        .findDtoPageInCategorySubtree(categoryId, CursorUtils.decode(cursor), size + 1)
+                        .collectList())
+                .map(rows -> {
+                    boolean hasMore = rows.size() > size;
+                    List<ProductDTO> page = hasMore ? rows.subList(0, size) : rows;
+                    return CursorPaginationResponse.<ProductDTO>builder()
+                            .content(page)
+                            .nextCursor(hasMore ? CursorUtils.encode(page.get(page.size() - 1).getProductId()) : null)
+                            .hasMore(hasMore)
+                            .pageSize(size)
+                            .build();
+                });
+    }
+
+    /**
+     * Updates the tree index with a saved category once the transaction commits, so that readers never
+     * see a category, or a move, that is later rolled back.
+     */
+    private Mono<ProductCategory> indexAfterCommit(ProductCategory saved) {
+        return TransactionUtils.afterCommit(() -> treeIndex.upsert(saved))
+                .thenReturn(saved);
+    }
+
+    /**
+     * Re-links a category and its descendants below a new parent in the closure table and shifts
+     * the levels of the descendants by the level change of the category.
+     */
+    private Mono<Void> moveSubtree(UUID categoryId, UUID newParentId, int levelDelta) {
+        return repository.detachSubtree(categoryId)
+                .then(repository.attachSubtree(categoryId, newParentId))
+                .then(levelDelta != 0 ? repository.shiftSubtreeLevels(categoryId, levelDelta) : Mono.<Integer>empty())
+                .then();
+    }
+
     /**
      * Validates parent category exists (if specified) and sets the level.
      */
@@ -137,7 +245,18 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
     }
 
     /**
-     * Calculates the level based on parent category.
+     * Looks a category up in the tree index, falling back to the database for categories the index
+     * does not know (yet).
+     */
+    private Mono<ProductCategory> findCategory(UUID categoryId) {
+        return treeIndex.find(categoryId)
+                .map(Mono::just)
+                .orElseGet(() -> repository.findById(categoryId));
+    }
+
+    /**
+     * Calculates the level based on parent category with a single primary key lookup. Write paths always
+     * read the parent from the database: the tree index is only updated after commit and may lag behind.
      * Root categories have level 0, children have parent's level + 1.
      */
     private Mono<Integer> calculateLevel(UUID parentCategoryId) {
@@ -150,26 +269,17 @@ public class ProductCategoryServiceImpl implements ProductCategoryService {
     }
 
     /**
-     * Validates that setting a parent category would not create a circular reference.
+     * Validates that setting a parent category would not create a circular reference, i.e. that the
+     * new parent is not the category itself or one of its descendants. Always answered by one closure
+     * table lookup rather than the tree index, which may not reflect a concurrent, just committed move.
      */
     private Mono<Void> validateNoCircularReference(UUID categoryId, UUID newParentId) {
         if (newParentId == null) {
             return Mono.empty();
         }
-        return checkAncestors(categoryId, newParentId);
-    }
-
-    /**
-     * Recursively checks if categoryId appears in the ancestor chain of potentialAncestorId.
-     */
-    private Mono<Void> checkAncestors(UUID categoryId, UUID potentialAncestorId) {
-        if (potentialAncestorId == null) {
-            return Mono.empty();
-        }
-        if (potentialAncestorId.equals(categoryId)) {
-            return Mono.error(new RuntimeException("Circular reference detected: category cannot be an ancestor of itself"));
-        }
-        return repository.findById(potentialAncestorId)
-                .flatMap(ancestor -> checkAncestors(categoryId, ancestor.getParentCategoryId()));
+        return repository.isInSubtree(categoryId, newParentId)
+                .flatMap(inSubtree -> inSubtree
+                        ? Mono.<Void>error(new RuntimeException("Circular reference detected: category cannot be an ancestor of itself"))
+                        : Mono.<Void>empty());
     }
-}
\ No newline at end of file
+}
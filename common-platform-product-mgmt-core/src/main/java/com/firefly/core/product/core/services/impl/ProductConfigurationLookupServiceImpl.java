@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.configuration.ConfigurationLookupProperties;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.services.ProductConfigurationLookupService;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupRequestDTO;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupResponseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class ProductConfigurationLookupServiceImpl implements ProductConfigurationLookupService {
+
+    @Autowired
+    private ProductConfigurationRepository repository;
+
+    @Autowired
+    private ProductConfigurationMapper mapper;
+
+    @Autowired
+    private ConfigurationLookupProperties properties;
+
+    @Override
+    public Mono<ConfigurationLookupResponseDTO> lookup(ConfigurationLookupRequestDTO request) {
+        return find(request)
+                .collect(LinkedHashMap<UUID, Map<String, String>>::new, (configurations, configuration) ->
+                        configurations.computeIfAbsent(configuration.getProductId(), id -> new LinkedHashMap<>())
+                                .put(configuration.getConfigKey(), configuration.getConfigValue()))
+                .map(configurations -> ConfigurationLookupResponseDTO.builder()
+                        .configurations(configurations)
+                        .build());
+    }
+
+    @Override
+    public Flux<ProductConfigurationDTO> streamLookup(ConfigurationLookupRequestDTO request) {
+        return find(request)
+                .map(mapper::toDto);
+    }
+
+    private Flux<ProductConfiguration> find(ConfigurationLookupRequestDTO request) {
+        return Flux.defer(() -> {
+            UUID[] productIds = distinct(request.getProductIds()).toArray(UUID[]::new);
+            String[] configKeys = distinct(request.getConfigKeys()).toArray(String[]::new);
+            ProductConfigTypeEnum[] configTypes = distinct(request.getConfigTypes())
+                    .toArray(ProductConfigTypeEnum[]::new);
+            if (productIds.length == 0) {
+                return Flux.error(new IllegalArgumentException("At least one product ID is required"));
+            }
+            if (productIds.length > properties.getMaxProducts()) {
+                return Flux.error(new IllegalArgumentException(
+                        "Too many product IDs: " + productIds.length + " (max " + properties.getMaxProducts() + ")"));
+            }
+            if (configKeys.length > properties.getMaxKeys()) {
+                return Flux.error(new IllegalArgumentException(
+                        "Too many configuration keys: " + configKeys.length + " (max " + properties.getMaxKeys() + ")"));
+            }
+            return repository.findByProductIdsAndKeys(productIds, configKeys, configTypes);
+        });
+    }
+
+    private static <T> List<T> distinct(Collection<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.configuration.ResolvedConfigurationValue;
+import com.firefly.core.product.core.configuration.ResolvedProductConfiguration;
+import com.firefly.core.product.core.services.ProductConfigurationResolutionService;
+import com.firefly.core.product.interfaces.dtos.ResolvedConfigurationValueDTO;
+import com.firefly.core.product.interfaces.dtos.ResolvedConfigurationsDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+public class ProductConfigurationResolutionServiceImpl implements ProductConfigurationResolutionService {
+
+    @Autowired
+    private ProductConfigurationRepository repository;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<ResolvedProductConfiguration> resolve(UUID productId) {
+        return caches.resolvedConfigurations().get(productId, id -> repository.findByProductId(id)
+                .collectList()
+                .map(configurations -> ResolvedProductConfiguration.compile(id, configurations)));
+    }
+
+    @Override
+    public Mono<ResolvedConfigurationsDTO> getResolvedConfigurations(UUID productId) {
+        return resolve(productId)
+                .map(this::toDto);
+    }
+
+    private ResolvedConfigurationsDTO toDto(ResolvedProductConfiguration resolved) {
+        Map<ProductConfigTypeEnum, Map<String, ResolvedConfigurationValueDTO>> configurations = new EnumMap<>(ProductConfigTypeEnum.class);
+        resolved.getValues().forEach((type, byKey) -> {
+            // Sorted keys keep the response stable between calls
+            Map<String, ResolvedConfigurationValueDTO> values = new LinkedHashMap<>();
+            new TreeMap<>(byKey).forEach((key, value) -> values.put(key, toDto(value)));
+            configurations.put(type, values);
+        });
+        return ResolvedConfigurationsDTO.builder()
+                .productId(resolved.getProductId())
+                .configurations(configurations)
+                .build();
+    }
+
+    private ResolvedConfigurationValueDTO toDto(ResolvedConfigurationValue value) {
+        return ResolvedConfigurationValueDTO.builder()
+                .valueType(value.type())
+                .value(value.value())
+                .rawValue(value.raw())
+                .build();
+    }
+}
@@ -22,6 +22,8 @@ import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
 import com.firefly.core.product.core.services.ProductConfigurationService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
 import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
 import com.firefly.core.product.models.entities.ProductConfiguration;
@@ -32,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -52,7 +55,7 @@ public class ProductConfigurationServiceImpl implements ProductConfigurationServ
                         ProductConfiguration.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductConfigurationDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
@@ -85,35 +88,58 @@ public class ProductConfigurationServiceImpl implements ProductConfigurationServ
 
     @Override
     public Flux<ProductConfigurationDTO> getConfigurationsByType(UUID productId, ProductConfigTypeEnum configType) {
-        return repository.findByProductIdAndConfigType(productId, configType)
-                .map(mapper::toDto);
+        return repository.findDtosByProductIdAndConfigType(productId, configType);
     }
 
     @Override
     public Mono<ProductConfigurationDTO> updateConfiguration(
             UUID productId, UUID configId, ProductConfigurationDTO configDTO) {
-        return repository.findById(configId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Configuration not found with ID: " + configId)))
-                .flatMap(existingConfig -> {
-                    if (!productId.equals(existingConfig.getProductId())) {
-                        return Mono.error(new RuntimeException("Configuration with ID " + configId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(configDTO, existingConfig);
-                    return repository.save(existingConfig);
-                })
+        return Mono.just(configDTO)
+                .map(mapper::toEntity)
+                .doOnNext(config -> config.setProductConfigurationId(configId))
+                .flatMap(config -> repository.updateAllOfProduct(productId, List.of(config)).next())
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, configId)))
+                .map(mapper::toDto);
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> updateConfiguration(
+            UUID productId, UUID configId, ProductConfigurationDTO configDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(configId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product configuration " + configId)
+                .then(Mono.defer(() -> updateConfiguration(productId, configId, configDTO)));
+    }
+
+    @Override
+    public Mono<Long> getConfigurationRowVersion(UUID productId, UUID configId) {
+        return repository.findRowVersionForProduct(configId, productId);
+    }
+
+    @Override
+    public Mono<ProductConfigurationDTO> upsertConfigurationByKey(
+            UUID productId, String configKey, ProductConfigurationDTO configDTO) {
+        if (configDTO.getConfigType() == null) {
+            return Mono.error(new RuntimeException("Configuration type is required when upserting configuration " + configKey));
+        }
+        return repository.upsertByKey(productId, configKey, configDTO.getConfigType(), configDTO.getConfigValue())
                 .map(mapper::toDto);
     }
 
     @Override
     public Mono<Void> deleteConfiguration(UUID productId, UUID configId) {
+        return repository.deleteAllOfProduct(productId, List.of(configId))
+                .next()
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, configId)))
+                .then();
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID configId) {
         return repository.findById(configId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Configuration not found with ID: " + configId)))
-                .flatMap(config -> {
-                    if (!productId.equals(config.getProductId())) {
-                        return Mono.error(new RuntimeException("Configuration with ID " + configId + " does not belong to product " + productId));
-                    }
-                    return repository.deleteById(configId);
-                });
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Configuration with ID " + configId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Configuration not found with ID: " + configId)));
     }
 }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.documentation.DocumentationChecklistProperties;
+import com.firefly.core.product.core.documentation.DocumentationRequirementSet;
+import com.firefly.core.product.core.services.ProductDocumentationChecklistService;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistDTO;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistRequestDTO;
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evaluates documentation checklists from the compiled requirement sets of the products. Products whose
+ * set is not cached are read with one query; a product without requirements compiles to an empty set,
+ * which is cached as well. Only products that exist get a set, so an unknown product ID is rejected
+ * instead of counting as a product without requirements.
+ */
+@Service
+public class ProductDocumentationChecklistServiceImpl implements ProductDocumentationChecklistService {
+
+    @Autowired
+    private ProductDocumentationRequirementRepository repository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Autowired
+    private DocumentationChecklistProperties properties;
+
+    @Override
+    public Mono<DocumentationChecklistDTO> evaluate(DocumentationChecklistRequestDTO request) {
+        return Mono.defer(() -> {
+            List<UUID> productIds = distinct(request.getProductIds());
+            if (productIds.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("At least one product ID is required"));
+            }
+            if (productIds.size() > properties.getMaxProducts()) {
+                return Mono.error(new IllegalArgumentException(
+                        "Too many product IDs: " + productIds.size() + " (max " + properties.getMaxProducts() + ")"));
+            }
+            EnumSet<ContractingDocTypeEnum> supplied = EnumSet.noneOf(ContractingDocTypeEnum.class);
+            supplied.addAll(distinct(request.getSuppliedDocTypes()));
+            return caches.documentationRequirementSets().getAll(productIds, this::load)
+                    .flatMap(sets -> {
+                        List<UUID> unknown = productIds.stream()
+                                .filter(productId -> !sets.containsKey(productId))
+                                .toList();
+                        if (!unknown.isEmpty()) {
+                            return Mono.error(new IllegalArgumentException("Unknown product IDs: " + unknown));
+                        }
+                        return Mono.just(evaluate(sets.values(), supplied));
+                    });
+        });
+    }
+
+    /**
+     * Compiles the requirement sets of the products that exist; the others are left out of the result,
+     * and therefore out of the cache.
+     */
+    private Mono<Map<UUID, DocumentationRequirementSet>> load(Set<UUID> productIds) {
+        return Mono.zip(
+                        productRepository.findExistingIds(productIds.toArray(UUID[]::new)).collectList(),
+                        repository.findByProductIdIn(productIds)
+                                .collectMultimap(ProductDocumentationRequirement::getProductId))
+                .map(ProductDocumentationChecklistServiceImpl::compile);
+    }
+
+    private static Map<UUID, DocumentationRequirementSet> compile(
+            Tuple2<List<UUID>, Map<UUID, Collection<ProductDocumentationRequirement>>> loaded) {
+        Map<UUID, Collection<ProductDocumentationRequirement>> requirements = loaded.getT2();
+        Map<UUID, DocumentationRequirementSet> sets = new HashMap<>();
+        loaded.getT1().forEach(productId -> sets.put(productId,
+                DocumentationRequirementSet.of(requirements.getOrDefault(productId, List.of()))));
+        return sets;
+    }
+
+    private static DocumentationChecklistDTO evaluate(Collection<DocumentationRequirementSet> sets,
+                                                      EnumSet<ContractingDocTypeEnum> supplied) {
+        EnumSet<ContractingDocTypeEnum> mandatory = EnumSet.noneOf(ContractingDocTypeEnum.class);
+        EnumSet<ContractingDocTypeEnum> optional = EnumSet.noneOf(ContractingDocTypeEnum.class);
+        sets.forEach(set -> set.addTo(mandatory, optional));
+        optional.removeAll(mandatory);
+        mandatory.removeAll(supplied);
+        optional.removeAll(supplied);
+        return DocumentationChecklistDTO.builder()
+                .missingMandatory(List.copyOf(mandatory))
+                .missingOptional(List.copyOf(optional))
+                .complete(mandatory.isEmpty())
+                .build();
+    }
+
+    private static <T> List<T> distinct(Collection<T> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -22,6 +22,8 @@ import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.mappers.ProductDocumentationRequirementMapper;
 import com.firefly.core.product.core.services.ProductDocumentationRequirementService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductDocumentationRequirementDTO;
 import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
 import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
@@ -52,7 +54,7 @@ public class ProductDocumentationRequirementServiceImpl implements ProductDocume
                         ProductDocumentationRequirement.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductDocumentationRequirementDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
@@ -89,33 +91,44 @@ public class ProductDocumentationRequirementServiceImpl implements ProductDocume
     @Override
     public Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
             UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO) {
-        return repository.findById(requirementId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Documentation requirement not found with ID: " + requirementId)))
-                .flatMap(existingRequirement -> {
-                    if (!productId.equals(existingRequirement.getProductId())) {
-                        return Mono.error(new RuntimeException("Documentation requirement with ID " + requirementId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(requirementDTO, existingRequirement);
-                    return repository.save(existingRequirement);
-                })
+        return repository.updateForProduct(requirementId, productId,
+                        requirementDTO.getDocType(),
+                        requirementDTO.getIsMandatory(),
+                        requirementDTO.getDescription())
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, requirementId)))
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductDocumentationRequirementDTO> updateDocumentationRequirement(
+            UUID productId, UUID requirementId, ProductDocumentationRequirementDTO requirementDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(requirementId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Documentation requirement " + requirementId)
+                .then(Mono.defer(() -> updateDocumentationRequirement(productId, requirementId, requirementDTO)));
+    }
+
+    @Override
+    public Mono<Long> getDocumentationRequirementRowVersion(UUID productId, UUID requirementId) {
+        return repository.findRowVersionForProduct(requirementId, productId);
+    }
+
     @Override
     public Mono<Void> deleteDocumentationRequirement(UUID productId, UUID requirementId) {
-        return repository.findById(requirementId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Documentation requirement not found with ID: " + requirementId)))
-                .flatMap(requirement -> {
-                    if (!productId.equals(requirement.getProductId())) {
-                        return Mono.error(new RuntimeException("Documentation requirement with ID " + requirementId + " does not belong to product " + productId));
-                    }
-                    return repository.deleteById(requirementId);
-                });
+        return repository.deleteForProduct(requirementId, productId)
+                .flatMap(deleted -> deleted > 0 ? Mono.<Void>empty() : this.<Void>explainMissing(productId, requirementId));
     }
 
     @Override
     public Flux<ProductDocumentationRequirementDTO> filterMandatoryDocumentationRequirements(UUID productId) {
-        return repository.findByProductIdAndIsMandatory(productId, true)
-                .map(mapper::toDto);
+        return repository.findDtosByProductIdAndIsMandatory(productId, true);
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID requirementId) {
+        return repository.findById(requirementId)
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Documentation requirement with ID " + requirementId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Documentation requirement not found with ID: " + requirementId)));
     }
-}
\ No newline at end of file
+}
@@ -22,6 +22,8 @@ import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.mappers.ProductDocumentationMapper;
 import com.firefly.core.product.core.services.ProductDocumentationService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductDocumentationDTO;
 import com.firefly.core.product.models.entities.ProductDocumentation;
 import com.firefly.core.product.models.repositories.ProductDocumentationRepository;
@@ -49,7 +51,7 @@ public class ProductDocumentationServiceImpl implements ProductDocumentationServ
                         ProductDocumentation.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductDocumentationDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
@@ -75,27 +77,39 @@ public class ProductDocumentationServiceImpl implements ProductDocumentationServ
 
     @Override
     public Mono<ProductDocumentationDTO> updateDocumentation(UUID productId, UUID documentationId, ProductDocumentationDTO documentationDTO) {
-        return repository.findById(documentationId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Documentation not found with ID: " + documentationId)))
-                .flatMap(existingDocumentation -> {
-                    if (!productId.equals(existingDocumentation.getProductId())) {
-                        return Mono.error(new RuntimeException("Documentation with ID " + documentationId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(documentationDTO, existingDocumentation);
-                    return repository.save(existingDocumentation);
-                })
+        return repository.updateForProduct(documentationId, productId,
+                        documentationDTO.getDocType(),
+                        documentationDTO.getDocumentManagerRef(),
+                        documentationDTO.getDateAdded())
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, documentationId)))
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductDocumentationDTO> updateDocumentation(
+            UUID productId, UUID documentationId, ProductDocumentationDTO documentationDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(documentationId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product documentation " + documentationId)
+                .then(Mono.defer(() -> updateDocumentation(productId, documentationId, documentationDTO)));
+    }
+
+    @Override
+    public Mono<Long> getDocumentationRowVersion(UUID productId, UUID documentationId) {
+        return repository.findRowVersionForProduct(documentationId, productId);
+    }
+
     @Override
     public Mono<Void> deleteDocumentation(UUID productId, UUID documentationId) {
+        return repository.deleteForProduct(documentationId, productId)
+                .flatMap(deleted -> deleted > 0 ? Mono.<Void>empty() : this.<Void>explainMissing(productId, documentationId));
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID documentationId) {
         return repository.findById(documentationId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Documentation not found with ID: " + documentationId)))
-                .flatMap(documentation -> {
-                    if (!productId.equals(documentation.getProductId())) {
-                        return Mono.error(new RuntimeException("Documentation with ID " + documentationId + " does not belong to product " + productId));
-                    }
-                    return repository.deleteById(documentationId);
-                });
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Documentation with ID " + documentationId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Documentation not found with ID: " + documentationId)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.cache.ProductScopedKey;
+import com.firefly.core.product.core.localization.LocaleFallbackChain;
+import com.firefly.core.product.core.localization.LocalizationProperties;
+import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
+import com.firefly.core.product.core.services.ProductLocalizationResolutionService;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionRequestDTO;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionResponseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class ProductLocalizationResolutionServiceImpl implements ProductLocalizationResolutionService {
+
+    @Autowired
+    private ProductLocalizationRepository repository;
+
+    @Autowired
+    private ProductLocalizationMapper mapper;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Autowired
+    private LocalizationProperties properties;
+
+    @Override
+    public Mono<LocalizationResolutionResponseDTO> resolve(LocalizationResolutionRequestDTO request) {
+        return Mono.defer(() -> {
+            List<UUID> productIds = request.getProductIds() == null ? List.of() : request.getProductIds().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (productIds.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("At least one product ID is required"));
+            }
+            if (productIds.size() > properties.getMaxProducts()) {
+                return Mono.error(new IllegalArgumentException(
+                        "Too many product IDs: " + productIds.size() + " (max " + properties.getMaxProducts() + ")"));
+            }
+            List<String> chain = LocaleFallbackChain.of(request.getLocale(), properties);
+            List<ProductScopedKey<String>> keys = productIds.stream()
+                    .flatMap(productId -> chain.stream().map(language -> new ProductScopedKey<>(productId, language)))
+                    .toList();
+            return caches.localizationsByLanguage().getAll(keys, this::load)
+                    .map(localizations -> LocalizationResolutionResponseDTO.builder()
+                            .locale(LocaleFallbackChain.canonical(request.getLocale()))
+                            .fallbackChain(chain)
+                            .localizations(pick(productIds, chain, localizations))
+                            .build());
+        });
+    }
+
+    /**
+     * Reads the missing (product, language) pairs in one query. Pairs without a localization are returned
+     * as empty, so they are cached too.
+     */
+    private Mono<Map<ProductScopedKey<String>, Optional<ProductLocalizationDTO>>> load(
+            Set<ProductScopedKey<String>> missing) {
+        UUID[] productIds = missing.stream().map(ProductScopedKey::productId).distinct().toArray(UUID[]::new);
+        String[] languageCodes = missing.stream().map(ProductScopedKey::key).distinct().toArray(String[]::new);
+        return repository.findByProductIdsAndLanguageCodes(productIds, languageCodes)
+                .map(mapper::toDto)
+                .collectMap(localization -> new ProductScopedKey<>(localization.getProductId(),
+                        localization.getLanguageCode()), Function.identity())
+                .map(found -> {
+                    Map<ProductScopedKey<String>, Optional<ProductLocalizationDTO>> loaded = new LinkedHashMap<>();
+                    missing.forEach(key -> loaded.put(key, Optional.ofNullable(found.get(key))));
+                    return loaded;
+                });
+    }
+
+    private static Map<UUID, ProductLocalizationDTO> pick(
+            List<UUID> productIds, List<String> chain,
+            Map<ProductScopedKey<String>, Optional<ProductLocalizationDTO>> localizations) {
+        Map<UUID, ProductLocalizationDTO> resolved = new LinkedHashMap<>();
+        for (UUID productId : productIds) {
+            chain.stream()
+                    .map(language -> localizations.get(new ProductScopedKey<>(productId, language)))
+                    .filter(Objects::nonNull)
+                    .flatMap(Optional::stream)
+                    .findFirst()
+                    .ifPresent(localization -> resolved.put(productId, localization));
+        }
+        return resolved;
+    }
+}
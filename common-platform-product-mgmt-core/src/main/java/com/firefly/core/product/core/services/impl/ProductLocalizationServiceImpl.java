@@ -20,8 +20,11 @@ package com.firefly.core.product.core.services.impl;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.localization.LocaleFallbackChain;
 import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
 import com.firefly.core.product.core.services.ProductLocalizationService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
 import com.firefly.core.product.models.entities.ProductLocalization;
 import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
@@ -49,13 +52,16 @@ public class ProductLocalizationServiceImpl implements ProductLocalizationServic
                         ProductLocalization.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductLocalizationDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
     public Mono<ProductLocalizationDTO> createLocalization(UUID productId, ProductLocalizationDTO localizationDTO) {
         return Mono.just(localizationDTO)
-                .doOnNext(dto -> dto.setProductId(productId))
+                .doOnNext(dto -> {
+                    dto.setProductId(productId);
+                    dto.setLanguageCode(canonicalLanguageCode(dto.getLanguageCode()));
+                })
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
                 .map(mapper::toDto);
@@ -75,27 +81,57 @@ public class ProductLocalizationServiceImpl implements ProductLocalizationServic
 
     @Override
     public Mono<ProductLocalizationDTO> updateLocalization(UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO) {
-        return repository.findById(localizationId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Localization not found with ID: " + localizationId)))
-                .flatMap(existingLocalization -> {
-                    if (!productId.equals(existingLocalization.getProductId())) {
-                        return Mono.error(new RuntimeException("Localization with ID " + localizationId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(localizationDTO, existingLocalization);
-                    return repository.save(existingLocalization);
-                })
+        return Mono.defer(() -> repository.updateForProduct(localizationId, productId,
+                        canonicalLanguageCode(localizationDTO.getLanguageCode()),
+                        localizationDTO.getLocalizedName(),
+                        localizationDTO.getLocalizedDescription()))
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, localizationId)))
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductLocalizationDTO> updateLocalization(
+            UUID productId, UUID localizationId, ProductLocalizationDTO localizationDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(localizationId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product localization " + localizationId)
+                .then(Mono.defer(() -> updateLocalization(productId, localizationId, localizationDTO)));
+    }
+
+    @Override
+    public Mono<Long> getLocalizationRowVersion(UUID productId, UUID localizationId) {
+        return repository.findRowVersionForProduct(localizationId, productId);
+    }
+
     @Override
     public Mono<Void> deleteLocalization(UUID productId, UUID localizationId) {
+        return repository.deleteForProduct(localizationId, productId)
+                .flatMap(deleted -> deleted > 0 ? Mono.<Void>empty() : this.<Void>explainMissing(productId, localizationId));
+    }
+
+    /**
+     * Stores language codes in the canonical BCP 47 form the localization resolver looks up, so
+     * {@code es_es} and {@code es-ES} are the same language.
+     *
+     * @return the canonical tag, or null to keep the current language of an update
+     * @throws IllegalArgumentException if the code is not a well-formed language tag
+     */
+    private static String canonicalLanguageCode(String languageCode) {
+        if (languageCode == null) {
+            return null;
+        }
+        String canonical = LocaleFallbackChain.canonical(languageCode);
+        if (canonical.isEmpty()) {
+            throw new IllegalArgumentException("Invalid language code: " + languageCode);
+        }
+        return canonical;
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID localizationId) {
         return repository.findById(localizationId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Localization not found with ID: " + localizationId)))
-                .flatMap(localization -> {
-                    if (!productId.equals(localization.getProductId())) {
-                        return Mono.error(new RuntimeException("Localization with ID " + localizationId + " does not belong to product " + productId));
-                    }
-                    return repository.deleteById(localizationId);
-                });
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Localization with ID " + localizationId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Localization not found with ID: " + localizationId)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.index.CrossSellCandidate;
+import com.firefly.core.product.core.index.CrossSellIndex;
+import com.firefly.core.product.core.index.CrossSellIndexProperties;
+import com.firefly.core.product.core.index.CrossSellSnapshot;
+import com.firefly.core.product.core.services.ProductRecommendationService;
+import com.firefly.core.product.interfaces.dtos.CrossSellCandidateDTO;
+import com.firefly.core.product.interfaces.dtos.CrossSellRecommendationsDTO;
+import com.firefly.core.product.interfaces.dtos.CrossSellRequestDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Serves cross-sell recommendations from the {@link CrossSellIndex}, or from the relationships of the held
+ * products read from the database until the index is loaded. Candidates are then checked against the
+ * product table by primary key, so a retired or deleted product stops being offered immediately.
+ * Request times are recorded by the {@code product.recommendation.cross-sell} timer, tagged by source.
+ */
+@Service
+public class ProductRecommendationServiceImpl implements ProductRecommendationService {
+
+    static final String CROSS_SELL_TIMER = "product.recommendation.cross-sell";
+
+    private static final RelationshipTypeEnum[] TYPES = CrossSellIndex.TYPES.toArray(RelationshipTypeEnum[]::new);
+
+    @Autowired
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CrossSellIndex index;
+
+    @Autowired
+    private CrossSellIndexProperties properties;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Override
+    public Mono<CrossSellRecommendationsDTO> recommendCrossSell(CrossSellRequestDTO request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Set<UUID> held = request.getHeldProductIds() == null ? Set.of() : request.getHeldProductIds().stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (held.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("At least one held product ID is required"));
+            }
+            if (held.size() > properties.getMaxHeldProducts()) {
+                return Mono.error(new IllegalArgumentException(
+                        "Too many held product IDs: " + held.size() + " (max " + properties.getMaxHeldProducts() + ")"));
+            }
+            int limit = limit(request.getLimit());
+            boolean fromIndex = index.isReady();
+            Mono<List<CrossSellCandidate>> candidates = fromIndex
+                    ? Mono.just(index.candidates(held))
+                    : relationshipRepository.findTouchingProducts(held.toArray(UUID[]::new), TYPES)
+                            .collectList()
+                            .map(relationships -> CrossSellSnapshot.build(relationships, properties).candidates(held));
+            return candidates
+                    .flatMap(ranked -> offerable(ranked, limit))
+                    .doOnSuccess(result -> record(fromIndex ? "index" : "database", System.nanoTime() - start));
+        });
+    }
+
+    private Mono<CrossSellRecommendationsDTO> offerable(List<CrossSellCandidate> ranked, int limit) {
+        if (ranked.isEmpty()) {
+            return Mono.just(CrossSellRecommendationsDTO.builder().candidates(List.of()).build());
+        }
+        UUID[] candidateIds = ranked.stream().map(CrossSellCandidate::productId).toArray(UUID[]::new);
+        return productRepository.findOfferableIds(candidateIds)
+                .collect(Collectors.toSet())
+                .map(offerable -> CrossSellRecommendationsDTO.builder()
+                        .candidates(ranked.stream()
+                                .filter(candidate -> offerable.contains(candidate.productId()))
+                                .limit(limit)
+                                .map(candidate -> CrossSellCandidateDTO.builder()
+                                        .productId(candidate.productId())
+                                        .score(candidate.score())
+                                        .recommendedBy(candidate.recommendedBy())
+                                        .build())
+                                .toList())
+                        .build());
+    }
+
+    private int limit(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return properties.getDefaultLimit();
+        }
+        return Math.min(requested, properties.getMaxLimit());
+    }
+
+    private void record(String source, long elapsed) {
+        meterRegistry.ifAvailable(registry -> Timer.builder(CROSS_SELL_TIMER)
+                .description("Time taken to rank cross-sell candidates")
+                .tag("source", source)
+                .register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.graph.RelationshipGraphProperties;
+import com.firefly.core.product.core.services.ProductRelationshipGraphService;
+import com.firefly.core.product.interfaces.dtos.ProductGraphNodeDTO;
+import com.firefly.core.product.interfaces.dtos.ProductPathDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.repositories.ProductGraphNode;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class ProductRelationshipGraphServiceImpl implements ProductRelationshipGraphService {
+
+    private static final Set<RelationshipTypeEnum> CROSS_SELL_TYPES =
+            EnumSet.of(RelationshipTypeEnum.CROSS_SELL, RelationshipTypeEnum.COMPLIMENTARY);
+
+    @Autowired
+    private ProductRelationshipRepository repository;
+
+    @Autowired
+    private RelationshipGraphProperties properties;
+
+    @Override
+    public Flux<ProductGraphNodeDTO> getReachableProducts(UUID productId, List<RelationshipTypeEnum> types,
+                                                          RelationshipDirectionEnum direction, Integer maxDepth) {
+        return Flux.defer(() -> {
+            Set<RelationshipTypeEnum> followed = types == null ? Set.of() : types.stream()
+                    .filter(Objects::nonNull)
+                    .collect(() -> EnumSet.noneOf(RelationshipTypeEnum.class), Set::add, Set::addAll);
+            if (followed.isEmpty()) {
+                return Flux.error(new IllegalArgumentException("At least one relationship type is required"));
+            }
+            return traverse(productId, followed,
+                    direction != null ? direction : RelationshipDirectionEnum.OUTGOING,
+                    maxDepth, properties.getMaxDepth());
+        });
+    }
+
+    @Override
+    public Mono<ProductPathDTO> getUpgradePath(UUID productId, UUID targetProductId) {
+        if (productId.equals(targetProductId)) {
+            return Mono.just(toPath(List.of(productId)));
+        }
+        return repository.traverse(productId, Set.of(RelationshipTypeEnum.UPGRADE),
+                        RelationshipDirectionEnum.OUTGOING, properties.getMaxDepth())
+                .collectMap(ProductGraphNode::productId)
+                .flatMap(reached -> reached.containsKey(targetProductId)
+                        ? Mono.just(toPath(walkBack(reached, targetProductId)))
+                        : Mono.empty());
+    }
+
+    @Override
+    public Flux<ProductGraphNodeDTO> getCrossSellFanOut(UUID productId, Integer maxDepth) {
+        return Flux.defer(() -> traverse(productId, CROSS_SELL_TYPES, RelationshipDirectionEnum.BOTH,
+                maxDepth, properties.getCrossSellDepth()));
+    }
+
+    private Flux<ProductGraphNodeDTO> traverse(UUID productId, Set<RelationshipTypeEnum> types,
+                                               RelationshipDirectionEnum direction,
+                                               Integer maxDepth, int defaultDepth) {
+        int depth = maxDepth != null ? maxDepth : defaultDepth;
+        if (depth < 1 || depth > properties.getMaxDepth()) {
+            return Flux.error(new IllegalArgumentException(
+                    "Depth must be between 1 and " + properties.getMaxDepth() + ": " + depth));
+        }
+        return repository.traverse(productId, types, direction, depth)
+                .map(node -> ProductGraphNodeDTO.builder()
+                        .productId(node.productId())
+                        .parentProductId(node.parentId())
+                        .depth(node.depth())
+                        .build());
+    }
+
+    /**
+     * Follows the parent links from the target back to the start product. The parent of a product reached
+     * at depth d was itself reached at depth d - 1, so the links form a shortest path.
+     */
+    private static List<UUID> walkBack(Map<UUID, ProductGraphNode> reached, UUID targetProductId) {
+        List<UUID> path = new ArrayList<>();
+        ProductGraphNode node = reached.get(targetProductId);
+        path.add(targetProductId);
+        while (node != null) {
+            path.add(node.parentId());
+            node = reached.get(node.parentId());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static ProductPathDTO toPath(List<UUID> productIds) {
+        return ProductPathDTO.builder()
+                .relationshipType(RelationshipTypeEnum.UPGRADE)
+                .productIds(productIds)
+                .length(productIds.size() - 1)
+                .build();
+    }
+}
@@ -20,9 +20,14 @@ package com.firefly.core.product.core.services.impl;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.index.CrossSellIndex;
 import com.firefly.core.product.core.mappers.ProductRelationshipMapper;
 import com.firefly.core.product.core.services.ProductRelationshipService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.core.utils.TransactionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductRelationshipDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
 import com.firefly.core.product.models.entities.ProductRelationship;
 import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,18 +35,34 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ProductRelationshipServiceImpl implements ProductRelationshipService {
 
+    /**
+     * Relationship types that order products, so a product may never reach itself through them.
+     */
+    private static final Set<RelationshipTypeEnum> ACYCLIC_TYPES =
+            EnumSet.of(RelationshipTypeEnum.PRE_REQUISITE, RelationshipTypeEnum.UPGRADE);
+
+    /**
+     * Base of the advisory lock keys of the relationship graphs, one key per relationship type.
+     */
+    static final long GRAPH_LOCK_KEY = 0x72656c61_74696f00L;
+
     @Autowired
     private ProductRelationshipRepository repository;
 
     @Autowired
     private ProductRelationshipMapper mapper;
 
+    @Autowired
+    private CrossSellIndex crossSellIndex;
+
     @Override
     public Mono<PaginationResponse<ProductRelationshipDTO>> filterRelationships(UUID productId, FilterRequest<ProductRelationshipDTO> filterRequest) {
         return FilterUtils
@@ -49,15 +70,17 @@ public class ProductRelationshipServiceImpl implements ProductRelationshipServic
                         ProductRelationship.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductRelationshipDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
     public Mono<ProductRelationshipDTO> createRelationship(UUID productId, ProductRelationshipDTO relationshipDTO) {
-        return Mono.just(relationshipDTO)
+        return checkNoCycle(productId, relationshipDTO.getRelatedProductId(), relationshipDTO.getRelationshipType())
+                .then(Mono.just(relationshipDTO))
                 .doOnNext(dto -> dto.setProductId(productId))
                 .map(mapper::toEntity)
                 .flatMap(repository::save)
+                .flatMap(this::indexAfterCommit)
                 .map(mapper::toDto);
     }
 
@@ -75,27 +98,100 @@ public class ProductRelationshipServiceImpl implements ProductRelationshipServic
 
     @Override
     public Mono<ProductRelationshipDTO> updateRelationship(UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO) {
-        return repository.findById(relationshipId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Relationship not found with ID: " + relationshipId)))
-                .flatMap(existingRelationship -> {
-                    if (!productId.equals(existingRelationship.getProductId())) {
-                        return Mono.error(new RuntimeException("Relationship with ID " + relationshipId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(relationshipDTO, existingRelationship);
-                    return repository.save(existingRelationship);
-                })
+        return checkUpdateNoCycle(productId, relationshipId, relationshipDTO)
+                .then(Mono.defer(() -> update(productId, relationshipId, relationshipDTO)));
+    }
+
+    private Mono<ProductRelationshipDTO> update(UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO) {
+        return repository.updateForProduct(relationshipId, productId,
+                        relationshipDTO.getRelatedProductId(),
+                        relationshipDTO.getRelationshipType(),
+                        relationshipDTO.getDescription())
+                .flatMap(this::indexAfterCommit)
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, relationshipId)))
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductRelationshipDTO> updateRelationship(
+            UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(relationshipId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product relationship " + relationshipId)
+                .then(Mono.defer(() -> updateRelationship(productId, relationshipId, relationshipDTO)));
+    }
+
+    @Override
+    public Mono<Long> getRelationshipRowVersion(UUID productId, UUID relationshipId) {
+        return repository.findRowVersionForProduct(relationshipId, productId);
+    }
+
     @Override
     public Mono<Void> deleteRelationship(UUID productId, UUID relationshipId) {
-        return repository.findById(relationshipId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Relationship not found with ID: " + relationshipId)))
-                .flatMap(relationship -> {
-                    if (!productId.equals(relationship.getProductId())) {
-                        return Mono.error(new RuntimeException("Relationship with ID " + relationshipId + " does not belong to product " + productId));
+        return repository.deleteForProduct(relationshipId, productId)
+                .flatMap(deleted -> {
+                    if (deleted > 0) {
+                        return TransactionUtils.afterCommit(() -> crossSellIndex.remove(relationshipId));
                     }
-                    return repository.deleteById(relationshipId);
+                    return this.<Void>explainMissing(productId, relationshipId);
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * Updates the cross-sell index with a saved relationship once the transaction commits, so that
+     * recommendations never include a relationship that is later rolled back.
+     */
+    private Mono<ProductRelationship> indexAfterCommit(ProductRelationship saved) {
+        return TransactionUtils.afterCommit(() -> crossSellIndex.upsert(saved))
+                .thenReturn(saved);
+    }
+
+    /**
+     * Checks that an update does not close a cycle. When only one of the related product and the type
+     * changes, the other one is read from the current row; a missing row is reported by the update itself.
+     */
+    private Mono<Void> checkUpdateNoCycle(UUID productId, UUID relationshipId, ProductRelationshipDTO relationshipDTO) {
+        UUID relatedProductId = relationshipDTO.getRelatedProductId();
+        RelationshipTypeEnum type = relationshipDTO.getRelationshipType();
+        if (relatedProductId == null && type == null) {
+            return Mono.empty();
+        }
+        if (relatedProductId != null && type != null) {
+            return checkNoCycle(productId, relatedProductId, type);
+        }
+        return repository.findById(relationshipId)
+                .filter(existing -> productId.equals(existing.getProductId()))
+                .flatMap(existing -> checkNoCycle(productId,
+                        relatedProductId != null ? relatedProductId : existing.getRelatedProductId(),
+                        type != null ? type : existing.getRelationshipType()));
+    }
+
+    /**
+     * Rejects a relationship from a product to itself, and a relationship of an ordering type whose related
+     * product already reaches the product. The graph of the type stays locked until the transaction ends,
+     * so concurrent writes are checked one after the other.
+     */
+    private Mono<Void> checkNoCycle(UUID productId, UUID relatedProductId, RelationshipTypeEnum type) {
+        if (productId.equals(relatedProductId)) {
+            return Mono.error(new RuntimeException("Circular reference detected: a product cannot be related to itself"));
+        }
+        if (relatedProductId == null || !ACYCLIC_TYPES.contains(type)) {
+            return Mono.empty();
+        }
+        return repository.lockGraph(GRAPH_LOCK_KEY + type.ordinal())
+                .then(repository.existsPath(relatedProductId, productId, type))
+                .flatMap(cycle -> cycle
+                        ? Mono.<Void>error(new RuntimeException("Circular reference detected: product " + productId
+                                + " is already reachable from product " + relatedProductId
+                                + " through " + type + " relationships"))
+                        : Mono.empty());
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID relationshipId) {
+        return repository.findById(relationshipId)
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Relationship with ID " + relationshipId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Relationship not found with ID: " + relationshipId)));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.search.SearchCursor;
+import com.firefly.core.product.core.services.ProductSearchService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSearchResultDTO;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductSearchMatch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Searches the trigger-maintained {@code product_search_document} table, then loads the products of the
+ * page by primary key. Products deleted between the two queries are left out of the page.
+ */
+@Service
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    @Autowired
+    private ProductRepository repository;
+
+    @Override
+    public Mono<CursorPaginationResponse<ProductSearchResultDTO>> searchProducts(
+            String query, String languageCode, String cursor, Integer pageSize) {
+        int size = CursorUtils.clampPageSize(pageSize);
+        return Mono.defer(() -> {
+            if (query == null || query.isBlank()) {
+                return Mono.error(new IllegalArgumentException("Search query must not be blank"));
+            }
+            SearchCursor after = SearchCursor.decode(cursor);
+            return repository.search(query.strip(), blankToNull(languageCode),
+                            after != null ? after.rank() : null, after != null ? after.productId() : null, size + 1)
+                    .collectList()
+                    .flatMap(matches -> {
+                        boolean hasMore = matches.size() > size;
+                        List<ProductSearchMatch> page = hasMore ? matches.subList(0, size) : matches;
+                        String nextCursor = hasMore
+                                ? new SearchCursor(page.get(size - 1).rank(), page.get(size - 1).productId()).encode()
+                                : null;
+                        return loadProducts(page)
+                                .map(results -> CursorPaginationResponse.<ProductSearchResultDTO>builder()
+                                        .content(results)
+                                        .nextCursor(nextCursor)
+                                        .hasMore(hasMore)
+                                        .pageSize(size)
+                                        .build());
+                    });
+        });
+    }
+
+    private Mono<List<ProductSearchResultDTO>> loadProducts(List<ProductSearchMatch> page) {
+        if (page.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<UUID> productIds = page.stream().map(ProductSearchMatch::productId).toList();
+        return repository.findDtosByProductIdIn(productIds)
+                .collectMap(ProductDTO::getProductId)
+                .map(products -> toResults(page, products));
+    }
+
+    private List<ProductSearchResultDTO> toResults(List<ProductSearchMatch> page, Map<UUID, ProductDTO> products) {
+        return page.stream()
+                .filter(match -> products.containsKey(match.productId()))
+                .map(match -> ProductSearchResultDTO.builder()
+                        .product(products.get(match.productId()))
+                        .rank(match.rank())
+                        .build())
+                .toList();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -20,8 +20,12 @@ package com.firefly.core.product.core.services.impl;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.lookup.ProductLookupProperties;
 import com.firefly.core.product.core.mappers.ProductMapper;
 import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import com.firefly.core.product.models.entities.Product;
 import com.firefly.core.product.models.repositories.ProductRepository;
@@ -31,7 +35,10 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @Transactional
@@ -43,6 +50,9 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductMapper mapper;
 
+    @Autowired
+    private ProductLookupProperties lookupProperties;
+
     @Override
     public Mono<PaginationResponse<ProductDTO>> filterProducts(FilterRequest<ProductDTO> filterRequest) {
         return FilterUtils
@@ -71,27 +81,86 @@ public class ProductServiceImpl implements ProductService {
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Flux<ProductDTO> getProductsByIds(List<UUID> productIds) {
+        return Flux.defer(() -> {
+            List<UUID> distinct = productIds == null ? List.of() : productIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (distinct.isEmpty()) {
+                return Flux.error(new IllegalArgumentException("At least one product ID is required"));
+            }
+            if (distinct.size() > lookupProperties.getMaxProducts()) {
+                return Flux.error(new IllegalArgumentException(
+                        "Too many product IDs: " + distinct.size() + " (max " + lookupProperties.getMaxProducts() + ")"));
+            }
+            return repository.findDtosByProductIdIn(distinct);
+        });
+    }
+
     @Override
     public Flux<ProductDTO> getProductsByTenantId(UUID tenantId) {
-        return repository.findByTenantId(tenantId)
-                .map(mapper::toDto);
+        return repository.findDtosByTenantId(tenantId);
+    }
+
+    @Override
+    public Mono<CursorPaginationResponse<ProductDTO>> getProductsByTenantId(UUID tenantId, String cursor, Integer pageSize) {
+        int size = CursorUtils.clampPageSize(pageSize);
+        // Fetch one extra row to know whether another page exists without a count query
+        return Mono.defer(() -> repository.findDtoPageByTenantId(tenantId, CursorUtils.decode(cursor), size + 1)
+                        .collectList())
+                .map(rows -> {
+                    boolean hasMore = rows.size() > size;
+                    List<ProductDTO> page = hasMore ? rows.subList(0, size) : rows;
+                    return CursorPaginationResponse.<ProductDTO>builder()
+                            .content(page)
+                            .nextCursor(hasMore ? CursorUtils.encode(page.get(page.size() - 1).getProductId()) : null)
+                            .hasMore(hasMore)
+                            .pageSize(size)
+                            .build();
+                });
+    }
+
+    @Override
+    public Flux<ProductDTO> streamProductsByTenantId(UUID tenantId, String cursor, Integer batchSize) {
+        int size = CursorUtils.clampPageSize(batchSize);
+        return Flux.defer(() -> repository.findDtoPageByTenantId(tenantId, CursorUtils.decode(cursor), size)
+                        .collectList())
+                .expand(batch -> batch.size() < size
+                        ? Mono.empty()
+                        : repository.findDtoPageByTenantId(tenantId, batch.get(batch.size() - 1).getProductId(), size)
+                                .collectList())
+                .concatMapIterable(Function.identity());
     }
 
     @Override
     public Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO) {
-        return repository.findById(productId)
+        return Mono.just(productDTO)
+                .map(mapper::toEntity)
+                .doOnNext(product -> product.setProductId(productId))
+                .flatMap(product -> repository.updateAll(List.of(product)).next())
                 .switchIfEmpty(Mono.error(new RuntimeException("Product not found with ID: " + productId)))
-                .flatMap(existingProduct -> {
-                    mapper.updateEntityFromDto(productDTO, existingProduct);
-                    return repository.save(existingProduct);
-                })
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductDTO> updateProduct(UUID productId, ProductDTO productDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionById(productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product " + productId)
+                .then(Mono.defer(() -> updateProduct(productId, productDTO)));
+    }
+
+    @Override
+    public Mono<Long> getProductRowVersion(UUID productId) {
+        return repository.findRowVersionById(productId);
+    }
+
     @Override
     public Mono<Void> deleteProduct(UUID productId) {
-        return repository.findById(productId)
+        return repository.deleteAllByProductIdIn(List.of(productId))
+                .next()
                 .switchIfEmpty(Mono.error(new RuntimeException("Product not found with ID: " + productId)))
-                .flatMap(product -> repository.deleteById(productId));
+                .then();
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.impl;
+
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.mappers.ProductVersionMapper;
+import com.firefly.core.product.core.services.ProductSnapshotService;
+import com.firefly.core.product.core.snapshot.ProductVersionSnapshot;
+import com.firefly.core.product.interfaces.dtos.BaseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductAsOfDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationRequirementDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductRelationshipDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSnapshotDTO;
+import com.firefly.core.product.interfaces.dtos.ProductVersionDTO;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builds the product snapshot by querying the product and its six child tables concurrently.
+ * The service is deliberately not transactional: a transaction would pin every query to a single
+ * connection and serialise the fan-out. The product is read from the database like its children, not
+ * from the product cache, so the document and its entity tag never pair a stale product with current
+ * children.
+ * <p>
+ * Point-in-time reads resolve the version in effect with one index seek and serve the immutable
+ * snapshot of that version from the version snapshot cache.
+ */
+@Service
+public class ProductSnapshotServiceImpl implements ProductSnapshotService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductConfigurationRepository configurationRepository;
+
+    @Autowired
+    private ProductLocalizationRepository localizationRepository;
+
+    @Autowired
+    private ProductDocumentationRequirementRepository documentationRequirementRepository;
+
+    @Autowired
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Autowired
+    private ProductVersionRepository versionRepository;
+
+    @Autowired
+    private ProductDocumentationRepository documentationRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductConfigurationMapper configurationMapper;
+
+    @Autowired
+    private ProductVersionMapper versionMapper;
+
+    @Autowired
+    private ProductCaches caches;
+
+    @Override
+    public Mono<ProductSnapshotDTO> getProductSnapshot(UUID productId) {
+        return Mono.zip(
+                        productRepository.findById(productId).map(productMapper::toDto),
+                        collect(configurationRepository.findDtosByProductId(productId),
+                                ProductConfigurationDTO::getProductConfigurationId),
+                        collect(localizationRepository.findDtosByProductId(productId),
+                                ProductLocalizationDTO::getProductLocalizationId),
+                        collect(documentationRequirementRepository.findDtosByProductId(productId),
+                                ProductDocumentationRequirementDTO::getProductDocRequirementId),
+                        collect(relationshipRepository.findDtosByProductId(productId),
+                                ProductRelationshipDTO::getProductRelationshipId),
+                        collect(versionRepository.findDtosByProductId(productId),
+                                ProductVersionDTO::getProductVersionId),
+                        collect(documentationRepository.findDtosByProductId(productId),
+                                ProductDocumentationDTO::getProductDocumentationId))
+                .map(tuple -> {
+                    ProductSnapshotDTO snapshot = ProductSnapshotDTO.builder()
+                            .product(tuple.getT1())
+                            .configurations(tuple.getT2())
+                            .localizations(tuple.getT3())
+                            .documentationRequirements(tuple.getT4())
+                            .relationships(tuple.getT5())
+                            .versions(tuple.getT6())
+                            .documentation(tuple.getT7())
+                            .build();
+                    snapshot.setEtag(computeEtag(snapshot));
+                    return snapshot;
+                });
+    }
+
+    @Override
+    public Mono<ProductAsOfDTO> getProductAsOf(UUID productId, LocalDateTime asOf) {
+        return versionRepository.findEffectiveAt(productId, asOf)
+                .flatMap(version -> caches.versionSnapshots()
+                        .get(version.getProductVersionId(), this::loadVersionSnapshot)
+                        .map(snapshot -> ProductAsOfDTO.builder()
+                                .asOf(asOf)
+                                .version(versionMapper.toDto(version))
+                                .product(snapshot.product())
+                                .configurations(snapshot.configurations())
+                                .snapshotCapturedAt(snapshot.capturedAt())
+                                .snapshotBackfilled(snapshot.backfilled())
+                                .build()));
+    }
+
+    private Mono<ProductVersionSnapshot> loadVersionSnapshot(UUID versionId) {
+        return Mono.zip(
+                        productRepository.findSnapshotByVersionId(versionId).map(productMapper::toDto),
+                        collect(configurationRepository.findSnapshotByVersionId(versionId).map(configurationMapper::toDto),
+                                ProductConfigurationDTO::getProductConfigurationId),
+                        versionRepository.findSnapshotInfoByVersionId(versionId))
+                .map(tuple -> new ProductVersionSnapshot(tuple.getT1(), tuple.getT2(),
+                        tuple.getT3().capturedAt(), tuple.getT3().backfilled()));
+    }
+
+    /**
+     * Collects the children sorted by identifier, so the document and its entity tag are stable
+     * regardless of the order rows are returned in.
+     */
+    private static <T> Mono<List<T>> collect(Flux<T> children, Function<T, UUID> idExtractor) {
+        return children.collectSortedList(Comparator.comparing(idExtractor,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+    }
+
+    /**
+     * Hashes the identifier and row version of every entity in the snapshot. Every update bumps the row
+     * version, so any insert, update or delete of the product or one of its children changes the result,
+     * including writes within the same clock tick.
+     */
+    private static String computeEtag(ProductSnapshotDTO snapshot) {
+        StringBuilder source = new StringBuilder();
+        append(source, snapshot.getProduct().getProductId(), snapshot.getProduct());
+        source.append("|configurations");
+        snapshot.getConfigurations().forEach(dto -> append(source, dto.getProductConfigurationId(), dto));
+        source.append("|localizations");
+        snapshot.getLocalizations().forEach(dto -> append(source, dto.getProductLocalizationId(), dto));
+        source.append("|documentationRequirements");
+        snapshot.getDocumentationRequirements().forEach(dto -> append(source, dto.getProductDocRequirementId(), dto));
+        source.append("|relationships");
+        snapshot.getRelationships().forEach(dto -> append(source, dto.getProductRelationshipId(), dto));
+        source.append("|versions");
+        snapshot.getVersions().forEach(dto -> append(source, dto.getProductVersionId(), dto));
+        source.append("|documentation");
+        snapshot.getDocumentation().forEach(dto -> append(source, dto.getProductDocumentationId(), dto));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void append(StringBuilder source, UUID id, BaseDTO dto) {
+        source.append(';').append(id).append('@').append(dto.getRowVersion());
+    }
+}
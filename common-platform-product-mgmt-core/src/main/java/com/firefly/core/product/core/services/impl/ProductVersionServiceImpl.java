@@ -22,6 +22,8 @@ import com.firefly.common.core.filters.FilterUtils;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.mappers.ProductVersionMapper;
 import com.firefly.core.product.core.services.ProductVersionService;
+import com.firefly.core.product.core.utils.FilterRequestUtils;
+import com.firefly.core.product.core.utils.RowVersionUtils;
 import com.firefly.core.product.interfaces.dtos.ProductVersionDTO;
 import com.firefly.core.product.models.entities.ProductVersion;
 import com.firefly.core.product.models.repositories.ProductVersionRepository;
@@ -49,7 +51,7 @@ public class ProductVersionServiceImpl implements ProductVersionService {
                         ProductVersion.class,
                         mapper::toDto
                 )
-                .filter(filterRequest);
+                .filter(FilterRequestUtils.scoped(filterRequest, ProductVersionDTO::new, filters -> filters.setProductId(productId)));
     }
 
     @Override
@@ -75,27 +77,39 @@ public class ProductVersionServiceImpl implements ProductVersionService {
 
     @Override
     public Mono<ProductVersionDTO> updateProductVersion(UUID productId, UUID versionId, ProductVersionDTO productVersionDTO) {
-        return repository.findById(versionId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Product version not found with ID: " + versionId)))
-                .flatMap(existingVersion -> {
-                    if (!productId.equals(existingVersion.getProductId())) {
-                        return Mono.error(new RuntimeException("Product version with ID " + versionId + " does not belong to product " + productId));
-                    }
-                    mapper.updateEntityFromDto(productVersionDTO, existingVersion);
-                    return repository.save(existingVersion);
-                })
+        return repository.updateForProduct(versionId, productId,
+                        productVersionDTO.getVersionNumber(),
+                        productVersionDTO.getVersionDescription(),
+                        productVersionDTO.getEffectiveDate())
+                .switchIfEmpty(Mono.defer(() -> explainMissing(productId, versionId)))
                 .map(mapper::toDto);
     }
 
+    @Override
+    public Mono<ProductVersionDTO> updateProductVersion(
+            UUID productId, UUID versionId, ProductVersionDTO productVersionDTO, Long expectedRowVersion) {
+        Mono<Long> current = repository.lockRowVersionForProduct(versionId, productId);
+        return RowVersionUtils.requireRowVersion(current, expectedRowVersion, "Product version " + versionId)
+                .then(Mono.defer(() -> updateProductVersion(productId, versionId, productVersionDTO)));
+    }
+
+    @Override
+    public Mono<Long> getProductVersionRowVersion(UUID productId, UUID versionId) {
+        return repository.findRowVersionForProduct(versionId, productId);
+    }
+
     @Override
     public Mono<Void> deleteProductVersion(UUID productId, UUID versionId) {
+        return repository.deleteForProduct(versionId, productId)
+                .flatMap(deleted -> deleted > 0 ? Mono.<Void>empty() : this.<Void>explainMissing(productId, versionId));
+    }
+
+    /**
+     * Resolves why an ownership-checked write matched no row. Only runs on the failure path.
+     */
+    private <T> Mono<T> explainMissing(UUID productId, UUID versionId) {
         return repository.findById(versionId)
-                .switchIfEmpty(Mono.error(new RuntimeException("Product version not found with ID: " + versionId)))
-                .flatMap(version -> {
-                    if (!productId.equals(version.getProductId())) {
-                        return Mono.error(new RuntimeException("Product version with ID " + versionId + " does not belong to product " + productId));
-                    }
-                    return repository.deleteById(versionId);
-                });
+                .flatMap(existing -> Mono.<T>error(new RuntimeException("Product version with ID " + versionId + " does not belong to product " + productId)))
+                .switchIfEmpty(Mono.error(new RuntimeException("Product version not found with ID: " + versionId)));
     }
 }
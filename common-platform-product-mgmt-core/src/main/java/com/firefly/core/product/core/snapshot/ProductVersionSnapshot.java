@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.snapshot;
+
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The product and its configurations captured when a product version was created. Snapshots are
+ * never modified, so they are cached by product version ID and never evicted by writes.
+ *
+ * @param product        the product as it stood when the snapshot was captured
+ * @param configurations its configurations at that time, sorted by configuration ID
+ * @param capturedAt     when the snapshot was captured
+ * @param backfilled     whether the version predates snapshots and was captured with the state at migration
+ *                       time rather than when it was created
+ */
+public record ProductVersionSnapshot(ProductDTO product, List<ProductConfigurationDTO> configurations,
+                                     LocalDateTime capturedAt, boolean backfilled) {
+
+    public ProductVersionSnapshot {
+        configurations = List.copyOf(configurations);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Utility methods for keyset (cursor) pagination.
+ * Cursor tokens are the URL-safe Base64 encoding of the last seen primary key, so they stay
+ * stable across requests and can be used by clients to resume a scan after a failure.
+ */
+public final class CursorUtils {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private CursorUtils() {
+    }
+
+    /**
+     * Encodes the given primary key as an opaque cursor token.
+     *
+     * @param id the last primary key returned to the client
+     * @return the cursor token, or null if the id is null
+     */
+    public static String encode(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor token previously produced by {@link #encode(UUID)}.
+     *
+     * @param cursor the cursor token, may be null or blank for the first page
+     * @return the primary key to resume after, or null to start from the beginning
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + cursor, e);
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Invalid cursor token: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Encodes a position of a sequence-ordered feed as an opaque cursor token.
+     *
+     * @param sequence the last sequence number returned to the client
+     * @return the cursor token, or null if the sequence is null
+     */
+    public static String encodeSequence(Long sequence) {
+        if (sequence == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(ByteBuffer.allocate(8).putLong(sequence).array());
+    }
+
+    /**
+     * Decodes a cursor token previously produced by {@link #encodeSequence(Long)}.
+     *
+     * @param cursor the cursor token, may be null or blank to start from the beginning
+     * @return the sequence number to resume after, 0 to start from the beginning
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static long decodeSequence(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + cursor, e);
+        }
+        if (bytes.length != 8) {
+            throw new IllegalArgumentException("Invalid cursor token: " + cursor);
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    /**
+     * Normalises a requested page size into the [1, MAX_PAGE_SIZE] range, defaulting when absent.
+     *
+     * @param requested the page size requested by the client, may be null
+     * @return the effective page size
+     */
+    public static int clampPageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import com.firefly.common.core.filters.FilterRequest;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Utility methods for scoping filter requests before they are handed to {@code FilterUtils}.
+ */
+public final class FilterRequestUtils {
+
+    private FilterRequestUtils() {
+    }
+
+    /**
+     * Applies a mandatory scope (e.g. the owning product) to the filters of the request, so the
+     * predicate is part of the generated SQL and can use the matching index. Any value supplied
+     * by the client for the scoped field is overwritten.
+     *
+     * @param filterRequest the filter request received from the client
+     * @param emptyFilters supplies an empty filter DTO when the request carries none
+     * @param scope applies the scope to the filter DTO
+     * @return the same filter request, scoped
+     */
+    public static <T> FilterRequest<T> scoped(FilterRequest<T> filterRequest, Supplier<T> emptyFilters, Consumer<T> scope) {
+        T filters = filterRequest.getFilters();
+        if (filters == null) {
+            filters = emptyFilters.get();
+            filterRequest.setFilters(filters);
+        }
+        scope.accept(filters);
+        return filterRequest;
+    }
+}
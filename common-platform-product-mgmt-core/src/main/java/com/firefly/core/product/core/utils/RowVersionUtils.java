@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Utility methods for optimistic concurrency checks against the row version of catalogue entities.
+ * The row version is the ETag of an entity; clients send it back in If-Match to update it.
+ */
+public final class RowVersionUtils {
+
+    /**
+     * Expected row version of {@code If-Match: *}: satisfied by any version, but only if the entity exists.
+     */
+    public static final long ANY_ROW_VERSION = Long.MIN_VALUE;
+
+    private RowVersionUtils() {
+    }
+
+    /**
+     * Checks the current row version of an entity against the one the client expects.
+     *
+     * @param current  the current row version, read with a row lock so that it cannot change before the
+     *                 update commits; empty if the entity does not exist
+     * @param expected the row version the client last saw, {@link #ANY_ROW_VERSION} to only require the
+     *                 entity to exist, null to skip the check
+     * @param entity   description of the entity for the error message
+     * @return a Mono completing empty when the update may proceed, including when the entity does not
+     *         exist so that the update reports it, or failing with {@link OptimisticLockingFailureException};
+     *         with {@link #ANY_ROW_VERSION} a missing entity fails the check instead
+     */
+    public static Mono<Void> requireRowVersion(Mono<Long> current, Long expected, String entity) {
+        if (expected == null) {
+            return Mono.empty();
+        }
+        if (expected == ANY_ROW_VERSION) {
+            return current.hasElement()
+                    .flatMap(exists -> exists
+                            ? Mono.<Void>empty()
+                            : Mono.<Void>error(new OptimisticLockingFailureException(entity + " does not exist")));
+        }
+        return current
+                .filter(version -> !version.equals(expected))
+                .flatMap(version -> Mono.<Void>error(new OptimisticLockingFailureException(
+                        entity + " has been modified: expected row version " + expected + " but found " + version)));
+    }
+}
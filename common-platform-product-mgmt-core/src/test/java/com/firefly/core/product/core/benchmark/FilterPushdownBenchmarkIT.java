@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the cost of the product-scoped configuration filter against the unscoped query it
+ * replaced, for growing table sizes. Each filter call issues a page query and a count query, so
+ * both are explained with {@code EXPLAIN (ANALYZE, BUFFERS)}.
+ * <p>
+ * The queries here are written by hand to show how the cost scales with the table; that the service
+ * actually sends the scoped form is checked against the statements it issues by
+ * {@code ConfigurationFilterPushdownIT} in the web module, and by {@code FilterRequestUtilsTest}.
+ * <p>
+ * Run with {@code mvn -P integration-tests verify}; requires Docker.
+ */
+@Testcontainers
+class FilterPushdownBenchmarkIT {
+
+    private static final int ROWS_PER_PRODUCT = 50;
+    private static final int[] TABLE_SIZES = {10_000, 100_000, 500_000};
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void productScopedFilterCostIsIndependentOfTableSize() throws SQLException {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%10s | %-14s | %-24s | %10s | %8s", "rows", "query", "plan", "exec ms", "buffers"));
+
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            UUID probeProductId = null;
+            PlanStats scopedPage = null;
+            PlanStats unscopedCount = null;
+
+            for (int size : TABLE_SIZES) {
+                probeProductId = seed(connection, size);
+                String scope = "WHERE product_id = '" + probeProductId + "'";
+
+                scopedPage = explain(connection,
+                        "SELECT * FROM product_configuration " + scope + " ORDER BY date_created DESC LIMIT 10");
+                PlanStats scopedCount = explain(connection,
+                        "SELECT count(*) FROM product_configuration " + scope);
+                PlanStats unscopedPage = explain(connection,
+                        "SELECT * FROM product_configuration ORDER BY date_created DESC LIMIT 10");
+                unscopedCount = explain(connection,
+                        "SELECT count(*) FROM product_configuration");
+
+                report.add(scopedPage.format(size, "scoped page"));
+                report.add(scopedCount.format(size, "scoped count"));
+                report.add(unscopedPage.format(size, "unscoped page"));
+                report.add(unscopedCount.format(size, "unscoped count"));
+            }
+
+            report.forEach(System.out::println);
+
+            // The scoped page must be served by the per-product index and touch a small fraction of the
+            // pages the unscoped count has to read at the largest table size.
+            assertTrue(scopedPage.plan().contains("Index") || scopedPage.plan().contains("Bitmap"),
+                    "Scoped filter is not using an index: " + scopedPage.plan());
+            assertTrue(scopedPage.buffers() * 10 < unscopedCount.buffers(),
+                    "Scoped filter touched " + scopedPage.buffers() + " buffers, unscoped " + unscopedCount.buffers());
+        }
+    }
+
+    /**
+     * Grows product_configuration to the given number of rows, {@value #ROWS_PER_PRODUCT} per product,
+     * and returns one of the products.
+     */
+    private static UUID seed(Connection connection, int targetRows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO product_category (product_category_id, category_name, level)
+                    VALUES ('00000000-0000-0000-0000-000000000001', 'Benchmark', 0)
+                    ON CONFLICT DO NOTHING""");
+
+            long existing = count(statement, "SELECT count(*) FROM product_configuration");
+            long products = (targetRows - existing) / ROWS_PER_PRODUCT;
+            statement.execute("""
+                    WITH new_products AS (
+                        INSERT INTO product (tenant_id, product_category_id, product_type, product_name, product_status)
+                        SELECT gen_random_uuid(), '00000000-0000-0000-0000-000000000001',
+                               'FINANCIAL', 'Benchmark product ' || g, 'ACTIVE'
+                        FROM generate_series(1, %d) g
+                        RETURNING product_id
+                    )
+                    INSERT INTO product_configuration (product_id, config_type, config_key, config_value)
+                    SELECT p.product_id, 'CUSTOM', 'key.' || k, 'value ' || k
+                    FROM new_products p CROSS JOIN generate_series(1, %d) k""".formatted(products, ROWS_PER_PRODUCT));
+            statement.execute("ANALYZE product_configuration");
+
+            try (ResultSet resultSet = statement.executeQuery("SELECT product_id FROM product_configuration LIMIT 1")) {
+                resultSet.next();
+                return resultSet.getObject(1, UUID.class);
+            }
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static PlanStats explain(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            resultSet.next();
+            JsonNode root = OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0);
+            JsonNode plan = root.get("Plan");
+            return new PlanStats(
+                    describe(plan),
+                    root.get("Execution Time").asDouble(),
+                    plan.get("Shared Hit Blocks").asLong() + plan.get("Shared Read Blocks").asLong());
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable plan for " + sql, e);
+        }
+    }
+
+    /**
+     * Returns the node types of the plan from the root down to the first scan.
+     */
+    private static String describe(JsonNode plan) {
+        StringBuilder description = new StringBuilder(plan.get("Node Type").asText());
+        JsonNode node = plan;
+        while (node.has("Plans")) {
+            node = node.get("Plans").get(0);
+            description.append(" > ").append(node.get("Node Type").asText());
+        }
+        return description.toString();
+    }
+
+    private record PlanStats(String plan, double executionMillis, long buffers) {
+
+        String format(int rows, String query) {
+            String shortPlan = plan.length() > 24 ? plan.substring(plan.length() - 24) : plan;
+            return String.format("%10d | %-14s | %-24s | %10.3f | %8d", rows, query, shortPlan, executionMillis, buffers);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.cache;
+
+import com.firefly.core.product.core.services.CatalogueChangeService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueCacheInvalidatorTest {
+
+    @Mock
+    private CatalogueChangeService changeService;
+
+    @Mock
+    private CatalogueChangeRepository repository;
+
+    private ProductCaches caches;
+    private CatalogueCacheInvalidator invalidator;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID ENTITY_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        caches = new ProductCaches(properties, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        invalidator = new CatalogueCacheInvalidator(caches, properties, changeService, repository);
+    }
+
+    @Test
+    void follow_StartsAtNewestChangeAndEvictsTheChangedProduct() {
+        // Arrange
+        cache(caches.products(), PRODUCT_ID, new ProductDTO());
+        when(repository.findLastSequenceNumber()).thenReturn(Mono.just(41L));
+        when(changeService.streamChanges(CursorUtils.encodeSequence(41L)))
+                .thenReturn(Flux.just(change(CatalogueEntityTypeEnum.PRODUCT, ChangeTypeEnum.UPDATED, 42L, null)));
+
+        // Act & Assert
+        StepVerifier.create(invalidator.follow())
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertFalse(isCached(caches.products(), PRODUCT_ID));
+    }
+
+    @Test
+    void follow_ResumesAfterLastAppliedChange() {
+        // Arrange - the first subscription fails after one change
+        when(repository.findLastSequenceNumber()).thenReturn(Mono.just(41L));
+        when(changeService.streamChanges(CursorUtils.encodeSequence(41L))).thenReturn(Flux.concat(
+                Flux.just(change(CatalogueEntityTypeEnum.PRODUCT_CATEGORY, ChangeTypeEnum.CREATED, 42L, null)),
+                Flux.error(new IllegalStateException("connection lost"))));
+        when(changeService.streamChanges(CursorUtils.encodeSequence(42L))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(invalidator.follow())
+                .expectNextCount(1)
+                .verifyError(IllegalStateException.class);
+        StepVerifier.create(invalidator.follow())
+                .verifyComplete();
+
+        verify(repository, times(1)).findLastSequenceNumber();
+        verify(changeService).streamChanges(CursorUtils.encodeSequence(42L));
+    }
+
+    @Test
+    void evict_ConfigurationChange_EvictsConfigurationsOfTheProductOnly() {
+        // Arrange
+        UUID otherProductId = UUID.randomUUID();
+        cache(caches.configurationsById(), new ProductScopedKey<>(PRODUCT_ID, ENTITY_ID), new ProductConfigurationDTO());
+        cache(caches.configurationsById(), new ProductScopedKey<>(otherProductId, ENTITY_ID), new ProductConfigurationDTO());
+
+        // Act
+        invalidator.evict(change(CatalogueEntityTypeEnum.PRODUCT_CONFIGURATION, ChangeTypeEnum.UPDATED, 1L, null));
+
+        // Assert
+        assertFalse(isCached(caches.configurationsById(), new ProductScopedKey<>(PRODUCT_ID, ENTITY_ID)));
+        assertTrue(isCached(caches.configurationsById(), new ProductScopedKey<>(otherProductId, ENTITY_ID)));
+    }
+
+    @Test
+    void evict_NewLocalization_EvictsItsLanguageOfTheProductOnly() {
+        // Arrange
+        UUID otherProductId = UUID.randomUUID();
+        cache(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "de"), Optional.empty());
+        cache(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "fr"), Optional.empty());
+        cache(caches.localizationsByLanguage(), new ProductScopedKey<>(otherProductId, "de"), Optional.empty());
+
+        // Act
+        invalidator.evict(change(CatalogueEntityTypeEnum.PRODUCT_LOCALIZATION, ChangeTypeEnum.CREATED, 1L,
+                "{\"language_code\": \"de\"}"));
+
+        // Assert
+        assertFalse(isCached(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "de")));
+        assertTrue(isCached(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "fr")));
+        assertTrue(isCached(caches.localizationsByLanguage(), new ProductScopedKey<>(otherProductId, "de")));
+    }
+
+    @Test
+    void evict_DeletedLocalization_EvictsEveryLanguageOfTheProduct() {
+        // Arrange
+        UUID otherProductId = UUID.randomUUID();
+        cache(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "fr"),
+                Optional.of(new ProductLocalizationDTO()));
+        cache(caches.localizationsByLanguage(), new ProductScopedKey<>(otherProductId, "fr"), Optional.empty());
+
+        // Act
+        invalidator.evict(change(CatalogueEntityTypeEnum.PRODUCT_LOCALIZATION, ChangeTypeEnum.DELETED, 1L, null));
+
+        // Assert
+        assertFalse(isCached(caches.localizationsByLanguage(), new ProductScopedKey<>(PRODUCT_ID, "fr")));
+        assertTrue(isCached(caches.localizationsByLanguage(), new ProductScopedKey<>(otherProductId, "fr")));
+    }
+
+    private CatalogueChangeEventDTO change(CatalogueEntityTypeEnum entityType, ChangeTypeEnum changeType,
+                                          long sequence, String payload) {
+        return CatalogueChangeEventDTO.builder()
+                .cursor(CursorUtils.encodeSequence(sequence))
+                .aggregateId(PRODUCT_ID)
+                .entityType(entityType)
+                .entityId(ENTITY_ID)
+                .changeType(changeType)
+                .payload(payload)
+                .build();
+    }
+
+    private static <K, V> void cache(ReactiveCache<K, V> cache, K key, V value) {
+        cache.get(key, ignored -> Mono.just(value)).block();
+    }
+
+    private static <K, V> boolean isCached(ReactiveCache<K, V> cache, K key) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        cache.get(key, ignored -> {
+            loaded.set(true);
+            return Mono.empty();
+        }).block();
+        return !loaded.get();
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.conversions;
+
+import com.firefly.core.product.core.mappers.ProductCategoryMapper;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationRequirementMapper;
+import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.mappers.ProductRelationshipMapper;
+import com.firefly.core.product.core.mappers.ProductVersionMapper;
+import com.firefly.core.product.interfaces.dtos.BaseDTO;
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import com.firefly.core.product.models.conversions.EntityConverters;
+import com.firefly.core.product.models.conversions.PostgresEnums;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import com.firefly.core.product.models.entities.CatalogueTombstone;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductCategory;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.entities.ProductDocumentation;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+import com.firefly.core.product.models.entities.ProductLocalization;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import com.firefly.core.product.models.entities.ProductVersion;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class EntityConvertersTest {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Product.class, ProductCategory.class, ProductConfiguration.class, ProductDocumentation.class,
+            ProductDocumentationRequirement.class, ProductLocalization.class, ProductRelationship.class,
+            ProductVersion.class, CatalogueChange.class, CatalogueTombstone.class);
+
+    private static final List<Projection<?, ?>> PROJECTIONS = List.of(
+            new Projection<>(Product.class, Mappers.getMapper(ProductMapper.class)::toDto,
+                    DtoProjections::product),
+            new Projection<>(ProductCategory.class, Mappers.getMapper(ProductCategoryMapper.class)::toDto,
+                    DtoProjections::category),
+            new Projection<>(ProductConfiguration.class, Mappers.getMapper(ProductConfigurationMapper.class)::toDto,
+                    DtoProjections::configuration),
+            new Projection<>(ProductDocumentation.class, Mappers.getMapper(ProductDocumentationMapper.class)::toDto,
+                    DtoProjections::documentation),
+            new Projection<>(ProductDocumentationRequirement.class,
+                    Mappers.getMapper(ProductDocumentationRequirementMapper.class)::toDto,
+                    DtoProjections::documentationRequirement),
+            new Projection<>(ProductLocalization.class, Mappers.getMapper(ProductLocalizationMapper.class)::toDto,
+                    DtoProjections::localization),
+            new Projection<>(ProductRelationship.class, Mappers.getMapper(ProductRelationshipMapper.class)::toDto,
+                    DtoProjections::relationship),
+            new Projection<>(ProductVersion.class, Mappers.getMapper(ProductVersionMapper.class)::toDto,
+                    DtoProjections::version));
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 3, 1, 9, 30);
+
+    private final R2dbcMappingContext mappingContext = new R2dbcMappingContext();
+    private final MappingR2dbcConverter converter = converter(mappingContext);
+
+    @Test
+    void write_CoversEveryMappedColumn() throws Exception {
+        for (Class<?> type : ENTITIES) {
+            // Arrange
+            Set<String> columns = new HashSet<>();
+            mappingContext.getRequiredPersistentEntity(type)
+                    .forEach(property -> columns.add(property.getColumnName().getReference()));
+
+            // Act
+            Map<String, Object> written = write(populated(type));
+
+            // Assert
+            assertEquals(columns, written.keySet(), type.getSimpleName());
+        }
+    }
+
+    @Test
+    void read_RestoresWrittenEntity() throws Exception {
+        for (Class<?> type : ENTITIES) {
+            // Arrange
+            Map<String, Object> written = write(populated(type));
+            Row row = row(written);
+
+            // Act
+            Object read = converter.read(type, row, row.getMetadata());
+
+            // Assert
+            assertEquals(written, write(read), type.getSimpleName());
+        }
+    }
+
+    @Test
+    void read_LeavesMissingColumnsUnset() {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("product_id", productId);
+        Row row = row(columns);
+
+        // Act
+        Product product = converter.read(Product.class, row, row.getMetadata());
+
+        // Assert
+        assertEquals(productId, product.getProductId());
+        assertNull(product.getProductName());
+        assertNull(product.getRowVersion());
+    }
+
+    @Test
+    void read_AcceptsEnumStoredAsText() {
+        // Arrange
+        Map<String, Object> columns = new HashMap<>();
+        columns.put("product_status", "ACTIVE");
+        Row row = row(columns);
+
+        // Act
+        Product product = converter.read(Product.class, row, row.getMetadata());
+
+        // Assert
+        assertEquals(ProductStatusEnum.ACTIVE, product.getProductStatus());
+    }
+
+    @Test
+    void projection_MatchesMappedEntity() throws Exception {
+        for (Projection<?, ?> projection : PROJECTIONS) {
+            // Arrange
+            Row row = row(write(populated(projection.entity())));
+            BaseDTO mapped = projection.mapped(converter, row);
+
+            // Act
+            BaseDTO projected = projection.projection().apply(row, row.getMetadata());
+
+            // Assert
+            assertEquals(mapped, projected, projection.entity().getSimpleName());
+            assertNotNull(projected.getRowVersion(), projection.entity().getSimpleName());
+        }
+    }
+
+    private Map<String, Object> write(Object entity) {
+        OutboundRow row = new OutboundRow();
+        converter.write(entity, row);
+        Map<String, Object> values = new HashMap<>();
+        row.forEach((column, parameter) -> values.put(column.getReference(), parameter.getValue()));
+        return values;
+    }
+
+    private static MappingR2dbcConverter converter(R2dbcMappingContext mappingContext) {
+        List<Object> converters = new ArrayList<>(PostgresEnums.writingConverters());
+        converters.addAll(EntityConverters.all());
+        R2dbcCustomConversions conversions = R2dbcCustomConversions.of(PostgresDialect.INSTANCE, converters);
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        return new MappingR2dbcConverter(mappingContext, conversions);
+    }
+
+    // Products store their dates in TIMESTAMP columns, so dates are read back as timestamps
+    private static Row row(Map<String, Object> columns) {
+        RowMetadata metadata = mock(RowMetadata.class);
+        when(metadata.contains(anyString())).thenAnswer(invocation -> columns.containsKey(invocation.getArgument(0)));
+        Row row = mock(Row.class);
+        when(row.getMetadata()).thenReturn(metadata);
+        when(row.get(anyString(), any(Class.class))).thenAnswer(invocation -> {
+            Object value = columns.get(invocation.<String>getArgument(0));
+            return value instanceof LocalDate date && invocation.getArgument(1) == LocalDateTime.class
+                    ? date.atStartOfDay()
+                    : value;
+        });
+        return row;
+    }
+
+    private static Object populated(Class<?> type) throws Exception {
+        Object entity = ReflectionUtils.accessibleConstructor(type).newInstance();
+        ReflectionUtils.doWithFields(type, field -> {
+            if (Modifier.isStatic(field.getModifiers())) {
+                return;
+            }
+            ReflectionUtils.makeAccessible(field);
+            field.set(entity, sample(field.getType(), field.getName()));
+        });
+        return entity;
+    }
+
+    private static Object sample(Class<?> type, String name) {
+        if (type == UUID.class) {
+            return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        }
+        if (type == String.class) {
+            return name;
+        }
+        if (type == Long.class) {
+            return 7L;
+        }
+        if (type == Integer.class) {
+            return 3;
+        }
+        if (type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == LocalDateTime.class) {
+            return TIMESTAMP;
+        }
+        if (type == LocalDate.class) {
+            return TIMESTAMP.toLocalDate();
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        }
+        throw new IllegalArgumentException("No sample value for " + type.getName() + " " + name);
+    }
+
+    /**
+     * A row projection and the entity mapping it must agree with.
+     */
+    private record Projection<E, D extends BaseDTO>(
+            Class<E> entity, Function<E, D> mapper, BiFunction<Row, RowMetadata, D> projection) {
+
+        D mapped(MappingR2dbcConverter converter, Row row) {
+            return mapper.apply(converter.read(entity, row, row.getMetadata()));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.delta;
+
+import com.firefly.core.product.models.repositories.CatalogueTombstoneRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the delta watermark query against open transactions: a write that has not committed yet must
+ * stay after the watermark however long its transaction has been running.
+ * Run with {@code mvn -P integration-tests verify}; requires Docker.
+ */
+@Testcontainers
+class StableWatermarkIT {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void watermark_StaysBeforeUncommittedWrites() throws Exception {
+        String watermarkQuery = CatalogueTombstoneRepository.class
+                .getMethod("findStableWatermark").getAnnotation(Query.class).value();
+
+        try (Connection writer = connect(); Connection reader = connect()) {
+            // Arrange - a write transaction that stays open well past any fixed settle time
+            writer.setAutoCommit(false);
+            LocalDateTime written;
+            try (Statement statement = writer.createStatement();
+                 ResultSet resultSet = statement.executeQuery("""
+                         INSERT INTO product_category (category_name, level)
+                         VALUES ('Long transaction', 0)
+                         RETURNING date_updated""")) {
+                resultSet.next();
+                written = resultSet.getObject(1, LocalDateTime.class);
+            }
+            Thread.sleep(1_500);
+
+            // Act & Assert
+            assertTrue(watermark(reader, watermarkQuery).isBefore(written),
+                    "Watermark passed a write that has not committed");
+
+            writer.commit();
+            assertFalse(watermark(reader, watermarkQuery).isBefore(written),
+                    "Watermark did not advance past a committed write");
+        }
+    }
+
+    private static LocalDateTime watermark(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getObject(1, LocalDateTime.class);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
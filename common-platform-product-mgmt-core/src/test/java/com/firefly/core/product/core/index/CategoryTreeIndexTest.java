@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.models.entities.ProductCategory;
+import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeIndexTest {
+
+    @Mock
+    private ProductCategoryRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryTreeIndex index;
+
+    private final UUID ROOT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID CARDS_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID ACCOUNTS_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID CREDIT_CARDS_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new CategoryTreeIndex(repository, new CategoryTreeIndexProperties(),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void lookupsReportUnknownUntilLoaded() {
+        // Act & Assert
+        assertFalse(index.isReady());
+        assertFalse(index.contains(ROOT_ID));
+        assertTrue(index.find(ROOT_ID).isEmpty());
+        assertTrue(index.subtree(ROOT_ID).isEmpty());
+    }
+
+    @Test
+    void refresh_BuildsTreeWithComputedDepths() {
+        // Arrange - stored levels are stale on purpose
+        loadTree();
+
+        // Act & Assert
+        assertTrue(index.isReady());
+        assertEquals(4, index.size());
+        assertEquals(2, index.find(CREDIT_CARDS_ID).orElseThrow().getLevel());
+        assertEquals(List.of(ROOT_ID, CARDS_ID, CREDIT_CARDS_ID), ids(index.ancestors(CREDIT_CARDS_ID)));
+        assertEquals(List.of(ACCOUNTS_ID, CARDS_ID), ids(index.children(ROOT_ID)));
+        assertEquals(List.of(ROOT_ID, ACCOUNTS_ID, CARDS_ID, CREDIT_CARDS_ID), ids(index.subtree(ROOT_ID)));
+        assertEquals(1, meterRegistry.get(CategoryTreeIndex.REBUILD_TIMER).tag("trigger", "refresh").timer().count());
+        assertEquals(4.0, meterRegistry.get(CategoryTreeIndex.SIZE_GAUGE).gauge().value());
+    }
+
+    @Test
+    void refresh_KeepsRowVersions() {
+        // Arrange
+        loadTree();
+
+        // Act & Assert - subtree and ancestor reads served from the index carry the ETag of each category
+        assertEquals(7L, index.find(CARDS_ID).orElseThrow().getRowVersion());
+        assertTrue(index.subtree(ROOT_ID).stream().allMatch(category -> category.getRowVersion() == 7L));
+        assertTrue(index.ancestors(CREDIT_CARDS_ID).stream().allMatch(category -> category.getRowVersion() == 7L));
+    }
+
+    @Test
+    void isInSubtree_OnlyForTheCategoryAndItsDescendants() {
+        // Arrange
+        loadTree();
+
+        // Act & Assert
+        assertTrue(index.isInSubtree(CARDS_ID, CARDS_ID));
+        assertTrue(index.isInSubtree(ROOT_ID, CREDIT_CARDS_ID));
+        assertTrue(index.isInSubtree(CARDS_ID, CREDIT_CARDS_ID));
+        assertFalse(index.isInSubtree(ACCOUNTS_ID, CREDIT_CARDS_ID));
+        assertFalse(index.isInSubtree(CREDIT_CARDS_ID, CARDS_ID));
+    }
+
+    @Test
+    void upsert_MovesSubtreeWithoutReloading() {
+        // Arrange
+        loadTree();
+
+        // Act - move Cards below Accounts
+        index.upsert(category(CARDS_ID, "Cards", ACCOUNTS_ID));
+
+        // Assert
+        assertEquals(List.of(ROOT_ID, ACCOUNTS_ID, CARDS_ID, CREDIT_CARDS_ID), ids(index.ancestors(CREDIT_CARDS_ID)));
+        assertEquals(3, index.find(CREDIT_CARDS_ID).orElseThrow().getLevel());
+        assertEquals(1, meterRegistry.get(CategoryTreeIndex.REBUILD_TIMER).tag("trigger", "write").timer().count());
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void remove_DropsCategory() {
+        // Arrange
+        loadTree();
+
+        // Act
+        index.remove(CREDIT_CARDS_ID);
+
+        // Assert
+        assertFalse(index.contains(CREDIT_CARDS_ID));
+        assertEquals(List.of(), index.children(CARDS_ID));
+    }
+
+    @Test
+    void refresh_LeavesOutCategoriesCaughtInACycle() {
+        // Arrange - Cards and Credit Cards point at each other
+        when(repository.findAll()).thenReturn(Flux.just(
+                category(ROOT_ID, "Root", null),
+                category(CARDS_ID, "Cards", CREDIT_CARDS_ID),
+                category(CREDIT_CARDS_ID, "Credit Cards", CARDS_ID)));
+
+        // Act
+        StepVerifier.create(index.refresh()).verifyComplete();
+
+        // Assert
+        assertTrue(index.contains(ROOT_ID));
+        assertFalse(index.contains(CARDS_ID));
+        assertFalse(index.contains(CREDIT_CARDS_ID));
+    }
+
+    private void loadTree() {
+        when(repository.findAll()).thenReturn(Flux.just(
+                category(ROOT_ID, "Root", null),
+                category(CARDS_ID, "Cards", ROOT_ID),
+                category(ACCOUNTS_ID, "Accounts", ROOT_ID),
+                category(CREDIT_CARDS_ID, "Credit Cards", CARDS_ID)));
+        StepVerifier.create(index.refresh()).verifyComplete();
+    }
+
+    private static ProductCategory category(UUID id, String name, UUID parentId) {
+        ProductCategory category = new ProductCategory();
+        category.setProductCategoryId(id);
+        category.setCategoryName(name);
+        category.setParentCategoryId(parentId);
+        category.setLevel(0);
+        category.setRowVersion(7L);
+        return category;
+    }
+
+    private static List<UUID> ids(List<ProductCategory> categories) {
+        return categories.stream().map(ProductCategory::getProductCategoryId).toList();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.index;
+
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrossSellIndexTest {
+
+    @Mock
+    private ProductRelationshipRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CrossSellIndex index;
+
+    private final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID CARD_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID INSURANCE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID SAVINGS_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+
+    private final UUID ACCOUNT_CARD_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440001");
+    private final UUID CARD_INSURANCE_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440002");
+    private final UUID SAVINGS_ACCOUNT_ID = UUID.fromString("660e8400-e29b-41d4-a716-446655440003");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new CrossSellIndex(repository, new CrossSellIndexProperties(),
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void lookupsReturnNothingUntilLoaded() {
+        // Act & Assert
+        assertFalse(index.isReady());
+        assertEquals(0, index.size());
+        assertEquals(List.of(), index.candidates(Set.of(ACCOUNT_ID)));
+    }
+
+    @Test
+    void candidates_RankedBySummedWeightInBothDirections() {
+        // Arrange
+        loadGraph();
+
+        // Act
+        List<CrossSellCandidate> candidates = index.candidates(Set.of(ACCOUNT_ID, INSURANCE_ID));
+
+        // Assert - the card is linked to both held products, savings only to the account
+        assertEquals(List.of(CARD_ID, SAVINGS_ID), candidates.stream().map(CrossSellCandidate::productId).toList());
+        assertEquals(1.5, candidates.get(0).score());
+        assertEquals(List.of(ACCOUNT_ID, INSURANCE_ID), candidates.get(0).recommendedBy());
+        assertEquals(0.5, candidates.get(1).score());
+        assertEquals(3.0, meterRegistry.get(CrossSellIndex.SIZE_GAUGE).gauge().value());
+        assertEquals(1, meterRegistry.get(CrossSellIndex.REBUILD_TIMER).tag("trigger", "refresh").timer().count());
+    }
+
+    @Test
+    void candidates_NeverIncludeHeldProducts() {
+        // Arrange
+        loadGraph();
+
+        // Act
+        List<CrossSellCandidate> candidates = index.candidates(Set.of(ACCOUNT_ID, CARD_ID));
+
+        // Assert
+        assertEquals(List.of(INSURANCE_ID, SAVINGS_ID), candidates.stream().map(CrossSellCandidate::productId).toList());
+    }
+
+    @Test
+    void upsert_RetypedRelationshipLeavesTheIndexWithoutReloading() {
+        // Arrange
+        loadGraph();
+
+        // Act - the account to card link becomes an upgrade
+        index.upsert(relationship(ACCOUNT_CARD_ID, ACCOUNT_ID, CARD_ID, RelationshipTypeEnum.UPGRADE));
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(List.of(SAVINGS_ID), index.candidates(Set.of(ACCOUNT_ID)).stream()
+                .map(CrossSellCandidate::productId).toList());
+        assertEquals(1, meterRegistry.get(CrossSellIndex.REBUILD_TIMER).tag("trigger", "write").timer().count());
+        verify(repository, times(1)).findByRelationshipTypeIn(CrossSellIndex.TYPES);
+    }
+
+    @Test
+    void remove_DropsRelationship() {
+        // Arrange
+        loadGraph();
+
+        // Act
+        index.remove(SAVINGS_ACCOUNT_ID);
+
+        // Assert
+        assertEquals(2, index.size());
+        assertEquals(List.of(CARD_ID), index.candidates(Set.of(ACCOUNT_ID)).stream()
+                .map(CrossSellCandidate::productId).toList());
+    }
+
+    @Test
+    void refresh_DiscardedAfterAConcurrentWrite() {
+        // Arrange - a relationship is written while the reload is reading
+        loadGraph();
+        when(repository.findByRelationshipTypeIn(CrossSellIndex.TYPES)).thenReturn(Flux.defer(() -> {
+            index.remove(CARD_INSURANCE_ID);
+            return Flux.just(relationship(ACCOUNT_CARD_ID, ACCOUNT_ID, CARD_ID, RelationshipTypeEnum.CROSS_SELL),
+                    relationship(CARD_INSURANCE_ID, CARD_ID, INSURANCE_ID, RelationshipTypeEnum.CROSS_SELL));
+        }));
+
+        // Act
+        StepVerifier.create(index.refresh()).verifyComplete();
+
+        // Assert - the stale rows did not bring the deleted relationship back
+        assertEquals(2, index.size());
+        assertEquals(List.of(ACCOUNT_ID), index.candidates(Set.of(CARD_ID)).stream()
+                .map(CrossSellCandidate::productId).toList());
+    }
+
+    private void loadGraph() {
+        when(repository.findByRelationshipTypeIn(CrossSellIndex.TYPES)).thenReturn(Flux.just(
+                relationship(ACCOUNT_CARD_ID, ACCOUNT_ID, CARD_ID, RelationshipTypeEnum.CROSS_SELL),
+                relationship(CARD_INSURANCE_ID, CARD_ID, INSURANCE_ID, RelationshipTypeEnum.COMPLIMENTARY),
+                relationship(SAVINGS_ACCOUNT_ID, SAVINGS_ID, ACCOUNT_ID, RelationshipTypeEnum.COMPLIMENTARY)));
+        StepVerifier.create(index.refresh()).verifyComplete();
+    }
+
+    private static ProductRelationship relationship(UUID id, UUID productId, UUID relatedProductId,
+                                                    RelationshipTypeEnum type) {
+        ProductRelationship relationship = new ProductRelationship();
+        relationship.setProductRelationshipId(id);
+        relationship.setProductId(productId);
+        relationship.setRelatedProductId(relatedProductId);
+        relationship.setRelationshipType(type);
+        return relationship;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.indexing;
+
+import com.firefly.core.product.models.indexing.IndexDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexDefinitionTest {
+
+    @Test
+    void keyColumns_PartialIndex_ExcludesThePredicate() {
+        // Arrange
+        IndexDefinition index = new IndexDefinition("catalogue_outbox", "idx_catalogue_outbox_unpublished",
+                "CREATE INDEX idx_catalogue_outbox_unpublished ON public.catalogue_outbox USING btree (event_id)"
+                        + " WHERE (sequence_number IS NULL)");
+
+        // Act & Assert
+        assertEquals("btree", index.method());
+        assertEquals(List.of("event_id"), index.keyColumns());
+        assertEquals("event_id", index.leadingColumn());
+    }
+
+    @Test
+    void keyColumns_CoveringIndex_ExcludesTheIncludedColumns() {
+        // Arrange
+        IndexDefinition index = new IndexDefinition("product", "idx_product_tenant_status",
+                "CREATE INDEX idx_product_tenant_status ON public.product USING btree (tenant_id, product_status)"
+                        + " INCLUDE (product_name, date_updated) WHERE (product_status IS NOT NULL)");
+
+        // Act & Assert
+        assertEquals(List.of("tenant_id", "product_status"), index.keyColumns());
+    }
+
+    @Test
+    void keyColumns_ExpressionKeys_StayWhole() {
+        // Arrange
+        IndexDefinition index = new IndexDefinition("product", "idx_product_name_lower",
+                "CREATE INDEX idx_product_name_lower ON public.product USING btree (lower((product_name)::text),"
+                        + " COALESCE(product_code, product_name) DESC)");
+
+        // Act & Assert
+        assertEquals(List.of("lower((product_name)::text)", "COALESCE(product_code, product_name)"),
+                index.keyColumns());
+    }
+
+    @Test
+    void supportsPatternMatching_TrigramIndex() {
+        // Arrange
+        IndexDefinition index = new IndexDefinition("product", "idx_product_name_trgm",
+                "CREATE INDEX idx_product_name_trgm ON public.product USING gin (product_name gin_trgm_ops)");
+
+        // Act & Assert
+        assertEquals("gin", index.method());
+        assertTrue(index.supportsPatternMatching("product_name"));
+        assertFalse(index.supportsPatternMatching("product_code"));
+    }
+}
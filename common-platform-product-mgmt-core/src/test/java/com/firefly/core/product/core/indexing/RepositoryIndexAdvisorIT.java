@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.indexing;
+
+import com.firefly.core.product.models.indexing.IndexAdvice;
+import com.firefly.core.product.models.indexing.IndexDefinition;
+import com.firefly.core.product.models.indexing.RepositoryIndexAdvisor;
+import com.firefly.core.product.models.indexing.RepositoryIndexAdvisorRunner;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails when a derived repository query is added without the index it needs.
+ * Run with {@code mvn -P integration-tests verify}; requires Docker.
+ */
+@Testcontainers
+class RepositoryIndexAdvisorIT {
+
+    /**
+     * Queries knowingly left without a supporting index.
+     */
+    private static final Set<String> KNOWN_UNINDEXED = Set.of();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void everyDerivedQueryHasASupportingIndex() throws SQLException {
+        // Arrange
+        List<Class<?>> repositories = RepositoryIndexAdvisor.findRepositories(RepositoryIndexAdvisorRunner.REPOSITORIES_PACKAGE);
+        RepositoryIndexAdvisor advisor = new RepositoryIndexAdvisor(new R2dbcMappingContext());
+
+        // Act
+        List<IndexAdvice> advice = advisor.advise(repositories, readIndexes());
+
+        // Assert
+        assertFalse(repositories.isEmpty());
+        Set<String> unindexed = advice.stream()
+                .map(item -> item.repository() + "." + item.method())
+                .collect(Collectors.toSet());
+        assertEquals(KNOWN_UNINDEXED, unindexed, () -> "Unexpected advice: " + advice);
+    }
+
+    private static List<IndexDefinition> readIndexes() throws SQLException {
+        List<IndexDefinition> indexes = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT tablename, indexname, indexdef FROM pg_indexes WHERE schemaname = current_schema()")) {
+            while (resultSet.next()) {
+                indexes.add(new IndexDefinition(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3)));
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.localization;
+
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that localizations stored before language codes were canonicalised are still found by the
+ * resolver: V20 rewrites them to the BCP 47 form of the fallback chain and archives the rows that only
+ * differed in case or separator.
+ * Run with {@code mvn -P integration-tests verify}; requires Docker.
+ */
+@Testcontainers
+class LanguageCodeBackfillIT {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @BeforeAll
+    static void migrateWithNonCanonicalLocalizations() throws SQLException {
+        flyway("19").migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO product_category (product_category_id, category_name, level)
+                    VALUES ('00000000-0000-0000-0000-000000000001', 'Accounts', 0)""");
+            statement.execute("""
+                    INSERT INTO product (product_id, tenant_id, product_category_id, product_type, product_name,
+                                         product_status)
+                    VALUES ('%s', gen_random_uuid(), '00000000-0000-0000-0000-000000000001', 'FINANCIAL',
+                            'Account', 'ACTIVE')""".formatted(PRODUCT_ID));
+            statement.execute("""
+                    INSERT INTO product_localization (product_id, language_code, localized_name, date_updated)
+                    VALUES ('%1$s', 'es_es', 'Cuenta (antigua)', '2024-01-01'),
+                           ('%1$s', 'ES-ES', 'Cuenta', '2024-06-01'),
+                           ('%1$s', 'EN', 'Account', '2024-06-01')""".formatted(PRODUCT_ID));
+        }
+        flyway("latest").migrate();
+    }
+
+    @Test
+    void resolve_FindsLocalizationsStoredInNonCanonicalForm() throws Exception {
+        // Arrange
+        String resolverQuery = ProductLocalizationRepository.class
+                .getMethod("findByProductIdsAndLanguageCodes", UUID[].class, String[].class)
+                .getAnnotation(Query.class).value()
+                .replace(":productIds", "?")
+                .replace(":languageCodes", "?");
+        List<String> chain = LocaleFallbackChain.of("es_ES", new LocalizationProperties());
+
+        // Act
+        Map<String, String> found = new LinkedHashMap<>();
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(resolverQuery)) {
+            statement.setArray(1, connection.createArrayOf("uuid", new Object[]{PRODUCT_ID}));
+            statement.setArray(2, connection.createArrayOf("varchar", chain.toArray()));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    found.put(resultSet.getString("language_code"), resultSet.getString("localized_name"));
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(List.of("es-ES", "es", "en"), chain);
+        assertEquals(Map.of("es-ES", "Cuenta", "en", "Account"), found);
+    }
+
+    @Test
+    void backfill_ArchivesRowsThatBecameDuplicates() throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT language_code, localized_name FROM product_localization_language_duplicate")) {
+            assertTrue(resultSet.next());
+            assertEquals("es-ES", resultSet.getString("language_code"));
+            assertEquals("Cuenta (antigua)", resultSet.getString("localized_name"));
+            assertFalse(resultSet.next());
+        }
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .target(target)
+                .load();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
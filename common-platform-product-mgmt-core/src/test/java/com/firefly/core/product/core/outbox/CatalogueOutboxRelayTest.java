@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.outbox;
+
+import com.firefly.core.product.core.mappers.CatalogueChangeMapper;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueOutboxRelayTest {
+
+    @Mock
+    private CatalogueChangeRepository repository;
+
+    @Mock
+    private CatalogueChangeMapper mapper;
+
+    @Mock
+    private CatalogueEventPublisher publisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogueOutboxProperties properties;
+    private CatalogueOutboxRelay relay;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new CatalogueOutboxProperties();
+        relay = new CatalogueOutboxRelay(repository, mapper, publisher, properties, transactionalOperator,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(mapper.toDto(any(CatalogueChange.class))).thenAnswer(invocation -> {
+            CatalogueChange change = invocation.getArgument(0);
+            return CatalogueChangeEventDTO.builder()
+                    .cursor(String.valueOf(change.getSequenceNumber()))
+                    .aggregateId(change.getAggregateId())
+                    .build();
+        });
+    }
+
+    @Test
+    void relayBatch_PublishesInSequenceOrderWithinTransaction() {
+        // Arrange
+        when(repository.tryRelayLock(CatalogueOutboxRelay.RELAY_LOCK_KEY)).thenReturn(Mono.just(true));
+        when(repository.publishPending(500)).thenReturn(Flux.just(change(12L), change(11L)));
+        when(publisher.publish(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(2)
+                .verifyComplete();
+
+        ArgumentCaptor<List<CatalogueChangeEventDTO>> published = ArgumentCaptor.forClass(List.class);
+        verify(publisher).publish(published.capture());
+        assertEquals(List.of("11", "12"), published.getValue().stream().map(CatalogueChangeEventDTO::getCursor).toList());
+        verify(transactionalOperator).transactional(any(Mono.class));
+        assertEquals(2.0, meterRegistry.get(CatalogueOutboxRelay.PUBLISHED_COUNTER).counter().count());
+    }
+
+    @Test
+    void relayBatch_LockHeldElsewhere_PublishesNothing() {
+        // Arrange
+        when(repository.tryRelayLock(CatalogueOutboxRelay.RELAY_LOCK_KEY)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(0)
+                .verifyComplete();
+
+        verify(repository, never()).publishPending(anyInt());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void relayBatch_PublishFailure_PropagatesSoTheBatchRollsBack() {
+        // Arrange
+        when(repository.tryRelayLock(CatalogueOutboxRelay.RELAY_LOCK_KEY)).thenReturn(Mono.just(true));
+        when(repository.publishPending(500)).thenReturn(Flux.just(change(1L)));
+        when(publisher.publish(anyList())).thenReturn(Mono.error(new RuntimeException("Broker unavailable")));
+
+        // Act & Assert
+        StepVerifier.create(relay.relayBatch())
+                .expectErrorMessage("Broker unavailable")
+                .verify();
+
+        assertEquals(0.0, meterRegistry.get(CatalogueOutboxRelay.PUBLISHED_COUNTER).counter().count());
+    }
+
+    @Test
+    void drain_RelaysUntilABatchIsNotFull() {
+        // Arrange
+        properties.setBatchSize(2);
+        when(repository.tryRelayLock(CatalogueOutboxRelay.RELAY_LOCK_KEY)).thenReturn(Mono.just(true));
+        when(repository.publishPending(2))
+                .thenReturn(Flux.just(change(1L), change(2L)))
+                .thenReturn(Flux.just(change(3L)));
+        when(publisher.publish(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(relay.drain())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository, times(2)).publishPending(2);
+    }
+
+    private CatalogueChange change(long sequence) {
+        CatalogueChange change = new CatalogueChange();
+        change.setEventId(sequence);
+        change.setSequenceNumber(sequence);
+        change.setAggregateId(PRODUCT_ID);
+        change.setEntityType(CatalogueEntityTypeEnum.PRODUCT);
+        change.setEntityId(PRODUCT_ID);
+        change.setChangeType(ChangeTypeEnum.UPDATED);
+        return change;
+    }
+}
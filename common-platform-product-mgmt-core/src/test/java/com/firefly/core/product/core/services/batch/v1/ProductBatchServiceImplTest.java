@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.core.services.batch.v1;
+
+import com.firefly.core.product.core.batch.BatchExecutor;
+import com.firefly.core.product.core.batch.BatchProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.services.impl.ProductBatchServiceImpl;
+import com.firefly.core.product.interfaces.dtos.BatchUpdateItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.enums.BatchItemStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductBatchServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductConfigurationRepository configurationRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductConfigurationMapper configurationMapper;
+
+    @Mock
+    private ProductCaches caches;
+
+    private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+
+    @Spy
+    private BatchExecutor executor = new BatchExecutor(new BatchProperties(), transactionalOperator);
+
+    @InjectMocks
+    private ProductBatchServiceImpl service;
+
+    private final UUID TENANT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private final UUID PRODUCT_ID_1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID PRODUCT_ID_2 = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(productMapper.toEntity(any(ProductDTO.class))).thenAnswer(invocation -> {
+            ProductDTO dto = invocation.getArgument(0);
+            Product product = new Product();
+            product.setTenantId(dto.getTenantId());
+            product.setProductName(dto.getProductName());
+            return product;
+        });
+        lenient().when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            return ProductDTO.builder()
+                    .productId(product.getProductId())
+                    .tenantId(product.getTenantId())
+                    .productName(product.getProductName())
+                    .build();
+        });
+    }
+
+    @Test
+    void createProducts_InvalidItemReportedWithoutBlockingOthers() {
+        // Arrange
+        ProductDTO valid = ProductDTO.builder().tenantId(TENANT_ID).productName("Valid").build();
+        ProductDTO missingTenant = ProductDTO.builder().productName("No tenant").build();
+        when(productRepository.insertAll(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createProducts(Flux.just(missingTenant, valid), false))
+                .assertNext(response -> {
+                    assertEquals(2, response.getTotal());
+                    assertEquals(1, response.getSucceeded());
+                    assertEquals(1, response.getFailed());
+                    assertEquals(BatchItemStatusEnum.FAILED, response.getResults().get(0).getStatus());
+                    assertEquals("Tenant ID is required when creating a product", response.getResults().get(0).getError());
+                    assertEquals(BatchItemStatusEnum.SUCCEEDED, response.getResults().get(1).getStatus());
+                    assertNotNull(response.getResults().get(1).getId());
+                    assertEquals(response.getResults().get(1).getId(), response.getResults().get(1).getData().getProductId());
+                })
+                .verifyComplete();
+
+        verify(productRepository).insertAll(argThat(products -> products.size() == 1));
+    }
+
+    @Test
+    void createProducts_FailedChunkRetriedItemByItem() {
+        // Arrange - the multi-row insert fails, the single row retries tell the good item from the bad one
+        ProductDTO good = ProductDTO.builder().tenantId(TENANT_ID).productName("Good").build();
+        ProductDTO bad = ProductDTO.builder().tenantId(TENANT_ID).productName("Bad").build();
+        when(productRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            if (products.stream().anyMatch(product -> "Bad".equals(product.getProductName()))) {
+                return Flux.error(new RuntimeException("violates foreign key constraint"));
+            }
+            return Flux.fromIterable(products);
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.createProducts(Flux.just(good, bad), false))
+                .assertNext(response -> {
+                    assertEquals(1, response.getSucceeded());
+                    assertEquals(BatchItemStatusEnum.SUCCEEDED, response.getResults().get(0).getStatus());
+                    assertEquals(BatchItemStatusEnum.FAILED, response.getResults().get(1).getStatus());
+                    assertEquals("violates foreign key constraint", response.getResults().get(1).getError());
+                })
+                .verifyComplete();
+
+        verify(productRepository, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    void createProducts_MatchesReturnedRowsById() {
+        // Arrange - the rows of a multi-row insert come back in no guaranteed order
+        ProductDTO first = ProductDTO.builder().tenantId(TENANT_ID).productName("First").build();
+        ProductDTO second = ProductDTO.builder().tenantId(TENANT_ID).productName("Second").build();
+        when(productRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return Flux.fromIterable(products.reversed());
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.createProducts(Flux.just(first, second), false))
+                .assertNext(response -> {
+                    assertEquals(2, response.getSucceeded());
+                    assertEquals("First", response.getResults().get(0).getData().getProductName());
+                    assertEquals("Second", response.getResults().get(1).getData().getProductName());
+                    assertEquals(response.getResults().get(0).getId(), response.getResults().get(0).getData().getProductId());
+                    assertEquals(response.getResults().get(1).getId(), response.getResults().get(1).getData().getProductId());
+                })
+                .verifyComplete();
+
+        verify(productRepository).insertAll(argThat(products -> products.stream().allMatch(product -> product.getProductId() != null)));
+    }
+
+    @Test
+    void updateProducts_AtomicBatchRolledBackWhenAProductIsMissing() {
+        // Arrange
+        BatchUpdateItemDTO<ProductDTO> existing = new BatchUpdateItemDTO<>(PRODUCT_ID_1, ProductDTO.builder().productName("Renamed").build());
+        BatchUpdateItemDTO<ProductDTO> missing = new BatchUpdateItemDTO<>(PRODUCT_ID_2, ProductDTO.builder().productName("Renamed").build());
+        when(productRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return Flux.fromIterable(products).filter(product -> PRODUCT_ID_1.equals(product.getProductId()));
+        });
+
+        // Act & Assert
+        StepVerifier.create(service.updateProducts(Flux.just(existing, missing), true))
+                .assertNext(response -> {
+                    assertEquals(0, response.getSucceeded());
+                    assertEquals(BatchItemStatusEnum.ROLLED_BACK, response.getResults().get(0).getStatus());
+                    assertEquals(PRODUCT_ID_1, response.getResults().get(0).getId());
+                    assertEquals(BatchItemStatusEnum.FAILED, response.getResults().get(1).getStatus());
+                    assertEquals("Product not found with ID: " + PRODUCT_ID_2, response.getResults().get(1).getError());
+                })
+                .verifyComplete();
+
+        verify(transactionalOperator).transactional(any(Mono.class));
+        verify(caches, never()).evictProduct(any());
+    }
+
+    @Test
+    void createConfigurations_InvalidAndRepeatedKeysFailWithoutBlockingOthers() {
+        // Arrange
+        ProductConfigurationDTO valid = configuration("max-amount", ProductConfigTypeEnum.LIMITS);
+        ProductConfigurationDTO missingKey = configuration(null, ProductConfigTypeEnum.LIMITS);
+        ProductConfigurationDTO missingType = configuration("fee", null);
+        ProductConfigurationDTO repeatedKey = configuration("max-amount", ProductConfigTypeEnum.PRICING);
+        when(configurationMapper.toEntity(any(ProductConfigurationDTO.class))).thenAnswer(invocation -> {
+            ProductConfigurationDTO dto = invocation.getArgument(0);
+            ProductConfiguration configuration = new ProductConfiguration();
+            configuration.setProductId(dto.getProductId());
+            configuration.setConfigKey(dto.getConfigKey());
+            return configuration;
+        });
+        when(configurationMapper.toDto(any(ProductConfiguration.class))).thenAnswer(invocation -> {
+            ProductConfiguration configuration = invocation.getArgument(0);
+            return ProductConfigurationDTO.builder()
+                    .productConfigurationId(configuration.getProductConfigurationId())
+                    .productId(configuration.getProductId())
+                    .configKey(configuration.getConfigKey())
+                    .build();
+        });
+        when(configurationRepository.insertAll(anyList())).thenAnswer(invocation -> Flux.fromIterable(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(service.createConfigurations(PRODUCT_ID_1,
+                        Flux.just(valid, missingKey, missingType, repeatedKey), false))
+                .assertNext(response -> {
+                    assertEquals(1, response.getSucceeded());
+                    assertEquals(3, response.getFailed());
+                    assertEquals(BatchItemStatusEnum.SUCCEEDED, response.getResults().get(0).getStatus());
+                    assertEquals("Configuration key is required", response.getResults().get(1).getError());
+                    assertEquals("Configuration type is required when creating configuration fee",
+                            response.getResults().get(2).getError());
+                    assertEquals("Configuration key max-amount appears more than once in the batch",
+                            response.getResults().get(3).getError());
+                })
+                .verifyComplete();
+
+        // The rejected items never reach the insert, so the valid one is written in a single statement
+        verify(configurationRepository).insertAll(argThat(configurations -> configurations.size() == 1));
+        verify(caches).evictConfigurations(PRODUCT_ID_1);
+    }
+
+    @Test
+    void deleteProducts_EvictsDeletedProducts() {
+        // Arrange
+        when(productRepository.deleteAllByProductIdIn(List.of(PRODUCT_ID_1, PRODUCT_ID_2)))
+                .thenReturn(Flux.just(PRODUCT_ID_1));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteProducts(Flux.just(PRODUCT_ID_1, PRODUCT_ID_2), false))
+                .assertNext(response -> {
+                    assertEquals(1, response.getSucceeded());
+                    assertEquals(BatchItemStatusEnum.SUCCEEDED, response.getResults().get(0).getStatus());
+                    assertEquals(BatchItemStatusEnum.FAILED, response.getResults().get(1).getStatus());
+                })
+                .verifyComplete();
+
+        verify(caches).evictProduct(PRODUCT_ID_1);
+        verify(caches, never()).evictProduct(PRODUCT_ID_2);
+        verifyNoInteractions(transactionalOperator);
+    }
+
+    private static ProductConfigurationDTO configuration(String configKey, ProductConfigTypeEnum configType) {
+        return ProductConfigurationDTO.builder()
+                .configKey(configKey)
+                .configType(configType)
+                .configValue("100")
+                .build();
+    }
+}
@@ -17,24 +17,34 @@
 
 package com.firefly.core.product.core.services.category.v1;
 
+import com.firefly.core.product.core.index.CategoryTreeIndex;
 import com.firefly.core.product.core.mappers.ProductCategoryMapper;
 import com.firefly.core.product.core.services.impl.ProductCategoryServiceImpl;
+import com.firefly.core.product.core.utils.CursorUtils;
 import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import com.firefly.core.product.models.entities.ProductCategory;
 import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +56,12 @@ class ProductCategoryServiceImplTest {
     @Mock
     private ProductCategoryMapper mapper;
 
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryTreeIndex treeIndex;
+
     @InjectMocks
     private ProductCategoryServiceImpl service;
 
@@ -53,6 +69,7 @@ class ProductCategoryServiceImplTest {
     private ProductCategoryDTO productCategoryDTO;
     private final UUID CATEGORY_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
     private final UUID PARENT_CATEGORY_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID CHILD_CATEGORY_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
 
     @BeforeEach
     void setUp() {
@@ -124,6 +141,7 @@ class ProductCategoryServiceImplTest {
         when(repository.findById(PARENT_CATEGORY_ID)).thenReturn(Mono.just(parentCategory));
         when(mapper.toEntity(any(ProductCategoryDTO.class))).thenReturn(productCategory);
         when(repository.save(productCategory)).thenReturn(Mono.just(productCategory));
+        when(repository.insertClosure(CATEGORY_ID, PARENT_CATEGORY_ID)).thenReturn(Mono.just(2));
         when(mapper.toDto(productCategory)).thenReturn(productCategoryDTO);
 
         // Act & Assert
@@ -134,6 +152,8 @@ class ProductCategoryServiceImplTest {
         verify(repository).findById(PARENT_CATEGORY_ID);
         verify(mapper).toEntity(any(ProductCategoryDTO.class));
         verify(repository).save(productCategory);
+        verify(repository).insertClosure(CATEGORY_ID, PARENT_CATEGORY_ID);
+        verify(treeIndex).upsert(productCategory);
         verify(mapper).toDto(productCategory);
     }
 
@@ -153,6 +173,7 @@ class ProductCategoryServiceImplTest {
 
         when(mapper.toEntity(any(ProductCategoryDTO.class))).thenReturn(rootCategory);
         when(repository.save(rootCategory)).thenReturn(Mono.just(rootCategory));
+        when(repository.insertClosure(null, null)).thenReturn(Mono.just(1));
         when(mapper.toDto(rootCategory)).thenReturn(rootCategoryDTO);
 
         // Act & Assert
@@ -163,6 +184,7 @@ class ProductCategoryServiceImplTest {
         verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toEntity(any(ProductCategoryDTO.class));
         verify(repository).save(rootCategory);
+        verify(repository).insertClosure(null, null);
         verify(mapper).toDto(rootCategory);
     }
 
@@ -185,6 +207,7 @@ class ProductCategoryServiceImplTest {
 
         verify(mapper).toEntity(any(ProductCategoryDTO.class));
         verify(repository).save(productCategory);
+        verify(repository, never()).insertClosure(any(), any());
         verify(mapper, never()).toDto(any());
     }
 
@@ -203,9 +226,12 @@ class ProductCategoryServiceImplTest {
         parentCategory.setLevel(0);
 
         when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(existingCategory));
+        when(repository.isInSubtree(CATEGORY_ID, PARENT_CATEGORY_ID)).thenReturn(Mono.just(false));
         when(repository.findById(PARENT_CATEGORY_ID)).thenReturn(Mono.just(parentCategory));
         doNothing().when(mapper).updateEntityFromDto(productCategoryDTO, existingCategory);
         when(repository.save(existingCategory)).thenReturn(Mono.just(existingCategory));
+        when(repository.detachSubtree(CATEGORY_ID)).thenReturn(Mono.just(1));
+        when(repository.attachSubtree(CATEGORY_ID, PARENT_CATEGORY_ID)).thenReturn(Mono.just(1));
         when(mapper.toDto(existingCategory)).thenReturn(productCategoryDTO);
 
         // Act & Assert
@@ -213,12 +239,98 @@ class ProductCategoryServiceImplTest {
                 .expectNext(productCategoryDTO)
                 .verifyComplete();
 
-        verify(repository, times(3)).findById(any(UUID.class)); // Once for existing, once for circular check, once for level calculation
+        verify(repository, times(2)).findById(any(UUID.class)); // Once for existing, once for level calculation
+        verify(repository).isInSubtree(CATEGORY_ID, PARENT_CATEGORY_ID);
         verify(mapper).updateEntityFromDto(productCategoryDTO, existingCategory);
         verify(repository).save(existingCategory);
+        verify(repository).detachSubtree(CATEGORY_ID);
+        verify(repository).attachSubtree(CATEGORY_ID, PARENT_CATEGORY_ID);
+        verify(repository, never()).shiftSubtreeLevels(any(), anyInt()); // Level is unchanged
         verify(mapper).toDto(existingCategory);
     }
 
+    @Test
+    void updateCategory_MoveToDeeperParent_ShiftsSubtreeLevels() {
+        // Arrange - the category moves from a root parent to a parent at level 2
+        ProductCategory existingCategory = new ProductCategory();
+        existingCategory.setProductCategoryId(CATEGORY_ID);
+        existingCategory.setParentCategoryId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999"));
+        existingCategory.setLevel(1);
+
+        ProductCategory parentCategory = new ProductCategory();
+        parentCategory.setProductCategoryId(PARENT_CATEGORY_ID);
+        parentCategory.setLevel(2);
+
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(existingCategory));
+        when(repository.isInSubtree(CATEGORY_ID, PARENT_CATEGORY_ID)).thenReturn(Mono.just(false));
+        when(repository.findById(PARENT_CATEGORY_ID)).thenReturn(Mono.just(parentCategory));
+        doNothing().when(mapper).updateEntityFromDto(productCategoryDTO, existingCategory);
+        when(repository.save(existingCategory)).thenReturn(Mono.just(existingCategory));
+        when(repository.detachSubtree(CATEGORY_ID)).thenReturn(Mono.just(2));
+        when(repository.attachSubtree(CATEGORY_ID, PARENT_CATEGORY_ID)).thenReturn(Mono.just(6));
+        when(repository.shiftSubtreeLevels(CATEGORY_ID, 2)).thenReturn(Mono.just(1));
+        when(mapper.toDto(existingCategory)).thenReturn(productCategoryDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateCategory(CATEGORY_ID, productCategoryDTO))
+                .expectNext(productCategoryDTO)
+                .verifyComplete();
+
+        verify(repository).shiftSubtreeLevels(CATEGORY_ID, 2);
+        assertEquals(3, existingCategory.getLevel());
+    }
+
+    @Test
+    void updateCategory_CircularReference_Descendant() {
+        // Arrange - the new parent lies in the subtree of the category being updated
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(productCategory));
+        when(repository.isInSubtree(CATEGORY_ID, CHILD_CATEGORY_ID)).thenReturn(Mono.just(true));
+        when(repository.findById(CHILD_CATEGORY_ID)).thenReturn(Mono.just(new ProductCategory()));
+
+        ProductCategoryDTO moveBelowChildDTO = ProductCategoryDTO.builder()
+                .parentCategoryId(CHILD_CATEGORY_ID)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.updateCategory(CATEGORY_ID, moveBelowChildDTO))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Circular reference detected"))
+                .verify();
+
+        verify(repository, never()).save(any());
+        verify(repository, never()).detachSubtree(any());
+    }
+
+    @Test
+    void updateCategory_CircularReference_IgnoresStaleTreeIndex() {
+        // Arrange - the index has not seen a just committed move yet and knows of no cycle, the database does
+        ProductCategory indexedChild = new ProductCategory();
+        indexedChild.setProductCategoryId(CHILD_CATEGORY_ID);
+        indexedChild.setLevel(2);
+
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(productCategory));
+        lenient().when(treeIndex.contains(any())).thenReturn(true);
+        lenient().when(treeIndex.isInSubtree(CATEGORY_ID, CHILD_CATEGORY_ID)).thenReturn(false);
+        lenient().when(treeIndex.find(CHILD_CATEGORY_ID)).thenReturn(Optional.of(indexedChild));
+        when(repository.isInSubtree(CATEGORY_ID, CHILD_CATEGORY_ID)).thenReturn(Mono.just(true));
+        when(repository.findById(CHILD_CATEGORY_ID)).thenReturn(Mono.just(indexedChild));
+
+        ProductCategoryDTO moveBelowChildDTO = ProductCategoryDTO.builder()
+                .parentCategoryId(CHILD_CATEGORY_ID)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.updateCategory(CATEGORY_ID, moveBelowChildDTO))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Circular reference detected"))
+                .verify();
+
+        verify(treeIndex, never()).isInSubtree(any(), any());
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void updateCategory_CircularReference_SelfParent() {
         // Arrange - trying to set a category as its own parent
@@ -238,6 +350,37 @@ class ProductCategoryServiceImplTest {
                 .verify();
     }
 
+    @Test
+    void updateCategory_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionById(CATEGORY_ID)).thenReturn(Mono.just(8L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateCategory(CATEGORY_ID, productCategoryDTO, 7L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 7 but found 8"))
+                .verify();
+
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).save(any());
+        verifyNoInteractions(treeIndex);
+    }
+
+    @Test
+    void updateCategory_WithRowVersion_MissingCategoryReportsNotFound() {
+        // Arrange
+        when(repository.lockRowVersionById(CATEGORY_ID)).thenReturn(Mono.empty());
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.updateCategory(CATEGORY_ID, productCategoryDTO, 7L))
+                .expectErrorMatches(throwable ->
+                    !(throwable instanceof OptimisticLockingFailureException) &&
+                    throwable.getMessage().contains("Category not found with ID"))
+                .verify();
+    }
+
     @Test
     void updateCategory_NotFound() {
         // Arrange
@@ -291,6 +434,7 @@ class ProductCategoryServiceImplTest {
         verify(repository).findById(CATEGORY_ID);
         verify(repository).countByParentCategoryId(CATEGORY_ID);
         verify(repository).deleteById(CATEGORY_ID);
+        verify(treeIndex).remove(CATEGORY_ID);
     }
 
     @Test
@@ -344,4 +488,117 @@ class ProductCategoryServiceImplTest {
         verify(repository).countByParentCategoryId(CATEGORY_ID);
         verify(repository).deleteById(CATEGORY_ID);
     }
+
+    @Test
+    void getCategorySubtree_Success() {
+        // Arrange
+        ProductCategoryDTO childDTO = ProductCategoryDTO.builder().productCategoryId(CHILD_CATEGORY_ID).build();
+
+        when(repository.findDtoSubtree(CATEGORY_ID)).thenReturn(Flux.just(productCategoryDTO, childDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getCategorySubtree(CATEGORY_ID))
+                .expectNext(productCategoryDTO, childDTO)
+                .verifyComplete();
+
+        verify(repository).findDtoSubtree(CATEGORY_ID);
+        verify(repository, never()).findById(any(UUID.class));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getCategorySubtree_ServedFromTreeIndex() {
+        // Arrange
+        when(treeIndex.contains(CATEGORY_ID)).thenReturn(true);
+        when(treeIndex.subtree(CATEGORY_ID)).thenReturn(List.of(productCategory));
+        when(mapper.toDto(productCategory)).thenReturn(productCategoryDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getCategorySubtree(CATEGORY_ID))
+                .expectNext(productCategoryDTO)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getCategorySubtree_NotFound() {
+        // Arrange
+        when(repository.findDtoSubtree(CATEGORY_ID)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getCategorySubtree(CATEGORY_ID))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Category not found with ID"))
+                .verify();
+    }
+
+    @Test
+    void getCategoryAncestors_Success() {
+        // Arrange
+        ProductCategoryDTO parentDTO = ProductCategoryDTO.builder().productCategoryId(PARENT_CATEGORY_ID).build();
+
+        when(repository.findDtoAncestors(CATEGORY_ID)).thenReturn(Flux.just(parentDTO, productCategoryDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getCategoryAncestors(CATEGORY_ID))
+                .expectNext(parentDTO, productCategoryDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void getProductsInCategorySubtree_ReturnsPageWithCursor() {
+        // Arrange - one row more than the page size signals another page
+        ProductDTO first = ProductDTO.builder()
+                .productId(UUID.fromString("650e8400-e29b-41d4-a716-446655440001"))
+                .build();
+        ProductDTO second = ProductDTO.builder()
+                .productId(UUID.fromString("650e8400-e29b-41d4-a716-446655440002"))
+                .build();
+
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(productCategory));
+        when(productRepository.findDtoPageInCategorySubtree(CATEGORY_ID, null, 2)).thenReturn(Flux.just(first, second));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsInCategorySubtree(CATEGORY_ID, null, 1))
+                .assertNext(page -> {
+                    assertEquals(List.of(first), page.getContent());
+                    assertTrue(page.isHasMore());
+                    assertEquals(CursorUtils.encode(first.getProductId()), page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getProductsInCategorySubtree_ResumesAfterCursor() {
+        // Arrange
+        UUID lastSeen = UUID.fromString("650e8400-e29b-41d4-a716-446655440001");
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.just(productCategory));
+        when(productRepository.findDtoPageInCategorySubtree(CATEGORY_ID, lastSeen, 11)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsInCategorySubtree(CATEGORY_ID, CursorUtils.encode(lastSeen), 10))
+                .assertNext(page -> {
+                    assertTrue(page.getContent().isEmpty());
+                    assertFalse(page.isHasMore());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getProductsInCategorySubtree_CategoryNotFound() {
+        // Arrange
+        when(repository.findById(CATEGORY_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsInCategorySubtree(CATEGORY_ID, null, null))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Category not found with ID"))
+                .verify();
+
+        verifyNoInteractions(productRepository);
+    }
 }
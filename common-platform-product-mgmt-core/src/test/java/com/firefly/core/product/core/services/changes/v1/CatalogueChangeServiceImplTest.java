@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.changes.v1;
+
+import com.firefly.core.product.core.mappers.CatalogueChangeMapper;
+import com.firefly.core.product.core.outbox.CatalogueOutboxProperties;
+import com.firefly.core.product.core.services.impl.CatalogueChangeServiceImpl;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import com.firefly.core.product.models.repositories.CatalogueChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueChangeServiceImplTest {
+
+    @Mock
+    private CatalogueChangeRepository repository;
+
+    @Mock
+    private CatalogueChangeMapper mapper;
+
+    @Spy
+    private CatalogueOutboxProperties properties = new CatalogueOutboxProperties();
+
+    @InjectMocks
+    private CatalogueChangeServiceImpl service;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mapper.toDto(any(CatalogueChange.class))).thenAnswer(invocation -> {
+            CatalogueChange change = invocation.getArgument(0);
+            return CatalogueChangeEventDTO.builder()
+                    .cursor(CursorUtils.encodeSequence(change.getSequenceNumber()))
+                    .aggregateId(change.getAggregateId())
+                    .build();
+        });
+    }
+
+    @Test
+    void getChanges_ReturnsPageAfterCursor() {
+        // Arrange
+        String since = CursorUtils.encodeSequence(10L);
+        when(repository.findPublishedAfter(10L, 3)).thenReturn(Flux.just(change(11L), change(12L), change(13L)));
+
+        // Act & Assert
+        StepVerifier.create(service.getChanges(since, 2, null))
+                .assertNext(page -> {
+                    assertEquals(2, page.getChanges().size());
+                    assertTrue(page.isHasMore());
+                    assertEquals(12L, CursorUtils.decodeSequence(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_NoChanges_KeepsPosition() {
+        // Arrange
+        String since = CursorUtils.encodeSequence(42L);
+        when(repository.findPublishedAfter(eq(42L), anyInt())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getChanges(since, null, Duration.ZERO))
+                .assertNext(page -> {
+                    assertTrue(page.getChanges().isEmpty());
+                    assertFalse(page.isHasMore());
+                    assertEquals(since, page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_LongPoll_ReturnsOnceChangesArePublished() {
+        // Arrange
+        properties.setPollInterval(Duration.ofMillis(10));
+        when(repository.findPublishedAfter(0L, CursorUtils.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(change(1L)));
+
+        // Act & Assert
+        StepVerifier.create(service.getChanges(null, null, Duration.ofSeconds(5)))
+                .assertNext(page -> assertEquals(1, page.getChanges().size()))
+                .verifyComplete();
+
+        verify(repository, times(2)).findPublishedAfter(0L, CursorUtils.DEFAULT_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void getChanges_InvalidCursor_Error() {
+        // Act & Assert
+        StepVerifier.create(service.getChanges("not-a-cursor", null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void streamChanges_FollowsNewChanges() {
+        // Arrange
+        properties.setPollInterval(Duration.ofMillis(10));
+        when(repository.findPublishedAfter(0L, CursorUtils.MAX_PAGE_SIZE)).thenReturn(Flux.just(change(1L)));
+        when(repository.findPublishedAfter(1L, CursorUtils.MAX_PAGE_SIZE))
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(change(2L)));
+        lenient().when(repository.findPublishedAfter(2L, CursorUtils.MAX_PAGE_SIZE)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.streamChanges(null).take(2))
+                .assertNext(change -> assertEquals(1L, CursorUtils.decodeSequence(change.getCursor())))
+                .assertNext(change -> assertEquals(2L, CursorUtils.decodeSequence(change.getCursor())))
+                .verifyComplete();
+    }
+
+    private CatalogueChange change(long sequence) {
+        CatalogueChange change = new CatalogueChange();
+        change.setEventId(sequence);
+        change.setSequenceNumber(sequence);
+        change.setAggregateId(PRODUCT_ID);
+        return change;
+    }
+}
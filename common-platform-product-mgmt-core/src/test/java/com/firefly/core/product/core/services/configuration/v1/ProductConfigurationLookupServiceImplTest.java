@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.configuration.v1;
+
+import com.firefly.core.product.core.configuration.ConfigurationLookupProperties;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.services.impl.ProductConfigurationLookupServiceImpl;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupRequestDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductConfigurationLookupServiceImplTest {
+
+    @Mock
+    private ProductConfigurationRepository repository;
+
+    @Mock
+    private ProductConfigurationMapper mapper;
+
+    @Spy
+    private ConfigurationLookupProperties properties = new ConfigurationLookupProperties();
+
+    @InjectMocks
+    private ProductConfigurationLookupServiceImpl service;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID OTHER_PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @Test
+    void lookup_GroupsValuesByProductAndKey() {
+        // Arrange
+        ConfigurationLookupRequestDTO request = ConfigurationLookupRequestDTO.builder()
+                .productIds(List.of(PRODUCT_ID, OTHER_PRODUCT_ID, PRODUCT_ID))
+                .configKeys(List.of("monthly.fee", "annual.fee"))
+                .configTypes(List.of(ProductConfigTypeEnum.PRICING))
+                .build();
+        when(repository.findByProductIdsAndKeys(
+                aryEq(new UUID[]{PRODUCT_ID, OTHER_PRODUCT_ID}),
+                aryEq(new String[]{"monthly.fee", "annual.fee"}),
+                aryEq(new ProductConfigTypeEnum[]{ProductConfigTypeEnum.PRICING})))
+                .thenReturn(Flux.just(
+                        configuration(PRODUCT_ID, "annual.fee", "0"),
+                        configuration(PRODUCT_ID, "monthly.fee", "4.99"),
+                        configuration(OTHER_PRODUCT_ID, "monthly.fee", "9.99")));
+
+        // Act & Assert
+        StepVerifier.create(service.lookup(request))
+                .assertNext(response -> {
+                    Map<UUID, Map<String, String>> configurations = response.getConfigurations();
+                    assertEquals(2, configurations.size());
+                    assertEquals(Map.of("annual.fee", "0", "monthly.fee", "4.99"), configurations.get(PRODUCT_ID));
+                    assertEquals(Map.of("monthly.fee", "9.99"), configurations.get(OTHER_PRODUCT_ID));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void lookup_EmptySelectionsMatchEverything() {
+        // Arrange
+        ConfigurationLookupRequestDTO request = ConfigurationLookupRequestDTO.builder()
+                .productIds(List.of(PRODUCT_ID))
+                .build();
+        when(repository.findByProductIdsAndKeys(any(), any(), any())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.lookup(request))
+                .assertNext(response -> assertTrue(response.getConfigurations().isEmpty()))
+                .verifyComplete();
+        verify(repository).findByProductIdsAndKeys(
+                aryEq(new UUID[]{PRODUCT_ID}), aryEq(new String[0]), aryEq(new ProductConfigTypeEnum[0]));
+    }
+
+    @Test
+    void lookup_WithoutProducts_Error() {
+        // Arrange
+        ConfigurationLookupRequestDTO request = ConfigurationLookupRequestDTO.builder()
+                .configKeys(List.of("monthly.fee"))
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.lookup(request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void lookup_TooManyProducts_Error() {
+        // Arrange
+        properties.setMaxProducts(1);
+        ConfigurationLookupRequestDTO request = ConfigurationLookupRequestDTO.builder()
+                .productIds(List.of(PRODUCT_ID, OTHER_PRODUCT_ID))
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.lookup(request))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().contains("max 1"))
+                .verify();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void streamLookup_EmitsMappedRows() {
+        // Arrange
+        ConfigurationLookupRequestDTO request = ConfigurationLookupRequestDTO.builder()
+                .productIds(Arrays.asList(PRODUCT_ID, null))
+                .build();
+        ProductConfiguration entity = configuration(PRODUCT_ID, "monthly.fee", "4.99");
+        ProductConfigurationDTO dto = ProductConfigurationDTO.builder()
+                .productId(PRODUCT_ID)
+                .configKey("monthly.fee")
+                .configValue("4.99")
+                .build();
+        when(repository.findByProductIdsAndKeys(aryEq(new UUID[]{PRODUCT_ID}), any(), any()))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        // Act & Assert
+        StepVerifier.create(service.streamLookup(request))
+                .expectNext(dto)
+                .verifyComplete();
+    }
+
+    private ProductConfiguration configuration(UUID productId, String key, String value) {
+        ProductConfiguration configuration = new ProductConfiguration();
+        configuration.setProductConfigurationId(UUID.randomUUID());
+        configuration.setProductId(productId);
+        configuration.setConfigType(ProductConfigTypeEnum.PRICING);
+        configuration.setConfigKey(key);
+        configuration.setConfigValue(value);
+        return configuration;
+    }
+}
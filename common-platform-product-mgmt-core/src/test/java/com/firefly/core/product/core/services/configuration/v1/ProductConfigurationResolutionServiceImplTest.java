@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.configuration.v1;
+
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.configuration.ResolvedProductConfiguration;
+import com.firefly.core.product.core.services.impl.ProductConfigurationResolutionServiceImpl;
+import com.firefly.core.product.interfaces.enums.ConfigValueTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductConfigurationResolutionServiceImplTest {
+
+    @Mock
+    private ProductConfigurationRepository repository;
+
+    @Spy
+    private ProductCaches caches = new ProductCaches(
+            new ProductCacheProperties(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @InjectMocks
+    private ProductConfigurationResolutionServiceImpl service;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @Test
+    void resolve_ParsesEveryValueType() {
+        // Arrange
+        when(repository.findByProductId(PRODUCT_ID)).thenReturn(Flux.just(
+                configuration(ProductConfigTypeEnum.FEATURES, "contactless", "TRUE"),
+                configuration(ProductConfigTypeEnum.LIMITS, "daily.withdrawals", "5"),
+                configuration(ProductConfigTypeEnum.PRICING, "monthly.fee", "4.99"),
+                configuration(ProductConfigTypeEnum.LIMITS, "session.timeout", "PT15M"),
+                configuration(ProductConfigTypeEnum.CUSTOM, "tiers", "[{\"from\":0,\"rate\":0.5}]"),
+                configuration(ProductConfigTypeEnum.CUSTOM, "label", "Premium")));
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(PRODUCT_ID))
+                .assertNext(resolved -> {
+                    assertEquals(Optional.of(true), resolved.getBoolean(ProductConfigTypeEnum.FEATURES, "contactless"));
+                    assertEquals(Optional.of(5L), resolved.getInteger(ProductConfigTypeEnum.LIMITS, "daily.withdrawals"));
+                    assertEquals(Optional.of(new BigDecimal("4.99")), resolved.getDecimal(ProductConfigTypeEnum.PRICING, "monthly.fee"));
+                    assertEquals(Optional.of(Duration.ofMinutes(15)), resolved.getDuration(ProductConfigTypeEnum.LIMITS, "session.timeout"));
+                    assertEquals(0.5, resolved.getJson(ProductConfigTypeEnum.CUSTOM, "tiers").orElseThrow().get(0).get("rate").asDouble());
+                    assertEquals(Optional.of("Premium"), resolved.getString(ProductConfigTypeEnum.CUSTOM, "label"));
+                    assertEquals(ConfigValueTypeEnum.STRING,
+                            resolved.get(ProductConfigTypeEnum.CUSTOM, "label").orElseThrow().type());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void resolve_TypedGettersRejectOtherTypes() {
+        // Arrange
+        when(repository.findByProductId(PRODUCT_ID)).thenReturn(Flux.just(
+                configuration(ProductConfigTypeEnum.LIMITS, "daily.withdrawals", "5"),
+                configuration(ProductConfigTypeEnum.CUSTOM, "label", "Premium")));
+
+        // Act
+        ResolvedProductConfiguration resolved = service.resolve(PRODUCT_ID).block();
+
+        // Assert
+        assertNotNull(resolved);
+        assertEquals(Optional.of(BigDecimal.valueOf(5)), resolved.getDecimal(ProductConfigTypeEnum.LIMITS, "daily.withdrawals"));
+        assertThrows(IllegalStateException.class, () -> resolved.getBoolean(ProductConfigTypeEnum.CUSTOM, "label"));
+        assertTrue(resolved.getInteger(ProductConfigTypeEnum.PRICING, "daily.withdrawals").isEmpty());
+    }
+
+    @Test
+    void resolve_SecondCallServedFromCacheUntilEvicted() {
+        // Arrange
+        when(repository.findByProductId(PRODUCT_ID)).thenReturn(Flux.just(
+                configuration(ProductConfigTypeEnum.PRICING, "monthly.fee", "4.99")));
+
+        // Act
+        service.resolve(PRODUCT_ID).block();
+        service.resolve(PRODUCT_ID).block();
+        caches.evictConfigurations(PRODUCT_ID);
+        service.resolve(PRODUCT_ID).block();
+
+        // Assert
+        verify(repository, times(2)).findByProductId(PRODUCT_ID);
+    }
+
+    @Test
+    void getResolvedConfigurations_GroupsByTypeAndKey() {
+        // Arrange
+        when(repository.findByProductId(PRODUCT_ID)).thenReturn(Flux.just(
+                configuration(ProductConfigTypeEnum.PRICING, "monthly.fee", "4.99"),
+                configuration(ProductConfigTypeEnum.PRICING, "annual.fee", "0")));
+
+        // Act & Assert
+        StepVerifier.create(service.getResolvedConfigurations(PRODUCT_ID))
+                .assertNext(dto -> {
+                    assertEquals(PRODUCT_ID, dto.getProductId());
+                    assertEquals(1, dto.getConfigurations().size());
+                    assertEquals(ConfigValueTypeEnum.DECIMAL,
+                            dto.getConfigurations().get(ProductConfigTypeEnum.PRICING).get("monthly.fee").getValueType());
+                    assertEquals(0L, dto.getConfigurations().get(ProductConfigTypeEnum.PRICING).get("annual.fee").getValue());
+                    assertEquals("4.99", dto.getConfigurations().get(ProductConfigTypeEnum.PRICING).get("monthly.fee").getRawValue());
+                })
+                .verifyComplete();
+    }
+
+    private ProductConfiguration configuration(ProductConfigTypeEnum type, String key, String value) {
+        ProductConfiguration configuration = new ProductConfiguration();
+        configuration.setProductConfigurationId(UUID.randomUUID());
+        configuration.setProductId(PRODUCT_ID);
+        configuration.setConfigType(type);
+        configuration.setConfigKey(key);
+        configuration.setConfigValue(value);
+        return configuration;
+    }
+}
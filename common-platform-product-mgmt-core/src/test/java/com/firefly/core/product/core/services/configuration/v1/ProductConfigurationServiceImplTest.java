@@ -29,11 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -202,27 +204,26 @@ class ProductConfigurationServiceImplTest {
 
     @Test
     void getConfigurationsByType_Success() {
-        when(repository.findByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.LIMITS))
-                .thenReturn(Flux.just(config));
-        when(mapper.toDto(config)).thenReturn(configDTO);
+        when(repository.findDtosByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.LIMITS))
+                .thenReturn(Flux.just(configDTO));
 
         StepVerifier.create(service.getConfigurationsByType(PRODUCT_ID, ProductConfigTypeEnum.LIMITS))
                 .expectNext(configDTO)
                 .verifyComplete();
 
-        verify(repository).findByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.LIMITS);
-        verify(mapper).toDto(config);
+        verify(repository).findDtosByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.LIMITS);
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void getConfigurationsByType_Empty() {
-        when(repository.findByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.PRICING))
+        when(repository.findDtosByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.PRICING))
                 .thenReturn(Flux.empty());
 
         StepVerifier.create(service.getConfigurationsByType(PRODUCT_ID, ProductConfigTypeEnum.PRICING))
                 .verifyComplete();
 
-        verify(repository).findByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.PRICING);
+        verify(repository).findDtosByProductIdAndConfigType(PRODUCT_ID, ProductConfigTypeEnum.PRICING);
         verify(mapper, never()).toDto(any());
     }
 
@@ -234,21 +235,59 @@ class ProductConfigurationServiceImplTest {
                 .configValue("20000")
                 .build();
 
-        when(repository.findById(CONFIG_ID)).thenReturn(Mono.just(config));
-        doNothing().when(mapper).updateEntityFromDto(updateRequest, config);
-        when(repository.save(config)).thenReturn(Mono.just(config));
+        when(mapper.toEntity(updateRequest)).thenReturn(config);
+        when(repository.updateAllOfProduct(PRODUCT_ID, List.of(config))).thenReturn(Flux.just(config));
         when(mapper.toDto(config)).thenReturn(updateRequest);
 
         StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, updateRequest))
                 .expectNext(updateRequest)
                 .verifyComplete();
 
-        verify(repository).findById(CONFIG_ID);
-        verify(mapper).updateEntityFromDto(updateRequest, config);
-        verify(repository).save(config);
+        verify(repository).updateAllOfProduct(PRODUCT_ID, List.of(config));
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(config);
     }
 
+    @Test
+    void updateConfiguration_MatchingRowVersion_Updates() {
+        when(repository.lockRowVersionForProduct(CONFIG_ID, PRODUCT_ID)).thenReturn(Mono.just(3L));
+        when(mapper.toEntity(configDTO)).thenReturn(config);
+        when(repository.updateAllOfProduct(PRODUCT_ID, List.of(config))).thenReturn(Flux.just(config));
+        when(mapper.toDto(config)).thenReturn(configDTO);
+
+        StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, configDTO, 3L))
+                .expectNext(configDTO)
+                .verifyComplete();
+
+        verify(repository).updateAllOfProduct(PRODUCT_ID, List.of(config));
+    }
+
+    @Test
+    void updateConfiguration_StaleRowVersion_Conflict() {
+        when(repository.lockRowVersionForProduct(CONFIG_ID, PRODUCT_ID)).thenReturn(Mono.just(4L));
+
+        StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, configDTO, 3L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 3 but found 4"))
+                .verify();
+
+        verify(repository, never()).updateAllOfProduct(any(), any());
+        verify(mapper, never()).toEntity(any(ProductConfigurationDTO.class));
+    }
+
+    @Test
+    void updateConfiguration_UnmatchableRowVersion_Conflict() {
+        // A weak or malformed If-Match tag arrives as -1, which no stored row version equals
+        when(repository.lockRowVersionForProduct(CONFIG_ID, PRODUCT_ID)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, configDTO, -1L))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+
+        verify(repository, never()).updateAllOfProduct(any(), any());
+    }
+
     @Test
     void updateConfiguration_NotFound() {
         ProductConfigurationDTO updateRequest = ProductConfigurationDTO.builder()
@@ -257,6 +296,8 @@ class ProductConfigurationServiceImplTest {
                 .configValue("20000")
                 .build();
 
+        when(mapper.toEntity(updateRequest)).thenReturn(config);
+        when(repository.updateAllOfProduct(PRODUCT_ID, List.of(config))).thenReturn(Flux.empty());
         when(repository.findById(CONFIG_ID)).thenReturn(Mono.empty());
 
         StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, updateRequest))
@@ -266,7 +307,6 @@ class ProductConfigurationServiceImplTest {
                 .verify();
 
         verify(repository).findById(CONFIG_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
@@ -283,6 +323,8 @@ class ProductConfigurationServiceImplTest {
         configFromDifferentProduct.setProductConfigurationId(CONFIG_ID);
         configFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999"));
 
+        when(mapper.toEntity(updateRequest)).thenReturn(config);
+        when(repository.updateAllOfProduct(PRODUCT_ID, List.of(config))).thenReturn(Flux.empty());
         when(repository.findById(CONFIG_ID)).thenReturn(Mono.just(configFromDifferentProduct));
 
         StepVerifier.create(service.updateConfiguration(PRODUCT_ID, CONFIG_ID, updateRequest))
@@ -292,25 +334,24 @@ class ProductConfigurationServiceImplTest {
                 .verify();
 
         verify(repository).findById(CONFIG_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
 
     @Test
     void deleteConfiguration_Success() {
-        when(repository.findById(CONFIG_ID)).thenReturn(Mono.just(config));
-        when(repository.deleteById(CONFIG_ID)).thenReturn(Mono.empty());
+        when(repository.deleteAllOfProduct(PRODUCT_ID, List.of(CONFIG_ID))).thenReturn(Flux.just(CONFIG_ID));
 
         StepVerifier.create(service.deleteConfiguration(PRODUCT_ID, CONFIG_ID))
                 .verifyComplete();
 
-        verify(repository).findById(CONFIG_ID);
-        verify(repository).deleteById(CONFIG_ID);
+        verify(repository).deleteAllOfProduct(PRODUCT_ID, List.of(CONFIG_ID));
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
     void deleteConfiguration_NotFound() {
+        when(repository.deleteAllOfProduct(PRODUCT_ID, List.of(CONFIG_ID))).thenReturn(Flux.empty());
         when(repository.findById(CONFIG_ID)).thenReturn(Mono.empty());
 
         StepVerifier.create(service.deleteConfiguration(PRODUCT_ID, CONFIG_ID))
@@ -329,6 +370,7 @@ class ProductConfigurationServiceImplTest {
         configFromDifferentProduct.setProductConfigurationId(CONFIG_ID);
         configFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999"));
 
+        when(repository.deleteAllOfProduct(PRODUCT_ID, List.of(CONFIG_ID))).thenReturn(Flux.empty());
         when(repository.findById(CONFIG_ID)).thenReturn(Mono.just(configFromDifferentProduct));
 
         StepVerifier.create(service.deleteConfiguration(PRODUCT_ID, CONFIG_ID))
@@ -340,5 +382,33 @@ class ProductConfigurationServiceImplTest {
         verify(repository).findById(CONFIG_ID);
         verify(repository, never()).deleteById(any(UUID.class));
     }
-}
 
+    @Test
+    void upsertConfigurationByKey_Success() {
+        when(repository.upsertByKey(PRODUCT_ID, CONFIG_KEY, ProductConfigTypeEnum.LIMITS, CONFIG_VALUE))
+                .thenReturn(Mono.just(config));
+        when(mapper.toDto(config)).thenReturn(configDTO);
+
+        StepVerifier.create(service.upsertConfigurationByKey(PRODUCT_ID, CONFIG_KEY, configDTO))
+                .expectNext(configDTO)
+                .verifyComplete();
+
+        verify(repository).upsertByKey(PRODUCT_ID, CONFIG_KEY, ProductConfigTypeEnum.LIMITS, CONFIG_VALUE);
+        verify(repository, never()).findByProductIdAndConfigKey(any(), any());
+    }
+
+    @Test
+    void upsertConfigurationByKey_MissingType() {
+        ProductConfigurationDTO withoutType = ProductConfigurationDTO.builder()
+                .configValue(CONFIG_VALUE)
+                .build();
+
+        StepVerifier.create(service.upsertConfigurationByKey(PRODUCT_ID, CONFIG_KEY, withoutType))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Configuration type is required"))
+                .verify();
+
+        verify(repository, never()).upsertByKey(any(), any(), any(), any());
+    }
+}
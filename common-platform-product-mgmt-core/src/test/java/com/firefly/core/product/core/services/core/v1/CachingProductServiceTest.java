@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.core.v1;
+
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.services.impl.CachingProductService;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductServiceTest {
+
+    @Mock
+    private ProductService delegate;
+
+    @Spy
+    private ProductCaches caches = new ProductCaches(
+            new ProductCacheProperties(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @InjectMocks
+    private CachingProductService service;
+
+    private ProductDTO productDTO;
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @BeforeEach
+    void setUp() {
+        productDTO = ProductDTO.builder()
+                .productId(PRODUCT_ID)
+                .productName("Test Product")
+                .build();
+    }
+
+    @Test
+    void getProductById_SecondCallServedFromCache() {
+        // Arrange
+        when(delegate.getProductById(PRODUCT_ID)).thenReturn(Mono.just(productDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductById(PRODUCT_ID))
+                .expectNext(productDTO)
+                .verifyComplete();
+        StepVerifier.create(service.getProductById(PRODUCT_ID))
+                .expectNext(productDTO)
+                .verifyComplete();
+
+        verify(delegate, times(1)).getProductById(PRODUCT_ID);
+    }
+
+    @Test
+    void getProductById_ConcurrentMissesShareOneLoad() {
+        // Arrange - the load stays pending until both callers have subscribed
+        Sinks.One<ProductDTO> pending = Sinks.one();
+        when(delegate.getProductById(PRODUCT_ID)).thenReturn(pending.asMono());
+
+        // Act
+        Mono<ProductDTO> first = service.getProductById(PRODUCT_ID).cache();
+        Mono<ProductDTO> second = service.getProductById(PRODUCT_ID).cache();
+        first.subscribe();
+        second.subscribe();
+        pending.tryEmitValue(productDTO);
+
+        // Assert
+        StepVerifier.create(first).expectNext(productDTO).verifyComplete();
+        StepVerifier.create(second).expectNext(productDTO).verifyComplete();
+        verify(delegate, times(1)).getProductById(PRODUCT_ID);
+    }
+
+    @Test
+    void getProductById_ErrorIsNotCached() {
+        // Arrange
+        when(delegate.getProductById(PRODUCT_ID))
+                .thenReturn(Mono.error(new RuntimeException("Product not found with ID: " + PRODUCT_ID)))
+                .thenReturn(Mono.just(productDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductById(PRODUCT_ID))
+                .expectErrorMatches(throwable -> throwable.getMessage().contains("Product not found"))
+                .verify();
+        StepVerifier.create(service.getProductById(PRODUCT_ID))
+                .expectNext(productDTO)
+                .verifyComplete();
+
+        verify(delegate, times(2)).getProductById(PRODUCT_ID);
+    }
+
+    @Test
+    void updateProduct_EvictsCachedProduct() {
+        // Arrange
+        ProductDTO updatedDTO = ProductDTO.builder().productId(PRODUCT_ID).productName("Updated").build();
+        when(delegate.getProductById(PRODUCT_ID))
+                .thenReturn(Mono.just(productDTO))
+                .thenReturn(Mono.just(updatedDTO));
+        when(delegate.updateProduct(PRODUCT_ID, updatedDTO)).thenReturn(Mono.just(updatedDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductById(PRODUCT_ID)).expectNext(productDTO).verifyComplete();
+        StepVerifier.create(service.updateProduct(PRODUCT_ID, updatedDTO)).expectNext(updatedDTO).verifyComplete();
+        StepVerifier.create(service.getProductById(PRODUCT_ID)).expectNext(updatedDTO).verifyComplete();
+
+        verify(delegate, times(2)).getProductById(PRODUCT_ID);
+    }
+
+    @Test
+    void getProductRowVersion_EvictsCachedProductOfAnotherVersion() {
+        // Arrange - the cached product is older than the row the conditional read compared with
+        ProductDTO cachedDTO = ProductDTO.builder().productId(PRODUCT_ID).productName("Old").rowVersion(3L).build();
+        ProductDTO currentDTO = ProductDTO.builder().productId(PRODUCT_ID).productName("New").rowVersion(4L).build();
+        when(delegate.getProductById(PRODUCT_ID))
+                .thenReturn(Mono.just(cachedDTO))
+                .thenReturn(Mono.just(currentDTO));
+        when(delegate.getProductRowVersion(PRODUCT_ID)).thenReturn(Mono.just(4L));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductById(PRODUCT_ID)).expectNext(cachedDTO).verifyComplete();
+        StepVerifier.create(service.getProductRowVersion(PRODUCT_ID)).expectNext(4L).verifyComplete();
+        StepVerifier.create(service.getProductById(PRODUCT_ID)).expectNext(currentDTO).verifyComplete();
+        StepVerifier.create(service.getProductRowVersion(PRODUCT_ID)).expectNext(4L).verifyComplete();
+        StepVerifier.create(service.getProductById(PRODUCT_ID)).expectNext(currentDTO).verifyComplete();
+
+        verify(delegate, times(2)).getProductById(PRODUCT_ID);
+    }
+
+    @Test
+    void deleteProduct_EvictsProductScopedEntries() {
+        // Arrange
+        when(delegate.deleteProduct(PRODUCT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.deleteProduct(PRODUCT_ID))
+                .verifyComplete();
+
+        verify(caches).evictProduct(PRODUCT_ID);
+    }
+}
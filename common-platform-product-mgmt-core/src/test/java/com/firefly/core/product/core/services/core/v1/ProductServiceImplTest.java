@@ -17,8 +17,10 @@
 
 package com.firefly.core.product.core.services.core.v1;
 
+import com.firefly.core.product.core.lookup.ProductLookupProperties;
 import com.firefly.core.product.core.mappers.ProductMapper;
 import com.firefly.core.product.core.services.impl.ProductServiceImpl;
+import com.firefly.core.product.core.utils.CursorUtils;
 import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
 import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
@@ -29,12 +31,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +56,9 @@ class ProductServiceImplTest {
     @Mock
     private ProductMapper mapper;
 
+    @Spy
+    private ProductLookupProperties lookupProperties = new ProductLookupProperties();
+
     @InjectMocks
     private ProductServiceImpl service;
 
@@ -164,6 +174,34 @@ class ProductServiceImplTest {
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    void getProductsByIds_ReadsDistinctIdsWithOneQuery() {
+        // Arrange
+        when(repository.findDtosByProductIdIn(List.of(PRODUCT_ID))).thenReturn(Flux.just(productDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsByIds(Arrays.asList(PRODUCT_ID, null, PRODUCT_ID)))
+                .expectNext(productDTO)
+                .verifyComplete();
+
+        verify(repository).findDtosByProductIdIn(List.of(PRODUCT_ID));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getProductsByIds_TooManyIds_Fails() {
+        // Arrange
+        lookupProperties.setMaxProducts(1);
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsByIds(List.of(PRODUCT_ID, CATEGORY_ID)))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException
+                        && throwable.getMessage().contains("Too many product IDs"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void updateProduct_Success() {
         // Arrange
@@ -174,9 +212,8 @@ class ProductServiceImplTest {
         LocalDateTime createdDate = LocalDateTime.now().minusDays(1);
         existingProduct.setDateCreated(createdDate);
 
-        when(repository.findById(PRODUCT_ID)).thenReturn(Mono.just(existingProduct));
-        doNothing().when(mapper).updateEntityFromDto(productDTO, existingProduct);
-        when(repository.save(existingProduct)).thenReturn(Mono.just(existingProduct));
+        when(mapper.toEntity(productDTO)).thenReturn(existingProduct);
+        when(repository.updateAll(List.of(existingProduct))).thenReturn(Flux.just(existingProduct));
         when(mapper.toDto(existingProduct)).thenReturn(productDTO);
 
         // Act & Assert
@@ -184,16 +221,16 @@ class ProductServiceImplTest {
                 .expectNext(productDTO)
                 .verifyComplete();
 
-        verify(repository).findById(PRODUCT_ID);
-        verify(mapper).updateEntityFromDto(productDTO, existingProduct);
-        verify(repository).save(existingProduct);
+        verify(repository).updateAll(List.of(existingProduct));
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(existingProduct);
     }
 
     @Test
     void updateProduct_NotFound() {
         // Arrange
-        when(repository.findById(PRODUCT_ID)).thenReturn(Mono.empty());
+        when(mapper.toEntity(productDTO)).thenReturn(product);
+        when(repository.updateAll(List.of(product))).thenReturn(Flux.empty());
 
         // Act & Assert
         StepVerifier.create(service.updateProduct(PRODUCT_ID, productDTO))
@@ -202,30 +239,91 @@ class ProductServiceImplTest {
                     throwable.getMessage().contains("Product not found with ID"))
                 .verify();
 
-        verify(repository).findById(PRODUCT_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    void updateProduct_MatchingRowVersion_Updates() {
+        // Arrange
+        when(repository.lockRowVersionById(PRODUCT_ID)).thenReturn(Mono.just(3L));
+        when(mapper.toEntity(productDTO)).thenReturn(product);
+        when(repository.updateAll(List.of(product))).thenReturn(Flux.just(product));
+        when(mapper.toDto(product)).thenReturn(productDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateProduct(PRODUCT_ID, productDTO, 3L))
+                .expectNext(productDTO)
+                .verifyComplete();
+
+        verify(repository).updateAll(List.of(product));
+    }
+
+    @Test
+    void updateProduct_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionById(PRODUCT_ID)).thenReturn(Mono.just(4L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateProduct(PRODUCT_ID, productDTO, 3L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 3 but found 4"))
+                .verify();
+
+        verify(repository, never()).updateAll(any());
+        verify(mapper, never()).toEntity(any(ProductDTO.class));
+    }
+
+    @Test
+    void updateProduct_WithoutRowVersion_SkipsCheck() {
+        // Arrange
+        Mono<Long> lock = Mono.fromCallable(() -> {
+            throw new AssertionError("Row version must not be read without If-Match");
+        });
+        when(repository.lockRowVersionById(PRODUCT_ID)).thenReturn(lock);
+        when(mapper.toEntity(productDTO)).thenReturn(product);
+        when(repository.updateAll(List.of(product))).thenReturn(Flux.just(product));
+        when(mapper.toDto(product)).thenReturn(productDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateProduct(PRODUCT_ID, productDTO, null))
+                .expectNext(productDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateProduct_RowVersionOfMissingProduct_NotFound() {
+        // Arrange
+        when(repository.lockRowVersionById(PRODUCT_ID)).thenReturn(Mono.empty());
+        when(mapper.toEntity(productDTO)).thenReturn(product);
+        when(repository.updateAll(List.of(product))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.updateProduct(PRODUCT_ID, productDTO, 3L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof RuntimeException &&
+                    throwable.getMessage().contains("Product not found with ID"))
+                .verify();
+    }
+
     @Test
     void deleteProduct_Success() {
         // Arrange
-        when(repository.findById(PRODUCT_ID)).thenReturn(Mono.just(product));
-        when(repository.deleteById(PRODUCT_ID)).thenReturn(Mono.empty());
+        when(repository.deleteAllByProductIdIn(List.of(PRODUCT_ID))).thenReturn(Flux.just(PRODUCT_ID));
 
         // Act & Assert
         StepVerifier.create(service.deleteProduct(PRODUCT_ID))
                 .verifyComplete();
 
-        verify(repository).findById(PRODUCT_ID);
-        verify(repository).deleteById(PRODUCT_ID);
+        verify(repository).deleteAllByProductIdIn(List.of(PRODUCT_ID));
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
     void deleteProduct_NotFound() {
         // Arrange
-        when(repository.findById(PRODUCT_ID)).thenReturn(Mono.empty());
+        when(repository.deleteAllByProductIdIn(List.of(PRODUCT_ID))).thenReturn(Flux.empty());
 
         // Act & Assert
         StepVerifier.create(service.deleteProduct(PRODUCT_ID))
@@ -234,7 +332,6 @@ class ProductServiceImplTest {
                     throwable.getMessage().contains("Product not found with ID"))
                 .verify();
 
-        verify(repository).findById(PRODUCT_ID);
         verify(repository, never()).deleteById(any(UUID.class));
     }
 
@@ -263,29 +360,101 @@ class ProductServiceImplTest {
 
     @Test
     void getProductsByTenantId_Success() {
-        // Arrange
-        when(repository.findByTenantId(TENANT_ID)).thenReturn(reactor.core.publisher.Flux.just(product));
-        when(mapper.toDto(product)).thenReturn(productDTO);
+        // Arrange - rows are projected straight into DTOs, without the mapper
+        when(repository.findDtosByTenantId(TENANT_ID)).thenReturn(reactor.core.publisher.Flux.just(productDTO));
 
         // Act & Assert
         StepVerifier.create(service.getProductsByTenantId(TENANT_ID))
                 .expectNext(productDTO)
                 .verifyComplete();
 
-        verify(repository).findByTenantId(TENANT_ID);
-        verify(mapper).toDto(product);
+        verify(repository).findDtosByTenantId(TENANT_ID);
+        verifyNoInteractions(mapper);
     }
 
     @Test
     void getProductsByTenantId_Empty() {
         // Arrange
-        when(repository.findByTenantId(TENANT_ID)).thenReturn(reactor.core.publisher.Flux.empty());
+        when(repository.findDtosByTenantId(TENANT_ID)).thenReturn(reactor.core.publisher.Flux.empty());
 
         // Act & Assert
         StepVerifier.create(service.getProductsByTenantId(TENANT_ID))
                 .verifyComplete();
 
-        verify(repository).findByTenantId(TENANT_ID);
+        verify(repository).findDtosByTenantId(TENANT_ID);
         verify(mapper, never()).toDto(any());
     }
+
+    @Test
+    void getProductsByTenantIdPage_FirstPage_HasMore() {
+        // Arrange - one extra row is fetched to detect the next page
+        ProductDTO second = ProductDTO.builder()
+                .productId(UUID.fromString("550e8400-e29b-41d4-a716-446655440004"))
+                .build();
+        when(repository.findDtoPageByTenantId(TENANT_ID, null, 2)).thenReturn(Flux.just(productDTO, second));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsByTenantId(TENANT_ID, null, 1))
+                .expectNextMatches(page ->
+                    page.getContent().size() == 1 &&
+                    page.getContent().get(0).equals(productDTO) &&
+                    page.isHasMore() &&
+                    CursorUtils.encode(PRODUCT_ID).equals(page.getNextCursor()) &&
+                    page.getPageSize() == 1)
+                .verifyComplete();
+
+        verify(repository).findDtoPageByTenantId(TENANT_ID, null, 2);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getProductsByTenantIdPage_WithCursor_LastPage() {
+        // Arrange
+        UUID after = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        when(repository.findDtoPageByTenantId(TENANT_ID, after, CursorUtils.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(Flux.just(productDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductsByTenantId(TENANT_ID, CursorUtils.encode(after), null))
+                .expectNextMatches(page ->
+                    page.getContent().size() == 1 &&
+                    !page.isHasMore() &&
+                    page.getNextCursor() == null)
+                .verifyComplete();
+
+        verify(repository).findDtoPageByTenantId(TENANT_ID, after, CursorUtils.DEFAULT_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void getProductsByTenantIdPage_InvalidCursor() {
+        // Act & Assert
+        StepVerifier.create(service.getProductsByTenantId(TENANT_ID, "not-a-cursor", 10))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof IllegalArgumentException &&
+                    throwable.getMessage().contains("Invalid cursor token"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void streamProductsByTenantId_FetchesBatchesUntilExhausted() {
+        // Arrange - a full batch triggers a follow-up keyset query, a short batch ends the stream
+        ProductDTO secondDTO = ProductDTO.builder()
+                .productId(UUID.fromString("550e8400-e29b-41d4-a716-446655440004"))
+                .build();
+
+        when(repository.findDtoPageByTenantId(TENANT_ID, null, 1)).thenReturn(Flux.just(productDTO));
+        when(repository.findDtoPageByTenantId(TENANT_ID, PRODUCT_ID, 1)).thenReturn(Flux.just(secondDTO));
+        when(repository.findDtoPageByTenantId(TENANT_ID, secondDTO.getProductId(), 1)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.streamProductsByTenantId(TENANT_ID, null, 1))
+                .expectNext(productDTO, secondDTO)
+                .verifyComplete();
+
+        verify(repository).findDtoPageByTenantId(TENANT_ID, null, 1);
+        verify(repository).findDtoPageByTenantId(TENANT_ID, PRODUCT_ID, 1);
+        verify(repository).findDtoPageByTenantId(TENANT_ID, secondDTO.getProductId(), 1);
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.delta.v1;
+
+import com.firefly.core.product.core.delta.DeltaWatermark;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.mappers.ProductCategoryMapper;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationMapper;
+import com.firefly.core.product.core.mappers.ProductDocumentationRequirementMapper;
+import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
+import com.firefly.core.product.core.mappers.ProductRelationshipMapper;
+import com.firefly.core.product.core.mappers.ProductVersionMapper;
+import com.firefly.core.product.core.services.impl.CatalogueDeltaServiceImpl;
+import com.firefly.core.product.interfaces.dtos.CatalogueDeltaItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.entities.CatalogueTombstone;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductCategory;
+import com.firefly.core.product.models.repositories.CatalogueTombstoneRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductCategoryRepository;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueDeltaServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCategoryRepository categoryRepository;
+
+    @Mock
+    private ProductConfigurationRepository configurationRepository;
+
+    @Mock
+    private ProductDocumentationRepository documentationRepository;
+
+    @Mock
+    private ProductDocumentationRequirementRepository documentationRequirementRepository;
+
+    @Mock
+    private ProductLocalizationRepository localizationRepository;
+
+    @Mock
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Mock
+    private ProductVersionRepository versionRepository;
+
+    @Mock
+    private CatalogueTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductCategoryMapper categoryMapper;
+
+    @Mock
+    private ProductConfigurationMapper configurationMapper;
+
+    @Mock
+    private ProductDocumentationMapper documentationMapper;
+
+    @Mock
+    private ProductDocumentationRequirementMapper documentationRequirementMapper;
+
+    @Mock
+    private ProductLocalizationMapper localizationMapper;
+
+    @Mock
+    private ProductRelationshipMapper relationshipMapper;
+
+    @Mock
+    private ProductVersionMapper versionMapper;
+
+    @InjectMocks
+    private CatalogueDeltaServiceImpl service;
+
+    private final LocalDateTime UNTIL = LocalDateTime.of(2025, 6, 1, 12, 0);
+    private final LocalDateTime T1 = LocalDateTime.of(2025, 6, 1, 10, 0, 0, 123_456_000);
+    private final LocalDateTime T2 = LocalDateTime.of(2025, 6, 1, 11, 0);
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID OTHER_PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID CATEGORY_ID = UUID.fromString("f50e8400-e29b-41d4-a716-446655440003");
+    private final UUID MIN_ID = new UUID(0L, 0L);
+    private final UUID MAX_ID = new UUID(-1L, -1L);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(tombstoneRepository.findStableWatermark()).thenReturn(Mono.just(UNTIL));
+        lenient().when(productRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(categoryRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(configurationRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(documentationRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(documentationRequirementRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(localizationRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(relationshipRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(versionRepository.findUpdatedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(tombstoneRepository.findDeletedAfter(any(), any(), any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
+            ProductDTO dto = new ProductDTO();
+            dto.setProductId(invocation.<Product>getArgument(0).getProductId());
+            return dto;
+        });
+        lenient().when(categoryMapper.toDto(any(ProductCategory.class))).thenReturn(new ProductCategoryDTO());
+    }
+
+    @Test
+    void getDelta_MergesEntityTypesAndTombstonesByWriteTime() {
+        // Arrange
+        when(productRepository.findUpdatedAfter(any(), any(), eq(UNTIL), anyInt())).thenReturn(Flux.just(product(PRODUCT_ID, T2)));
+        when(categoryRepository.findUpdatedAfter(any(), any(), eq(UNTIL), anyInt())).thenReturn(Flux.just(category(T1)));
+        when(tombstoneRepository.findDeletedAfter(any(), any(), eq(UNTIL), anyInt())).thenReturn(Flux.just(
+                new CatalogueTombstone(OTHER_PRODUCT_ID, CatalogueEntityTypeEnum.PRODUCT, OTHER_PRODUCT_ID, T1.plusMinutes(1))));
+
+        // Act & Assert
+        StepVerifier.create(service.getDelta(null, null))
+                .assertNext(page -> {
+                    assertEquals(3, page.getChanges().size());
+                    assertFalse(page.isHasMore());
+
+                    CatalogueDeltaItemDTO category = page.getChanges().get(0);
+                    assertEquals(CatalogueEntityTypeEnum.PRODUCT_CATEGORY, category.getEntityType());
+                    assertEquals(CATEGORY_ID, category.getAggregateId());
+
+                    CatalogueDeltaItemDTO deleted = page.getChanges().get(1);
+                    assertEquals(ChangeTypeEnum.DELETED, deleted.getChangeType());
+                    assertEquals(OTHER_PRODUCT_ID, deleted.getEntityId());
+                    assertNull(deleted.getData());
+
+                    CatalogueDeltaItemDTO product = page.getChanges().get(2);
+                    assertEquals(ChangeTypeEnum.UPDATED, product.getChangeType());
+                    assertEquals(PRODUCT_ID, ((ProductDTO) product.getData()).getProductId());
+
+                    assertEquals(new DeltaWatermark(T2, CatalogueEntityTypeEnum.PRODUCT.ordinal(), PRODUCT_ID),
+                            DeltaWatermark.decode(page.getWatermark()));
+                })
+                .verifyComplete();
+
+        verify(tombstoneRepository).findStableWatermark();
+        verify(productRepository).findUpdatedAfter(DeltaWatermark.START.dateUpdated(), MIN_ID, UNTIL, 101);
+    }
+
+    @Test
+    void getDelta_PageFull_ResumesAfterLastEntity() {
+        // Arrange
+        when(productRepository.findUpdatedAfter(any(), any(), eq(UNTIL), anyInt()))
+                .thenReturn(Flux.just(product(PRODUCT_ID, T1), product(OTHER_PRODUCT_ID, T2)));
+        when(categoryRepository.findUpdatedAfter(any(), any(), eq(UNTIL), anyInt())).thenReturn(Flux.just(category(T1)));
+
+        // Act
+        String watermark = service.getDelta(null, 2).block().getWatermark();
+
+        // Assert
+        assertEquals(new DeltaWatermark(T1, CatalogueEntityTypeEnum.PRODUCT_CATEGORY.ordinal(), CATEGORY_ID),
+                DeltaWatermark.decode(watermark));
+
+        // Act & Assert: types before the last one are read after T1, the same type after its ID, later types from T1
+        StepVerifier.create(service.getDelta(watermark, 2))
+                .assertNext(page -> assertTrue(page.isHasMore()))
+                .verifyComplete();
+
+        verify(productRepository).findUpdatedAfter(T1, MAX_ID, UNTIL, 3);
+        verify(categoryRepository).findUpdatedAfter(T1, CATEGORY_ID, UNTIL, 3);
+        verify(configurationRepository).findUpdatedAfter(T1, MIN_ID, UNTIL, 3);
+        verify(tombstoneRepository).findDeletedAfter(T1, MIN_ID, UNTIL, 3);
+    }
+
+    @Test
+    void getDelta_NoChanges_KeepsWatermark() {
+        // Arrange
+        String since = new DeltaWatermark(T2, DeltaWatermark.TOMBSTONE_KIND, PRODUCT_ID).encode();
+
+        // Act & Assert
+        StepVerifier.create(service.getDelta(since, null))
+                .assertNext(page -> {
+                    assertTrue(page.getChanges().isEmpty());
+                    assertFalse(page.isHasMore());
+                    assertEquals(since, page.getWatermark());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getDelta_InvalidWatermark_Error() {
+        // Act & Assert
+        StepVerifier.create(service.getDelta("not-a-watermark", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(tombstoneRepository, productRepository);
+    }
+
+    private Product product(UUID productId, LocalDateTime dateUpdated) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setDateUpdated(dateUpdated);
+        return product;
+    }
+
+    private ProductCategory category(LocalDateTime dateUpdated) {
+        ProductCategory category = new ProductCategory();
+        category.setProductCategoryId(CATEGORY_ID);
+        category.setDateUpdated(dateUpdated);
+        return category;
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -181,9 +182,8 @@ class ProductDocumentationServiceImplTest {
                 .documentManagerRef(DOC_MANAGER_REF)
                 .build();
 
-        when(repository.findById(DOC_ID)).thenReturn(Mono.just(documentation));
-        doNothing().when(mapper).updateEntityFromDto(updateRequest, documentation);
-        when(repository.save(documentation)).thenReturn(Mono.just(documentation));
+        when(repository.updateForProduct(DOC_ID, PRODUCT_ID,
+                updateRequest.getDocType(), updateRequest.getDocumentManagerRef(), updateRequest.getDateAdded())).thenReturn(Mono.just(documentation));
         when(mapper.toDto(documentation)).thenReturn(documentationDTO);
 
         // Act & Assert
@@ -191,15 +191,47 @@ class ProductDocumentationServiceImplTest {
                 .expectNext(documentationDTO)
                 .verifyComplete();
 
-        verify(repository).findById(DOC_ID);
-        verify(mapper).updateEntityFromDto(updateRequest, documentation);
-        verify(repository).save(documentation);
+        verify(repository).updateForProduct(DOC_ID, PRODUCT_ID,
+                updateRequest.getDocType(), updateRequest.getDocumentManagerRef(), updateRequest.getDateAdded());
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(documentation);
     }
 
+    @Test
+    void updateDocumentation_MatchingRowVersion_Updates() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(DOC_ID, PRODUCT_ID)).thenReturn(Mono.just(1L));
+        when(repository.updateForProduct(DOC_ID, PRODUCT_ID, documentationDTO.getDocType(),
+                documentationDTO.getDocumentManagerRef(), documentationDTO.getDateAdded()))
+                .thenReturn(Mono.just(documentation));
+        when(mapper.toDto(documentation)).thenReturn(documentationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateDocumentation(PRODUCT_ID, DOC_ID, documentationDTO, 1L))
+                .expectNext(documentationDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateDocumentation_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(DOC_ID, PRODUCT_ID)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateDocumentation(PRODUCT_ID, DOC_ID, documentationDTO, 1L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 1 but found 2"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+    }
+
     @Test
     void updateDocumentation_NotFound() {
         // Arrange
+        when(repository.updateForProduct(DOC_ID, PRODUCT_ID, documentationDTO.getDocType(),
+                documentationDTO.getDocumentManagerRef(), documentationDTO.getDateAdded())).thenReturn(Mono.empty());
         when(repository.findById(DOC_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -221,6 +253,8 @@ class ProductDocumentationServiceImplTest {
         docFromDifferentProduct.setProductDocumentationId(DOC_ID);
         docFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.updateForProduct(DOC_ID, PRODUCT_ID, documentationDTO.getDocType(),
+                documentationDTO.getDocumentManagerRef(), documentationDTO.getDateAdded())).thenReturn(Mono.empty());
         when(repository.findById(DOC_ID)).thenReturn(Mono.just(docFromDifferentProduct));
 
         // Act & Assert
@@ -238,20 +272,20 @@ class ProductDocumentationServiceImplTest {
     @Test
     void deleteDocumentation_Success() {
         // Arrange
-        when(repository.findById(DOC_ID)).thenReturn(Mono.just(documentation));
-        when(repository.deleteById(DOC_ID)).thenReturn(Mono.empty());
+        when(repository.deleteForProduct(DOC_ID, PRODUCT_ID)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteDocumentation(PRODUCT_ID, DOC_ID))
                 .verifyComplete();
 
-        verify(repository).findById(DOC_ID);
-        verify(repository).deleteById(DOC_ID);
+        verify(repository).deleteForProduct(DOC_ID, PRODUCT_ID);
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
     void deleteDocumentation_NotFound() {
         // Arrange
+        when(repository.deleteForProduct(DOC_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(DOC_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -272,6 +306,7 @@ class ProductDocumentationServiceImplTest {
         docFromDifferentProduct.setProductDocumentationId(DOC_ID);
         docFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.deleteForProduct(DOC_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(DOC_ID)).thenReturn(Mono.just(docFromDifferentProduct));
 
         // Act & Assert
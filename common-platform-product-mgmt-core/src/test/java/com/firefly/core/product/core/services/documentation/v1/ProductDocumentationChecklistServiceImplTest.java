@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.documentation.v1;
+
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.documentation.DocumentationChecklistProperties;
+import com.firefly.core.product.core.services.impl.ProductDocumentationChecklistServiceImpl;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistRequestDTO;
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDocumentationChecklistServiceImplTest {
+
+    @Mock
+    private ProductDocumentationRequirementRepository repository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private ProductCaches caches = new ProductCaches(
+            new ProductCacheProperties(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Spy
+    private DocumentationChecklistProperties properties = new DocumentationChecklistProperties();
+
+    @InjectMocks
+    private ProductDocumentationChecklistServiceImpl service;
+
+    private final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID CARD_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @Test
+    void evaluate_MergesProductsAndSubtractsSuppliedDocuments() {
+        // Arrange
+        when(productRepository.findExistingIds(any())).thenReturn(Flux.just(ACCOUNT_ID, CARD_ID));
+        when(repository.findByProductIdIn(any())).thenReturn(Flux.just(
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.IDENTIFICATION, true),
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.PROOF_OF_ADDRESS, false),
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.BANK_STATEMENTS, false),
+                requirement(CARD_ID, ContractingDocTypeEnum.PROOF_OF_ADDRESS, true),
+                requirement(CARD_ID, ContractingDocTypeEnum.INCOME_VERIFICATION, true)));
+
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID, CARD_ID),
+                        List.of(ContractingDocTypeEnum.IDENTIFICATION))))
+                .assertNext(checklist -> {
+                    // Mandatory for the card wins over optional for the account
+                    assertEquals(List.of(ContractingDocTypeEnum.PROOF_OF_ADDRESS,
+                            ContractingDocTypeEnum.INCOME_VERIFICATION), checklist.getMissingMandatory());
+                    assertEquals(List.of(ContractingDocTypeEnum.BANK_STATEMENTS), checklist.getMissingOptional());
+                    assertFalse(checklist.isComplete());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void evaluate_IsCompleteWhenAllMandatoryDocumentsAreSupplied() {
+        // Arrange
+        when(productRepository.findExistingIds(any())).thenReturn(Flux.just(ACCOUNT_ID));
+        when(repository.findByProductIdIn(any())).thenReturn(Flux.just(
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.IDENTIFICATION, true),
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.BANK_STATEMENTS, false)));
+
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID),
+                        List.of(ContractingDocTypeEnum.IDENTIFICATION))))
+                .assertNext(checklist -> {
+                    assertTrue(checklist.getMissingMandatory().isEmpty());
+                    assertEquals(List.of(ContractingDocTypeEnum.BANK_STATEMENTS), checklist.getMissingOptional());
+                    assertTrue(checklist.isComplete());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void evaluate_ReadsOnlyProductsWhoseSetIsNotCached() {
+        // Arrange
+        when(productRepository.findExistingIds(new UUID[]{ACCOUNT_ID})).thenReturn(Flux.just(ACCOUNT_ID));
+        when(productRepository.findExistingIds(new UUID[]{CARD_ID})).thenReturn(Flux.just(CARD_ID));
+        when(repository.findByProductIdIn(Set.of(ACCOUNT_ID))).thenReturn(Flux.just(
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.IDENTIFICATION, true)));
+        when(repository.findByProductIdIn(Set.of(CARD_ID))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID), List.of())))
+                .assertNext(checklist -> assertEquals(
+                        List.of(ContractingDocTypeEnum.IDENTIFICATION), checklist.getMissingMandatory()))
+                .verifyComplete();
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID, CARD_ID), List.of())))
+                .assertNext(checklist -> assertEquals(
+                        List.of(ContractingDocTypeEnum.IDENTIFICATION), checklist.getMissingMandatory()))
+                .verifyComplete();
+        // The card has no requirements; its empty set is cached too
+        StepVerifier.create(service.evaluate(request(List.of(CARD_ID), List.of())))
+                .assertNext(checklist -> assertTrue(checklist.isComplete()))
+                .verifyComplete();
+
+        verify(repository).findByProductIdIn(Set.of(ACCOUNT_ID));
+        verify(repository).findByProductIdIn(Set.of(CARD_ID));
+        verifyNoMoreInteractions(repository);
+        verify(productRepository, times(2)).findExistingIds(any());
+    }
+
+    @Test
+    void evaluate_WithUnknownProduct_ShouldReturnErrorAndCacheNothingForIt() {
+        // Arrange
+        UUID unknownId = UUID.fromString("550e8400-e29b-41d4-a716-446655440999");
+        when(productRepository.findExistingIds(any())).thenAnswer(invocation ->
+                Flux.fromArray(invocation.<UUID[]>getArgument(0)).filter(ACCOUNT_ID::equals));
+        when(repository.findByProductIdIn(Set.of(ACCOUNT_ID, unknownId))).thenReturn(Flux.just(
+                requirement(ACCOUNT_ID, ContractingDocTypeEnum.IDENTIFICATION, true)));
+        when(repository.findByProductIdIn(Set.of(unknownId))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID, unknownId),
+                        List.of(ContractingDocTypeEnum.IDENTIFICATION))))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
+                        throwable.getMessage().equals("Unknown product IDs: [" + unknownId + "]"))
+                .verify();
+        // The unknown product is looked up again rather than served as an empty set
+        StepVerifier.create(service.evaluate(request(List.of(unknownId), List.of())))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository).findByProductIdIn(Set.of(ACCOUNT_ID, unknownId));
+        verify(repository).findByProductIdIn(Set.of(unknownId));
+    }
+
+    @Test
+    void evaluate_WithoutProductIds_ShouldReturnError() {
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(), List.of())))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
+                        throwable.getMessage().equals("At least one product ID is required"))
+                .verify();
+
+        verifyNoInteractions(repository, productRepository);
+    }
+
+    @Test
+    void evaluate_WithTooManyProductIds_ShouldReturnError() {
+        // Arrange
+        properties.setMaxProducts(1);
+
+        // Act & Assert
+        StepVerifier.create(service.evaluate(request(List.of(ACCOUNT_ID, CARD_ID), List.of())))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException &&
+                        throwable.getMessage().equals("Too many product IDs: 2 (max 1)"))
+                .verify();
+
+        verifyNoInteractions(repository, productRepository);
+    }
+
+    private static DocumentationChecklistRequestDTO request(List<UUID> productIds,
+                                                            List<ContractingDocTypeEnum> suppliedDocTypes) {
+        return DocumentationChecklistRequestDTO.builder()
+                .productIds(productIds)
+                .suppliedDocTypes(suppliedDocTypes)
+                .build();
+    }
+
+    private static ProductDocumentationRequirement requirement(UUID productId, ContractingDocTypeEnum docType,
+                                                               boolean mandatory) {
+        ProductDocumentationRequirement requirement = new ProductDocumentationRequirement();
+        requirement.setProductDocRequirementId(UUID.randomUUID());
+        requirement.setProductId(productId);
+        requirement.setDocType(docType);
+        requirement.setIsMandatory(mandatory);
+        return requirement;
+    }
+}
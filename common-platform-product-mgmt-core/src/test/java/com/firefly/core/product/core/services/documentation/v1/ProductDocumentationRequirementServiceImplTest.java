@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -116,9 +117,8 @@ public class ProductDocumentationRequirementServiceImplTest {
     @Test
     void updateDocumentationRequirement_ShouldUpdateAndReturnDTO() {
         // Arrange
-        when(repository.findById(requirementId)).thenReturn(Mono.just(entity));
-        doNothing().when(mapper).updateEntityFromDto(dto, entity);
-        when(repository.save(entity)).thenReturn(Mono.just(entity));
+        when(repository.updateForProduct(requirementId, productId, dto.getDocType(), dto.getIsMandatory(), dto.getDescription()))
+                .thenReturn(Mono.just(entity));
         when(mapper.toDto(entity)).thenReturn(dto);
 
         // Act & Assert
@@ -127,23 +127,66 @@ public class ProductDocumentationRequirementServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    void updateDocumentationRequirement_MatchingRowVersion_ShouldUpdate() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(requirementId, productId)).thenReturn(Mono.just(2L));
+        when(repository.updateForProduct(
+                requirementId, productId, dto.getDocType(), dto.getIsMandatory(), dto.getDescription()))
+                .thenReturn(Mono.just(entity));
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        // Act & Assert
+        StepVerifier.create(service.updateDocumentationRequirement(productId, requirementId, dto, 2L))
+                .expectNext(dto)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateDocumentationRequirement_StaleRowVersion_ShouldReturnConflict() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(requirementId, productId)).thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateDocumentationRequirement(productId, requirementId, dto, 2L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 2 but found 3"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+    }
+
     @Test
     void deleteDocumentationRequirement_ShouldDeleteAndReturnVoid() {
         // Arrange
-        when(repository.findById(requirementId)).thenReturn(Mono.just(entity));
-        when(repository.deleteById(requirementId)).thenReturn(Mono.empty());
+        when(repository.deleteForProduct(requirementId, productId)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteDocumentationRequirement(productId, requirementId))
                 .verifyComplete();
     }
 
+    @Test
+    void deleteDocumentationRequirement_OtherProduct_ShouldReturnError() {
+        // Arrange
+        ProductDocumentationRequirement otherProductEntity = new ProductDocumentationRequirement();
+        otherProductEntity.setProductDocRequirementId(requirementId);
+        otherProductEntity.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999"));
+        when(repository.deleteForProduct(requirementId, productId)).thenReturn(Mono.just(0));
+        when(repository.findById(requirementId)).thenReturn(Mono.just(otherProductEntity));
+
+        // Act & Assert
+        StepVerifier.create(service.deleteDocumentationRequirement(productId, requirementId))
+                .expectErrorMatches(throwable -> throwable.getMessage().contains("does not belong to product"))
+                .verify();
+    }
+
     @Test
     void filterMandatoryDocumentationRequirements_ShouldReturnMandatoryRequirements() {
         // Arrange
-        when(repository.findByProductIdAndIsMandatory(productId, true))
-                .thenReturn(Flux.just(entity));
-        when(mapper.toDto(entity)).thenReturn(dto);
+        when(repository.findDtosByProductIdAndIsMandatory(productId, true))
+                .thenReturn(Flux.just(dto));
 
         // Act & Assert
         StepVerifier.create(service.filterMandatoryDocumentationRequirements(productId))
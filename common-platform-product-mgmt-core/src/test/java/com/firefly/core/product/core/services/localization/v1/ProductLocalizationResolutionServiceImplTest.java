@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.localization.v1;
+
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.cache.ProductScopedKey;
+import com.firefly.core.product.core.localization.LocaleFallbackChain;
+import com.firefly.core.product.core.localization.LocalizationProperties;
+import com.firefly.core.product.core.mappers.ProductLocalizationMapper;
+import com.firefly.core.product.core.services.impl.ProductLocalizationResolutionServiceImpl;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionRequestDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.models.entities.ProductLocalization;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductLocalizationResolutionServiceImplTest {
+
+    @Mock
+    private ProductLocalizationRepository repository;
+
+    @Mock
+    private ProductLocalizationMapper mapper;
+
+    @Spy
+    private ProductCaches caches = new ProductCaches(
+            new ProductCacheProperties(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Spy
+    private LocalizationProperties properties = new LocalizationProperties();
+
+    @InjectMocks
+    private ProductLocalizationResolutionServiceImpl service;
+
+    private final UUID SPAIN_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID SPANISH_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID ENGLISH_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID UNTRANSLATED_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        lenient().when(mapper.toDto(any(ProductLocalization.class))).thenAnswer(invocation -> {
+            ProductLocalization localization = invocation.getArgument(0);
+            return ProductLocalizationDTO.builder()
+                    .productId(localization.getProductId())
+                    .languageCode(localization.getLanguageCode())
+                    .localizedName(localization.getLocalizedName())
+                    .build();
+        });
+        List<ProductLocalization> stored = List.of(
+                localization(SPAIN_ID, "es-ES", "Tarjeta (ES)"),
+                localization(SPAIN_ID, "es", "Tarjeta"),
+                localization(SPANISH_ID, "es", "Cuenta"),
+                localization(SPANISH_ID, "en", "Account"),
+                localization(ENGLISH_ID, "en", "Loan"));
+        lenient().when(repository.findByProductIdsAndLanguageCodes(any(), any())).thenAnswer(invocation -> {
+            List<UUID> productIds = List.of(invocation.<UUID[]>getArgument(0));
+            List<String> languageCodes = List.of(invocation.<String[]>getArgument(1));
+            return Flux.fromIterable(stored)
+                    .filter(localization -> productIds.contains(localization.getProductId())
+                            && languageCodes.contains(localization.getLanguageCode()));
+        });
+    }
+
+    @Test
+    void resolve_FallsBackFromLocaleToLanguageToDefault() {
+        // Arrange
+        LocalizationResolutionRequestDTO request = LocalizationResolutionRequestDTO.builder()
+                .productIds(List.of(SPAIN_ID, SPANISH_ID, ENGLISH_ID, UNTRANSLATED_ID))
+                .locale("es_es")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(request))
+                .assertNext(response -> {
+                    assertEquals("es-ES", response.getLocale());
+                    assertEquals(List.of("es-ES", "es", "en"), response.getFallbackChain());
+                    Map<UUID, ProductLocalizationDTO> localizations = response.getLocalizations();
+                    assertEquals(List.of(SPAIN_ID, SPANISH_ID, ENGLISH_ID), List.copyOf(localizations.keySet()));
+                    assertEquals("Tarjeta (ES)", localizations.get(SPAIN_ID).getLocalizedName());
+                    assertEquals("Cuenta", localizations.get(SPANISH_ID).getLocalizedName());
+                    assertEquals("en", localizations.get(ENGLISH_ID).getLanguageCode());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void resolve_ReusesCachedLocalizationsAndReloadsOnlyEvictedOnes() {
+        // Arrange
+        LocalizationResolutionRequestDTO request = LocalizationResolutionRequestDTO.builder()
+                .productIds(List.of(SPAIN_ID, SPANISH_ID))
+                .locale("es")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(request)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.resolve(request)).expectNextCount(1).verifyComplete();
+        caches.localizationsByLanguage().invalidate(new ProductScopedKey<>(SPANISH_ID, "es"));
+        StepVerifier.create(service.resolve(request))
+                .assertNext(response ->
+                        assertEquals("Cuenta", response.getLocalizations().get(SPANISH_ID).getLocalizedName()))
+                .verifyComplete();
+
+        verify(repository, times(2)).findByProductIdsAndLanguageCodes(any(), any());
+        verify(repository).findByProductIdsAndLanguageCodes(new UUID[]{SPANISH_ID}, new String[]{"es"});
+    }
+
+    @Test
+    void resolve_MissingLocalization_IsCachedAsEmpty() {
+        // Arrange
+        LocalizationResolutionRequestDTO request = LocalizationResolutionRequestDTO.builder()
+                .productIds(List.of(ENGLISH_ID))
+                .locale("fr")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(request))
+                .assertNext(response ->
+                        assertEquals("Loan", response.getLocalizations().get(ENGLISH_ID).getLocalizedName()))
+                .verifyComplete();
+        StepVerifier.create(service.resolve(request)).expectNextCount(1).verifyComplete();
+
+        verify(repository, times(1)).findByProductIdsAndLanguageCodes(any(), any());
+    }
+
+    @Test
+    void resolve_WithoutProductIds_Fails() {
+        // Arrange
+        LocalizationResolutionRequestDTO request = LocalizationResolutionRequestDTO.builder()
+                .productIds(Collections.singletonList(null))
+                .locale("es")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(request))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void resolve_TooManyProducts_Fails() {
+        // Arrange
+        properties.setMaxProducts(1);
+        LocalizationResolutionRequestDTO request = LocalizationResolutionRequestDTO.builder()
+                .productIds(List.of(SPAIN_ID, SPANISH_ID))
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.resolve(request))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().equals("Too many product IDs: 2 (max 1)"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void fallbackChain_ConfiguredFallbacksPrecedeParentLanguage() {
+        // Arrange
+        properties.setFallbacks(Map.of("pt_br", List.of("pt-PT")));
+
+        // Act & Assert
+        assertEquals(List.of("pt-BR", "pt-PT", "pt", "en"), LocaleFallbackChain.of("pt-BR", properties));
+        assertEquals(List.of("en"), LocaleFallbackChain.of(null, properties));
+        assertEquals(List.of("zh-Hant-TW", "zh-Hant", "zh", "en"), LocaleFallbackChain.of("zh-Hant-TW", properties));
+    }
+
+    private static ProductLocalization localization(UUID productId, String languageCode, String localizedName) {
+        ProductLocalization localization = new ProductLocalization();
+        localization.setProductId(productId);
+        localization.setLanguageCode(languageCode);
+        localization.setLocalizedName(localizedName);
+        return localization;
+    }
+}
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -129,6 +130,44 @@ class ProductLocalizationServiceImplTest {
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    void createLocalization_NonCanonicalLanguageCode_IsStoredCanonical() {
+        // Arrange
+        ProductLocalizationDTO requestDTO = ProductLocalizationDTO.builder()
+                .languageCode("en_us")
+                .localizedName("Test Product Name")
+                .build();
+
+        when(mapper.toEntity(requestDTO)).thenReturn(localization);
+        when(repository.save(localization)).thenReturn(Mono.just(localization));
+        when(mapper.toDto(localization)).thenReturn(localizationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createLocalization(PRODUCT_ID, requestDTO))
+                .expectNext(localizationDTO)
+                .verifyComplete();
+
+        verify(mapper).toEntity(argThat(dto -> "en-US".equals(dto.getLanguageCode())));
+    }
+
+    @Test
+    void createLocalization_InvalidLanguageCode_ShouldReturnError() {
+        // Arrange
+        ProductLocalizationDTO requestDTO = ProductLocalizationDTO.builder()
+                .languageCode("not a language")
+                .localizedName("Test Product Name")
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.createLocalization(PRODUCT_ID, requestDTO))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof IllegalArgumentException &&
+                    throwable.getMessage().equals("Invalid language code: not a language"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void getLocalizationById_Success() {
         // Arrange
@@ -192,9 +231,8 @@ class ProductLocalizationServiceImplTest {
                 .localizedDescription("Description du Produit Test")
                 .build();
 
-        when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.just(localization));
-        doNothing().when(mapper).updateEntityFromDto(updateRequest, localization);
-        when(repository.save(localization)).thenReturn(Mono.just(localization));
+        when(repository.updateForProduct(LOCALIZATION_ID, PRODUCT_ID,
+                updateRequest.getLanguageCode(), updateRequest.getLocalizedName(), updateRequest.getLocalizedDescription())).thenReturn(Mono.just(localization));
         when(mapper.toDto(localization)).thenReturn(updateRequest);
 
         // Act & Assert
@@ -203,12 +241,61 @@ class ProductLocalizationServiceImplTest {
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(LOCALIZATION_ID);
-        verify(mapper).updateEntityFromDto(updateRequest, localization);
-        verify(repository).save(localization);
+        verify(repository).updateForProduct(LOCALIZATION_ID, PRODUCT_ID,
+                updateRequest.getLanguageCode(), updateRequest.getLocalizedName(), updateRequest.getLocalizedDescription());
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(localization);
     }
 
+    @Test
+    void updateLocalization_NonCanonicalLanguageCode_IsStoredCanonical() {
+        // Arrange
+        ProductLocalizationDTO updateRequest = ProductLocalizationDTO.builder()
+                .languageCode("ES-es")
+                .build();
+
+        when(repository.updateForProduct(LOCALIZATION_ID, PRODUCT_ID, "es-ES", null, null))
+                .thenReturn(Mono.just(localization));
+        when(mapper.toDto(localization)).thenReturn(localizationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateLocalization(PRODUCT_ID, LOCALIZATION_ID, updateRequest))
+                .expectNext(localizationDTO)
+                .verifyComplete();
+
+        verify(repository).updateForProduct(LOCALIZATION_ID, PRODUCT_ID, "es-ES", null, null);
+    }
+
+    @Test
+    void updateLocalization_MatchingRowVersion_Updates() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(LOCALIZATION_ID, PRODUCT_ID)).thenReturn(Mono.just(4L));
+        when(repository.updateForProduct(LOCALIZATION_ID, PRODUCT_ID, localizationDTO.getLanguageCode(),
+                localizationDTO.getLocalizedName(), localizationDTO.getLocalizedDescription()))
+                .thenReturn(Mono.just(localization));
+        when(mapper.toDto(localization)).thenReturn(localizationDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateLocalization(PRODUCT_ID, LOCALIZATION_ID, localizationDTO, 4L))
+                .expectNext(localizationDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateLocalization_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(LOCALIZATION_ID, PRODUCT_ID)).thenReturn(Mono.just(5L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateLocalization(PRODUCT_ID, LOCALIZATION_ID, localizationDTO, 4L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 4 but found 5"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+    }
+
     @Test
     void updateLocalization_NotFound() {
         // Arrange
@@ -218,6 +305,8 @@ class ProductLocalizationServiceImplTest {
                 .localizedDescription("Description du Produit Test")
                 .build();
 
+        when(repository.updateForProduct(LOCALIZATION_ID, PRODUCT_ID,
+                updateRequest.getLanguageCode(), updateRequest.getLocalizedName(), updateRequest.getLocalizedDescription())).thenReturn(Mono.empty());
         when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -246,6 +335,8 @@ class ProductLocalizationServiceImplTest {
         localizationFromDifferentProduct.setProductLocalizationId(LOCALIZATION_ID);
         localizationFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.updateForProduct(LOCALIZATION_ID, PRODUCT_ID,
+                updateRequest.getLanguageCode(), updateRequest.getLocalizedName(), updateRequest.getLocalizedDescription())).thenReturn(Mono.empty());
         when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.just(localizationFromDifferentProduct));
 
         // Act & Assert
@@ -264,21 +355,21 @@ class ProductLocalizationServiceImplTest {
     @Test
     void deleteLocalization_Success() {
         // Arrange
-        when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.just(localization));
-        when(repository.deleteById(LOCALIZATION_ID)).thenReturn(Mono.empty());
+        when(repository.deleteForProduct(LOCALIZATION_ID, PRODUCT_ID)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteLocalization(PRODUCT_ID, LOCALIZATION_ID))
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(LOCALIZATION_ID);
-        verify(repository).deleteById(LOCALIZATION_ID);
+        verify(repository).deleteForProduct(LOCALIZATION_ID, PRODUCT_ID);
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
     void deleteLocalization_NotFound() {
         // Arrange
+        when(repository.deleteForProduct(LOCALIZATION_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -300,6 +391,7 @@ class ProductLocalizationServiceImplTest {
         localizationFromDifferentProduct.setProductLocalizationId(LOCALIZATION_ID);
         localizationFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.deleteForProduct(LOCALIZATION_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(LOCALIZATION_ID)).thenReturn(Mono.just(localizationFromDifferentProduct));
 
         // Act & Assert
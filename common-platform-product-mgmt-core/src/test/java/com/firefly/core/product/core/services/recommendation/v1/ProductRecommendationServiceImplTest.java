@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.recommendation.v1;
+
+import com.firefly.core.product.core.index.CrossSellCandidate;
+import com.firefly.core.product.core.index.CrossSellIndex;
+import com.firefly.core.product.core.index.CrossSellIndexProperties;
+import com.firefly.core.product.core.services.impl.ProductRecommendationServiceImpl;
+import com.firefly.core.product.interfaces.dtos.CrossSellCandidateDTO;
+import com.firefly.core.product.interfaces.dtos.CrossSellRequestDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRecommendationServiceImplTest {
+
+    @Mock
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CrossSellIndex index;
+
+    @Spy
+    private CrossSellIndexProperties properties = new CrossSellIndexProperties();
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @InjectMocks
+    private ProductRecommendationServiceImpl service;
+
+    private final UUID ACCOUNT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID CARD_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID INSURANCE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID SAVINGS_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+
+    @Test
+    void recommendCrossSell_FromIndex_SkipsRetiredProducts() {
+        // Arrange - savings is retired
+        when(index.isReady()).thenReturn(true);
+        when(index.candidates(Set.of(ACCOUNT_ID))).thenReturn(List.of(
+                new CrossSellCandidate(CARD_ID, 1.0, List.of(ACCOUNT_ID)),
+                new CrossSellCandidate(SAVINGS_ID, 0.5, List.of(ACCOUNT_ID)),
+                new CrossSellCandidate(INSURANCE_ID, 0.5, List.of(ACCOUNT_ID))));
+        when(productRepository.findOfferableIds(any(UUID[].class))).thenReturn(Flux.just(INSURANCE_ID, CARD_ID));
+
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(null, ACCOUNT_ID)))
+                .assertNext(result -> {
+                    assertEquals(List.of(CARD_ID, INSURANCE_ID), productIds(result.getCandidates()));
+                    assertEquals(1.0, result.getCandidates().get(0).getScore());
+                    assertEquals(List.of(ACCOUNT_ID), result.getCandidates().get(0).getRecommendedBy());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(relationshipRepository);
+    }
+
+    @Test
+    void recommendCrossSell_IndexNotReady_RanksRelationshipsFromDatabase() {
+        // Arrange
+        when(index.isReady()).thenReturn(false);
+        when(relationshipRepository.findTouchingProducts(any(UUID[].class), any(RelationshipTypeEnum[].class)))
+                .thenReturn(Flux.just(
+                        relationship(ACCOUNT_ID, SAVINGS_ID, RelationshipTypeEnum.COMPLIMENTARY),
+                        relationship(CARD_ID, ACCOUNT_ID, RelationshipTypeEnum.CROSS_SELL)));
+        when(productRepository.findOfferableIds(any(UUID[].class))).thenReturn(Flux.just(CARD_ID, SAVINGS_ID));
+
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(null, ACCOUNT_ID)))
+                .assertNext(result -> assertEquals(List.of(CARD_ID, SAVINGS_ID), productIds(result.getCandidates())))
+                .verifyComplete();
+
+        verify(relationshipRepository).findTouchingProducts(
+                argThat(ids -> Arrays.equals(ids, new UUID[]{ACCOUNT_ID})),
+                argThat(types -> Set.of(types).equals(
+                        Set.of(RelationshipTypeEnum.CROSS_SELL, RelationshipTypeEnum.COMPLIMENTARY))));
+        verify(index, never()).candidates(any());
+    }
+
+    @Test
+    void recommendCrossSell_AppliesLimitAfterFiltering() {
+        // Arrange
+        when(index.isReady()).thenReturn(true);
+        when(index.candidates(Set.of(ACCOUNT_ID))).thenReturn(List.of(
+                new CrossSellCandidate(SAVINGS_ID, 1.0, List.of(ACCOUNT_ID)),
+                new CrossSellCandidate(CARD_ID, 0.5, List.of(ACCOUNT_ID)),
+                new CrossSellCandidate(INSURANCE_ID, 0.5, List.of(ACCOUNT_ID))));
+        when(productRepository.findOfferableIds(any(UUID[].class))).thenReturn(Flux.just(CARD_ID, INSURANCE_ID));
+
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(1, ACCOUNT_ID)))
+                .assertNext(result -> assertEquals(List.of(CARD_ID), productIds(result.getCandidates())))
+                .verifyComplete();
+    }
+
+    @Test
+    void recommendCrossSell_NoCandidates_SkipsProductLookup() {
+        // Arrange
+        when(index.isReady()).thenReturn(true);
+        when(index.candidates(Set.of(ACCOUNT_ID))).thenReturn(List.of());
+
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(null, ACCOUNT_ID)))
+                .assertNext(result -> assertTrue(result.getCandidates().isEmpty()))
+                .verifyComplete();
+
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void recommendCrossSell_WithoutHeldProducts_Fails() {
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(index, relationshipRepository, productRepository);
+    }
+
+    @Test
+    void recommendCrossSell_TooManyHeldProducts_Fails() {
+        // Arrange
+        properties.setMaxHeldProducts(1);
+
+        // Act & Assert
+        StepVerifier.create(service.recommendCrossSell(request(null, ACCOUNT_ID, CARD_ID)))
+                .expectErrorMatches(throwable -> throwable instanceof IllegalArgumentException
+                        && throwable.getMessage().contains("Too many held product IDs"))
+                .verify();
+
+        verifyNoInteractions(index, relationshipRepository, productRepository);
+    }
+
+    private static CrossSellRequestDTO request(Integer limit, UUID... heldProductIds) {
+        return CrossSellRequestDTO.builder()
+                .heldProductIds(List.of(heldProductIds))
+                .limit(limit)
+                .build();
+    }
+
+    private static ProductRelationship relationship(UUID productId, UUID relatedProductId, RelationshipTypeEnum type) {
+        ProductRelationship relationship = new ProductRelationship();
+        relationship.setProductRelationshipId(UUID.randomUUID());
+        relationship.setProductId(productId);
+        relationship.setRelatedProductId(relatedProductId);
+        relationship.setRelationshipType(type);
+        return relationship;
+    }
+
+    private static List<UUID> productIds(List<CrossSellCandidateDTO> candidates) {
+        return candidates.stream().map(CrossSellCandidateDTO::getProductId).toList();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.relationship.v1;
+
+import com.firefly.core.product.core.graph.RelationshipGraphProperties;
+import com.firefly.core.product.core.services.impl.ProductRelationshipGraphServiceImpl;
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.repositories.ProductGraphNode;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRelationshipGraphServiceImplTest {
+
+    @Mock
+    private ProductRelationshipRepository repository;
+
+    @Spy
+    private RelationshipGraphProperties properties = new RelationshipGraphProperties();
+
+    @InjectMocks
+    private ProductRelationshipGraphServiceImpl service;
+
+    private final UUID BASIC_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID GOLD_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID PLATINUM_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID INSURANCE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440004");
+
+    @Test
+    void getReachableProducts_MapsNodesInTraversalOrder() {
+        // Arrange
+        when(repository.traverse(PLATINUM_ID, Set.of(RelationshipTypeEnum.PRE_REQUISITE),
+                RelationshipDirectionEnum.OUTGOING, 10))
+                .thenReturn(Flux.just(
+                        new ProductGraphNode(GOLD_ID, PLATINUM_ID, 1),
+                        new ProductGraphNode(BASIC_ID, GOLD_ID, 2)));
+
+        // Act & Assert
+        StepVerifier.create(service.getReachableProducts(PLATINUM_ID,
+                        List.of(RelationshipTypeEnum.PRE_REQUISITE, RelationshipTypeEnum.PRE_REQUISITE), null, null))
+                .assertNext(node -> {
+                    assertEquals(GOLD_ID, node.getProductId());
+                    assertEquals(PLATINUM_ID, node.getParentProductId());
+                    assertEquals(1, node.getDepth());
+                })
+                .assertNext(node -> assertEquals(2, node.getDepth()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getReachableProducts_WithoutTypes_Fails() {
+        // Act & Assert
+        StepVerifier.create(service.getReachableProducts(PLATINUM_ID, List.of(), RelationshipDirectionEnum.BOTH, 3))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getReachableProducts_DepthAboveMaximum_Fails() {
+        // Act & Assert
+        StepVerifier.create(service.getReachableProducts(PLATINUM_ID,
+                        List.of(RelationshipTypeEnum.UPGRADE), RelationshipDirectionEnum.OUTGOING, 11))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().equals("Depth must be between 1 and 10: 11"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getUpgradePath_FollowsParentsBackToStart() {
+        // Arrange
+        when(repository.traverse(BASIC_ID, Set.of(RelationshipTypeEnum.UPGRADE), RelationshipDirectionEnum.OUTGOING, 10))
+                .thenReturn(Flux.just(
+                        new ProductGraphNode(GOLD_ID, BASIC_ID, 1),
+                        new ProductGraphNode(INSURANCE_ID, BASIC_ID, 1),
+                        new ProductGraphNode(PLATINUM_ID, GOLD_ID, 2)));
+
+        // Act & Assert
+        StepVerifier.create(service.getUpgradePath(BASIC_ID, PLATINUM_ID))
+                .assertNext(path -> {
+                    assertEquals(List.of(BASIC_ID, GOLD_ID, PLATINUM_ID), path.getProductIds());
+                    assertEquals(2, path.getLength());
+                    assertEquals(RelationshipTypeEnum.UPGRADE, path.getRelationshipType());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getUpgradePath_Unreachable_ReturnsEmpty() {
+        // Arrange
+        when(repository.traverse(BASIC_ID, Set.of(RelationshipTypeEnum.UPGRADE), RelationshipDirectionEnum.OUTGOING, 10))
+                .thenReturn(Flux.just(new ProductGraphNode(GOLD_ID, BASIC_ID, 1)));
+
+        // Act & Assert
+        StepVerifier.create(service.getUpgradePath(BASIC_ID, PLATINUM_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void getCrossSellFanOut_FollowsBothDirectionsAtConfiguredDepth() {
+        // Arrange
+        when(repository.traverse(eq(GOLD_ID), anyCollection(), eq(RelationshipDirectionEnum.BOTH), eq(1)))
+                .thenReturn(Flux.just(new ProductGraphNode(INSURANCE_ID, GOLD_ID, 1)));
+
+        // Act & Assert
+        StepVerifier.create(service.getCrossSellFanOut(GOLD_ID, null))
+                .assertNext(node -> assertEquals(INSURANCE_ID, node.getProductId()))
+                .verifyComplete();
+
+        verify(repository).traverse(eq(GOLD_ID),
+                argThat(types -> types.size() == 2
+                        && types.contains(RelationshipTypeEnum.CROSS_SELL)
+                        && types.contains(RelationshipTypeEnum.COMPLIMENTARY)),
+                eq(RelationshipDirectionEnum.BOTH), eq(1));
+    }
+}
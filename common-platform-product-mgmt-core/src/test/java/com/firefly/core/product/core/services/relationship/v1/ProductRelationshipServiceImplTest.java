@@ -17,6 +17,7 @@
 
 package com.firefly.core.product.core.services.relationship.v1;
 
+import com.firefly.core.product.core.index.CrossSellIndex;
 import com.firefly.core.product.core.mappers.ProductRelationshipMapper;
 import com.firefly.core.product.core.services.impl.ProductRelationshipServiceImpl;
 import com.firefly.core.product.interfaces.dtos.ProductRelationshipDTO;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -36,6 +38,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +50,9 @@ class ProductRelationshipServiceImplTest {
     @Mock
     private ProductRelationshipMapper mapper;
 
+    @Mock
+    private CrossSellIndex crossSellIndex;
+
     @InjectMocks
     private ProductRelationshipServiceImpl service;
 
@@ -79,6 +85,9 @@ class ProductRelationshipServiceImplTest {
                 .dateCreated(now)
                 .dateUpdated(now)
                 .build();
+
+        lenient().when(repository.lockGraph(anyLong())).thenReturn(Mono.just(true));
+        lenient().when(repository.existsPath(any(), any(), any())).thenReturn(Mono.just(false));
     }
 
     // Note: filterRelationships test is not included because it uses FilterUtils which is a static utility
@@ -105,6 +114,7 @@ class ProductRelationshipServiceImplTest {
         // Verify interactions
         verify(mapper).toEntity(requestDTO);
         verify(repository).save(relationship);
+        verify(crossSellIndex).upsert(relationship);
         verify(mapper).toDto(relationship);
     }
 
@@ -133,6 +143,78 @@ class ProductRelationshipServiceImplTest {
         verify(mapper, never()).toDto(any());
     }
 
+    @Test
+    void createRelationship_ToItself_Fails() {
+        // Arrange
+        ProductRelationshipDTO requestDTO = ProductRelationshipDTO.builder()
+                .relatedProductId(PRODUCT_ID)
+                .relationshipType(RelationshipTypeEnum.CROSS_SELL)
+                .build();
+
+        // Act & Assert
+        StepVerifier.create(service.createRelationship(PRODUCT_ID, requestDTO))
+                .expectErrorMatches(throwable -> throwable.getMessage().startsWith("Circular reference detected"))
+                .verify();
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createRelationship_ClosingUpgradeCycle_Fails() {
+        // Arrange - the related product already upgrades to this product
+        ProductRelationshipDTO requestDTO = ProductRelationshipDTO.builder()
+                .relatedProductId(RELATED_PRODUCT_ID)
+                .relationshipType(RelationshipTypeEnum.UPGRADE)
+                .build();
+        when(repository.existsPath(RELATED_PRODUCT_ID, PRODUCT_ID, RelationshipTypeEnum.UPGRADE))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(service.createRelationship(PRODUCT_ID, requestDTO))
+                .expectErrorMatches(throwable -> throwable.getMessage().startsWith("Circular reference detected"))
+                .verify();
+
+        verify(repository).lockGraph(anyLong());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void createRelationship_CrossSell_SkipsCycleCheck() {
+        // Arrange
+        ProductRelationshipDTO requestDTO = ProductRelationshipDTO.builder()
+                .relatedProductId(RELATED_PRODUCT_ID)
+                .relationshipType(RelationshipTypeEnum.CROSS_SELL)
+                .build();
+        when(mapper.toEntity(requestDTO)).thenReturn(relationship);
+        when(repository.save(relationship)).thenReturn(Mono.just(relationship));
+        when(mapper.toDto(relationship)).thenReturn(relationshipDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.createRelationship(PRODUCT_ID, requestDTO))
+                .expectNext(relationshipDTO)
+                .verifyComplete();
+
+        verify(repository, never()).existsPath(any(), any(), any());
+    }
+
+    @Test
+    void updateRelationship_TypeOnly_ChecksCycleWithCurrentRelatedProduct() {
+        // Arrange
+        ProductRelationshipDTO updateRequest = ProductRelationshipDTO.builder()
+                .relationshipType(RelationshipTypeEnum.PRE_REQUISITE)
+                .build();
+        when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.just(relationship));
+        when(repository.existsPath(RELATED_PRODUCT_ID, PRODUCT_ID, RelationshipTypeEnum.PRE_REQUISITE))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(service.updateRelationship(PRODUCT_ID, RELATIONSHIP_ID, updateRequest))
+                .expectErrorMatches(throwable -> throwable.getMessage().startsWith("Circular reference detected"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+    }
+
     @Test
     void getRelationshipById_Success() {
         // Arrange
@@ -196,9 +278,8 @@ class ProductRelationshipServiceImplTest {
                 .description("Upgrade product relationship")
                 .build();
 
-        when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.just(relationship));
-        doNothing().when(mapper).updateEntityFromDto(updateRequest, relationship);
-        when(repository.save(relationship)).thenReturn(Mono.just(relationship));
+        when(repository.updateForProduct(RELATIONSHIP_ID, PRODUCT_ID,
+                updateRequest.getRelatedProductId(), updateRequest.getRelationshipType(), updateRequest.getDescription())).thenReturn(Mono.just(relationship));
         when(mapper.toDto(relationship)).thenReturn(updateRequest);
 
         // Act & Assert
@@ -207,12 +288,28 @@ class ProductRelationshipServiceImplTest {
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(RELATIONSHIP_ID);
-        verify(mapper).updateEntityFromDto(updateRequest, relationship);
-        verify(repository).save(relationship);
+        verify(repository).updateForProduct(RELATIONSHIP_ID, PRODUCT_ID,
+                updateRequest.getRelatedProductId(), updateRequest.getRelationshipType(), updateRequest.getDescription());
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(relationship);
     }
 
+    @Test
+    void updateRelationship_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(RELATIONSHIP_ID, PRODUCT_ID)).thenReturn(Mono.just(6L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateRelationship(PRODUCT_ID, RELATIONSHIP_ID, relationshipDTO, 5L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 5 but found 6"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+        verifyNoInteractions(crossSellIndex);
+    }
+
     @Test
     void updateRelationship_NotFound() {
         // Arrange
@@ -222,6 +319,8 @@ class ProductRelationshipServiceImplTest {
                 .description("Upgrade product relationship")
                 .build();
 
+        when(repository.updateForProduct(RELATIONSHIP_ID, PRODUCT_ID,
+                updateRequest.getRelatedProductId(), updateRequest.getRelationshipType(), updateRequest.getDescription())).thenReturn(Mono.empty());
         when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -233,7 +332,6 @@ class ProductRelationshipServiceImplTest {
 
         // Verify interactions
         verify(repository).findById(RELATIONSHIP_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
@@ -251,6 +349,8 @@ class ProductRelationshipServiceImplTest {
         relationshipFromDifferentProduct.setProductRelationshipId(RELATIONSHIP_ID);
         relationshipFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.updateForProduct(RELATIONSHIP_ID, PRODUCT_ID,
+                updateRequest.getRelatedProductId(), updateRequest.getRelationshipType(), updateRequest.getDescription())).thenReturn(Mono.empty());
         when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.just(relationshipFromDifferentProduct));
 
         // Act & Assert
@@ -262,7 +362,6 @@ class ProductRelationshipServiceImplTest {
 
         // Verify interactions
         verify(repository).findById(RELATIONSHIP_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
@@ -270,21 +369,22 @@ class ProductRelationshipServiceImplTest {
     @Test
     void deleteRelationship_Success() {
         // Arrange
-        when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.just(relationship));
-        when(repository.deleteById(RELATIONSHIP_ID)).thenReturn(Mono.empty());
+        when(repository.deleteForProduct(RELATIONSHIP_ID, PRODUCT_ID)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteRelationship(PRODUCT_ID, RELATIONSHIP_ID))
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(RELATIONSHIP_ID);
-        verify(repository).deleteById(RELATIONSHIP_ID);
+        verify(repository).deleteForProduct(RELATIONSHIP_ID, PRODUCT_ID);
+        verify(repository, never()).findById(any(UUID.class));
+        verify(crossSellIndex).remove(RELATIONSHIP_ID);
     }
 
     @Test
     void deleteRelationship_NotFound() {
         // Arrange
+        when(repository.deleteForProduct(RELATIONSHIP_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -306,6 +406,7 @@ class ProductRelationshipServiceImplTest {
         relationshipFromDifferentProduct.setProductRelationshipId(RELATIONSHIP_ID);
         relationshipFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.deleteForProduct(RELATIONSHIP_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(RELATIONSHIP_ID)).thenReturn(Mono.just(relationshipFromDifferentProduct));
 
         // Act & Assert
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.search.v1;
+
+import com.firefly.core.product.core.search.SearchCursor;
+import com.firefly.core.product.core.services.impl.ProductSearchServiceImpl;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSearchResultDTO;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductSearchMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceImplTest {
+
+    @Mock
+    private ProductRepository repository;
+
+    @InjectMocks
+    private ProductSearchServiceImpl service;
+
+    private final UUID FIRST_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID SECOND_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID THIRD_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+
+    private ProductDTO firstDTO;
+    private ProductDTO secondDTO;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        firstDTO = ProductDTO.builder().productId(FIRST_ID).productName("Credit Card").build();
+        secondDTO = ProductDTO.builder().productId(SECOND_ID).productName("Credit Line").build();
+    }
+
+    @Test
+    void searchProducts_FirstPage_KeepsRankOrderAndReturnsCursor() {
+        // Arrange - products are loaded by primary key in a different order than ranked
+        when(repository.search("cred", "en", null, null, 3)).thenReturn(Flux.just(
+                new ProductSearchMatch(SECOND_ID, 0.9f),
+                new ProductSearchMatch(FIRST_ID, 0.5f),
+                new ProductSearchMatch(THIRD_ID, 0.1f)));
+        when(repository.findDtosByProductIdIn(List.of(SECOND_ID, FIRST_ID))).thenReturn(Flux.just(firstDTO, secondDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.searchProducts(" cred ", "en", null, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of(SECOND_ID, FIRST_ID), page.getContent().stream()
+                            .map(result -> result.getProduct().getProductId())
+                            .toList());
+                    assertEquals(0.9f, page.getContent().get(0).getRank());
+                    assertTrue(page.isHasMore());
+                    assertEquals(2, page.getPageSize());
+                    assertEquals(new SearchCursor(0.5f, FIRST_ID), SearchCursor.decode(page.getNextCursor()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchProducts_WithCursor_ResumesAfterLastMatch() {
+        // Arrange
+        String cursor = new SearchCursor(0.5f, FIRST_ID).encode();
+        when(repository.search("cred", null, 0.5f, FIRST_ID, 3))
+                .thenReturn(Flux.just(new ProductSearchMatch(SECOND_ID, 0.5f)));
+        when(repository.findDtosByProductIdIn(List.of(SECOND_ID))).thenReturn(Flux.just(secondDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.searchProducts("cred", " ", cursor, 2))
+                .assertNext(page -> {
+                    assertEquals(1, page.getContent().size());
+                    assertEquals(secondDTO, page.getContent().get(0).getProduct());
+                    assertFalse(page.isHasMore());
+                    assertNull(page.getNextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void searchProducts_DeletedProductIsLeftOut() {
+        // Arrange
+        when(repository.search("cred", null, null, null, 3)).thenReturn(Flux.just(
+                new ProductSearchMatch(FIRST_ID, 0.9f),
+                new ProductSearchMatch(THIRD_ID, 0.4f)));
+        when(repository.findDtosByProductIdIn(List.of(FIRST_ID, THIRD_ID))).thenReturn(Flux.just(firstDTO));
+
+        // Act & Assert
+        StepVerifier.create(service.searchProducts("cred", null, null, 2))
+                .assertNext(page -> assertEquals(List.of(firstDTO), page.getContent().stream()
+                        .map(ProductSearchResultDTO::getProduct)
+                        .toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void searchProducts_NoMatches_SkipsProductLoad() {
+        // Arrange
+        when(repository.search("zzz", null, null, null, 3)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.searchProducts("zzz", null, null, 2))
+                .assertNext(page -> {
+                    assertTrue(page.getContent().isEmpty());
+                    assertFalse(page.isHasMore());
+                })
+                .verifyComplete();
+
+        verify(repository, never()).findDtosByProductIdIn(anyList());
+    }
+
+    @Test
+    void searchProducts_BlankQuery() {
+        // Act & Assert
+        StepVerifier.create(service.searchProducts("  ", "en", null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void searchProducts_InvalidCursor() {
+        // Act & Assert
+        StepVerifier.create(service.searchProducts("cred", "en", "not-a-cursor", null))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof IllegalArgumentException &&
+                    throwable.getMessage().startsWith("Invalid cursor token"))
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+}
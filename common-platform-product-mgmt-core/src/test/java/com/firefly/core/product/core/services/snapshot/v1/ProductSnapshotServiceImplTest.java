@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.services.snapshot.v1;
+
+import com.firefly.core.product.core.cache.ProductCacheProperties;
+import com.firefly.core.product.core.cache.ProductCaches;
+import com.firefly.core.product.core.mappers.ProductConfigurationMapper;
+import com.firefly.core.product.core.mappers.ProductMapper;
+import com.firefly.core.product.core.mappers.ProductVersionMapper;
+import com.firefly.core.product.core.services.impl.ProductSnapshotServiceImpl;
+import com.firefly.core.product.interfaces.dtos.ProductAsOfDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSnapshotDTO;
+import com.firefly.core.product.interfaces.dtos.ProductVersionDTO;
+import com.firefly.core.product.models.entities.Product;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import com.firefly.core.product.models.entities.ProductVersion;
+import com.firefly.core.product.models.repositories.ProductConfigurationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRepository;
+import com.firefly.core.product.models.repositories.ProductDocumentationRequirementRepository;
+import com.firefly.core.product.models.repositories.ProductLocalizationRepository;
+import com.firefly.core.product.models.repositories.ProductRelationshipRepository;
+import com.firefly.core.product.models.repositories.ProductRepository;
+import com.firefly.core.product.models.repositories.ProductVersionRepository;
+import com.firefly.core.product.models.repositories.ProductVersionSnapshotInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSnapshotServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductConfigurationRepository configurationRepository;
+
+    @Mock
+    private ProductLocalizationRepository localizationRepository;
+
+    @Mock
+    private ProductDocumentationRequirementRepository documentationRequirementRepository;
+
+    @Mock
+    private ProductRelationshipRepository relationshipRepository;
+
+    @Mock
+    private ProductVersionRepository versionRepository;
+
+    @Mock
+    private ProductDocumentationRepository documentationRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private ProductConfigurationMapper configurationMapper;
+
+    @Mock
+    private ProductVersionMapper versionMapper;
+
+    @Spy
+    private ProductCaches caches = new ProductCaches(
+            new ProductCacheProperties(),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @InjectMocks
+    private ProductSnapshotServiceImpl service;
+
+    private Product product;
+    private ProductDTO productDTO;
+    private ProductConfiguration configuration;
+    private ProductConfigurationDTO configurationDTO;
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID CONFIG_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID VERSION_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        product = new Product();
+        product.setProductId(PRODUCT_ID);
+
+        productDTO = ProductDTO.builder()
+                .productId(PRODUCT_ID)
+                .productName("Test Product")
+                .dateUpdated(now)
+                .rowVersion(3L)
+                .build();
+
+        configuration = new ProductConfiguration();
+        configuration.setProductConfigurationId(CONFIG_ID);
+        configuration.setProductId(PRODUCT_ID);
+        configuration.setConfigKey("interest.rate");
+        configuration.setDateUpdated(now);
+
+        configurationDTO = ProductConfigurationDTO.builder()
+                .productConfigurationId(CONFIG_ID)
+                .productId(PRODUCT_ID)
+                .configKey("interest.rate")
+                .dateUpdated(now)
+                .rowVersion(1L)
+                .build();
+
+        lenient().when(configurationRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.just(configurationDTO));
+        lenient().when(configurationMapper.toDto(configuration)).thenReturn(configurationDTO);
+        lenient().when(localizationRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.empty());
+        lenient().when(documentationRequirementRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.empty());
+        lenient().when(relationshipRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.empty());
+        lenient().when(versionRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.empty());
+        lenient().when(documentationRepository.findDtosByProductId(PRODUCT_ID)).thenReturn(Flux.empty());
+    }
+
+    @Test
+    void getProductSnapshot_Success() {
+        // Arrange
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Mono.just(product));
+        when(productMapper.toDto(product)).thenReturn(productDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.getProductSnapshot(PRODUCT_ID))
+                .assertNext(snapshot -> {
+                    assertEquals(productDTO, snapshot.getProduct());
+                    assertEquals(1, snapshot.getConfigurations().size());
+                    assertEquals(configurationDTO, snapshot.getConfigurations().get(0));
+                    assertTrue(snapshot.getLocalizations().isEmpty());
+                    assertTrue(snapshot.getDocumentationRequirements().isEmpty());
+                    assertTrue(snapshot.getRelationships().isEmpty());
+                    assertTrue(snapshot.getVersions().isEmpty());
+                    assertTrue(snapshot.getDocumentation().isEmpty());
+                    assertNotNull(snapshot.getEtag());
+                    assertEquals(64, snapshot.getEtag().length());
+                })
+                .verifyComplete();
+
+        // Verify interactions
+        verify(productRepository).findById(PRODUCT_ID);
+        verify(configurationRepository).findDtosByProductId(PRODUCT_ID);
+        verify(localizationRepository).findDtosByProductId(PRODUCT_ID);
+        verify(documentationRequirementRepository).findDtosByProductId(PRODUCT_ID);
+        verify(relationshipRepository).findDtosByProductId(PRODUCT_ID);
+        verify(versionRepository).findDtosByProductId(PRODUCT_ID);
+        verify(documentationRepository).findDtosByProductId(PRODUCT_ID);
+        verify(configurationMapper, never()).toDto(any(ProductConfiguration.class));
+    }
+
+    @Test
+    void getProductSnapshot_EtagChangesWhenChildChanges() {
+        // Arrange
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Mono.just(product));
+        when(productMapper.toDto(product)).thenReturn(productDTO);
+        String firstEtag = service.getProductSnapshot(PRODUCT_ID).map(ProductSnapshotDTO::getEtag).block();
+        String sameEtag = service.getProductSnapshot(PRODUCT_ID).map(ProductSnapshotDTO::getEtag).block();
+
+        // An update within the same clock tick still bumps the row version
+        configurationDTO.setRowVersion(configurationDTO.getRowVersion() + 1);
+
+        // Act & Assert
+        StepVerifier.create(service.getProductSnapshot(PRODUCT_ID).map(ProductSnapshotDTO::getEtag))
+                .assertNext(changedEtag -> {
+                    assertEquals(firstEtag, sameEtag);
+                    assertNotEquals(firstEtag, changedEtag);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getProductSnapshot_ProductNotFound_ReturnsEmpty() {
+        // Arrange
+        when(productRepository.findById(PRODUCT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getProductSnapshot(PRODUCT_ID))
+                .verifyComplete();
+
+        verify(productMapper, never()).toDto(any(Product.class));
+    }
+
+    @Test
+    void getProductAsOf_ReturnsSnapshotOfEffectiveVersion() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2025, 6, 1, 0, 0);
+        ProductVersion version = new ProductVersion();
+        version.setProductVersionId(VERSION_ID);
+        version.setProductId(PRODUCT_ID);
+        version.setVersionNumber(2L);
+        version.setEffectiveDate(asOf.minusMonths(1));
+        ProductVersionDTO versionDTO = ProductVersionDTO.builder()
+                .productVersionId(VERSION_ID)
+                .productId(PRODUCT_ID)
+                .versionNumber(2L)
+                .build();
+        Product capturedProduct = new Product();
+        capturedProduct.setProductId(PRODUCT_ID);
+
+        when(versionRepository.findEffectiveAt(PRODUCT_ID, asOf)).thenReturn(Mono.just(version));
+        when(versionMapper.toDto(version)).thenReturn(versionDTO);
+        when(productRepository.findSnapshotByVersionId(VERSION_ID)).thenReturn(Mono.just(capturedProduct));
+        when(productMapper.toDto(capturedProduct)).thenReturn(productDTO);
+        when(configurationRepository.findSnapshotByVersionId(VERSION_ID)).thenReturn(Flux.just(configuration));
+        LocalDateTime capturedAt = asOf.minusMonths(2);
+        when(versionRepository.findSnapshotInfoByVersionId(VERSION_ID))
+                .thenReturn(Mono.just(new ProductVersionSnapshotInfo(capturedAt, false)));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductAsOf(PRODUCT_ID, asOf))
+                .assertNext(resolved -> {
+                    assertEquals(asOf, resolved.getAsOf());
+                    assertEquals(versionDTO, resolved.getVersion());
+                    assertEquals(productDTO, resolved.getProduct());
+                    assertEquals(1, resolved.getConfigurations().size());
+                    assertEquals(configurationDTO, resolved.getConfigurations().get(0));
+                    assertEquals(capturedAt, resolved.getSnapshotCapturedAt());
+                    assertFalse(resolved.isSnapshotBackfilled());
+                })
+                .verifyComplete();
+
+        // The snapshot is immutable, so a second lookup only resolves the version
+        StepVerifier.create(service.getProductAsOf(PRODUCT_ID, asOf).map(ProductAsOfDTO::getProduct))
+                .expectNext(productDTO)
+                .verifyComplete();
+        verify(versionRepository, times(2)).findEffectiveAt(PRODUCT_ID, asOf);
+        verify(productRepository, times(1)).findSnapshotByVersionId(VERSION_ID);
+        verify(configurationRepository, times(1)).findSnapshotByVersionId(VERSION_ID);
+    }
+
+    @Test
+    void getProductAsOf_BackfilledSnapshotIsFlagged() {
+        // Arrange - a version that predates snapshots holds the state at migration time
+        LocalDateTime asOf = LocalDateTime.of(2025, 6, 1, 0, 0);
+        LocalDateTime migratedAt = LocalDateTime.of(2025, 9, 1, 0, 0);
+        ProductVersion version = new ProductVersion();
+        version.setProductVersionId(VERSION_ID);
+        version.setProductId(PRODUCT_ID);
+        Product capturedProduct = new Product();
+        capturedProduct.setProductId(PRODUCT_ID);
+
+        when(versionRepository.findEffectiveAt(PRODUCT_ID, asOf)).thenReturn(Mono.just(version));
+        when(productRepository.findSnapshotByVersionId(VERSION_ID)).thenReturn(Mono.just(capturedProduct));
+        when(productMapper.toDto(capturedProduct)).thenReturn(productDTO);
+        when(configurationRepository.findSnapshotByVersionId(VERSION_ID)).thenReturn(Flux.empty());
+        when(versionRepository.findSnapshotInfoByVersionId(VERSION_ID))
+                .thenReturn(Mono.just(new ProductVersionSnapshotInfo(migratedAt, true)));
+
+        // Act & Assert
+        StepVerifier.create(service.getProductAsOf(PRODUCT_ID, asOf))
+                .assertNext(resolved -> {
+                    assertTrue(resolved.isSnapshotBackfilled());
+                    assertEquals(migratedAt, resolved.getSnapshotCapturedAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getProductAsOf_NoEffectiveVersion() {
+        // Arrange
+        LocalDateTime asOf = LocalDateTime.of(2020, 1, 1, 0, 0);
+        when(versionRepository.findEffectiveAt(PRODUCT_ID, asOf)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(service.getProductAsOf(PRODUCT_ID, asOf))
+                .verifyComplete();
+
+        verifyNoInteractions(productRepository);
+    }
+}
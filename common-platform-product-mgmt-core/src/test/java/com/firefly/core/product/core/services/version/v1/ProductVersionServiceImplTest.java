@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -195,9 +196,8 @@ class ProductVersionServiceImplTest {
                 .effectiveDate(LocalDateTime.now())
                 .build();
 
-        when(repository.findById(VERSION_ID)).thenReturn(Mono.just(version));
-        doNothing().when(mapper).updateEntityFromDto(updateRequest, version);
-        when(repository.save(version)).thenReturn(Mono.just(version));
+        when(repository.updateForProduct(VERSION_ID, PRODUCT_ID,
+                updateRequest.getVersionNumber(), updateRequest.getVersionDescription(), updateRequest.getEffectiveDate())).thenReturn(Mono.just(version));
         when(mapper.toDto(version)).thenReturn(updateRequest);
 
         // Act & Assert
@@ -206,12 +206,42 @@ class ProductVersionServiceImplTest {
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(VERSION_ID);
-        verify(mapper).updateEntityFromDto(updateRequest, version);
-        verify(repository).save(version);
+        verify(repository).updateForProduct(VERSION_ID, PRODUCT_ID,
+                updateRequest.getVersionNumber(), updateRequest.getVersionDescription(), updateRequest.getEffectiveDate());
+        verify(repository, never()).findById(any(UUID.class));
         verify(mapper).toDto(version);
     }
 
+    @Test
+    void updateProductVersion_MatchingRowVersion_Updates() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(VERSION_ID, PRODUCT_ID)).thenReturn(Mono.just(2L));
+        when(repository.updateForProduct(VERSION_ID, PRODUCT_ID,
+                versionDTO.getVersionNumber(), versionDTO.getVersionDescription(), versionDTO.getEffectiveDate()))
+                .thenReturn(Mono.just(version));
+        when(mapper.toDto(version)).thenReturn(versionDTO);
+
+        // Act & Assert
+        StepVerifier.create(service.updateProductVersion(PRODUCT_ID, VERSION_ID, versionDTO, 2L))
+                .expectNext(versionDTO)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateProductVersion_StaleRowVersion_Conflict() {
+        // Arrange
+        when(repository.lockRowVersionForProduct(VERSION_ID, PRODUCT_ID)).thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        StepVerifier.create(service.updateProductVersion(PRODUCT_ID, VERSION_ID, versionDTO, 2L))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof OptimisticLockingFailureException &&
+                    throwable.getMessage().contains("expected row version 2 but found 3"))
+                .verify();
+
+        verify(repository, never()).updateForProduct(any(), any(), any(), any(), any());
+    }
+
     @Test
     void updateProductVersion_NotFound() {
         // Arrange
@@ -221,6 +251,8 @@ class ProductVersionServiceImplTest {
                 .effectiveDate(LocalDateTime.now())
                 .build();
 
+        when(repository.updateForProduct(VERSION_ID, PRODUCT_ID,
+                updateRequest.getVersionNumber(), updateRequest.getVersionDescription(), updateRequest.getEffectiveDate())).thenReturn(Mono.empty());
         when(repository.findById(VERSION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -232,7 +264,6 @@ class ProductVersionServiceImplTest {
 
         // Verify interactions
         verify(repository).findById(VERSION_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
@@ -250,6 +281,8 @@ class ProductVersionServiceImplTest {
         versionFromDifferentProduct.setProductVersionId(VERSION_ID);
         versionFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.updateForProduct(VERSION_ID, PRODUCT_ID,
+                updateRequest.getVersionNumber(), updateRequest.getVersionDescription(), updateRequest.getEffectiveDate())).thenReturn(Mono.empty());
         when(repository.findById(VERSION_ID)).thenReturn(Mono.just(versionFromDifferentProduct));
 
         // Act & Assert
@@ -261,7 +294,6 @@ class ProductVersionServiceImplTest {
 
         // Verify interactions
         verify(repository).findById(VERSION_ID);
-        verify(mapper, never()).updateEntityFromDto(any(), any());
         verify(repository, never()).save(any());
         verify(mapper, never()).toDto(any());
     }
@@ -269,21 +301,21 @@ class ProductVersionServiceImplTest {
     @Test
     void deleteProductVersion_Success() {
         // Arrange
-        when(repository.findById(VERSION_ID)).thenReturn(Mono.just(version));
-        when(repository.deleteById(VERSION_ID)).thenReturn(Mono.empty());
+        when(repository.deleteForProduct(VERSION_ID, PRODUCT_ID)).thenReturn(Mono.just(1));
 
         // Act & Assert
         StepVerifier.create(service.deleteProductVersion(PRODUCT_ID, VERSION_ID))
                 .verifyComplete();
 
         // Verify interactions
-        verify(repository).findById(VERSION_ID);
-        verify(repository).deleteById(VERSION_ID);
+        verify(repository).deleteForProduct(VERSION_ID, PRODUCT_ID);
+        verify(repository, never()).findById(any(UUID.class));
     }
 
     @Test
     void deleteProductVersion_NotFound() {
         // Arrange
+        when(repository.deleteForProduct(VERSION_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(VERSION_ID)).thenReturn(Mono.empty());
 
         // Act & Assert
@@ -305,6 +337,7 @@ class ProductVersionServiceImplTest {
         versionFromDifferentProduct.setProductVersionId(VERSION_ID);
         versionFromDifferentProduct.setProductId(UUID.fromString("550e8400-e29b-41d4-a716-446655440999")); // Different product ID
 
+        when(repository.deleteForProduct(VERSION_ID, PRODUCT_ID)).thenReturn(Mono.just(0));
         when(repository.findById(VERSION_ID)).thenReturn(Mono.just(versionFromDifferentProduct));
 
         // Act & Assert
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterRequestUtilsTest {
+
+    private static final TypeReference<FilterRequest<ProductConfigurationDTO>> CONFIGURATION_FILTER =
+            new TypeReference<>() {
+            };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @Test
+    void scoped_WithoutFilters_CreatesScopedFilters() throws Exception {
+        // Arrange
+        FilterRequest<ProductConfigurationDTO> request = objectMapper.readValue("{}", CONFIGURATION_FILTER);
+
+        // Act
+        FilterRequest<ProductConfigurationDTO> scoped = FilterRequestUtils.scoped(
+                request, ProductConfigurationDTO::new, filters -> filters.setProductId(PRODUCT_ID));
+
+        // Assert
+        assertSame(request, scoped);
+        assertNotNull(scoped.getFilters());
+        assertEquals(PRODUCT_ID, scoped.getFilters().getProductId());
+    }
+
+    @Test
+    void scoped_KeepsCallerFilters() throws Exception {
+        // Arrange
+        FilterRequest<ProductConfigurationDTO> request = objectMapper.readValue(
+                "{\"filters\":{\"configKey\":\"limit.daily\",\"configType\":\"LIMITS\"}}", CONFIGURATION_FILTER);
+        ProductConfigurationDTO callerFilters = request.getFilters();
+
+        // Act
+        FilterRequest<ProductConfigurationDTO> scoped = FilterRequestUtils.scoped(
+                request, ProductConfigurationDTO::new, filters -> filters.setProductId(PRODUCT_ID));
+
+        // Assert
+        assertSame(callerFilters, scoped.getFilters());
+        assertEquals(PRODUCT_ID, scoped.getFilters().getProductId());
+        assertEquals("limit.daily", scoped.getFilters().getConfigKey());
+        assertEquals(ProductConfigTypeEnum.LIMITS, scoped.getFilters().getConfigType());
+    }
+
+    @Test
+    void scoped_OverwritesProductSuppliedByCaller() throws Exception {
+        // Arrange - a client must not read the configurations of another product through the filter
+        UUID otherProductId = UUID.fromString("550e8400-e29b-41d4-a716-446655440009");
+        FilterRequest<ProductConfigurationDTO> request = objectMapper.readValue(
+                "{\"filters\":{\"configKey\":\"limit.daily\"}}", CONFIGURATION_FILTER);
+        request.getFilters().setProductId(otherProductId);
+
+        // Act
+        FilterRequest<ProductConfigurationDTO> scoped = FilterRequestUtils.scoped(
+                request, ProductConfigurationDTO::new, filters -> filters.setProductId(PRODUCT_ID));
+
+        // Assert
+        assertEquals(PRODUCT_ID, scoped.getFilters().getProductId());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RowVersionUtilsTest {
+
+    @Test
+    void requireRowVersion_WithoutExpectation_SkipsRead() {
+        // Arrange
+        Mono<Long> current = Mono.fromCallable(() -> {
+            throw new AssertionError("Row version must not be read without If-Match");
+        });
+
+        // Act & Assert
+        StepVerifier.create(RowVersionUtils.requireRowVersion(current, null, "Product"))
+                .verifyComplete();
+    }
+
+    @Test
+    void requireRowVersion_MatchingVersion_Proceeds() {
+        StepVerifier.create(RowVersionUtils.requireRowVersion(Mono.just(3L), 3L, "Product"))
+                .verifyComplete();
+    }
+
+    @Test
+    void requireRowVersion_StaleVersion_Conflict() {
+        StepVerifier.create(RowVersionUtils.requireRowVersion(Mono.just(4L), 3L, "Product"))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void requireRowVersion_MissingEntity_LeftToTheUpdate() {
+        StepVerifier.create(RowVersionUtils.requireRowVersion(Mono.empty(), 3L, "Product"))
+                .verifyComplete();
+    }
+
+    @Test
+    void requireRowVersion_AnyVersion_RequiresTheEntityToExist() {
+        StepVerifier.create(RowVersionUtils.requireRowVersion(
+                        Mono.just(4L), RowVersionUtils.ANY_ROW_VERSION, "Product"))
+                .verifyComplete();
+        StepVerifier.create(RowVersionUtils.requireRowVersion(
+                        Mono.empty(), RowVersionUtils.ANY_ROW_VERSION, "Product"))
+                .expectErrorMatches(error -> error instanceof OptimisticLockingFailureException
+                        && error.getMessage().equals("Product does not exist"))
+                .verify();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionUtilsTest {
+
+    private final TransactionalOperator transactionalOperator = TransactionalOperator.create(new NoOpTransactionManager());
+
+    @Test
+    void afterCommit_WithoutTransaction_RunsImmediately() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act & Assert
+        StepVerifier.create(TransactionUtils.afterCommit(runs::incrementAndGet))
+                .verifyComplete();
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_InTransaction_RunsOnlyOnceCommitted() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+        Mono<Integer> work = TransactionUtils.afterCommit(runs::incrementAndGet)
+                .then(Mono.fromSupplier(runs::get));
+
+        // Act & Assert - still inside the transaction the action has not run
+        StepVerifier.create(transactionalOperator.transactional(work))
+                .expectNext(0)
+                .verifyComplete();
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void afterCommit_RolledBack_NeverRuns() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+        Mono<Void> work = TransactionUtils.afterCommit(runs::incrementAndGet)
+                .then(Mono.error(new IllegalStateException("Write failed")));
+
+        // Act & Assert
+        StepVerifier.create(transactionalOperator.transactional(work))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, runs.get());
+    }
+
+    /**
+     * A transaction manager without a resource, enough to drive the synchronization callbacks.
+     */
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager,
+                                     Object transaction, TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
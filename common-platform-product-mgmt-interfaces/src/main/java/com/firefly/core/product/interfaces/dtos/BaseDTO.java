@@ -35,4 +35,7 @@ public abstract class BaseDTO {
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private LocalDateTime dateUpdated;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long rowVersion;
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.firefly.core.product.interfaces.enums.BatchItemStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single item of a batch request.
+ *
+ * @param <T> the type of the entity DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single item of a batch request")
+public class BatchItemResultDTO<T> {
+
+    @Schema(description = "Zero-based position of the item in the request")
+    private int index;
+
+    @Schema(description = "Outcome of the item")
+    private BatchItemStatusEnum status;
+
+    @Schema(description = "Unique identifier of the affected entity, when known")
+    private UUID id;
+
+    @Schema(description = "The entity as stored, for succeeded creates and updates")
+    private T data;
+
+    @Schema(description = "Reason the item failed or was rolled back")
+    private String error;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change of a catalogue entity. Events of the same aggregate are published in commit order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A committed change of a catalogue entity")
+public class CatalogueChangeEventDTO {
+
+    @Schema(description = "Opaque position of the event in the change feed, pass it as 'since' to resume after it")
+    private String cursor;
+
+    @Schema(description = "Ordering key of the event: the product ID, or the category ID for category changes")
+    private UUID aggregateId;
+
+    @Schema(description = "Type of the changed entity")
+    private CatalogueEntityTypeEnum entityType;
+
+    @Schema(description = "Unique identifier of the changed entity")
+    private UUID entityId;
+
+    @Schema(description = "Kind of change")
+    private ChangeTypeEnum changeType;
+
+    @Schema(description = "The entity row after the change, with database column names; null for deletions")
+    @JsonRawValue
+    private String payload;
+
+    @Schema(description = "Time the change was written")
+    private LocalDateTime occurredAt;
+}
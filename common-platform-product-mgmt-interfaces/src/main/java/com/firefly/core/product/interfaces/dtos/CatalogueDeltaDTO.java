@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of the catalogue delta sync.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Catalogue entities written or deleted since a watermark and the watermark to resume from")
+public class CatalogueDeltaDTO {
+
+    @Schema(description = "Entities written or deleted after the requested watermark, ordered by write time")
+    private List<CatalogueDeltaItemDTO> changes;
+
+    @Schema(description = "Opaque watermark to pass as 'since' on the next request; never null, so an empty page keeps the position")
+    private String watermark;
+
+    @Schema(description = "Whether more changes are available right away")
+    private boolean hasMore;
+}
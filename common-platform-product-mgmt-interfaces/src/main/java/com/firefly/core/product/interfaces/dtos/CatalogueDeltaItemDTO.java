@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The current state of a catalogue entity written since a delta watermark, or its deletion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A catalogue entity written since the watermark, or a tombstone of a deleted one")
+public class CatalogueDeltaItemDTO {
+
+    @Schema(description = "Type of the entity")
+    private CatalogueEntityTypeEnum entityType;
+
+    @Schema(description = "Unique identifier of the entity")
+    private UUID entityId;
+
+    @Schema(description = "Product of the entity, or the category ID for categories")
+    private UUID aggregateId;
+
+    @Schema(description = "UPDATED for entities that exist (created or modified), DELETED for tombstones")
+    private ChangeTypeEnum changeType;
+
+    @Schema(description = "Time of the last write of the entity, or of its deletion")
+    private LocalDateTime dateUpdated;
+
+    @Schema(description = "The entity as returned by its own endpoints; null for deletions")
+    private Object data;
+}
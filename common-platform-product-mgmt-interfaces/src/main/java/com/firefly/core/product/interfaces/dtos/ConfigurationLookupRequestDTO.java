@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selection of configurations across several products, read with a single query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Products, keys and types of the configurations to look up")
+public class ConfigurationLookupRequestDTO {
+
+    @Schema(description = "Unique identifiers of the products, required")
+    private List<UUID> productIds;
+
+    @Schema(description = "Configuration keys to return; empty or omitted returns every key")
+    private List<String> configKeys;
+
+    @Schema(description = "Configuration types to return; empty or omitted returns every type")
+    private List<ProductConfigTypeEnum> configTypes;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyset (cursor) paginated response.
+ * The {@code nextCursor} token is opaque and stable: passing it back resumes the scan
+ * right after the last element of this page, regardless of concurrent inserts.
+ *
+ * @param <T> the type of the page elements
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Keyset paginated response containing a page of items and the cursor to resume the scan")
+public class CursorPaginationResponse<T> {
+
+    @Schema(description = "The list of items for the current page")
+    private List<T> content;
+
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page, null when the scan is complete")
+    private String nextCursor;
+
+    @Schema(description = "Whether more items are available after this page")
+    private boolean hasMore;
+
+    @Schema(description = "The effective page size applied by the server")
+    private int pageSize;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Documents still to be supplied for a set of products, merged over the products.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outstanding documentation of a set of products")
+public class DocumentationChecklistDTO {
+
+    @Schema(description = "Types mandatory for at least one product and not supplied yet")
+    private List<ContractingDocTypeEnum> missingMandatory;
+
+    @Schema(description = "Types optional for at least one product, mandatory for none, and not supplied yet")
+    private List<ContractingDocTypeEnum> missingOptional;
+
+    @Schema(description = "Whether every mandatory document has been supplied")
+    private boolean complete;
+}
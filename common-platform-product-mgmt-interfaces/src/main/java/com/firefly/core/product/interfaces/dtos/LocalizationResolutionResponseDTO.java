@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Best available localization of several products for a locale.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Localizations resolved for a locale through its fallback chain")
+public class LocalizationResolutionResponseDTO {
+
+    @Schema(description = "Canonical form of the requested locale; empty if none was given")
+    private String locale;
+
+    @Schema(description = "Languages tried, most specific first")
+    private List<String> fallbackChain;
+
+    @Schema(description = "First localization found along the fallback chain by product ID; "
+            + "its language code tells which language matched. Products without any are absent")
+    private Map<UUID, ProductLocalizationDTO> localizations;
+}
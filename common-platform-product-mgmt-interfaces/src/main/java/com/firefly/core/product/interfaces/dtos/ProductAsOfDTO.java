@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A product and its configurations as defined by the product version in effect at a point in time.
+ * The product and configurations are those captured when the version was created, not the state at the
+ * requested time; versions that predate snapshots carry the state at migration time and are flagged.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product and configurations as captured by the version in effect at the requested time")
+public class ProductAsOfDTO {
+
+    @Schema(description = "The requested point in time")
+    private LocalDateTime asOf;
+
+    @Schema(description = "The version in effect at that time: the latest one whose effective date is not after it")
+    private ProductVersionDTO version;
+
+    @Schema(description = "The product as it stood when the version was created")
+    private ProductDTO product;
+
+    @Schema(description = "The configurations of the product as they stood when the version was created")
+    private List<ProductConfigurationDTO> configurations;
+
+    @Schema(description = "When the product and configurations were captured: the creation time of the version, "
+            + "or the migration time for backfilled snapshots")
+    private LocalDateTime snapshotCapturedAt;
+
+    @Schema(description = "True if the version predates snapshots, so the product and configurations are the state "
+            + "when snapshots were introduced rather than when the version was created")
+    private boolean snapshotBackfilled;
+}
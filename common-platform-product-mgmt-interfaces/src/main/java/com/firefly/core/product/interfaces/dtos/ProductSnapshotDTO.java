@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Composite read model of a product together with all of its child entities.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Product together with its configurations, localizations, documentation requirements, relationships, versions and documentation")
+public class ProductSnapshotDTO {
+
+    @Schema(description = "The product")
+    private ProductDTO product;
+
+    @Schema(description = "Configurations of the product")
+    private List<ProductConfigurationDTO> configurations;
+
+    @Schema(description = "Localizations of the product")
+    private List<ProductLocalizationDTO> localizations;
+
+    @Schema(description = "Documentation requirements of the product")
+    private List<ProductDocumentationRequirementDTO> documentationRequirements;
+
+    @Schema(description = "Relationships where the product is the source")
+    private List<ProductRelationshipDTO> relationships;
+
+    @Schema(description = "Versions of the product")
+    private List<ProductVersionDTO> versions;
+
+    @Schema(description = "Documentation attached to the product")
+    private List<ProductDocumentationDTO> documentation;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Entity tag of the snapshot, changes whenever the product or any of its children change")
+    private String etag;
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.interfaces.enums;
+
+public enum CatalogueEntityTypeEnum {
+    PRODUCT,
+    PRODUCT_CATEGORY,
+    PRODUCT_CONFIGURATION,
+    PRODUCT_DOCUMENTATION,
+    PRODUCT_DOCUMENTATION_REQUIREMENT,
+    PRODUCT_LOCALIZATION,
+    PRODUCT_RELATIONSHIP,
+    PRODUCT_VERSION
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import com.firefly.core.product.models.entities.CatalogueChange;
+import io.r2dbc.postgresql.codec.Json;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link CatalogueChange}.
+ */
+final class CatalogueChangeConverters {
+
+    private CatalogueChangeConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, CatalogueChange> {
+
+        @Override
+        public CatalogueChange convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            CatalogueChange change = new CatalogueChange();
+            change.setEventId(EntityRows.get(row, metadata, "event_id", Long.class));
+            change.setAggregateId(EntityRows.get(row, metadata, "aggregate_id", UUID.class));
+            change.setEntityType(EntityRows.getEnum(row, metadata, "entity_type", CatalogueEntityTypeEnum.class));
+            change.setEntityId(EntityRows.get(row, metadata, "entity_id", UUID.class));
+            change.setChangeType(EntityRows.getEnum(row, metadata, "change_type", ChangeTypeEnum.class));
+            change.setPayload(payload(EntityRows.get(row, metadata, "payload", Object.class)));
+            change.setOccurredAt(EntityRows.get(row, metadata, "occurred_at", LocalDateTime.class));
+            change.setSequenceNumber(EntityRows.get(row, metadata, "sequence_number", Long.class));
+            change.setPublishedAt(EntityRows.get(row, metadata, "published_at", LocalDateTime.class));
+            return change;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<CatalogueChange, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(CatalogueChange change) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "event_id", change.getEventId(), Long.class);
+            EntityRows.put(row, "aggregate_id", change.getAggregateId(), UUID.class);
+            EntityRows.putName(row, "entity_type", change.getEntityType());
+            EntityRows.put(row, "entity_id", change.getEntityId(), UUID.class);
+            EntityRows.putName(row, "change_type", change.getChangeType());
+            EntityRows.put(row, "payload", change.getPayload(), String.class);
+            EntityRows.put(row, "occurred_at", change.getOccurredAt(), LocalDateTime.class);
+            EntityRows.put(row, "sequence_number", change.getSequenceNumber(), Long.class);
+            EntityRows.put(row, "published_at", change.getPublishedAt(), LocalDateTime.class);
+            return row;
+        }
+    }
+
+    // The outbox queries select the payload as text; a plain entity read returns the JSONB value
+    private static String payload(Object value) {
+        return value instanceof Json json ? json.asString() : (String) value;
+    }
+}
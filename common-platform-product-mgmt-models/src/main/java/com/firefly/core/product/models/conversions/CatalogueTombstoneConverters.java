@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.models.entities.CatalogueTombstone;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link CatalogueTombstone}.
+ */
+final class CatalogueTombstoneConverters {
+
+    private CatalogueTombstoneConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, CatalogueTombstone> {
+
+        @Override
+        public CatalogueTombstone convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            CatalogueTombstone tombstone = new CatalogueTombstone();
+            tombstone.setEntityId(EntityRows.get(row, metadata, "entity_id", UUID.class));
+            tombstone.setEntityType(EntityRows.getEnum(row, metadata, "entity_type", CatalogueEntityTypeEnum.class));
+            tombstone.setAggregateId(EntityRows.get(row, metadata, "aggregate_id", UUID.class));
+            tombstone.setDeletedAt(EntityRows.get(row, metadata, "deleted_at", LocalDateTime.class));
+            return tombstone;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<CatalogueTombstone, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(CatalogueTombstone tombstone) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "entity_id", tombstone.getEntityId(), UUID.class);
+            EntityRows.putName(row, "entity_type", tombstone.getEntityType());
+            EntityRows.put(row, "aggregate_id", tombstone.getAggregateId(), UUID.class);
+            EntityRows.put(row, "deleted_at", tombstone.getDeletedAt(), LocalDateTime.class);
+            return row;
+        }
+    }
+}
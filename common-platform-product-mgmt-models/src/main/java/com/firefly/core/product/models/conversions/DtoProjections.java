@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.dtos.BaseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationRequirementDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductRelationshipDTO;
+import com.firefly.core.product.interfaces.dtos.ProductVersionDTO;
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.interfaces.enums.DocTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reads R2DBC rows straight into the DTOs of read-only listings, without materialising an entity to
+ * map it afterwards. The columns are read as by the {@link EntityConverters}, so a projection and the
+ * entity mapped by its mapper give the same DTO.
+ */
+public final class DtoProjections {
+
+    private DtoProjections() {
+    }
+
+    /**
+     * Reads a {@code product} row into a {@link ProductDTO}.
+     */
+    public static ProductDTO product(Row row, RowMetadata metadata) {
+        ProductDTO product = new ProductDTO();
+        product.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        product.setTenantId(EntityRows.get(row, metadata, "tenant_id", UUID.class));
+        product.setProductCategoryId(EntityRows.get(row, metadata, "product_category_id", UUID.class));
+        product.setProductType(EntityRows.getEnum(row, metadata, "product_type", ProductTypeEnum.class));
+        product.setProductName(EntityRows.get(row, metadata, "product_name", String.class));
+        product.setProductCode(EntityRows.get(row, metadata, "product_code", String.class));
+        product.setProductDescription(EntityRows.get(row, metadata, "product_description", String.class));
+        product.setProductStatus(EntityRows.getEnum(row, metadata, "product_status", ProductStatusEnum.class));
+        product.setLaunchDate(EntityRows.getDate(row, metadata, "launch_date"));
+        product.setEndDate(EntityRows.getDate(row, metadata, "end_date"));
+        getBase(row, metadata, product);
+        return product;
+    }
+
+    /**
+     * Reads a {@code product_category} row into a {@link ProductCategoryDTO}.
+     */
+    public static ProductCategoryDTO category(Row row, RowMetadata metadata) {
+        ProductCategoryDTO category = new ProductCategoryDTO();
+        category.setProductCategoryId(EntityRows.get(row, metadata, "product_category_id", UUID.class));
+        category.setCategoryName(EntityRows.get(row, metadata, "category_name", String.class));
+        category.setCategoryDescription(EntityRows.get(row, metadata, "category_description", String.class));
+        category.setParentCategoryId(EntityRows.get(row, metadata, "parent_category_id", UUID.class));
+        category.setLevel(EntityRows.get(row, metadata, "level", Integer.class));
+        getBase(row, metadata, category);
+        return category;
+    }
+
+    /**
+     * Reads a {@code product_configuration} row into a {@link ProductConfigurationDTO}.
+     */
+    public static ProductConfigurationDTO configuration(Row row, RowMetadata metadata) {
+        ProductConfigurationDTO configuration = new ProductConfigurationDTO();
+        configuration.setProductConfigurationId(
+                EntityRows.get(row, metadata, "product_configuration_id", UUID.class));
+        configuration.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        configuration.setConfigType(EntityRows.getEnum(row, metadata, "config_type", ProductConfigTypeEnum.class));
+        configuration.setConfigKey(EntityRows.get(row, metadata, "config_key", String.class));
+        configuration.setConfigValue(EntityRows.get(row, metadata, "config_value", String.class));
+        getBase(row, metadata, configuration);
+        return configuration;
+    }
+
+    /**
+     * Reads a {@code product_documentation} row into a {@link ProductDocumentationDTO}.
+     */
+    public static ProductDocumentationDTO documentation(Row row, RowMetadata metadata) {
+        ProductDocumentationDTO documentation = new ProductDocumentationDTO();
+        documentation.setProductDocumentationId(
+                EntityRows.get(row, metadata, "product_documentation_id", UUID.class));
+        documentation.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        documentation.setDocType(EntityRows.getEnum(row, metadata, "doc_type", DocTypeEnum.class));
+        documentation.setDocumentManagerRef(EntityRows.get(row, metadata, "document_manager_ref", Long.class));
+        documentation.setDateAdded(EntityRows.get(row, metadata, "date_added", LocalDateTime.class));
+        getBase(row, metadata, documentation);
+        return documentation;
+    }
+
+    /**
+     * Reads a {@code product_documentation_requirement} row into a {@link ProductDocumentationRequirementDTO}.
+     */
+    public static ProductDocumentationRequirementDTO documentationRequirement(Row row, RowMetadata metadata) {
+        ProductDocumentationRequirementDTO requirement = new ProductDocumentationRequirementDTO();
+        requirement.setProductDocRequirementId(
+                EntityRows.get(row, metadata, "product_doc_requirement_id", UUID.class));
+        requirement.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        requirement.setDocType(EntityRows.getEnum(row, metadata, "doc_type", ContractingDocTypeEnum.class));
+        requirement.setIsMandatory(EntityRows.get(row, metadata, "is_mandatory", Boolean.class));
+        requirement.setDescription(EntityRows.get(row, metadata, "description", String.class));
+        getBase(row, metadata, requirement);
+        return requirement;
+    }
+
+    /**
+     * Reads a {@code product_localization} row into a {@link ProductLocalizationDTO}.
+     */
+    public static ProductLocalizationDTO localization(Row row, RowMetadata metadata) {
+        ProductLocalizationDTO localization = new ProductLocalizationDTO();
+        localization.setProductLocalizationId(EntityRows.get(row, metadata, "product_localization_id", UUID.class));
+        localization.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        localization.setLanguageCode(EntityRows.get(row, metadata, "language_code", String.class));
+        localization.setLocalizedName(EntityRows.get(row, metadata, "localized_name", String.class));
+        localization.setLocalizedDescription(EntityRows.get(row, metadata, "localized_description", String.class));
+        getBase(row, metadata, localization);
+        return localization;
+    }
+
+    /**
+     * Reads a {@code product_relationship} row into a {@link ProductRelationshipDTO}.
+     */
+    public static ProductRelationshipDTO relationship(Row row, RowMetadata metadata) {
+        ProductRelationshipDTO relationship = new ProductRelationshipDTO();
+        relationship.setProductRelationshipId(EntityRows.get(row, metadata, "product_relationship_id", UUID.class));
+        relationship.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        relationship.setRelatedProductId(EntityRows.get(row, metadata, "related_product_id", UUID.class));
+        relationship.setRelationshipType(
+                EntityRows.getEnum(row, metadata, "relationship_type", RelationshipTypeEnum.class));
+        relationship.setDescription(EntityRows.get(row, metadata, "description", String.class));
+        getBase(row, metadata, relationship);
+        return relationship;
+    }
+
+    /**
+     * Reads a {@code product_version} row into a {@link ProductVersionDTO}.
+     */
+    public static ProductVersionDTO version(Row row, RowMetadata metadata) {
+        ProductVersionDTO version = new ProductVersionDTO();
+        version.setProductVersionId(EntityRows.get(row, metadata, "product_version_id", UUID.class));
+        version.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+        version.setVersionNumber(EntityRows.get(row, metadata, "version_number", Long.class));
+        version.setVersionDescription(EntityRows.get(row, metadata, "version_description", String.class));
+        version.setEffectiveDate(EntityRows.get(row, metadata, "effective_date", LocalDateTime.class));
+        getBase(row, metadata, version);
+        return version;
+    }
+
+    private static void getBase(Row row, RowMetadata metadata, BaseDTO dto) {
+        dto.setDateCreated(EntityRows.get(row, metadata, "date_created", LocalDateTime.class));
+        dto.setDateUpdated(EntityRows.get(row, metadata, "date_updated", LocalDateTime.class));
+        dto.setRowVersion(EntityRows.get(row, metadata, "row_version", Long.class));
+    }
+}
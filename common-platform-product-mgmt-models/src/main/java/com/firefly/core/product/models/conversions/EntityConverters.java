@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import java.util.List;
+
+/**
+ * Hand-written converters between R2DBC rows and every entity of
+ * {@code com.firefly.core.product.models.entities}. Registered as custom conversions, they replace
+ * the reflective mapping of {@code MappingR2dbcConverter}: rows are read through the no-argument
+ * constructor and setters and entities are written through their getters, one column at a time.
+ * A column added to an entity must be added to its converter as well.
+ */
+public final class EntityConverters {
+
+    private EntityConverters() {
+    }
+
+    /**
+     * Returns the reading and writing converter of each entity.
+     */
+    public static List<Object> all() {
+        return List.of(
+                new ProductConverters.Reader(), new ProductConverters.Writer(),
+                new ProductCategoryConverters.Reader(), new ProductCategoryConverters.Writer(),
+                new ProductConfigurationConverters.Reader(), new ProductConfigurationConverters.Writer(),
+                new ProductDocumentationConverters.Reader(), new ProductDocumentationConverters.Writer(),
+                new ProductDocumentationRequirementConverters.Reader(),
+                new ProductDocumentationRequirementConverters.Writer(),
+                new ProductLocalizationConverters.Reader(), new ProductLocalizationConverters.Writer(),
+                new ProductRelationshipConverters.Reader(), new ProductRelationshipConverters.Writer(),
+                new ProductVersionConverters.Reader(), new ProductVersionConverters.Writer(),
+                new CatalogueChangeConverters.Reader(), new CatalogueChangeConverters.Writer(),
+                new CatalogueTombstoneConverters.Reader(), new CatalogueTombstoneConverters.Writer());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.models.entities.BaseEntity;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.lang.Nullable;
+import org.springframework.r2dbc.core.Parameter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Column access shared by the entity converters. Columns missing from a row leave the property
+ * unset, as the reflective mapping does, so partial selects keep working.
+ */
+final class EntityRows {
+
+    private EntityRows() {
+    }
+
+    @Nullable
+    static <T> T get(Row row, RowMetadata metadata, String column, Class<T> type) {
+        return metadata.contains(column) ? row.get(column, type) : null;
+    }
+
+    /**
+     * Reads an enum column, decoded by the {@link PostgresEnums} codec or stored as text.
+     */
+    @Nullable
+    static <E extends Enum<E>> E getEnum(Row row, RowMetadata metadata, String column, Class<E> type) {
+        Object value = get(row, metadata, column, Object.class);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Enum.valueOf(type, value.toString());
+    }
+
+    /**
+     * Reads a {@code TIMESTAMP} column into a date, as the {@code launch_date} and {@code end_date}
+     * columns of products are stored.
+     */
+    @Nullable
+    static LocalDate getDate(Row row, RowMetadata metadata, String column) {
+        LocalDateTime value = get(row, metadata, column, LocalDateTime.class);
+        return value == null ? null : value.toLocalDate();
+    }
+
+    static void getBase(Row row, RowMetadata metadata, BaseEntity entity) {
+        entity.setDateCreated(get(row, metadata, "date_created", LocalDateTime.class));
+        entity.setDateUpdated(get(row, metadata, "date_updated", LocalDateTime.class));
+        entity.setRowVersion(get(row, metadata, "row_version", Long.class));
+    }
+
+    static void put(OutboundRow row, String column, @Nullable Object value, Class<?> type) {
+        row.put(column, Parameter.fromOrEmpty(value, type));
+    }
+
+    /**
+     * Writes an enum stored in a text column by its name.
+     */
+    static void putName(OutboundRow row, String column, @Nullable Enum<?> value) {
+        put(row, column, value == null ? null : value.name(), String.class);
+    }
+
+    static void putBase(OutboundRow row, BaseEntity entity) {
+        put(row, "date_created", entity.getDateCreated(), LocalDateTime.class);
+        put(row, "date_updated", entity.getDateUpdated(), LocalDateTime.class);
+        put(row, "row_version", entity.getRowVersion(), Long.class);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.interfaces.enums.DocTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import io.r2dbc.postgresql.codec.EnumCodec;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.EnumWriteSupport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java enums stored in PostgreSQL enum columns. The driver encodes and decodes them with an
+ * {@link EnumCodec}, and the writing converters stop Spring Data from turning them into strings,
+ * so values and arrays of values are bound as the column type and rows are read straight into
+ * the enum constant.
+ */
+public final class PostgresEnums {
+
+    /**
+     * PostgreSQL type of each enum, see V1, V4 and V10.
+     */
+    public static final Map<Class<? extends Enum<?>>, String> TYPES = Map.of(
+            ProductTypeEnum.class, "product_type",
+            ProductStatusEnum.class, "product_status",
+            ProductConfigTypeEnum.class, "product_config_type",
+            RelationshipTypeEnum.class, "relationship_type",
+            DocTypeEnum.class, "doc_type",
+            ContractingDocTypeEnum.class, "contracting_doc_type");
+
+    private PostgresEnums() {
+    }
+
+    /**
+     * Builds the codec of all enum types. Types missing from the database are skipped with a warning
+     * by the driver, so the codec is only complete once the migrations have run.
+     */
+    public static EnumCodec codec() {
+        EnumCodec.Builder builder = EnumCodec.builder()
+                .withRegistrationPriority(EnumCodec.Builder.RegistrationPriority.FIRST);
+        TYPES.forEach((type, name) -> builder.withEnum(name, type));
+        return builder.build();
+    }
+
+    /**
+     * Returns the converters that keep the enums as they are when writing.
+     */
+    public static List<Object> writingConverters() {
+        return List.of(
+                new ProductTypeWriter(),
+                new ProductStatusWriter(),
+                new ProductConfigTypeWriter(),
+                new RelationshipTypeWriter(),
+                new DocTypeWriter(),
+                new ContractingDocTypeWriter());
+    }
+
+    @WritingConverter
+    static final class ProductTypeWriter extends EnumWriteSupport<ProductTypeEnum> {
+    }
+
+    @WritingConverter
+    static final class ProductStatusWriter extends EnumWriteSupport<ProductStatusEnum> {
+    }
+
+    @WritingConverter
+    static final class ProductConfigTypeWriter extends EnumWriteSupport<ProductConfigTypeEnum> {
+    }
+
+    @WritingConverter
+    static final class RelationshipTypeWriter extends EnumWriteSupport<RelationshipTypeEnum> {
+    }
+
+    @WritingConverter
+    static final class DocTypeWriter extends EnumWriteSupport<DocTypeEnum> {
+    }
+
+    @WritingConverter
+    static final class ContractingDocTypeWriter extends EnumWriteSupport<ContractingDocTypeEnum> {
+    }
+}
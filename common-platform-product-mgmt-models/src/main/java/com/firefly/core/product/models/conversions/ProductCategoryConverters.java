@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.models.entities.ProductCategory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductCategory}.
+ */
+final class ProductCategoryConverters {
+
+    private ProductCategoryConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductCategory> {
+
+        @Override
+        public ProductCategory convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductCategory category = new ProductCategory();
+            category.setProductCategoryId(EntityRows.get(row, metadata, "product_category_id", UUID.class));
+            category.setCategoryName(EntityRows.get(row, metadata, "category_name", String.class));
+            category.setCategoryDescription(EntityRows.get(row, metadata, "category_description", String.class));
+            category.setParentCategoryId(EntityRows.get(row, metadata, "parent_category_id", UUID.class));
+            category.setLevel(EntityRows.get(row, metadata, "level", Integer.class));
+            EntityRows.getBase(row, metadata, category);
+            return category;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductCategory, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductCategory category) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_category_id", category.getProductCategoryId(), UUID.class);
+            EntityRows.put(row, "category_name", category.getCategoryName(), String.class);
+            EntityRows.put(row, "category_description", category.getCategoryDescription(), String.class);
+            EntityRows.put(row, "parent_category_id", category.getParentCategoryId(), UUID.class);
+            EntityRows.put(row, "level", category.getLevel(), Integer.class);
+            EntityRows.putBase(row, category);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductConfiguration}.
+ */
+final class ProductConfigurationConverters {
+
+    private ProductConfigurationConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductConfiguration> {
+
+        @Override
+        public ProductConfiguration convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductConfiguration configuration = new ProductConfiguration();
+            configuration.setProductConfigurationId(
+                    EntityRows.get(row, metadata, "product_configuration_id", UUID.class));
+            configuration.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            configuration.setConfigType(EntityRows.getEnum(row, metadata, "config_type", ProductConfigTypeEnum.class));
+            configuration.setConfigKey(EntityRows.get(row, metadata, "config_key", String.class));
+            configuration.setConfigValue(EntityRows.get(row, metadata, "config_value", String.class));
+            EntityRows.getBase(row, metadata, configuration);
+            return configuration;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductConfiguration, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductConfiguration configuration) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_configuration_id", configuration.getProductConfigurationId(), UUID.class);
+            EntityRows.put(row, "product_id", configuration.getProductId(), UUID.class);
+            EntityRows.put(row, "config_type", configuration.getConfigType(), ProductConfigTypeEnum.class);
+            EntityRows.put(row, "config_key", configuration.getConfigKey(), String.class);
+            EntityRows.put(row, "config_value", configuration.getConfigValue(), String.class);
+            EntityRows.putBase(row, configuration);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
+import com.firefly.core.product.models.entities.Product;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link Product}.
+ */
+final class ProductConverters {
+
+    private ProductConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, Product> {
+
+        @Override
+        public Product convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            Product product = new Product();
+            product.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            product.setTenantId(EntityRows.get(row, metadata, "tenant_id", UUID.class));
+            product.setProductCategoryId(EntityRows.get(row, metadata, "product_category_id", UUID.class));
+            product.setProductType(EntityRows.getEnum(row, metadata, "product_type", ProductTypeEnum.class));
+            product.setProductName(EntityRows.get(row, metadata, "product_name", String.class));
+            product.setProductCode(EntityRows.get(row, metadata, "product_code", String.class));
+            product.setProductDescription(EntityRows.get(row, metadata, "product_description", String.class));
+            product.setProductStatus(EntityRows.getEnum(row, metadata, "product_status", ProductStatusEnum.class));
+            product.setLaunchDate(EntityRows.getDate(row, metadata, "launch_date"));
+            product.setEndDate(EntityRows.getDate(row, metadata, "end_date"));
+            EntityRows.getBase(row, metadata, product);
+            return product;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<Product, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(Product product) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_id", product.getProductId(), UUID.class);
+            EntityRows.put(row, "tenant_id", product.getTenantId(), UUID.class);
+            EntityRows.put(row, "product_category_id", product.getProductCategoryId(), UUID.class);
+            EntityRows.put(row, "product_type", product.getProductType(), ProductTypeEnum.class);
+            EntityRows.put(row, "product_name", product.getProductName(), String.class);
+            EntityRows.put(row, "product_code", product.getProductCode(), String.class);
+            EntityRows.put(row, "product_description", product.getProductDescription(), String.class);
+            EntityRows.put(row, "product_status", product.getProductStatus(), ProductStatusEnum.class);
+            EntityRows.put(row, "launch_date", product.getLaunchDate(), LocalDate.class);
+            EntityRows.put(row, "end_date", product.getEndDate(), LocalDate.class);
+            EntityRows.putBase(row, product);
+            return row;
+        }
+    }
+}
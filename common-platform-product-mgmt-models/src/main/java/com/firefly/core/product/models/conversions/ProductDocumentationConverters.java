@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.DocTypeEnum;
+import com.firefly.core.product.models.entities.ProductDocumentation;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductDocumentation}.
+ */
+final class ProductDocumentationConverters {
+
+    private ProductDocumentationConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductDocumentation> {
+
+        @Override
+        public ProductDocumentation convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductDocumentation documentation = new ProductDocumentation();
+            documentation.setProductDocumentationId(
+                    EntityRows.get(row, metadata, "product_documentation_id", UUID.class));
+            documentation.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            documentation.setDocType(EntityRows.getEnum(row, metadata, "doc_type", DocTypeEnum.class));
+            documentation.setDocumentManagerRef(EntityRows.get(row, metadata, "document_manager_ref", Long.class));
+            documentation.setDateAdded(EntityRows.get(row, metadata, "date_added", LocalDateTime.class));
+            EntityRows.getBase(row, metadata, documentation);
+            return documentation;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductDocumentation, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductDocumentation documentation) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_documentation_id", documentation.getProductDocumentationId(), UUID.class);
+            EntityRows.put(row, "product_id", documentation.getProductId(), UUID.class);
+            EntityRows.put(row, "doc_type", documentation.getDocType(), DocTypeEnum.class);
+            EntityRows.put(row, "document_manager_ref", documentation.getDocumentManagerRef(), Long.class);
+            EntityRows.put(row, "date_added", documentation.getDateAdded(), LocalDateTime.class);
+            EntityRows.putBase(row, documentation);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
+import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductDocumentationRequirement}.
+ */
+final class ProductDocumentationRequirementConverters {
+
+    private ProductDocumentationRequirementConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductDocumentationRequirement> {
+
+        @Override
+        public ProductDocumentationRequirement convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductDocumentationRequirement requirement = new ProductDocumentationRequirement();
+            requirement.setProductDocRequirementId(
+                    EntityRows.get(row, metadata, "product_doc_requirement_id", UUID.class));
+            requirement.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            requirement.setDocType(EntityRows.getEnum(row, metadata, "doc_type", ContractingDocTypeEnum.class));
+            requirement.setIsMandatory(EntityRows.get(row, metadata, "is_mandatory", Boolean.class));
+            requirement.setDescription(EntityRows.get(row, metadata, "description", String.class));
+            EntityRows.getBase(row, metadata, requirement);
+            return requirement;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductDocumentationRequirement, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductDocumentationRequirement requirement) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_doc_requirement_id", requirement.getProductDocRequirementId(), UUID.class);
+            EntityRows.put(row, "product_id", requirement.getProductId(), UUID.class);
+            EntityRows.put(row, "doc_type", requirement.getDocType(), ContractingDocTypeEnum.class);
+            EntityRows.put(row, "is_mandatory", requirement.getIsMandatory(), Boolean.class);
+            EntityRows.put(row, "description", requirement.getDescription(), String.class);
+            EntityRows.putBase(row, requirement);
+            return row;
+        }
+    }
+}
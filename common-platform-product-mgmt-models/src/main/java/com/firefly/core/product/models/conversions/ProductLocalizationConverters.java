@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.models.entities.ProductLocalization;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductLocalization}.
+ */
+final class ProductLocalizationConverters {
+
+    private ProductLocalizationConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductLocalization> {
+
+        @Override
+        public ProductLocalization convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductLocalization localization = new ProductLocalization();
+            localization.setProductLocalizationId(EntityRows.get(row, metadata, "product_localization_id", UUID.class));
+            localization.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            localization.setLanguageCode(EntityRows.get(row, metadata, "language_code", String.class));
+            localization.setLocalizedName(EntityRows.get(row, metadata, "localized_name", String.class));
+            localization.setLocalizedDescription(EntityRows.get(row, metadata, "localized_description", String.class));
+            EntityRows.getBase(row, metadata, localization);
+            return localization;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductLocalization, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductLocalization localization) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_localization_id", localization.getProductLocalizationId(), UUID.class);
+            EntityRows.put(row, "product_id", localization.getProductId(), UUID.class);
+            EntityRows.put(row, "language_code", localization.getLanguageCode(), String.class);
+            EntityRows.put(row, "localized_name", localization.getLocalizedName(), String.class);
+            EntityRows.put(row, "localized_description", localization.getLocalizedDescription(), String.class);
+            EntityRows.putBase(row, localization);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import com.firefly.core.product.models.entities.ProductRelationship;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductRelationship}.
+ */
+final class ProductRelationshipConverters {
+
+    private ProductRelationshipConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductRelationship> {
+
+        @Override
+        public ProductRelationship convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductRelationship relationship = new ProductRelationship();
+            relationship.setProductRelationshipId(EntityRows.get(row, metadata, "product_relationship_id", UUID.class));
+            relationship.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            relationship.setRelatedProductId(EntityRows.get(row, metadata, "related_product_id", UUID.class));
+            relationship.setRelationshipType(
+                    EntityRows.getEnum(row, metadata, "relationship_type", RelationshipTypeEnum.class));
+            relationship.setDescription(EntityRows.get(row, metadata, "description", String.class));
+            EntityRows.getBase(row, metadata, relationship);
+            return relationship;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductRelationship, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductRelationship relationship) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_relationship_id", relationship.getProductRelationshipId(), UUID.class);
+            EntityRows.put(row, "product_id", relationship.getProductId(), UUID.class);
+            EntityRows.put(row, "related_product_id", relationship.getRelatedProductId(), UUID.class);
+            EntityRows.put(row, "relationship_type", relationship.getRelationshipType(), RelationshipTypeEnum.class);
+            EntityRows.put(row, "description", relationship.getDescription(), String.class);
+            EntityRows.putBase(row, relationship);
+            return row;
+        }
+    }
+}
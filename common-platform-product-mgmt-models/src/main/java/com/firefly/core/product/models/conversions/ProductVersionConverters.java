@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import com.firefly.core.product.models.entities.ProductVersion;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hand-written {@link Row} and {@link OutboundRow} converters of {@link ProductVersion}.
+ */
+final class ProductVersionConverters {
+
+    private ProductVersionConverters() {
+    }
+
+    @ReadingConverter
+    static final class Reader implements Converter<Row, ProductVersion> {
+
+        @Override
+        public ProductVersion convert(Row row) {
+            RowMetadata metadata = row.getMetadata();
+            ProductVersion version = new ProductVersion();
+            version.setProductVersionId(EntityRows.get(row, metadata, "product_version_id", UUID.class));
+            version.setProductId(EntityRows.get(row, metadata, "product_id", UUID.class));
+            version.setVersionNumber(EntityRows.get(row, metadata, "version_number", Long.class));
+            version.setVersionDescription(EntityRows.get(row, metadata, "version_description", String.class));
+            version.setEffectiveDate(EntityRows.get(row, metadata, "effective_date", LocalDateTime.class));
+            EntityRows.getBase(row, metadata, version);
+            return version;
+        }
+    }
+
+    @WritingConverter
+    static final class Writer implements Converter<ProductVersion, OutboundRow> {
+
+        @Override
+        public OutboundRow convert(ProductVersion version) {
+            OutboundRow row = new OutboundRow();
+            EntityRows.put(row, "product_version_id", version.getProductVersionId(), UUID.class);
+            EntityRows.put(row, "product_id", version.getProductId(), UUID.class);
+            EntityRows.put(row, "version_number", version.getVersionNumber(), Long.class);
+            EntityRows.put(row, "version_description", version.getVersionDescription(), String.class);
+            EntityRows.put(row, "effective_date", version.getEffectiveDate(), LocalDateTime.class);
+            EntityRows.putBase(row, version);
+            return row;
+        }
+    }
+}
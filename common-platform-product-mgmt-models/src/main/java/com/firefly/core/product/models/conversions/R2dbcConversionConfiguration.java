@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.conversions;
+
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers the {@link PostgresEnums} codec with the connection factory, and its writing converters
+ * and the {@link EntityConverters} with Spring Data, replacing the default {@link R2dbcCustomConversions}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class R2dbcConversionConfiguration {
+
+    @Bean
+    public ConnectionFactoryOptionsBuilderCustomizer postgresEnumCodecCustomizer() {
+        return builder -> builder.option(PostgresqlConnectionFactoryProvider.EXTENSIONS,
+                List.of(PostgresEnums.codec()));
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        List<Object> converters = new ArrayList<>(PostgresEnums.writingConverters());
+        converters.addAll(EntityConverters.all());
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), converters);
+    }
+}
@@ -22,6 +22,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 
 import java.time.LocalDateTime;
@@ -47,4 +48,8 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column("date_updated")
     private LocalDateTime dateUpdated;
+
+    @Version
+    @Column("row_version")
+    private Long rowVersion;
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.entities;
+
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import com.firefly.core.product.interfaces.enums.ChangeTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the catalogue outbox, written by database triggers. The JSONB payload is read as text.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("catalogue_outbox")
+public class CatalogueChange {
+
+    @Id
+    @Column("event_id")
+    private Long eventId;
+
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("entity_type")
+    private CatalogueEntityTypeEnum entityType;
+
+    @Column("entity_id")
+    private UUID entityId;
+
+    @Column("change_type")
+    private ChangeTypeEnum changeType;
+
+    @Column("payload")
+    private String payload;
+
+    @Column("occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Column("sequence_number")
+    private Long sequenceNumber;
+
+    @Column("published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.entities;
+
+import com.firefly.core.product.interfaces.enums.CatalogueEntityTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marker of a deleted catalogue entity, written by database triggers so that deletions reach the delta sync.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("catalogue_tombstone")
+public class CatalogueTombstone {
+
+    @Id
+    @Column("entity_id")
+    private UUID entityId;
+
+    @Column("entity_type")
+    private CatalogueEntityTypeEnum entityType;
+
+    @Column("aggregate_id")
+    private UUID aggregateId;
+
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+}
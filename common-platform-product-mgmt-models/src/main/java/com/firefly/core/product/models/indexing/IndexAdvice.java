@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.indexing;
+
+import java.util.List;
+
+/**
+ * A derived query method whose predicate has no supporting index.
+ *
+ * @param repository the simple name of the repository interface
+ * @param method the query method name
+ * @param table the queried table
+ * @param columns the predicate columns of the unsupported branch
+ * @param reason why no index applies
+ */
+public record IndexAdvice(String repository, String method, String table, List<String> columns, String reason) {
+
+    @Override
+    public String toString() {
+        return repository + "." + method + " on " + table + columns + ": " + reason;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.indexing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An index as reported by the {@code pg_indexes} catalog view.
+ *
+ * @param tableName the indexed table
+ * @param indexName the index name
+ * @param definition the {@code CREATE INDEX} statement of the index
+ */
+public record IndexDefinition(String tableName, String indexName, String definition) {
+
+    /**
+     * The key column list is matched lazily and anchored before the optional {@code INCLUDE} list and
+     * {@code WHERE} predicate, so that the parentheses of those clauses are not taken for key columns.
+     */
+    private static final Pattern KEY_COLUMNS =
+            Pattern.compile("USING (\\w+) \\((.*?)\\)(?: INCLUDE \\(.*?\\))?(?: WHERE .*)?$");
+
+    /**
+     * @return the access method of the index (btree, gin, ...)
+     */
+    public String method() {
+        Matcher matcher = KEY_COLUMNS.matcher(definition);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    /**
+     * @return the key column expressions in index order, without operator classes
+     */
+    public List<String> keyColumns() {
+        Matcher matcher = KEY_COLUMNS.matcher(definition);
+        if (!matcher.find()) {
+            return List.of();
+        }
+        List<String> columns = new ArrayList<>();
+        for (String key : splitTopLevel(matcher.group(2), ',')) {
+            // Drops the operator class, sort order and collation that follow the column or expression
+            columns.add(splitTopLevel(key, ' ').get(0).replace("\"", ""));
+        }
+        return columns;
+    }
+
+
+    /**
+     * @return the first key column, which a B-tree index can seek on by itself
+     */
+    public String leadingColumn() {
+        List<String> columns = keyColumns();
+        return columns.isEmpty() ? "" : columns.get(0);
+    }
+
+    /**
+     * @param column the column name
+     * @return whether this is a trigram index able to serve LIKE/ILIKE patterns on the column
+     */
+    public boolean supportsPatternMatching(String column) {
+        boolean trigram = definition.contains("gin_trgm_ops") || definition.contains("gist_trgm_ops");
+        return trigram && keyColumns().stream()
+                .anyMatch(key -> key.equals(column) || key.contains("(" + column + ")"));
+    }
+
+    /**
+     * Splits on the separators outside of parentheses, so that expression keys such as
+     * {@code COALESCE(a, b)} stay whole.
+     */
+    private static List<String> splitTopLevel(String text, char separator) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        String trimmed = text.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == separator && depth == 0) {
+                parts.add(trimmed.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        parts.add(trimmed.substring(start).trim());
+        return parts;
+    }
+}
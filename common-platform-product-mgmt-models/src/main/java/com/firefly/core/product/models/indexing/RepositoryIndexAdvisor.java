@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.indexing;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-references the derived query methods of the repositories with the existing indexes and
+ * reports the queries that have to scan the whole table.
+ * <p>
+ * A derived query is parsed into its OR branches; a branch is considered supported when at least
+ * one of its predicates can seek on an index: an equality, range or null check on the leading column
+ * of a B-tree index, or a LIKE/containing predicate on a column with a trigram index. Every branch
+ * must be supported, since PostgreSQL can only combine index scans for an OR when each arm has one.
+ * Methods with an explicit {@link Query} are skipped.
+ */
+public class RepositoryIndexAdvisor {
+
+    private static final Set<Part.Type> PATTERN_TYPES = EnumSet.of(
+            Part.Type.LIKE, Part.Type.NOT_LIKE, Part.Type.CONTAINING, Part.Type.NOT_CONTAINING,
+            Part.Type.STARTING_WITH, Part.Type.ENDING_WITH);
+
+    private static final Set<Part.Type> NON_SARGABLE_TYPES = EnumSet.of(
+            Part.Type.NEGATING_SIMPLE_PROPERTY, Part.Type.NOT_IN, Part.Type.IS_NOT_NULL,
+            Part.Type.NOT_LIKE, Part.Type.NOT_CONTAINING, Part.Type.IS_NOT_EMPTY);
+
+    private final R2dbcMappingContext mappingContext;
+
+    public RepositoryIndexAdvisor(R2dbcMappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    /**
+     * Finds the repository interfaces declared in the given package.
+     *
+     * @param basePackage the package to scan
+     * @return the repository interfaces, excluding {@link NoRepositoryBean} base interfaces
+     */
+    public static List<Class<?>> findRepositories(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface()
+                        && !beanDefinition.getMetadata().hasAnnotation(NoRepositoryBean.class.getName());
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .map(name -> ClassUtils.resolveClassName(name, RepositoryIndexAdvisor.class.getClassLoader()))
+                .sorted(Comparator.comparing(Class::getSimpleName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Analyses the derived query methods of the given repositories.
+     *
+     * @param repositories the repository interfaces
+     * @param indexes the indexes of the database
+     * @return one advice per query method branch without a supporting index
+     */
+    public List<IndexAdvice> advise(Collection<Class<?>> repositories, Collection<IndexDefinition> indexes) {
+        Map<String, List<IndexDefinition>> indexesByTable = indexes.stream()
+                .collect(Collectors.groupingBy(IndexDefinition::tableName));
+        List<IndexAdvice> advice = new ArrayList<>();
+        for (Class<?> repository : repositories) {
+            Class<?> domainType = AbstractRepositoryMetadata.getMetadata(repository).getDomainType();
+            RelationalPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(domainType);
+            String table = entity.getTableName().getReference();
+            List<IndexDefinition> tableIndexes = indexesByTable.getOrDefault(table, List.of());
+
+            for (Method method : derivedQueryMethods(repository)) {
+                PartTree tree = new PartTree(method.getName(), domainType);
+                for (PartTree.OrPart branch : tree) {
+                    List<String> columns = new ArrayList<>();
+                    boolean supported = false;
+                    for (Part part : branch) {
+                        String column = entity.getRequiredPersistentProperty(part.getProperty().getSegment())
+                                .getColumnName().getReference();
+                        columns.add(column);
+                        supported |= isSupported(column, part, tableIndexes);
+                    }
+                    if (!columns.isEmpty() && !supported) {
+                        advice.add(new IndexAdvice(repository.getSimpleName(), method.getName(), table, columns,
+                                reason(branch)));
+                    }
+                }
+            }
+        }
+        return advice;
+    }
+
+    /**
+     * Returns one method per distinct derived query name; overloads only differ in paging.
+     */
+    private static Collection<Method> derivedQueryMethods(Class<?> repository) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        Arrays.stream(repository.getMethods())
+                .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> !method.getDeclaringClass().getPackageName().startsWith("org.springframework.data"))
+                .filter(method -> !method.isAnnotationPresent(Query.class))
+                .filter(method -> method.getName().contains("By"))
+                .sorted(Comparator.comparing(Method::getName))
+                .forEach(method -> methods.putIfAbsent(method.getName(), method));
+        return methods.values();
+    }
+
+    private static boolean isSupported(String column, Part part, List<IndexDefinition> tableIndexes) {
+        if (PATTERN_TYPES.contains(part.getType())) {
+            return tableIndexes.stream().anyMatch(index -> index.supportsPatternMatching(column));
+        }
+        if (NON_SARGABLE_TYPES.contains(part.getType())) {
+            return false;
+        }
+        if (part.shouldIgnoreCase() == Part.IgnoreCaseType.ALWAYS) {
+            return tableIndexes.stream().anyMatch(index -> index.supportsPatternMatching(column)
+                    || index.leadingColumn().equals("upper((" + column + ")::text)")
+                    || index.leadingColumn().equals("lower((" + column + ")::text)"));
+        }
+        return tableIndexes.stream().anyMatch(index -> index.leadingColumn().equals(column));
+    }
+
+    private static String reason(PartTree.OrPart branch) {
+        boolean pattern = branch.stream().anyMatch(part -> PATTERN_TYPES.contains(part.getType()));
+        return pattern
+                ? "pattern match without a trigram index"
+                : "no index with one of the predicate columns as leading column";
+    }
+}
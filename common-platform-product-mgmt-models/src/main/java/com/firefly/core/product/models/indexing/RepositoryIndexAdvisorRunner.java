@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.indexing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Runs the {@link RepositoryIndexAdvisor} once the application is ready and logs a warning for every
+ * derived repository query without a supporting index. Disable with
+ * {@code firefly.product.index-advisor.enabled=false}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "firefly.product.index-advisor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryIndexAdvisorRunner {
+
+    public static final String REPOSITORIES_PACKAGE = "com.firefly.core.product.models.repositories";
+
+    private static final String INDEXES_QUERY =
+            "SELECT tablename, indexname, indexdef FROM pg_indexes WHERE schemaname = current_schema()";
+
+    private final DatabaseClient databaseClient;
+    private final RepositoryIndexAdvisor advisor;
+
+    public RepositoryIndexAdvisorRunner(DatabaseClient databaseClient, R2dbcMappingContext mappingContext) {
+        this.databaseClient = databaseClient;
+        this.advisor = new RepositoryIndexAdvisor(mappingContext);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        analyze().subscribe(
+                advice -> {
+                    if (advice.isEmpty()) {
+                        log.info("Every derived repository query has a supporting index");
+                    }
+                    advice.forEach(item -> log.warn("Repository query without supporting index: {}", item));
+                },
+                error -> log.warn("Repository index analysis skipped: {}", error.getMessage()));
+    }
+
+    /**
+     * Reads the current indexes and analyses the repositories against them.
+     *
+     * @return a Mono emitting the queries without a supporting index
+     */
+    public Mono<List<IndexAdvice>> analyze() {
+        return databaseClient.sql(INDEXES_QUERY)
+                .map((row, metadata) -> new IndexDefinition(
+                        row.get("tablename", String.class),
+                        row.get("indexname", String.class),
+                        row.get("indexdef", String.class)))
+                .all()
+                .collectList()
+                .map(indexes -> advisor.advise(RepositoryIndexAdvisor.findRepositories(REPOSITORIES_PACKAGE), indexes));
+    }
+}
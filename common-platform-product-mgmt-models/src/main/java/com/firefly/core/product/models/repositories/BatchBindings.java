@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the named bind parameters of a multi-row statement, so nulls can be bound with their type.
+ */
+final class BatchBindings {
+
+    private record Binding(String name, Object value, Class<?> type) {
+    }
+
+    private final List<Binding> bindings = new ArrayList<>();
+
+    /**
+     * Registers a parameter for the given row and returns its placeholder.
+     *
+     * @param column the column the parameter is bound to
+     * @param row the row index within the statement
+     * @param value the value, may be null
+     * @param type the Java type used to bind a null value
+     * @return the named placeholder, e.g. {@code :product_name_3}
+     */
+    String add(String column, int row, Object value, Class<?> type) {
+        String name = column + "_" + row;
+        bindings.add(new Binding(name, value, type));
+        return ":" + name;
+    }
+
+    /**
+     * Registers a parameter shared by all rows and returns its placeholder.
+     */
+    String add(String name, Object value, Class<?> type) {
+        bindings.add(new Binding(name, value, type));
+        return ":" + name;
+    }
+
+    DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+        for (Binding binding : bindings) {
+            spec = binding.value() == null
+                    ? spec.bindNull(binding.name(), binding.type())
+                    : spec.bind(binding.name(), binding.value());
+        }
+        return spec;
+    }
+}
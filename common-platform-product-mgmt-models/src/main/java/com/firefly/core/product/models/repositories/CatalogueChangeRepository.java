@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.models.entities.CatalogueChange;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface CatalogueChangeRepository extends BaseRepository<CatalogueChange, Long> {
+
+    /**
+     * Takes the relay lock for the current transaction without waiting.
+     *
+     * @param lockKey the advisory lock key shared by all relays
+     * @return a Mono emitting whether the lock was taken; it is released when the transaction ends
+     */
+    @Query("SELECT pg_try_advisory_xact_lock(:lockKey)")
+    Mono<Boolean> tryRelayLock(long lockKey);
+
+    /**
+     * Assigns sequence numbers, in insertion order, to the oldest unpublished events and marks them
+     * published. Must run in the transaction holding the relay lock.
+     *
+     * @param limit the maximum number of events to publish
+     * @return a Flux emitting the published events, in no particular order
+     */
+    @Query("UPDATE catalogue_outbox AS o SET sequence_number = numbered.sequence_number, published_at = CURRENT_TIMESTAMP "
+            + "FROM (SELECT event_id, nextval('catalogue_outbox_sequence') AS sequence_number "
+            + "      FROM (SELECT event_id FROM catalogue_outbox WHERE sequence_number IS NULL "
+            + "            ORDER BY event_id LIMIT :limit FOR UPDATE) pending "
+            + "      ORDER BY event_id) numbered "
+            + "WHERE o.event_id = numbered.event_id "
+            + "RETURNING o.event_id, o.aggregate_id, o.entity_type, o.entity_id, o.change_type, "
+            + "o.payload::text AS payload, o.occurred_at, o.sequence_number, o.published_at")
+    Flux<CatalogueChange> publishPending(int limit);
+
+    /**
+     * Reads published events after a position of the change feed.
+     *
+     * @param afterSequence the last sequence number seen, 0 to read from the beginning
+     * @param limit the maximum number of events
+     * @return a Flux emitting the events ordered by sequence number
+     */
+    @Query("SELECT event_id, aggregate_id, entity_type, entity_id, change_type, payload::text AS payload, "
+            + "occurred_at, sequence_number, published_at "
+            + "FROM catalogue_outbox WHERE sequence_number > :afterSequence "
+            + "ORDER BY sequence_number LIMIT :limit")
+    Flux<CatalogueChange> findPublishedAfter(long afterSequence, int limit);
+
+    /**
+     * Reads the position of the last published event, where a reader interested in new changes only starts.
+     *
+     * @return a Mono emitting the highest sequence number, 0 when nothing has been published
+     */
+    @Query("SELECT COALESCE(MAX(sequence_number), 0) FROM catalogue_outbox")
+    Mono<Long> findLastSequenceNumber();
+
+    /**
+     * Deletes events published before the given time.
+     *
+     * @return a Mono emitting the number of deleted events
+     */
+    @Modifying
+    @Query("DELETE FROM catalogue_outbox WHERE published_at < :before")
+    Mono<Integer> deletePublishedBefore(LocalDateTime before);
+}
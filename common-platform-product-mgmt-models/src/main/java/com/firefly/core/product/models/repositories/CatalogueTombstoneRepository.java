@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.models.entities.CatalogueTombstone;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CatalogueTombstoneRepository extends BaseRepository<CatalogueTombstone, UUID> {
+
+    /**
+     * Reads the tombstones written after a {@code (deleted_at, entity_id)} keyset position, up to a
+     * watermark, served by {@code idx_catalogue_tombstone_deleted_at}.
+     *
+     * @return a Flux emitting at most {@code limit} tombstones ordered by deletion time, then entity ID
+     */
+    @Query("SELECT * FROM catalogue_tombstone "
+            + "WHERE (deleted_at, entity_id) > (:after, :afterId) AND deleted_at <= :until "
+            + "ORDER BY deleted_at, entity_id LIMIT :limit")
+    Flux<CatalogueTombstone> findDeletedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the latest write time that no uncommitted write can still land at or before.
+     * {@code date_updated} and {@code deleted_at} are stamped with the database clock during the writing
+     * transaction, so they are never earlier than that transaction's start: the watermark is just before
+     * the start of the oldest transaction of this database that has written (holds a transaction ID) and
+     * is still open, or the statement time when there is none. A long transaction therefore holds the
+     * watermark back for as long as it runs instead of having its writes skipped.
+     * <p>
+     * The database role must be able to see the {@code xact_start} and {@code backend_xid} of other
+     * roles' sessions in {@code pg_stat_activity} (own role, or {@code pg_read_all_stats}).
+     *
+     * @return a Mono emitting the latest write time that is safe to read up to
+     */
+    @Query("SELECT CAST(LEAST(statement_timestamp(), MIN(xact_start)) AS TIMESTAMP) - INTERVAL '1 microsecond' "
+            + "FROM pg_stat_activity "
+            + "WHERE datname = current_database() AND backend_xid IS NOT NULL AND pid <> pg_backend_pid()")
+    Mono<LocalDateTime> findStableWatermark();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.models.entities.Product;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row write operations for products, each executed as a single SQL statement.
+ */
+public interface ProductBatchOperations {
+
+    /**
+     * Inserts all products with one multi-row {@code INSERT ... VALUES}.
+     *
+     * @param products the products to insert, each with its product ID already set so that the returned
+     *                 rows can be matched to the input by ID
+     * @return a Flux emitting the inserted rows, in no particular order
+     * @throws IllegalArgumentException if a product has no ID
+     */
+    Flux<Product> insertAll(List<Product> products);
+
+    /**
+     * Updates all products with one {@code UPDATE ... FROM (VALUES ...)}. Null fields keep their
+     * current value and the tenant is never changed.
+     *
+     * @param products the products to update, identified by their product ID
+     * @return a Flux emitting the updated rows; products that do not exist are absent
+     */
+    Flux<Product> updateAll(List<Product> products);
+
+    /**
+     * Deletes all products with the given identifiers in one statement.
+     *
+     * @param productIds the identifiers of the products to delete
+     * @return a Flux emitting the identifiers of the deleted products
+     */
+    Flux<UUID> deleteAllByProductIdIn(List<UUID> productIds);
+}
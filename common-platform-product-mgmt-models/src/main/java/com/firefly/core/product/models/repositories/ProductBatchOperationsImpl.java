@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.enums.ProductStatusEnum;
+import com.firefly.core.product.interfaces.enums.ProductTypeEnum;
+import com.firefly.core.product.models.conversions.PostgresEnums;
+import com.firefly.core.product.models.entities.Product;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link ProductBatchOperations} fragment of {@link ProductRepository} built on {@link DatabaseClient}.
+ * Enum columns are bound natively through the codec of {@link PostgresEnums}; the casts type the
+ * parameters of the {@code VALUES} lists.
+ */
+class ProductBatchOperationsImpl implements ProductBatchOperations {
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    ProductBatchOperationsImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<Product> insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return Flux.empty();
+        }
+        BatchBindings bindings = new BatchBindings();
+        String now = bindings.add("now", LocalDateTime.now(), LocalDateTime.class);
+        List<String> rows = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (product.getProductId() == null) {
+                throw new IllegalArgumentException("Product ID is required for a batch insert");
+            }
+            rows.add("(" + String.join(", ",
+                    bindings.add("product_id", i, product.getProductId(), UUID.class),
+                    bindings.add("tenant_id", i, product.getTenantId(), UUID.class),
+                    bindings.add("product_category_id", i, product.getProductCategoryId(), UUID.class),
+                    "CAST(" + bindings.add("product_type", i, product.getProductType(), ProductTypeEnum.class) + " AS product_type)",
+                    bindings.add("product_name", i, product.getProductName(), String.class),
+                    bindings.add("product_code", i, product.getProductCode(), String.class),
+                    bindings.add("product_description", i, product.getProductDescription(), String.class),
+                    "CAST(" + bindings.add("product_status", i, product.getProductStatus(), ProductStatusEnum.class) + " AS product_status)",
+                    bindings.add("launch_date", i, product.getLaunchDate(), LocalDate.class),
+                    bindings.add("end_date", i, product.getEndDate(), LocalDate.class),
+                    now,
+                    now) + ")");
+        }
+        String sql = "INSERT INTO product (product_id, tenant_id, product_category_id, product_type, product_name, "
+                + "product_code, product_description, product_status, launch_date, end_date, date_created, date_updated) "
+                + "VALUES " + String.join(", ", rows) + " "
+                + "RETURNING *";
+        return bindings.bindTo(databaseClient.sql(sql))
+                .map((row, metadata) -> converter.read(Product.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Flux<Product> updateAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return Flux.empty();
+        }
+        BatchBindings bindings = new BatchBindings();
+        String now = bindings.add("now", LocalDateTime.now(), LocalDateTime.class);
+        List<String> rows = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            rows.add("(" + String.join(", ",
+                    "CAST(" + bindings.add("product_id", i, product.getProductId(), UUID.class) + " AS uuid)",
+                    "CAST(" + bindings.add("product_category_id", i, product.getProductCategoryId(), UUID.class) + " AS uuid)",
+                    "CAST(" + bindings.add("product_type", i, product.getProductType(), ProductTypeEnum.class) + " AS product_type)",
+                    "CAST(" + bindings.add("product_name", i, product.getProductName(), String.class) + " AS varchar)",
+                    "CAST(" + bindings.add("product_code", i, product.getProductCode(), String.class) + " AS varchar)",
+                    "CAST(" + bindings.add("product_description", i, product.getProductDescription(), String.class) + " AS text)",
+                    "CAST(" + bindings.add("product_status", i, product.getProductStatus(), ProductStatusEnum.class) + " AS product_status)",
+                    "CAST(" + bindings.add("launch_date", i, product.getLaunchDate(), LocalDate.class) + " AS timestamp)",
+                    "CAST(" + bindings.add("end_date", i, product.getEndDate(), LocalDate.class) + " AS timestamp)") + ")");
+        }
+        String sql = "UPDATE product AS t SET "
+                + "product_category_id = COALESCE(v.product_category_id, t.product_category_id), "
+                + "product_type = COALESCE(v.product_type, t.product_type), "
+                + "product_name = COALESCE(v.product_name, t.product_name), "
+                + "product_code = COALESCE(v.product_code, t.product_code), "
+                + "product_description = COALESCE(v.product_description, t.product_description), "
+                + "product_status = COALESCE(v.product_status, t.product_status), "
+                + "launch_date = COALESCE(v.launch_date, t.launch_date), "
+                + "end_date = COALESCE(v.end_date, t.end_date), "
+                + "date_updated = " + now + " "
+                + "FROM (VALUES " + String.join(", ", rows) + ") AS v (product_id, product_category_id, product_type, "
+                + "product_name, product_code, product_description, product_status, launch_date, end_date) "
+                + "WHERE t.product_id = v.product_id "
+                + "RETURNING t.*";
+        return bindings.bindTo(databaseClient.sql(sql))
+                .map((row, metadata) -> converter.read(Product.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Flux<UUID> deleteAllByProductIdIn(List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("DELETE FROM product WHERE product_id = ANY(:productIds) RETURNING product_id")
+                .bind("productIds", productIds.toArray(UUID[]::new))
+                .map(row -> row.get("product_id", UUID.class))
+                .all();
+    }
+}
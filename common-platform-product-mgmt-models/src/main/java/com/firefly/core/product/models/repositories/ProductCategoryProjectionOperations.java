@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Read-only category listings projected straight from the rows into {@link ProductCategoryDTO}s,
+ * for the paths that never need the entity. Both walk the category closure table.
+ */
+public interface ProductCategoryProjectionOperations {
+
+    /**
+     * Returns a category and all of its descendants, closest first.
+     *
+     * @param categoryId the root of the subtree
+     * @return a Flux emitting the subtree ordered by depth and name
+     */
+    Flux<ProductCategoryDTO> findDtoSubtree(UUID categoryId);
+
+    /**
+     * Returns the ancestor chain of a category from the root down to the category itself.
+     *
+     * @param categoryId the category whose breadcrumb is requested
+     * @return a Flux emitting the ancestors, root first, ending with the category
+     */
+    Flux<ProductCategoryDTO> findDtoAncestors(UUID categoryId);
+}
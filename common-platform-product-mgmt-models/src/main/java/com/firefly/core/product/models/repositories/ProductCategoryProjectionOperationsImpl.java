@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * {@link ProductCategoryProjectionOperations} fragment of {@link ProductCategoryRepository} built on
+ * {@link DatabaseClient}.
+ */
+class ProductCategoryProjectionOperationsImpl implements ProductCategoryProjectionOperations {
+
+    private final DatabaseClient databaseClient;
+
+    ProductCategoryProjectionOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductCategoryDTO> findDtoSubtree(UUID categoryId) {
+        return databaseClient.sql("SELECT c.* FROM product_category c "
+                        + "JOIN product_category_closure cl ON cl.descendant_id = c.product_category_id "
+                        + "WHERE cl.ancestor_id = :categoryId "
+                        + "ORDER BY cl.depth, c.category_name")
+                .bind("categoryId", categoryId)
+                .map(DtoProjections::category)
+                .all();
+    }
+
+    @Override
+    public Flux<ProductCategoryDTO> findDtoAncestors(UUID categoryId) {
+        return databaseClient.sql("SELECT c.* FROM product_category c "
+                        + "JOIN product_category_closure cl ON cl.ancestor_id = c.product_category_id "
+                        + "WHERE cl.descendant_id = :categoryId "
+                        + "ORDER BY cl.depth DESC")
+                .bind("categoryId", categoryId)
+                .map(DtoProjections::category)
+                .all();
+    }
+}
@@ -19,14 +19,18 @@ package com.firefly.core.product.models.repositories;
 
 import com.firefly.core.product.models.entities.ProductCategory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
-public interface ProductCategoryRepository extends BaseRepository<ProductCategory, UUID> {
+public interface ProductCategoryRepository extends BaseRepository<ProductCategory, UUID>,
+        ProductCategoryProjectionOperations {
     Flux<ProductCategory> findByParentCategoryId(UUID parentId, Pageable pageable);
     Mono<Long> countByParentCategoryId(UUID parentId);
     Flux<ProductCategory> findByParentCategoryIdIsNull(Pageable pageable);
@@ -34,4 +38,98 @@ public interface ProductCategoryRepository extends BaseRepository<ProductCategor
     Mono<ProductCategory> findByCategoryName(String name);
     Flux<ProductCategory> findByCategoryNameContainingIgnoreCase(String namePattern, Pageable pageable);
     Mono<Long> countByCategoryNameContainingIgnoreCase(String namePattern);
-}
\ No newline at end of file
+
+    /**
+     * Adds the closure rows of a newly created category: its zero-depth self row and one row per
+     * ancestor of its parent.
+     *
+     * @param categoryId the identifier of the new category
+     * @param parentCategoryId the identifier of its parent, or null for a root category
+     * @return a Mono emitting the number of inserted rows
+     */
+    @Modifying
+    @Query("INSERT INTO product_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT :categoryId, :categoryId, 0 " +
+            "UNION ALL " +
+            "SELECT ancestor_id, :categoryId, depth + 1 FROM product_category_closure WHERE descendant_id = :parentCategoryId")
+    Mono<Integer> insertClosure(UUID categoryId, UUID parentCategoryId);
+
+    /**
+     * Checks in one primary key lookup whether a category is the given category or one of its descendants.
+     *
+     * @param categoryId the root of the subtree
+     * @param candidateId the category to look for
+     * @return a Mono emitting true if {@code candidateId} lies in the subtree of {@code categoryId}
+     */
+    @Query("SELECT EXISTS (SELECT 1 FROM product_category_closure WHERE ancestor_id = :categoryId AND descendant_id = :candidateId)")
+    Mono<Boolean> isInSubtree(UUID categoryId, UUID candidateId);
+
+    /**
+     * Detaches a subtree from its current ancestors by removing every closure row that links a node
+     * of the subtree to a category outside of it.
+     *
+     * @param categoryId the root of the subtree to detach
+     * @return a Mono emitting the number of removed rows
+     */
+    @Modifying
+    @Query("DELETE FROM product_category_closure " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM product_category_closure WHERE ancestor_id = :categoryId) " +
+            "AND ancestor_id NOT IN (SELECT descendant_id FROM product_category_closure WHERE ancestor_id = :categoryId)")
+    Mono<Integer> detachSubtree(UUID categoryId);
+
+    /**
+     * Attaches a detached subtree below a new parent by linking every ancestor of the parent to every
+     * node of the subtree.
+     *
+     * @param categoryId the root of the subtree to attach
+     * @param parentCategoryId the new parent of the subtree root
+     * @return a Mono emitting the number of inserted rows
+     */
+    @Modifying
+    @Query("INSERT INTO product_category_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 " +
+            "FROM product_category_closure above CROSS JOIN product_category_closure below " +
+            "WHERE above.descendant_id = :parentCategoryId AND below.ancestor_id = :categoryId")
+    Mono<Integer> attachSubtree(UUID categoryId, UUID parentCategoryId);
+
+    /**
+     * Shifts the level of every strict descendant of a category, used after the category moved.
+     *
+     * @param categoryId the root of the moved subtree
+     * @param delta the level difference to apply
+     * @return a Mono emitting the number of updated categories
+     */
+    @Modifying
+    @Query("UPDATE product_category c SET level = c.level + :delta, date_updated = CURRENT_TIMESTAMP " +
+            "FROM product_category_closure cl " +
+            "WHERE cl.ancestor_id = :categoryId AND cl.depth > 0 AND c.product_category_id = cl.descendant_id")
+    Mono<Integer> shiftSubtreeLevels(UUID categoryId, int delta);
+
+    /**
+     * Reads the categories written after a {@code (date_updated, product_category_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_category_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} categories ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_category "
+            + "WHERE (date_updated, product_category_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_category_id LIMIT :limit")
+    Flux<ProductCategory> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a category without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the category does not exist
+     */
+    @Query("SELECT row_version FROM product_category WHERE product_category_id = :categoryId")
+    Mono<Long> findRowVersionById(UUID categoryId);
+
+    /**
+     * Reads the row version of a category and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the category does not exist
+     */
+    @Query("SELECT row_version FROM product_category WHERE product_category_id = :categoryId FOR UPDATE")
+    Mono<Long> lockRowVersionById(UUID categoryId);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row write operations for the configurations of a product, each executed as a single SQL statement.
+ */
+public interface ProductConfigurationBatchOperations {
+
+    /**
+     * Inserts all configurations with one multi-row {@code INSERT ... VALUES}.
+     *
+     * @param configurations the configurations to insert, each with its configuration ID already set so that
+     *                       the returned rows can be matched to the input by ID
+     * @return a Flux emitting the inserted rows, in no particular order
+     * @throws IllegalArgumentException if a configuration has no ID
+     */
+    Flux<ProductConfiguration> insertAll(List<ProductConfiguration> configurations);
+
+    /**
+     * Updates all configurations of a product with one {@code UPDATE ... FROM (VALUES ...)}.
+     * Null fields keep their current value.
+     *
+     * @param productId the unique identifier of the product owning the configurations
+     * @param configurations the configurations to update, identified by their configuration ID
+     * @return a Flux emitting the updated rows; configurations that do not exist or belong to
+     *         another product are absent
+     */
+    Flux<ProductConfiguration> updateAllOfProduct(UUID productId, List<ProductConfiguration> configurations);
+
+    /**
+     * Deletes the configurations of a product with the given identifiers in one statement.
+     *
+     * @param productId the unique identifier of the product owning the configurations
+     * @param configurationIds the identifiers of the configurations to delete
+     * @return a Flux emitting the identifiers of the deleted configurations
+     */
+    Flux<UUID> deleteAllOfProduct(UUID productId, List<UUID> configurationIds);
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import com.firefly.core.product.models.entities.ProductConfiguration;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link ProductConfigurationBatchOperations} fragment of {@link ProductConfigurationRepository} built on
+ * {@link DatabaseClient}.
+ */
+class ProductConfigurationBatchOperationsImpl implements ProductConfigurationBatchOperations {
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    ProductConfigurationBatchOperationsImpl(DatabaseClient databaseClient, R2dbcConverter converter) {
+        this.databaseClient = databaseClient;
+        this.converter = converter;
+    }
+
+    @Override
+    public Flux<ProductConfiguration> insertAll(List<ProductConfiguration> configurations) {
+        if (configurations.isEmpty()) {
+            return Flux.empty();
+        }
+        BatchBindings bindings = new BatchBindings();
+        String now = bindings.add("now", LocalDateTime.now(), LocalDateTime.class);
+        List<String> rows = new ArrayList<>(configurations.size());
+        for (int i = 0; i < configurations.size(); i++) {
+            ProductConfiguration configuration = configurations.get(i);
+            if (configuration.getProductConfigurationId() == null) {
+                throw new IllegalArgumentException("Configuration ID is required for a batch insert");
+            }
+            rows.add("(" + String.join(", ",
+                    bindings.add("product_configuration_id", i, configuration.getProductConfigurationId(), UUID.class),
+                    bindings.add("product_id", i, configuration.getProductId(), UUID.class),
+                    "CAST(" + bindings.add("config_type", i, configuration.getConfigType(), ProductConfigTypeEnum.class) + " AS product_config_type)",
+                    bindings.add("config_key", i, configuration.getConfigKey(), String.class),
+                    bindings.add("config_value", i, configuration.getConfigValue(), String.class),
+                    now,
+                    now) + ")");
+        }
+        String sql = "INSERT INTO product_configuration (product_configuration_id, product_id, config_type, "
+                + "config_key, config_value, date_created, date_updated) "
+                + "VALUES " + String.join(", ", rows) + " "
+                + "RETURNING *";
+        return bindings.bindTo(databaseClient.sql(sql))
+                .map((row, metadata) -> converter.read(ProductConfiguration.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Flux<ProductConfiguration> updateAllOfProduct(UUID productId, List<ProductConfiguration> configurations) {
+        if (configurations.isEmpty()) {
+            return Flux.empty();
+        }
+        BatchBindings bindings = new BatchBindings();
+        String now = bindings.add("now", LocalDateTime.now(), LocalDateTime.class);
+        String owner = bindings.add("productId", productId, UUID.class);
+        List<String> rows = new ArrayList<>(configurations.size());
+        for (int i = 0; i < configurations.size(); i++) {
+            ProductConfiguration configuration = configurations.get(i);
+            rows.add("(" + String.join(", ",
+                    "CAST(" + bindings.add("product_configuration_id", i, configuration.getProductConfigurationId(), UUID.class) + " AS uuid)",
+                    "CAST(" + bindings.add("config_type", i, configuration.getConfigType(), ProductConfigTypeEnum.class) + " AS product_config_type)",
+                    "CAST(" + bindings.add("config_key", i, configuration.getConfigKey(), String.class) + " AS varchar)",
+                    "CAST(" + bindings.add("config_value", i, configuration.getConfigValue(), String.class) + " AS text)") + ")");
+        }
+        String sql = "UPDATE product_configuration AS t SET "
+                + "config_type = COALESCE(v.config_type, t.config_type), "
+                + "config_key = COALESCE(v.config_key, t.config_key), "
+                + "config_value = COALESCE(v.config_value, t.config_value), "
+                + "date_updated = " + now + " "
+                + "FROM (VALUES " + String.join(", ", rows) + ") AS v (product_configuration_id, config_type, "
+                + "config_key, config_value) "
+                + "WHERE t.product_configuration_id = v.product_configuration_id AND t.product_id = " + owner + " "
+                + "RETURNING t.*";
+        return bindings.bindTo(databaseClient.sql(sql))
+                .map((row, metadata) -> converter.read(ProductConfiguration.class, row, metadata))
+                .all();
+    }
+
+    @Override
+    public Flux<UUID> deleteAllOfProduct(UUID productId, List<UUID> configurationIds) {
+        if (configurationIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("DELETE FROM product_configuration "
+                        + "WHERE product_id = :productId AND product_configuration_id = ANY(:configurationIds) "
+                        + "RETURNING product_configuration_id")
+                .bind("productId", productId)
+                .bind("configurationIds", configurationIds.toArray(UUID[]::new))
+                .map(row -> row.get("product_configuration_id", UUID.class))
+                .all();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Read-only listings of product configurations projected straight from the rows into
+ * {@link ProductConfigurationDTO}s, for the paths that never need the entity.
+ */
+public interface ProductConfigurationProjectionOperations {
+
+    /**
+     * Finds the configurations of a product.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Flux emitting the configurations of the product
+     */
+    Flux<ProductConfigurationDTO> findDtosByProductId(UUID productId);
+
+    /**
+     * Finds the configurations of a product with the given type.
+     *
+     * @param productId the unique identifier of the product
+     * @param configType the configuration type
+     * @return a Flux emitting the matching configurations
+     */
+    Flux<ProductConfigurationDTO> findDtosByProductIdAndConfigType(UUID productId, ProductConfigTypeEnum configType);
+}
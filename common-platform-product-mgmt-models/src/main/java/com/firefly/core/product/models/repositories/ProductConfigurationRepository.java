@@ -19,17 +19,91 @@ package com.firefly.core.product.models.repositories;
 
 import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
 import com.firefly.core.product.models.entities.ProductConfiguration;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-public interface ProductConfigurationRepository extends BaseRepository<ProductConfiguration, UUID> {
+public interface ProductConfigurationRepository extends BaseRepository<ProductConfiguration, UUID>,
+        ProductConfigurationBatchOperations, ProductConfigurationProjectionOperations {
 
     Flux<ProductConfiguration> findByProductId(UUID productId);
 
-    Flux<ProductConfiguration> findByProductIdAndConfigType(UUID productId, ProductConfigTypeEnum configType);
-
     Mono<ProductConfiguration> findByProductIdAndConfigKey(UUID productId, String configKey);
-}
 
+    /**
+     * Finds the configurations of several products in one statement, served by the unique
+     * {@code (product_id, config_key)} index. An empty key or type array matches every key or type.
+     *
+     * @param productIds the identifiers of the products
+     * @param configKeys the configuration keys to return, or an empty array for all keys
+     * @param configTypes the configuration types to return, or an empty array for all types
+     * @return a Flux emitting the matching configurations ordered by product ID and key
+     */
+    @Query("SELECT * FROM product_configuration "
+            + "WHERE product_id = ANY(:productIds) "
+            + "AND (cardinality(:configKeys) = 0 OR config_key = ANY(:configKeys)) "
+            + "AND (cardinality(:configTypes) = 0 OR config_type = ANY(CAST(:configTypes AS product_config_type[]))) "
+            + "ORDER BY product_id, config_key")
+    Flux<ProductConfiguration> findByProductIdsAndKeys(UUID[] productIds, String[] configKeys,
+                                                     ProductConfigTypeEnum[] configTypes);
+
+    /**
+     * Inserts a configuration, or replaces the type and value of the product's configuration with the
+     * same key, in a single statement.
+     *
+     * @return a Mono emitting the inserted or updated row
+     */
+    @Query("INSERT INTO product_configuration (product_id, config_type, config_key, config_value) "
+            + "VALUES (:productId, CAST(:configType AS product_config_type), :configKey, :configValue) "
+            + "ON CONFLICT (product_id, config_key) DO UPDATE SET "
+            + "config_type = EXCLUDED.config_type, "
+            + "config_value = EXCLUDED.config_value, "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "RETURNING *")
+    Mono<ProductConfiguration> upsertByKey(UUID productId, String configKey,
+                                           ProductConfigTypeEnum configType, String configValue);
+
+    /**
+     * Reads the configurations written after a {@code (date_updated, product_configuration_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_configuration_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} configurations ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_configuration "
+            + "WHERE (date_updated, product_configuration_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_configuration_id LIMIT :limit")
+    Flux<ProductConfiguration> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a configuration without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the configuration does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_configuration "
+            + "WHERE product_configuration_id = :configId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID configId, UUID productId);
+
+    /**
+     * Reads the row version of a configuration and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the configuration does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_configuration "
+            + "WHERE product_configuration_id = :configId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID configId, UUID productId);
+
+    /**
+     * Reads the configurations of a product as they stood when a product version was created, from the
+     * immutable {@code product_version_snapshot} row of that version.
+     *
+     * @return a Flux emitting the captured configurations, empty if the version has no snapshot
+     */
+    @Query("SELECT c.* FROM product_version_snapshot s "
+            + "CROSS JOIN LATERAL jsonb_populate_recordset(NULL::product_configuration, s.configurations) c "
+            + "WHERE s.product_version_id = :versionId")
+    Flux<ProductConfiguration> findSnapshotByVersionId(UUID versionId);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Read-only listings of product documentation projected straight from the rows into
+ * {@link ProductDocumentationDTO}s, for the paths that never need the entity.
+ */
+public interface ProductDocumentationProjectionOperations {
+
+    /**
+     * Finds the documentation of a product.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Flux emitting the documentation of the product
+     */
+    Flux<ProductDocumentationDTO> findDtosByProductId(UUID productId);
+}
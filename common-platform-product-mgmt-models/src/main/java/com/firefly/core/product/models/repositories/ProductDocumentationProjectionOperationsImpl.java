@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * {@link ProductDocumentationProjectionOperations} fragment of
+ * {@link ProductDocumentationRepository} built on {@link DatabaseClient}.
+ */
+class ProductDocumentationProjectionOperationsImpl implements ProductDocumentationProjectionOperations {
+
+    private final DatabaseClient databaseClient;
+
+    ProductDocumentationProjectionOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductDocumentationDTO> findDtosByProductId(UUID productId) {
+        return databaseClient.sql("SELECT * FROM product_documentation WHERE product_id = :productId")
+                .bind("productId", productId)
+                .map(DtoProjections::documentation)
+                .all();
+    }
+}
@@ -20,6 +20,8 @@ package com.firefly.core.product.models.repositories;
 import com.firefly.core.product.interfaces.enums.DocTypeEnum;
 import com.firefly.core.product.models.entities.ProductDocumentation;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -28,7 +30,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
-public interface ProductDocumentationRepository extends BaseRepository<ProductDocumentation, UUID> {
+public interface ProductDocumentationRepository extends BaseRepository<ProductDocumentation, UUID>,
+        ProductDocumentationProjectionOperations {
     Flux<ProductDocumentation> findByProductId(UUID productId);
     Flux<ProductDocumentation> findByDocType(DocTypeEnum docType);
     Flux<ProductDocumentation> findByDateAddedBetween(LocalDateTime start, LocalDateTime end);
@@ -38,4 +41,58 @@ public interface ProductDocumentationRepository extends BaseRepository<ProductDo
 
     Flux<ProductDocumentation> findByDocType(DocTypeEnum docType, Pageable pageable);
     Mono<Long> countByDocType(DocTypeEnum docType);
+
+    /**
+     * Updates a documentation entry of a product in a single statement. Null arguments keep the current value.
+     *
+     * @return a Mono emitting the updated row, or empty if it does not exist or belongs to another product
+     */
+    @Query("UPDATE product_documentation SET "
+            + "doc_type = COALESCE(CAST(:docType AS doc_type), doc_type), "
+            + "document_manager_ref = COALESCE(:documentManagerRef, document_manager_ref), "
+            + "date_added = COALESCE(:dateAdded, date_added), "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "WHERE product_documentation_id = :documentationId AND product_id = :productId "
+            + "RETURNING *")
+    Mono<ProductDocumentation> updateForProduct(UUID documentationId, UUID productId,
+                                                DocTypeEnum docType, Long documentManagerRef, LocalDateTime dateAdded);
+
+    /**
+     * Deletes a documentation entry of a product in a single statement.
+     *
+     * @return a Mono emitting the number of deleted rows, 0 if it does not exist or belongs to another product
+     */
+    @Modifying
+    @Query("DELETE FROM product_documentation WHERE product_documentation_id = :documentationId AND product_id = :productId")
+    Mono<Integer> deleteForProduct(UUID documentationId, UUID productId);
+
+    /**
+     * Reads the documentation entries written after a {@code (date_updated, product_documentation_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_documentation_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} documentation entries ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_documentation "
+            + "WHERE (date_updated, product_documentation_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_documentation_id LIMIT :limit")
+    Flux<ProductDocumentation> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a documentation entry without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the documentation entry does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_documentation "
+            + "WHERE product_documentation_id = :documentationId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID documentationId, UUID productId);
+
+    /**
+     * Reads the row version of a documentation entry and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the documentation entry does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_documentation "
+            + "WHERE product_documentation_id = :documentationId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID documentationId, UUID productId);
 }
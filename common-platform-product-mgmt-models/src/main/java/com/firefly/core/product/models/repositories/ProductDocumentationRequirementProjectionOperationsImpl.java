@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductDocumentationRequirementDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * {@link ProductDocumentationRequirementProjectionOperations} fragment of
+ * {@link ProductDocumentationRequirementRepository} built on {@link DatabaseClient}.
+ */
+class ProductDocumentationRequirementProjectionOperationsImpl
+        implements ProductDocumentationRequirementProjectionOperations {
+
+    private final DatabaseClient databaseClient;
+
+    ProductDocumentationRequirementProjectionOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductDocumentationRequirementDTO> findDtosByProductId(UUID productId) {
+        return databaseClient.sql("SELECT * FROM product_documentation_requirement WHERE product_id = :productId")
+                .bind("productId", productId)
+                .map(DtoProjections::documentationRequirement)
+                .all();
+    }
+
+    @Override
+    public Flux<ProductDocumentationRequirementDTO> findDtosByProductIdAndIsMandatory(
+            UUID productId, boolean isMandatory) {
+        return databaseClient.sql("SELECT * FROM product_documentation_requirement "
+                        + "WHERE product_id = :productId AND is_mandatory = :isMandatory")
+                .bind("productId", productId)
+                .bind("isMandatory", isMandatory)
+                .map(DtoProjections::documentationRequirement)
+                .all();
+    }
+}
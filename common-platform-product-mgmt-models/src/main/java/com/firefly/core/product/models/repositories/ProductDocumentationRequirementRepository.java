@@ -20,17 +20,22 @@ package com.firefly.core.product.models.repositories;
 import com.firefly.core.product.interfaces.enums.ContractingDocTypeEnum;
 import com.firefly.core.product.models.entities.ProductDocumentationRequirement;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
  * Repository for managing ProductDocumentationRequirement entities.
  */
 @Repository
-public interface ProductDocumentationRequirementRepository extends BaseRepository<ProductDocumentationRequirement, UUID> {
+public interface ProductDocumentationRequirementRepository extends BaseRepository<ProductDocumentationRequirement, UUID>,
+        ProductDocumentationRequirementProjectionOperations {
     
     /**
      * Find all documentation requirements for a specific product.
@@ -40,6 +45,14 @@ public interface ProductDocumentationRequirementRepository extends BaseRepositor
      */
     Flux<ProductDocumentationRequirement> findByProductId(UUID productId);
     
+    /**
+     * Find all documentation requirements of several products with a single query.
+     *
+     * @param productIds The IDs of the products
+     * @return A Flux of ProductDocumentationRequirement entities
+     */
+    Flux<ProductDocumentationRequirement> findByProductIdIn(Collection<UUID> productIds);
+    
     /**
      * Find all documentation requirements for a specific product with pagination.
      *
@@ -57,15 +70,6 @@ public interface ProductDocumentationRequirementRepository extends BaseRepositor
      */
     Mono<Long> countByProductId(UUID productId);
     
-    /**
-     * Find all mandatory documentation requirements for a specific product.
-     *
-     * @param productId The ID of the product
-     * @param isMandatory Whether the requirement is mandatory
-     * @return A Flux of ProductDocumentationRequirement entities
-     */
-    Flux<ProductDocumentationRequirement> findByProductIdAndIsMandatory(UUID productId, Boolean isMandatory);
-    
     /**
      * Find a specific documentation requirement for a product by document type.
      *
@@ -82,4 +86,58 @@ public interface ProductDocumentationRequirementRepository extends BaseRepositor
      * @return A Mono with the number of deleted entities
      */
     Mono<UUID> deleteByProductId(Long productId);
-}
\ No newline at end of file
+
+    /**
+     * Updates a documentation requirement of a product in a single statement. Null arguments keep the current value.
+     *
+     * @return a Mono emitting the updated row, or empty if it does not exist or belongs to another product
+     */
+    @Query("UPDATE product_documentation_requirement SET "
+            + "doc_type = COALESCE(CAST(:docType AS contracting_doc_type), doc_type), "
+            + "is_mandatory = COALESCE(:isMandatory, is_mandatory), "
+            + "description = COALESCE(:description, description), "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "WHERE product_doc_requirement_id = :requirementId AND product_id = :productId "
+            + "RETURNING *")
+    Mono<ProductDocumentationRequirement> updateForProduct(UUID requirementId, UUID productId,
+                                                           ContractingDocTypeEnum docType, Boolean isMandatory, String description);
+
+    /**
+     * Deletes a documentation requirement of a product in a single statement.
+     *
+     * @return a Mono emitting the number of deleted rows, 0 if it does not exist or belongs to another product
+     */
+    @Modifying
+    @Query("DELETE FROM product_documentation_requirement WHERE product_doc_requirement_id = :requirementId AND product_id = :productId")
+    Mono<Integer> deleteForProduct(UUID requirementId, UUID productId);
+
+    /**
+     * Reads the documentation requirements written after a {@code (date_updated, product_doc_requirement_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_documentation_requirement_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} documentation requirements ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_documentation_requirement "
+            + "WHERE (date_updated, product_doc_requirement_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_doc_requirement_id LIMIT :limit")
+    Flux<ProductDocumentationRequirement> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a documentation requirement without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the documentation requirement does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_documentation_requirement "
+            + "WHERE product_doc_requirement_id = :requirementId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID requirementId, UUID productId);
+
+    /**
+     * Reads the row version of a documentation requirement and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the documentation requirement does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_documentation_requirement "
+            + "WHERE product_doc_requirement_id = :requirementId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID requirementId, UUID productId);
+}
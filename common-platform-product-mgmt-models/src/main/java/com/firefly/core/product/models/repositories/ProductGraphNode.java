@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import java.util.UUID;
+
+/**
+ * A product reached by a traversal of the relationship graph.
+ *
+ * @param productId the unique identifier of the reached product
+ * @param parentId  the product it was reached from on one of its shortest paths
+ * @param depth     the number of relationships on its shortest path from the start product
+ */
+public record ProductGraphNode(UUID productId, UUID parentId, int depth) {
+}
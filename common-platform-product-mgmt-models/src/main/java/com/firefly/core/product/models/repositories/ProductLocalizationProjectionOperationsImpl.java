@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductLocalizationDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * {@link ProductLocalizationProjectionOperations} fragment of {@link ProductLocalizationRepository}
+ * built on {@link DatabaseClient}.
+ */
+class ProductLocalizationProjectionOperationsImpl implements ProductLocalizationProjectionOperations {
+
+    private final DatabaseClient databaseClient;
+
+    ProductLocalizationProjectionOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductLocalizationDTO> findDtosByProductId(UUID productId) {
+        return databaseClient.sql("SELECT * FROM product_localization WHERE product_id = :productId")
+                .bind("productId", productId)
+                .map(DtoProjections::localization)
+                .all();
+    }
+}
@@ -19,12 +19,79 @@ package com.firefly.core.product.models.repositories;
 
 import com.firefly.core.product.models.entities.ProductLocalization;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-public interface ProductLocalizationRepository extends BaseRepository<ProductLocalization, UUID> {
+public interface ProductLocalizationRepository extends BaseRepository<ProductLocalization, UUID>,
+        ProductLocalizationProjectionOperations {
+    Flux<ProductLocalization> findByProductId(UUID productId);
     Flux<ProductLocalization> findAllByProductId(UUID productId, Pageable pageable);
     Mono<Long> countByProductId(UUID productId);
+
+    /**
+     * Reads the localizations of the given products in the given languages, served by
+     * {@code uk_product_localization_product_language}. A product has at most one localization per language.
+     */
+    @Query("SELECT * FROM product_localization "
+            + "WHERE product_id = ANY(:productIds) AND language_code = ANY(:languageCodes)")
+    Flux<ProductLocalization> findByProductIdsAndLanguageCodes(UUID[] productIds, String[] languageCodes);
+
+    /**
+     * Updates a localization of a product in a single statement. Null arguments keep the current value.
+     *
+     * @return a Mono emitting the updated row, or empty if it does not exist or belongs to another product
+     */
+    @Query("UPDATE product_localization SET "
+            + "language_code = COALESCE(:languageCode, language_code), "
+            + "localized_name = COALESCE(:localizedName, localized_name), "
+            + "localized_description = COALESCE(:localizedDescription, localized_description), "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "WHERE product_localization_id = :localizationId AND product_id = :productId "
+            + "RETURNING *")
+    Mono<ProductLocalization> updateForProduct(UUID localizationId, UUID productId,
+                                               String languageCode, String localizedName, String localizedDescription);
+
+    /**
+     * Deletes a localization of a product in a single statement.
+     *
+     * @return a Mono emitting the number of deleted rows, 0 if it does not exist or belongs to another product
+     */
+    @Modifying
+    @Query("DELETE FROM product_localization WHERE product_localization_id = :localizationId AND product_id = :productId")
+    Mono<Integer> deleteForProduct(UUID localizationId, UUID productId);
+
+    /**
+     * Reads the localizations written after a {@code (date_updated, product_localization_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_localization_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} localizations ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_localization "
+            + "WHERE (date_updated, product_localization_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_localization_id LIMIT :limit")
+    Flux<ProductLocalization> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a localization without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the localization does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_localization "
+            + "WHERE product_localization_id = :localizationId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID localizationId, UUID productId);
+
+    /**
+     * Reads the row version of a localization and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the localization does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_localization "
+            + "WHERE product_localization_id = :localizationId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID localizationId, UUID productId);
 }
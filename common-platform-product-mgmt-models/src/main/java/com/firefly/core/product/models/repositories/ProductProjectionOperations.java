@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only product listings projected straight from the rows into {@link ProductDTO}s, for the
+ * paths that never need the entity.
+ */
+public interface ProductProjectionOperations {
+
+    /**
+     * Finds all products belonging to a specific tenant.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @return a Flux emitting all products for the specified tenant
+     */
+    Flux<ProductDTO> findDtosByTenantId(UUID tenantId);
+
+    /**
+     * Returns a keyset page of a tenant's products ordered by product ID.
+     * Served by the {@code idx_product_tenant_product} index.
+     *
+     * @param tenantId the unique identifier of the tenant
+     * @param afterProductId the last product ID returned by the previous page, null for the first page
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} products
+     */
+    Flux<ProductDTO> findDtoPageByTenantId(UUID tenantId, @Nullable UUID afterProductId, int limit);
+
+    /**
+     * Returns a keyset page of the products assigned to a category or any of its descendants,
+     * ordered by product ID. Resolved through the category closure table.
+     *
+     * @param categoryId the root of the category subtree
+     * @param afterProductId the last product ID returned by the previous page, null for the first page
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} products
+     */
+    Flux<ProductDTO> findDtoPageInCategorySubtree(UUID categoryId, @Nullable UUID afterProductId, int limit);
+
+    /**
+     * Finds the products with the given identifiers by primary key.
+     *
+     * @param productIds the identifiers of the products to read
+     * @return a Flux emitting the products that exist, in no particular order
+     */
+    Flux<ProductDTO> findDtosByProductIdIn(List<UUID> productIds);
+}
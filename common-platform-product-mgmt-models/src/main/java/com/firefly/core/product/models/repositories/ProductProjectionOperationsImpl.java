@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.models.conversions.DtoProjections;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link ProductProjectionOperations} fragment of {@link ProductRepository} built on {@link DatabaseClient}.
+ * Rows are read by {@link DtoProjections}, so each row allocates its DTO only.
+ */
+class ProductProjectionOperationsImpl implements ProductProjectionOperations {
+
+    private final DatabaseClient databaseClient;
+
+    ProductProjectionOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductDTO> findDtosByTenantId(UUID tenantId) {
+        return databaseClient.sql("SELECT * FROM product WHERE tenant_id = :tenantId")
+                .bind("tenantId", tenantId)
+                .map(DtoProjections::product)
+                .all();
+    }
+
+    @Override
+    public Flux<ProductDTO> findDtoPageByTenantId(UUID tenantId, UUID afterProductId, int limit) {
+        String sql = "SELECT * FROM product WHERE tenant_id = :tenantId "
+                + (afterProductId != null ? "AND product_id > :afterProductId " : "")
+                + "ORDER BY product_id LIMIT :limit";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("tenantId", tenantId)
+                .bind("limit", limit);
+        if (afterProductId != null) {
+            spec = spec.bind("afterProductId", afterProductId);
+        }
+        return spec.map(DtoProjections::product).all();
+    }
+
+    @Override
+    public Flux<ProductDTO> findDtoPageInCategorySubtree(UUID categoryId, UUID afterProductId, int limit) {
+        String sql = "SELECT p.* FROM product p "
+                + "JOIN product_category_closure cl ON cl.descendant_id = p.product_category_id "
+                + "WHERE cl.ancestor_id = :categoryId "
+                + (afterProductId != null ? "AND p.product_id > :afterProductId " : "")
+                + "ORDER BY p.product_id LIMIT :limit";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("categoryId", categoryId)
+                .bind("limit", limit);
+        if (afterProductId != null) {
+            spec = spec.bind("afterProductId", afterProductId);
+        }
+        return spec.map(DtoProjections::product).all();
+    }
+
+    @Override
+    public Flux<ProductDTO> findDtosByProductIdIn(List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT * FROM product WHERE product_id = ANY(:productIds)")
+                .bind("productIds", productIds.toArray(UUID[]::new))
+                .map(DtoProjections::product)
+                .all();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Traversals of the product relationship graph, each executed as one recursive query.
+ */
+public interface ProductRelationshipGraphOperations {
+
+    /**
+     * Reads every product reachable from a product through relationships of the given types, breadth first
+     * and up to a depth. Cycles end at the depth limit, and each product is reported once, at its shortest
+     * distance.
+     *
+     * @param productId the start product, not reported itself
+     * @param types     the relationship types to follow
+     * @param direction the direction in which relationships are followed
+     * @param maxDepth  the maximum number of relationships on a path
+     * @return a Flux emitting the reached products ordered by depth, then product ID
+     */
+    Flux<ProductGraphNode> traverse(UUID productId, Collection<RelationshipTypeEnum> types,
+                                    RelationshipDirectionEnum direction, int maxDepth);
+
+    /**
+     * Checks whether a product can be reached from another one by following relationships of a type forwards.
+     * The search is not depth limited.
+     *
+     * @return a Mono emitting whether a path exists; a product always reaches itself
+     */
+    Mono<Boolean> existsPath(UUID fromProductId, UUID toProductId, RelationshipTypeEnum type);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * {@link ProductRelationshipGraphOperations} fragment of {@link ProductRelationshipRepository} built on
+ * {@link DatabaseClient}. Steps are served by {@code idx_product_relationship_outgoing} and
+ * {@code idx_product_relationship_incoming}.
+ */
+class ProductRelationshipGraphOperationsImpl implements ProductRelationshipGraphOperations {
+
+    // UNION drops repeated (product, parent, depth) rows, so the work per level is bounded by the
+    // number of relationships even when the graph has cycles
+    private static final String TRAVERSE = "WITH RECURSIVE walk (product_id, parent_id, depth) AS ("
+            + "SELECT CAST(:productId AS uuid), CAST(NULL AS uuid), 0 "
+            + "UNION "
+            + "SELECT step.next_id, walk.product_id, walk.depth + 1 FROM walk "
+            + "CROSS JOIN LATERAL ("
+            + "SELECT r.related_product_id AS next_id FROM product_relationship r "
+            + "WHERE :outgoing AND r.product_id = walk.product_id "
+            + "AND r.relationship_type = ANY(CAST(:types AS relationship_type[])) "
+            + "UNION ALL "
+            + "SELECT r.product_id FROM product_relationship r "
+            + "WHERE :incoming AND r.related_product_id = walk.product_id "
+            + "AND r.relationship_type = ANY(CAST(:types AS relationship_type[]))"
+            + ") step "
+            + "WHERE walk.depth < :maxDepth AND step.next_id <> CAST(:productId AS uuid)"
+            + ") "
+            + "SELECT product_id, parent_id, depth FROM ("
+            + "SELECT DISTINCT ON (product_id) product_id, parent_id, depth FROM walk WHERE depth > 0 "
+            + "ORDER BY product_id, depth, parent_id"
+            + ") nearest ORDER BY depth, product_id";
+
+    // UNION on the product alone stops once no new product is found, so the search ends on cycles
+    private static final String EXISTS_PATH = "WITH RECURSIVE reachable (product_id) AS ("
+            + "SELECT CAST(:fromId AS uuid) "
+            + "UNION "
+            + "SELECT r.related_product_id FROM reachable "
+            + "JOIN product_relationship r ON r.product_id = reachable.product_id "
+            + "AND r.relationship_type = CAST(:type AS relationship_type)"
+            + ") "
+            + "SELECT EXISTS (SELECT 1 FROM reachable WHERE product_id = :toId) AS found";
+
+    private final DatabaseClient databaseClient;
+
+    ProductRelationshipGraphOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductGraphNode> traverse(UUID productId, Collection<RelationshipTypeEnum> types,
+                                           RelationshipDirectionEnum direction, int maxDepth) {
+        if (types.isEmpty() || maxDepth < 1) {
+            return Flux.empty();
+        }
+        return databaseClient.sql(TRAVERSE)
+                .bind("productId", productId)
+                .bind("types", types.toArray(RelationshipTypeEnum[]::new))
+                .bind("outgoing", direction != RelationshipDirectionEnum.INCOMING)
+                .bind("incoming", direction != RelationshipDirectionEnum.OUTGOING)
+                .bind("maxDepth", maxDepth)
+                .map(row -> new ProductGraphNode(
+                        row.get("product_id", UUID.class),
+                        row.get("parent_id", UUID.class),
+                        row.get("depth", Integer.class)))
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> existsPath(UUID fromProductId, UUID toProductId, RelationshipTypeEnum type) {
+        return databaseClient.sql(EXISTS_PATH)
+                .bind("fromId", fromProductId)
+                .bind("toId", toProductId)
+                .bind("type", type)
+                .map(row -> row.get("found", Boolean.class))
+                .one();
+    }
+}
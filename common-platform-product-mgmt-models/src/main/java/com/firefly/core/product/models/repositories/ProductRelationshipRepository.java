@@ -20,17 +20,23 @@ package com.firefly.core.product.models.repositories;
 import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
 import com.firefly.core.product.models.entities.ProductRelationship;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
-public interface ProductRelationshipRepository extends BaseRepository<ProductRelationship, UUID> {
+public interface ProductRelationshipRepository extends BaseRepository<ProductRelationship, UUID>,
+        ProductRelationshipGraphOperations, ProductRelationshipProjectionOperations {
     Flux<ProductRelationship> findByProductId(UUID productId);
     Flux<ProductRelationship> findByRelatedProductId(UUID relatedProductId);
     Flux<ProductRelationship> findByRelationshipType(RelationshipTypeEnum type);
+    Flux<ProductRelationship> findByRelationshipTypeIn(Collection<RelationshipTypeEnum> types);
 
     // Bidirectional relationship search
     Flux<ProductRelationship> findByProductIdOrRelatedProductId(UUID productId, UUID relatedProductId);
@@ -41,4 +47,81 @@ public interface ProductRelationshipRepository extends BaseRepository<ProductRel
 
     Flux<ProductRelationship> findByRelationshipType(RelationshipTypeEnum type, Pageable pageable);
     Mono<Long> countByRelationshipType(RelationshipTypeEnum type);
-}
\ No newline at end of file
+
+    /**
+     * Updates a relationship of a product in a single statement. Null arguments keep the current value.
+     *
+     * @return a Mono emitting the updated row, or empty if it does not exist or belongs to another product
+     */
+    @Query("UPDATE product_relationship SET "
+            + "related_product_id = COALESCE(:relatedProductId, related_product_id), "
+            + "relationship_type = COALESCE(CAST(:relationshipType AS relationship_type), relationship_type), "
+            + "description = COALESCE(:description, description), "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "WHERE product_relationship_id = :relationshipId AND product_id = :productId "
+            + "RETURNING *")
+    Mono<ProductRelationship> updateForProduct(UUID relationshipId, UUID productId,
+                                               UUID relatedProductId, RelationshipTypeEnum relationshipType, String description);
+
+    /**
+     * Deletes a relationship of a product in a single statement.
+     *
+     * @return a Mono emitting the number of deleted rows, 0 if it does not exist or belongs to another product
+     */
+    @Modifying
+    @Query("DELETE FROM product_relationship WHERE product_relationship_id = :relationshipId AND product_id = :productId")
+    Mono<Integer> deleteForProduct(UUID relationshipId, UUID productId);
+
+    /**
+     * Reads the relationships written after a {@code (date_updated, product_relationship_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_relationship_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} relationships ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_relationship "
+            + "WHERE (date_updated, product_relationship_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_relationship_id LIMIT :limit")
+    Flux<ProductRelationship> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a relationship without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the relationship does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_relationship "
+            + "WHERE product_relationship_id = :relationshipId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID relationshipId, UUID productId);
+
+    /**
+     * Reads the row version of a relationship and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the relationship does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_relationship "
+            + "WHERE product_relationship_id = :relationshipId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID relationshipId, UUID productId);
+
+    /**
+     * Reads the relationships of the given types that start or end at any of the products, served by
+     * {@code idx_product_relationship_outgoing} and {@code idx_product_relationship_incoming}.
+     *
+     * @param productIds the unique identifiers of the products
+     * @param types      the relationship types
+     * @return a Flux emitting the matching relationships, in no particular order
+     */
+    @Query("SELECT * FROM product_relationship "
+            + "WHERE relationship_type = ANY(CAST(:types AS relationship_type[])) "
+            + "AND (product_id = ANY(:productIds) OR related_product_id = ANY(:productIds))")
+    Flux<ProductRelationship> findTouchingProducts(UUID[] productIds, RelationshipTypeEnum[] types);
+
+    /**
+     * Takes the write lock of the graph of one relationship type for the current transaction, so that two
+     * concurrent writes cannot each pass the cycle check and close a cycle together.
+     *
+     * @param lockKey the advisory lock key of the relationship type
+     * @return a Mono emitting true once the lock is held; it is released when the transaction ends
+     */
+    @Query("SELECT TRUE FROM pg_advisory_xact_lock(:lockKey)")
+    Mono<Boolean> lockGraph(long lockKey);
+}
@@ -18,19 +18,72 @@
 package com.firefly.core.product.models.repositories;
 
 import com.firefly.core.product.models.entities.Product;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
-public interface ProductRepository extends BaseRepository<Product, UUID> {
+public interface ProductRepository extends BaseRepository<Product, UUID>, ProductBatchOperations,
+        ProductSearchOperations, ProductProjectionOperations {
 
     /**
-     * Finds all products belonging to a specific tenant.
+     * Filters product identifiers down to the products that exist and are not retired, by primary key.
      *
-     * @param tenantId the unique identifier of the tenant
-     * @return a Flux emitting all products for the specified tenant
+     * @param productIds the identifiers to check
+     * @return a Flux emitting the identifiers of the products that can still be offered, in no particular order
      */
-    Flux<Product> findByTenantId(UUID tenantId);
+    @Query("SELECT product_id FROM product WHERE product_id = ANY(:productIds) AND product_status <> 'RETIRED'")
+    Flux<UUID> findOfferableIds(UUID[] productIds);
+
+    /**
+     * Filters product identifiers down to the products that exist, by primary key.
+     *
+     * @param productIds the identifiers to check
+     * @return a Flux emitting the identifiers of the existing products, in no particular order
+     */
+    @Query("SELECT product_id FROM product WHERE product_id = ANY(:productIds)")
+    Flux<UUID> findExistingIds(UUID[] productIds);
+
+    /**
+     * Reads the products written after a {@code (date_updated, product_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} products ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product "
+            + "WHERE (date_updated, product_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_id LIMIT :limit")
+    Flux<Product> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads the row version of a product without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the product does not exist
+     */
+    @Query("SELECT row_version FROM product WHERE product_id = :productId")
+    Mono<Long> findRowVersionById(UUID productId);
+
+    /**
+     * Reads the row version of a product and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the product does not exist
+     */
+    @Query("SELECT row_version FROM product WHERE product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionById(UUID productId);
+
+    /**
+     * Reads the product as it stood when a product version was created, from the immutable
+     * {@code product_version_snapshot} row of that version.
+     *
+     * @return a Mono emitting the captured product, empty if the version has no snapshot
+     */
+    @Query("SELECT p.* FROM product_version_snapshot s "
+            + "CROSS JOIN LATERAL jsonb_populate_record(NULL::product, s.product) p "
+            + "WHERE s.product_version_id = :versionId")
+    Mono<Product> findSnapshotByVersionId(UUID versionId);
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Ranked product search over the {@code product_search_document} table.
+ */
+public interface ProductSearchOperations {
+
+    /**
+     * Searches products by name, code, description, category name and localized name and description.
+     * Every word of the text must match (the last one as a prefix, for typeahead) in the language-neutral
+     * document or in the document of the given language; products whose name is similar to the text match
+     * as well, so misspelt names are still found.
+     *
+     * @param text the text typed by the user
+     * @param languageCode the language of the localized documents to search, null for the language-neutral one only
+     * @param afterRank the rank of the last match of the previous page, null for the first page
+     * @param afterProductId the product ID of the last match of the previous page, null for the first page
+     * @param limit the maximum number of matches
+     * @return a Flux emitting the matches by descending rank, then product ID
+     */
+    Flux<ProductSearchMatch> search(String text, String languageCode, Float afterRank, UUID afterProductId, int limit);
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ProductSearchOperations} fragment of {@link ProductRepository} built on {@link DatabaseClient}.
+ * Each branch of the match condition is served by one of the GIN indexes of {@code product_search_document}.
+ */
+class ProductSearchOperationsImpl implements ProductSearchOperations {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final String MATCHES = "SELECT d.product_id, "
+            + "CAST(MAX(ts_rank_cd(d.document, CASE WHEN d.language_code = '' "
+            + "THEN to_tsquery('simple', :query) ELSE to_tsquery(search_config(:lang), :query) END) "
+            + "+ similarity(d.title, :text)) AS REAL) AS search_rank "
+            + "FROM product_search_document d "
+            + "WHERE (d.language_code = '' AND d.document @@ to_tsquery('simple', :query)) "
+            + "OR (d.language_code = :lang AND d.document @@ to_tsquery(search_config(:lang), :query)) "
+            + "OR (d.language_code IN ('', :lang) AND d.title % :text) "
+            + "GROUP BY d.product_id";
+
+    private final DatabaseClient databaseClient;
+
+    ProductSearchOperationsImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<ProductSearchMatch> search(String text, String languageCode, Float afterRank, UUID afterProductId, int limit) {
+        String query = toPrefixQuery(text);
+        if (query.isEmpty()) {
+            return Flux.empty();
+        }
+        boolean resume = afterRank != null && afterProductId != null;
+        String sql = "SELECT product_id, search_rank FROM (" + MATCHES + ") matches "
+                + (resume ? "WHERE search_rank < :afterRank OR (search_rank = :afterRank AND product_id > :afterId) " : "")
+                + "ORDER BY search_rank DESC, product_id LIMIT :limit";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("text", text)
+                .bind("query", query)
+                .bind("lang", languageCode != null ? languageCode : "")
+                .bind("limit", limit);
+        if (resume) {
+            spec = spec.bind("afterRank", afterRank).bind("afterId", afterProductId);
+        }
+        return spec
+                .map(row -> new ProductSearchMatch(
+                        row.get("product_id", UUID.class), row.get("search_rank", Float.class)))
+                .all();
+    }
+
+    /**
+     * Turns free text into a {@code to_tsquery} expression requiring every word, the last one as a prefix.
+     * Only letters and digits are kept, so the expression is always valid.
+     */
+    static String toPrefixQuery(String text) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            words.add(matcher.group());
+        }
+        if (words.isEmpty()) {
+            return "";
+        }
+        return String.join(" & ", words) + ":*";
+    }
+}
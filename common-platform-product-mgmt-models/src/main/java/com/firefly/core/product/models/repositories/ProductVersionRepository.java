@@ -19,12 +19,92 @@ package com.firefly.core.product.models.repositories;
 
 import com.firefly.core.product.models.entities.ProductVersion;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-public interface ProductVersionRepository extends BaseRepository<ProductVersion, UUID> {
+public interface ProductVersionRepository extends BaseRepository<ProductVersion, UUID>,
+        ProductVersionProjectionOperations {
+    Flux<ProductVersion> findByProductId(UUID productId);
     Flux<ProductVersion> findByProductId(UUID productId, Pageable pageable);
     Mono<Long> countByProductId(UUID productId);
+
+    /**
+     * Updates a version of a product in a single statement. Null arguments keep the current value.
+     *
+     * @return a Mono emitting the updated row, or empty if it does not exist or belongs to another product
+     */
+    @Query("UPDATE product_version SET "
+            + "version_number = COALESCE(:versionNumber, version_number), "
+            + "version_description = COALESCE(:versionDescription, version_description), "
+            + "effective_date = COALESCE(:effectiveDate, effective_date), "
+            + "date_updated = CURRENT_TIMESTAMP "
+            + "WHERE product_version_id = :versionId AND product_id = :productId "
+            + "RETURNING *")
+    Mono<ProductVersion> updateForProduct(UUID versionId, UUID productId,
+                                          Long versionNumber, String versionDescription, LocalDateTime effectiveDate);
+
+    /**
+     * Deletes a version of a product in a single statement.
+     *
+     * @return a Mono emitting the number of deleted rows, 0 if it does not exist or belongs to another product
+     */
+    @Modifying
+    @Query("DELETE FROM product_version WHERE product_version_id = :versionId AND product_id = :productId")
+    Mono<Integer> deleteForProduct(UUID versionId, UUID productId);
+
+    /**
+     * Reads the versions written after a {@code (date_updated, product_version_id)} keyset position, up to a
+     * watermark, served by {@code idx_product_version_date_updated}.
+     *
+     * @return a Flux emitting at most {@code limit} versions ordered by date updated, then ID
+     */
+    @Query("SELECT * FROM product_version "
+            + "WHERE (date_updated, product_version_id) > (:after, :afterId) AND date_updated <= :until "
+            + "ORDER BY date_updated, product_version_id LIMIT :limit")
+    Flux<ProductVersion> findUpdatedAfter(LocalDateTime after, UUID afterId, LocalDateTime until, int limit);
+
+    /**
+     * Reads when the immutable {@code product_version_snapshot} row of a version was captured.
+     *
+     * @return a Mono emitting the capture time and backfill marker, empty if the version has no snapshot
+     */
+    @Query("SELECT date_created AS captured_at, backfilled FROM product_version_snapshot "
+            + "WHERE product_version_id = :versionId")
+    Mono<ProductVersionSnapshotInfo> findSnapshotInfoByVersionId(UUID versionId);
+
+    /**
+     * Reads the row version of a product version without loading the row, to answer conditional requests.
+     *
+     * @return a Mono emitting the row version, empty if the product version does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_version "
+            + "WHERE product_version_id = :versionId AND product_id = :productId")
+    Mono<Long> findRowVersionForProduct(UUID versionId, UUID productId);
+
+    /**
+     * Reads the row version of a product version and locks the row until the end of the transaction, so that
+     * an update checked against it cannot lose a concurrent write.
+     *
+     * @return a Mono emitting the row version, empty if the product version does not exist or belongs to another product
+     */
+    @Query("SELECT row_version FROM product_version "
+            + "WHERE product_version_id = :versionId AND product_id = :productId FOR UPDATE")
+    Mono<Long> lockRowVersionForProduct(UUID versionId, UUID productId);
+
+    /**
+     * Finds the version of a product in effect at a point in time: the one with the latest effective date
+     * not after it, the highest version number winning ties. Served by one seek on
+     * {@code idx_product_version_effective_date}.
+     *
+     * @return a Mono emitting the version in effect, empty if none is effective yet
+     */
+    @Query("SELECT * FROM product_version "
+            + "WHERE product_id = :productId AND effective_date <= :asOf "
+            + "ORDER BY effective_date DESC, version_number DESC LIMIT 1")
+    Mono<ProductVersion> findEffectiveAt(UUID productId, LocalDateTime asOf);
 }
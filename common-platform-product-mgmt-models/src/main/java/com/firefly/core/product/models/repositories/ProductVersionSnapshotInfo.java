@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.models.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * When the snapshot of a product version was captured.
+ *
+ * @param capturedAt when the snapshot was written
+ * @param backfilled whether the version predates snapshots, so that it holds the state at migration time
+ *                   instead of the state when the version was created
+ */
+public record ProductVersionSnapshotInfo(LocalDateTime capturedAt, boolean backfilled) {
+}
@@ -0,0 +1,63 @@
+-- V12__Add_child_table_indexes.sql
+
+-- =========================================
+-- Secondary indexes backing the derived repository queries
+-- =========================================
+-- Every statement is CREATE INDEX CONCURRENTLY, so the tables stay writable while the
+-- indexes are built. Flyway detects the non-transactional statements and runs this
+-- migration outside a transaction; do not add transactional statements to this file.
+-- IF NOT EXISTS keeps the migration re-runnable after an interrupted concurrent build
+-- (drop the INVALID index reported by \d before retrying).
+
+-- =========================================
+-- PRODUCT_RELATIONSHIP
+-- findByProductId, countByProductId, findByRelatedProductId,
+-- findByProductIdOrRelatedProductId, findByRelationshipType, countByRelationshipType
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_relationship_product_id
+    ON product_relationship(product_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_relationship_related_product_id
+    ON product_relationship(related_product_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_relationship_type
+    ON product_relationship(relationship_type);
+
+-- =========================================
+-- PRODUCT_LOCALIZATION
+-- findByProductId, findAllByProductId, countByProductId
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_localization_product_language
+    ON product_localization(product_id, language_code);
+
+-- =========================================
+-- PRODUCT_VERSION
+-- findByProductId, countByProductId
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_version_product_version_number
+    ON product_version(product_id, version_number);
+
+-- =========================================
+-- PRODUCT_DOCUMENTATION
+-- findByProductId, countByProductId, findByDocType, countByDocType, findByDateAddedBetween
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_documentation_product_id
+    ON product_documentation(product_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_documentation_doc_type
+    ON product_documentation(doc_type);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_documentation_date_added
+    ON product_documentation(date_added);
+
+-- =========================================
+-- PRODUCT_DOCUMENTATION_REQUIREMENT
+-- findByProductIdAndDocType (findByProductId is served by idx_product_doc_requirement_product_id from V4)
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_doc_requirement_product_doc_type
+    ON product_documentation_requirement(product_id, doc_type);
+
+-- =========================================
+-- PRODUCT_CATEGORY
+-- findByParentCategoryId, countByParentCategoryId, findByParentCategoryIdIsNull, findByCategoryName
+-- =========================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_category_parent_category_id
+    ON product_category(parent_category_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_category_name
+    ON product_category(category_name);
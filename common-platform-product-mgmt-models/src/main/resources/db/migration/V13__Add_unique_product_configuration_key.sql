@@ -0,0 +1,67 @@
+-- V13__Add_unique_product_configuration_key.sql
+
+-- =========================================
+-- A configuration key is unique within a product
+-- =========================================
+-- Backs INSERT ... ON CONFLICT (product_id, config_key) for the configuration upsert.
+-- The unique index is built CONCURRENTLY and then attached as the constraint, so the table stays
+-- writable while it is built. V13__Add_unique_product_configuration_key.sql.conf runs this migration
+-- outside a transaction: every statement commits on its own, so each one is written to be re-runnable,
+-- the steps on the constraint and its index being guarded by catalog checks. If the concurrent build
+-- fails (a duplicate written while it ran), run `flyway repair` to remove the failed entry from the
+-- history and migrate again: the duplicate is archived on the next run and the INVALID index rebuilt.
+
+-- =========================================
+-- Duplicates are archived, not discarded
+-- =========================================
+-- The most recently updated row of each key is kept. The others are moved to
+-- product_configuration_key_duplicate in the same statement that deletes them, so they can be
+-- reviewed and restored by hand.
+CREATE TABLE IF NOT EXISTS product_configuration_key_duplicate (
+    LIKE product_configuration,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+WITH archived AS (
+    DELETE FROM product_configuration AS duplicate
+    USING product_configuration AS kept
+    WHERE duplicate.product_id = kept.product_id
+      AND duplicate.config_key = kept.config_key
+      AND (duplicate.date_updated, duplicate.product_configuration_id)
+          < (kept.date_updated, kept.product_configuration_id)
+    RETURNING duplicate.*
+)
+INSERT INTO product_configuration_key_duplicate
+SELECT * FROM archived;
+
+-- =========================================
+-- Unique constraint
+-- =========================================
+-- An interrupted concurrent build leaves an INVALID index behind, which is dropped so that it is built
+-- again. A valid index, possibly already owned by the constraint, is kept. DROP INDEX CONCURRENTLY
+-- cannot run inside DO, but an INVALID index serves no query and is dropped at once.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index
+               WHERE indexrelid = to_regclass('uk_product_configuration_product_key')
+                 AND NOT indisvalid) THEN
+        DROP INDEX uk_product_configuration_product_key;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_product_configuration_product_key
+    ON product_configuration(product_id, config_key);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'product_configuration'::regclass
+                     AND conname = 'uk_product_configuration_product_key') THEN
+        ALTER TABLE product_configuration
+            ADD CONSTRAINT uk_product_configuration_product_key
+                UNIQUE USING INDEX uk_product_configuration_product_key;
+    END IF;
+END $$;
+
+-- The unique constraint's index replaces the plain (product_id, config_key) index
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_configuration_product_key;
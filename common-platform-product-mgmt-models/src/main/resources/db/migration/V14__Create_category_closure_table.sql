@@ -0,0 +1,60 @@
+-- V14__Create_category_closure_table.sql
+
+-- =========================================
+-- PRODUCT_CATEGORY_CLOSURE
+-- =========================================
+-- One row per (ancestor, descendant) pair of the category tree, including the
+-- zero-depth row of every category with itself. Subtree, ancestor and cycle
+-- checks become single indexed lookups instead of a walk up the parent chain.
+-- Rows are maintained by ProductCategoryServiceImpl on create and move; deleting
+-- a category removes its rows through the cascading foreign keys.
+CREATE TABLE IF NOT EXISTS product_category_closure (
+    ancestor_id   UUID    NOT NULL,
+    descendant_id UUID    NOT NULL,
+    depth         INTEGER NOT NULL,
+    CONSTRAINT pk_product_category_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_product_category_closure_ancestor
+        FOREIGN KEY (ancestor_id) REFERENCES product_category(product_category_id) ON DELETE CASCADE,
+    CONSTRAINT fk_product_category_closure_descendant
+        FOREIGN KEY (descendant_id) REFERENCES product_category(product_category_id) ON DELETE CASCADE
+);
+
+-- Ancestor chain (breadcrumb) of a category, ordered by depth
+CREATE INDEX IF NOT EXISTS idx_product_category_closure_descendant
+    ON product_category_closure(descendant_id, depth);
+
+-- Backfill from the existing parent links; the depth guard stops at corrupt cycles
+INSERT INTO product_category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT product_category_id, product_category_id, 0
+    FROM product_category
+    UNION ALL
+    SELECT parent.parent_category_id, tree.descendant_id, tree.depth + 1
+    FROM tree
+    JOIN product_category parent ON parent.product_category_id = tree.ancestor_id
+    WHERE parent.parent_category_id IS NOT NULL
+      AND tree.depth < 1000
+)
+SELECT ancestor_id, descendant_id, MIN(depth)
+FROM tree
+WHERE EXISTS (SELECT 1 FROM product_category c WHERE c.product_category_id = tree.ancestor_id)
+GROUP BY ancestor_id, descendant_id
+ON CONFLICT DO NOTHING;
+
+-- Realign the stored levels with the tree
+UPDATE product_category c
+SET level = chain.depth
+FROM (
+    SELECT descendant_id, MAX(depth) AS depth
+    FROM product_category_closure
+    GROUP BY descendant_id
+) chain
+WHERE chain.descendant_id = c.product_category_id
+  AND c.level IS DISTINCT FROM chain.depth;
+
+-- =========================================
+-- PRODUCT
+-- Products under a category subtree, paged by product ID
+-- =========================================
+CREATE INDEX IF NOT EXISTS idx_product_category_product
+    ON product(product_category_id, product_id);
@@ -0,0 +1,121 @@
+-- V15__Create_catalogue_outbox.sql
+
+-- =========================================
+-- CATALOGUE_OUTBOX
+-- =========================================
+-- Transactional outbox of catalogue mutations. Rows are written by triggers in the
+-- same transaction as the change, so every write path (single, batch, upsert and
+-- cascading deletes) is captured and nothing is recorded for rolled back writes.
+-- CatalogueOutboxRelay assigns each row a sequence number when it publishes it;
+-- relays are serialised by an advisory lock, so sequence numbers are handed out in
+-- commit order and consumers can resume after the last one they have seen.
+CREATE SEQUENCE IF NOT EXISTS catalogue_outbox_sequence;
+
+CREATE TABLE IF NOT EXISTS catalogue_outbox (
+    event_id        BIGSERIAL   PRIMARY KEY,
+    aggregate_id    UUID        NOT NULL,
+    entity_type     VARCHAR(50) NOT NULL,
+    entity_id       UUID        NOT NULL,
+    change_type     VARCHAR(10) NOT NULL,
+    payload         JSONB,
+    occurred_at     TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sequence_number BIGINT,
+    published_at    TIMESTAMP
+);
+
+-- Events not yet published, in insertion order
+CREATE INDEX IF NOT EXISTS idx_catalogue_outbox_unpublished
+    ON catalogue_outbox(event_id) WHERE sequence_number IS NULL;
+
+-- Change feed reads after a sequence number
+CREATE UNIQUE INDEX IF NOT EXISTS idx_catalogue_outbox_sequence
+    ON catalogue_outbox(sequence_number);
+
+-- Purge of published events past the retention period
+CREATE INDEX IF NOT EXISTS idx_catalogue_outbox_published_at
+    ON catalogue_outbox(published_at);
+
+-- Records one change. Arguments: entity type, primary key column, aggregate (ordering key) column.
+-- Deletes carry no payload; updates that change nothing are filtered by the trigger WHEN clause.
+CREATE OR REPLACE FUNCTION record_catalogue_change() RETURNS TRIGGER AS $$
+DECLARE
+    changed_row JSONB;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed_row := to_jsonb(OLD);
+    ELSE
+        changed_row := to_jsonb(NEW);
+    END IF;
+    INSERT INTO catalogue_outbox (aggregate_id, entity_type, entity_id, change_type, payload)
+    VALUES ((changed_row ->> TG_ARGV[2])::UUID,
+            TG_ARGV[0],
+            (changed_row ->> TG_ARGV[1])::UUID,
+            CASE TG_OP WHEN 'INSERT' THEN 'CREATED' WHEN 'UPDATE' THEN 'UPDATED' ELSE 'DELETED' END,
+            CASE WHEN TG_OP = 'DELETE' THEN NULL ELSE changed_row END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_outbox_write
+    AFTER INSERT OR DELETE ON product
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT', 'product_id', 'product_id');
+CREATE TRIGGER trg_product_outbox_update
+    AFTER UPDATE ON product
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT', 'product_id', 'product_id');
+
+CREATE TRIGGER trg_product_category_outbox_write
+    AFTER INSERT OR DELETE ON product_category
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_CATEGORY', 'product_category_id', 'product_category_id');
+CREATE TRIGGER trg_product_category_outbox_update
+    AFTER UPDATE ON product_category
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_CATEGORY', 'product_category_id', 'product_category_id');
+
+CREATE TRIGGER trg_product_configuration_outbox_write
+    AFTER INSERT OR DELETE ON product_configuration
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_CONFIGURATION', 'product_configuration_id', 'product_id');
+CREATE TRIGGER trg_product_configuration_outbox_update
+    AFTER UPDATE ON product_configuration
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_CONFIGURATION', 'product_configuration_id', 'product_id');
+
+CREATE TRIGGER trg_product_documentation_outbox_write
+    AFTER INSERT OR DELETE ON product_documentation
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_DOCUMENTATION', 'product_documentation_id', 'product_id');
+CREATE TRIGGER trg_product_documentation_outbox_update
+    AFTER UPDATE ON product_documentation
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_DOCUMENTATION', 'product_documentation_id', 'product_id');
+
+CREATE TRIGGER trg_product_documentation_requirement_outbox_write
+    AFTER INSERT OR DELETE ON product_documentation_requirement
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_DOCUMENTATION_REQUIREMENT', 'product_doc_requirement_id', 'product_id');
+CREATE TRIGGER trg_product_documentation_requirement_outbox_update
+    AFTER UPDATE ON product_documentation_requirement
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_DOCUMENTATION_REQUIREMENT', 'product_doc_requirement_id', 'product_id');
+
+CREATE TRIGGER trg_product_localization_outbox_write
+    AFTER INSERT OR DELETE ON product_localization
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_LOCALIZATION', 'product_localization_id', 'product_id');
+CREATE TRIGGER trg_product_localization_outbox_update
+    AFTER UPDATE ON product_localization
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_LOCALIZATION', 'product_localization_id', 'product_id');
+
+CREATE TRIGGER trg_product_relationship_outbox_write
+    AFTER INSERT OR DELETE ON product_relationship
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_RELATIONSHIP', 'product_relationship_id', 'product_id');
+CREATE TRIGGER trg_product_relationship_outbox_update
+    AFTER UPDATE ON product_relationship
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_RELATIONSHIP', 'product_relationship_id', 'product_id');
+
+CREATE TRIGGER trg_product_version_outbox_write
+    AFTER INSERT OR DELETE ON product_version
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_change('PRODUCT_VERSION', 'product_version_id', 'product_id');
+CREATE TRIGGER trg_product_version_outbox_update
+    AFTER UPDATE ON product_version
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*)
+    EXECUTE FUNCTION record_catalogue_change('PRODUCT_VERSION', 'product_version_id', 'product_id');
@@ -0,0 +1,131 @@
+-- V16__Add_delta_sync_support.sql
+
+-- =========================================
+-- DATE_UPDATED MAINTENANCE
+-- =========================================
+-- The delta sync reads rows by date_updated, so it must be set by the database clock on
+-- every write, whichever path the write takes (entity save, batch statement, level shift).
+-- The statement clock is used rather than the transaction start so that long batches stay
+-- within the settle time of the delta watermark. Updates that change nothing keep their
+-- date, which also keeps them out of the catalogue outbox.
+CREATE OR REPLACE FUNCTION touch_date_updated() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        NEW.date_updated := OLD.date_updated;
+        IF NEW IS NOT DISTINCT FROM OLD THEN
+            RETURN NEW;
+        END IF;
+    END IF;
+    NEW.date_updated := CAST(clock_timestamp() AS TIMESTAMP);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows written before this migration may lack a date
+UPDATE product SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_category SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_configuration SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_documentation SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_documentation_requirement SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_localization SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_relationship SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+UPDATE product_version SET date_updated = COALESCE(date_created, LOCALTIMESTAMP) WHERE date_updated IS NULL;
+
+CREATE TRIGGER trg_product_touch
+    BEFORE INSERT OR UPDATE ON product
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_category_touch
+    BEFORE INSERT OR UPDATE ON product_category
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_configuration_touch
+    BEFORE INSERT OR UPDATE ON product_configuration
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_documentation_touch
+    BEFORE INSERT OR UPDATE ON product_documentation
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_documentation_requirement_touch
+    BEFORE INSERT OR UPDATE ON product_documentation_requirement
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_localization_touch
+    BEFORE INSERT OR UPDATE ON product_localization
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_relationship_touch
+    BEFORE INSERT OR UPDATE ON product_relationship
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+CREATE TRIGGER trg_product_version_touch
+    BEFORE INSERT OR UPDATE ON product_version
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+-- =========================================
+-- DELTA KEYSET INDEXES
+-- Rows written after a (date_updated, id) position
+-- =========================================
+CREATE INDEX IF NOT EXISTS idx_product_date_updated
+    ON product(date_updated, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_category_date_updated
+    ON product_category(date_updated, product_category_id);
+CREATE INDEX IF NOT EXISTS idx_product_configuration_date_updated
+    ON product_configuration(date_updated, product_configuration_id);
+CREATE INDEX IF NOT EXISTS idx_product_documentation_date_updated
+    ON product_documentation(date_updated, product_documentation_id);
+CREATE INDEX IF NOT EXISTS idx_product_documentation_requirement_date_updated
+    ON product_documentation_requirement(date_updated, product_doc_requirement_id);
+CREATE INDEX IF NOT EXISTS idx_product_localization_date_updated
+    ON product_localization(date_updated, product_localization_id);
+CREATE INDEX IF NOT EXISTS idx_product_relationship_date_updated
+    ON product_relationship(date_updated, product_relationship_id);
+CREATE INDEX IF NOT EXISTS idx_product_version_date_updated
+    ON product_version(date_updated, product_version_id);
+
+-- =========================================
+-- CATALOGUE_TOMBSTONE
+-- =========================================
+-- Deletes are hard deletes, so the delta sync learns about them from one tombstone per
+-- deleted row. Arguments of the trigger function: entity type, primary key column,
+-- aggregate column (product ID, or category ID for categories).
+CREATE TABLE IF NOT EXISTS catalogue_tombstone (
+    entity_id    UUID        PRIMARY KEY,
+    entity_type  VARCHAR(50) NOT NULL,
+    aggregate_id UUID        NOT NULL,
+    deleted_at   TIMESTAMP   NOT NULL DEFAULT CAST(clock_timestamp() AS TIMESTAMP)
+);
+
+-- Tombstones written after a (deleted_at, entity_id) position
+CREATE INDEX IF NOT EXISTS idx_catalogue_tombstone_deleted_at
+    ON catalogue_tombstone(deleted_at, entity_id);
+
+CREATE OR REPLACE FUNCTION record_catalogue_tombstone() RETURNS TRIGGER AS $$
+DECLARE
+    deleted_row JSONB := to_jsonb(OLD);
+BEGIN
+    INSERT INTO catalogue_tombstone (entity_type, entity_id, aggregate_id)
+    VALUES (TG_ARGV[0], (deleted_row ->> TG_ARGV[1])::UUID, (deleted_row ->> TG_ARGV[2])::UUID)
+    ON CONFLICT (entity_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_tombstone
+    AFTER DELETE ON product
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT', 'product_id', 'product_id');
+CREATE TRIGGER trg_product_category_tombstone
+    AFTER DELETE ON product_category
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_CATEGORY', 'product_category_id', 'product_category_id');
+CREATE TRIGGER trg_product_configuration_tombstone
+    AFTER DELETE ON product_configuration
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_CONFIGURATION', 'product_configuration_id', 'product_id');
+CREATE TRIGGER trg_product_documentation_tombstone
+    AFTER DELETE ON product_documentation
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_DOCUMENTATION', 'product_documentation_id', 'product_id');
+CREATE TRIGGER trg_product_documentation_requirement_tombstone
+    AFTER DELETE ON product_documentation_requirement
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_DOCUMENTATION_REQUIREMENT', 'product_doc_requirement_id', 'product_id');
+CREATE TRIGGER trg_product_localization_tombstone
+    AFTER DELETE ON product_localization
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_LOCALIZATION', 'product_localization_id', 'product_id');
+CREATE TRIGGER trg_product_relationship_tombstone
+    AFTER DELETE ON product_relationship
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_RELATIONSHIP', 'product_relationship_id', 'product_id');
+CREATE TRIGGER trg_product_version_tombstone
+    AFTER DELETE ON product_version
+    FOR EACH ROW EXECUTE FUNCTION record_catalogue_tombstone('PRODUCT_VERSION', 'product_version_id', 'product_id');
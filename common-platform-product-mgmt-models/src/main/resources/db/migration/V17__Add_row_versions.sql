@@ -0,0 +1,32 @@
+-- V17__Add_row_versions.sql
+
+-- =========================================
+-- ROW_VERSION
+-- =========================================
+-- Optimistic concurrency token of every catalogue row, exposed as the ETag of the entity.
+-- Entity saves increment it through @Version; statements that bypass it (batch updates,
+-- ownership-checked updates, upserts) are covered by the date_updated trigger below.
+ALTER TABLE product ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_category ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_configuration ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_documentation ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_documentation_requirement ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_localization ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_relationship ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE product_version ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
+
+-- Every update that changes the row moves the row version one past the stored one, which is
+-- also the value an @Version save writes, so both write paths agree.
+CREATE OR REPLACE FUNCTION touch_date_updated() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        NEW.date_updated := OLD.date_updated;
+        IF NEW IS NOT DISTINCT FROM OLD THEN
+            RETURN NEW;
+        END IF;
+        NEW.row_version := OLD.row_version + 1;
+    END IF;
+    NEW.date_updated := CAST(clock_timestamp() AS TIMESTAMP);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,63 @@
+-- V18__Create_product_version_snapshots.sql
+
+-- =========================================
+-- PRODUCT_VERSION_SNAPSHOT
+-- =========================================
+-- The product and its configurations as they stood when a version was created. Rows are
+-- written by a trigger in the same transaction as the version and are never updated, so
+-- they can be cached indefinitely; deleting the version (or the product) removes them.
+-- The rows are kept as to_jsonb of the table rows and read back with jsonb_populate_record,
+-- so columns added later read as NULL in older snapshots. date_created is the capture time;
+-- backfilled marks snapshots of versions that already existed when this migration ran,
+-- which hold the state at migration time rather than at version creation.
+CREATE TABLE IF NOT EXISTS product_version_snapshot (
+    product_version_id UUID      PRIMARY KEY,
+    product_id         UUID      NOT NULL,
+    product            JSONB     NOT NULL,
+    configurations     JSONB     NOT NULL,
+    backfilled         BOOLEAN   NOT NULL DEFAULT FALSE,
+    date_created       TIMESTAMP NOT NULL DEFAULT CAST(clock_timestamp() AS TIMESTAMP),
+    CONSTRAINT fk_product_version_snapshot_version
+        FOREIGN KEY (product_version_id) REFERENCES product_version(product_version_id) ON DELETE CASCADE
+);
+
+CREATE OR REPLACE FUNCTION capture_product_version_snapshot() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO product_version_snapshot (product_version_id, product_id, product, configurations)
+    SELECT NEW.product_version_id,
+           p.product_id,
+           to_jsonb(p),
+           COALESCE((SELECT jsonb_agg(to_jsonb(c) ORDER BY c.product_configuration_id)
+                     FROM product_configuration c
+                     WHERE c.product_id = p.product_id), '[]'::JSONB)
+    FROM product p
+    WHERE p.product_id = NEW.product_id
+    ON CONFLICT (product_version_id) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_version_snapshot
+    AFTER INSERT ON product_version
+    FOR EACH ROW EXECUTE FUNCTION capture_product_version_snapshot();
+
+-- The state of versions created before this migration is unknown: they are captured with the
+-- current state and flagged as backfilled, so that readers can tell it from a creation-time capture
+INSERT INTO product_version_snapshot (product_version_id, product_id, product, configurations, backfilled)
+SELECT v.product_version_id,
+       p.product_id,
+       to_jsonb(p),
+       COALESCE((SELECT jsonb_agg(to_jsonb(c) ORDER BY c.product_configuration_id)
+                 FROM product_configuration c
+                 WHERE c.product_id = p.product_id), '[]'::JSONB),
+       TRUE
+FROM product_version v
+JOIN product p ON p.product_id = v.product_id
+ON CONFLICT (product_version_id) DO NOTHING;
+
+-- =========================================
+-- PRODUCT_VERSION
+-- Version in effect for a product at a point in time
+-- =========================================
+CREATE INDEX IF NOT EXISTS idx_product_version_effective_date
+    ON product_version(product_id, effective_date DESC, version_number DESC);
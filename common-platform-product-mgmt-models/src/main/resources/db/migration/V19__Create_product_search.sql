@@ -0,0 +1,148 @@
+-- V19__Create_product_search.sql
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- =========================================
+-- PRODUCT_CATEGORY
+-- findByCategoryNameContainingIgnoreCase, countByCategoryNameContainingIgnoreCase
+-- (derived IgnoreCase queries compare UPPER(category_name))
+-- =========================================
+CREATE INDEX IF NOT EXISTS idx_product_category_name_trgm
+    ON product_category USING gin (UPPER(category_name) gin_trgm_ops);
+
+-- =========================================
+-- TEXT SEARCH CONFIGURATIONS
+-- =========================================
+-- Maps a language code ('en', 'de-AT', 'pt_BR', ...) to the text search configuration
+-- stemming that language; unknown languages are only lower-cased.
+CREATE OR REPLACE FUNCTION search_config(language_code TEXT) RETURNS regconfig AS $$
+    SELECT CAST(CASE lower(split_part(replace(language_code, '_', '-'), '-', 1))
+        WHEN 'da' THEN 'danish'
+        WHEN 'de' THEN 'german'
+        WHEN 'en' THEN 'english'
+        WHEN 'es' THEN 'spanish'
+        WHEN 'fi' THEN 'finnish'
+        WHEN 'fr' THEN 'french'
+        WHEN 'hu' THEN 'hungarian'
+        WHEN 'it' THEN 'italian'
+        WHEN 'nb' THEN 'norwegian'
+        WHEN 'nl' THEN 'dutch'
+        WHEN 'no' THEN 'norwegian'
+        WHEN 'pt' THEN 'portuguese'
+        WHEN 'ro' THEN 'romanian'
+        WHEN 'ru' THEN 'russian'
+        WHEN 'sv' THEN 'swedish'
+        WHEN 'tr' THEN 'turkish'
+        ELSE 'simple'
+    END AS regconfig)
+$$ LANGUAGE sql IMMUTABLE;
+
+-- =========================================
+-- PRODUCT_SEARCH_DOCUMENT
+-- =========================================
+-- Search documents of the products: one language-neutral row (language_code '') built from the
+-- product name, code, category name and description, plus one row per localization built with
+-- the configuration of its language. Rows are rebuilt by triggers on every write path, so the
+-- search never joins the catalogue tables.
+CREATE TABLE IF NOT EXISTS product_search_document (
+    product_id    UUID        NOT NULL,
+    language_code VARCHAR(10) NOT NULL,
+    title         TEXT        NOT NULL,
+    document      TSVECTOR    NOT NULL,
+    CONSTRAINT pk_product_search_document PRIMARY KEY (product_id, language_code),
+    CONSTRAINT fk_product_search_document_product
+        FOREIGN KEY (product_id) REFERENCES product(product_id) ON DELETE CASCADE
+);
+
+-- Full-text matches, including prefix matches for typeahead
+CREATE INDEX IF NOT EXISTS idx_product_search_document
+    ON product_search_document USING gin (document);
+
+-- Fuzzy (trigram similarity) matches on product and localized names
+CREATE INDEX IF NOT EXISTS idx_product_search_document_title_trgm
+    ON product_search_document USING gin (title gin_trgm_ops);
+
+CREATE OR REPLACE FUNCTION refresh_product_search_documents(targets UUID[]) RETURNS VOID AS $$
+BEGIN
+    DELETE FROM product_search_document WHERE product_id = ANY(targets);
+
+    INSERT INTO product_search_document (product_id, language_code, title, document)
+    SELECT p.product_id,
+           '',
+           COALESCE(p.product_name, ''),
+           setweight(to_tsvector('simple', COALESCE(p.product_name, '')), 'A')
+               || setweight(to_tsvector('simple', COALESCE(p.product_code, '')), 'A')
+               || setweight(to_tsvector('simple', COALESCE(c.category_name, '')), 'B')
+               || setweight(to_tsvector('simple', COALESCE(p.product_description, '')), 'C')
+    FROM product p
+    LEFT JOIN product_category c ON c.product_category_id = p.product_category_id
+    WHERE p.product_id = ANY(targets);
+
+    -- Duplicate localizations of a language: the latest one wins
+    INSERT INTO product_search_document (product_id, language_code, title, document)
+    SELECT DISTINCT ON (l.product_id, l.language_code)
+           l.product_id,
+           l.language_code,
+           COALESCE(l.localized_name, ''),
+           setweight(to_tsvector(search_config(l.language_code), COALESCE(l.localized_name, '')), 'A')
+               || setweight(to_tsvector(search_config(l.language_code), COALESCE(l.localized_description, '')), 'C')
+    FROM product_localization l
+    JOIN product p ON p.product_id = l.product_id
+    WHERE l.product_id = ANY(targets) AND l.language_code <> ''
+    ORDER BY l.product_id, l.language_code, l.date_updated DESC;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION refresh_product_search_from_product() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_product_search_documents(ARRAY[NEW.product_id]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION refresh_product_search_from_localization() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM refresh_product_search_documents(ARRAY[NEW.product_id]);
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM refresh_product_search_documents(ARRAY[OLD.product_id]);
+    ELSE
+        PERFORM refresh_product_search_documents(ARRAY[OLD.product_id, NEW.product_id]);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Products of the category are found with idx_product_category_product
+CREATE OR REPLACE FUNCTION refresh_product_search_from_category() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_product_search_documents(ARRAY(
+        SELECT product_id FROM product WHERE product_category_id = NEW.product_category_id));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_search_insert
+    AFTER INSERT ON product
+    FOR EACH ROW EXECUTE FUNCTION refresh_product_search_from_product();
+CREATE TRIGGER trg_product_search_update
+    AFTER UPDATE OF product_name, product_code, product_description, product_category_id ON product
+    FOR EACH ROW
+    WHEN (OLD.product_name IS DISTINCT FROM NEW.product_name
+        OR OLD.product_code IS DISTINCT FROM NEW.product_code
+        OR OLD.product_description IS DISTINCT FROM NEW.product_description
+        OR OLD.product_category_id IS DISTINCT FROM NEW.product_category_id)
+    EXECUTE FUNCTION refresh_product_search_from_product();
+
+CREATE TRIGGER trg_product_localization_search
+    AFTER INSERT OR UPDATE OR DELETE ON product_localization
+    FOR EACH ROW EXECUTE FUNCTION refresh_product_search_from_localization();
+
+CREATE TRIGGER trg_product_category_search
+    AFTER UPDATE OF category_name ON product_category
+    FOR EACH ROW
+    WHEN (OLD.category_name IS DISTINCT FROM NEW.category_name)
+    EXECUTE FUNCTION refresh_product_search_from_category();
+
+-- Documents of the existing products
+SELECT refresh_product_search_documents(ARRAY(SELECT product_id FROM product));
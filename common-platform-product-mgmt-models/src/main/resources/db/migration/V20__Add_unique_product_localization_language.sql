@@ -0,0 +1,96 @@
+-- V20__Add_unique_product_localization_language.sql
+
+-- =========================================
+-- A product has one localization per language
+-- =========================================
+-- Lets the localization resolver read and cache at most one localization per (product, language),
+-- through the unique index.
+-- The unique index is built CONCURRENTLY and then attached as the constraint, so the table stays
+-- writable while it is built. V20__Add_unique_product_localization_language.sql.conf runs this
+-- migration outside a transaction: every statement commits on its own, so each one is written to be
+-- re-runnable, the steps on the constraint and its index being guarded by catalog checks. If the
+-- concurrent build fails (a duplicate written while it ran), run `flyway repair` to remove the failed
+-- entry from the history and migrate again: the duplicate is archived on the next run and the INVALID
+-- index rebuilt.
+
+-- =========================================
+-- Language codes are stored as canonical BCP 47 tags
+-- =========================================
+-- The resolver looks languages up in the form LocaleFallbackChain.canonical produces, which writes now
+-- store. Existing rows are rewritten to it: underscores become hyphens, the language is lower case, a
+-- four-letter script is title case and a two-letter or three-digit region is upper case, so es_es,
+-- es-es and ES_ES all become es-ES. Rows that only differ in case or separator become duplicates of
+-- each other, which the next step archives.
+UPDATE product_localization AS localization
+SET language_code = canonical.language_code
+FROM (
+    SELECT product_localization_id,
+           string_agg(CASE
+                          WHEN subtag.ordinal = 1 THEN lower(subtag.value)
+                          WHEN subtag.ordinal = 2 AND subtag.value ~ '^[A-Za-z]{4}$' THEN initcap(subtag.value)
+                          WHEN subtag.ordinal <= 3 AND subtag.value ~ '^([A-Za-z]{2}|[0-9]{3})$'
+                              THEN upper(subtag.value)
+                          ELSE lower(subtag.value)
+                      END, '-' ORDER BY subtag.ordinal) AS language_code
+    FROM product_localization,
+         unnest(string_to_array(replace(btrim(language_code), '_', '-'), '-'))
+             WITH ORDINALITY AS subtag(value, ordinal)
+    GROUP BY product_localization_id
+) AS canonical
+WHERE localization.product_localization_id = canonical.product_localization_id
+  AND localization.language_code <> canonical.language_code;
+
+-- =========================================
+-- Duplicates are archived, not discarded
+-- =========================================
+-- The most recently updated row of each language is kept. The others are moved to
+-- product_localization_language_duplicate in the same statement that deletes them, so they can be
+-- reviewed and restored by hand.
+CREATE TABLE IF NOT EXISTS product_localization_language_duplicate (
+    LIKE product_localization,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+WITH archived AS (
+    DELETE FROM product_localization AS duplicate
+    USING product_localization AS kept
+    WHERE duplicate.product_id = kept.product_id
+      AND duplicate.language_code = kept.language_code
+      AND (duplicate.date_updated, duplicate.product_localization_id)
+          < (kept.date_updated, kept.product_localization_id)
+    RETURNING duplicate.*
+)
+INSERT INTO product_localization_language_duplicate
+SELECT * FROM archived;
+
+-- =========================================
+-- Unique constraint
+-- =========================================
+-- An interrupted concurrent build leaves an INVALID index behind, which is dropped so that it is built
+-- again. A valid index, possibly already owned by the constraint, is kept. DROP INDEX CONCURRENTLY
+-- cannot run inside DO, but an INVALID index serves no query and is dropped at once.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_index
+               WHERE indexrelid = to_regclass('uk_product_localization_product_language')
+                 AND NOT indisvalid) THEN
+        DROP INDEX uk_product_localization_product_language;
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_product_localization_product_language
+    ON product_localization(product_id, language_code);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'product_localization'::regclass
+                     AND conname = 'uk_product_localization_product_language') THEN
+        ALTER TABLE product_localization
+            ADD CONSTRAINT uk_product_localization_product_language
+                UNIQUE USING INDEX uk_product_localization_product_language;
+    END IF;
+END $$;
+
+-- The unique constraint's index replaces the plain (product_id, language_code) index
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_localization_product_language;
@@ -0,0 +1,17 @@
+-- V21__Add_relationship_graph_indexes.sql
+
+-- =========================================
+-- PRODUCT_RELATIONSHIP
+-- Traversal of the relationship graph
+-- =========================================
+-- Each step of a traversal reads the neighbours of one product through relationships of the
+-- requested types, following relationships forwards (outgoing) or backwards (incoming). Both
+-- directions are covered by an index that also holds the neighbour, so a step never reads the table.
+CREATE INDEX IF NOT EXISTS idx_product_relationship_outgoing
+    ON product_relationship(product_id, relationship_type, related_product_id);
+CREATE INDEX IF NOT EXISTS idx_product_relationship_incoming
+    ON product_relationship(related_product_id, relationship_type, product_id);
+
+-- The traversal indexes lead with the same columns as the single-column indexes they replace
+DROP INDEX IF EXISTS idx_product_relationship_product_id;
+DROP INDEX IF EXISTS idx_product_relationship_related_product_id;
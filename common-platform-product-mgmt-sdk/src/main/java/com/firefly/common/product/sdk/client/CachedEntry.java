@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import java.time.Duration;
+
+/**
+ * A cached response with the ETag it was served with.
+ *
+ * @param value       the response body
+ * @param etag        the entity tag of the body, null when the service sent none
+ * @param validatedAt {@link System#nanoTime()} of the last load or revalidation
+ * @param <V>         the body type
+ */
+record CachedEntry<V>(V value, String etag, long validatedAt) {
+
+    boolean isFresh(long now, Duration freshFor) {
+        return now - validatedAt < freshFor.toNanos();
+    }
+
+    CachedEntry<V> revalidated(long now) {
+        return new CachedEntry<>(value, etag, now);
+    }
+}
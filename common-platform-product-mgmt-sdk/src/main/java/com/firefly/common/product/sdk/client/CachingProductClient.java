@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import com.firefly.common.product.sdk.api.ProductApi;
+import com.firefly.common.product.sdk.api.ProductConfigurationApi;
+import com.firefly.common.product.sdk.invoker.ApiClient;
+import com.firefly.common.product.sdk.model.ProductConfigurationDTO;
+import com.firefly.common.product.sdk.model.ProductDTO;
+import com.firefly.common.product.sdk.model.ProductLookupRequestDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caching facade over the generated {@link ProductApi} and {@link ProductConfigurationApi} clients.
+ * <ul>
+ *   <li>Products and configurations are kept in bounded local caches. An entry is served as is for
+ *   {@link ProductClientSettings#getFreshFor() freshFor}, then revalidated with {@code If-None-Match},
+ *   so an unchanged entity costs a 304 without a body.</li>
+ *   <li>Concurrent requests for the same product or configuration share one call.</li>
+ *   <li>Products that are not cached are read through {@code POST /api/v1/products/lookup}: the
+ *   lookups started within {@link ProductClientSettings#getBatchWindow() batchWindow} are sent as one
+ *   batch call.</li>
+ * </ul>
+ * Entities that do not exist complete empty instead of failing with a 404. Writes made through other
+ * clients become visible once the cached entry is revalidated; call {@link #invalidateProduct(UUID)}
+ * after writing through the generated clients to see the change at once.
+ */
+public class CachingProductClient {
+
+    private final ProductApi productApi;
+    private final ProductConfigurationApi configurationApi;
+    private final ProductClientSettings settings;
+    private final Cache<UUID, CachedEntry<ProductDTO>> products;
+    private final Cache<ConfigurationKey, CachedEntry<ProductConfigurationDTO>> configurations;
+    private final SingleFlight<UUID, ProductDTO> productCalls = new SingleFlight<>();
+    private final SingleFlight<ConfigurationKey, ProductConfigurationDTO> configurationCalls = new SingleFlight<>();
+    private final ProductLookupBatcher batcher;
+
+    public CachingProductClient(ApiClient apiClient) {
+        this(apiClient, new ProductClientSettings());
+    }
+
+    public CachingProductClient(ApiClient apiClient, ProductClientSettings settings) {
+        this(new ProductApi(apiClient), new ProductConfigurationApi(apiClient), settings);
+    }
+
+    public CachingProductClient(ProductApi productApi, ProductConfigurationApi configurationApi,
+                                ProductClientSettings settings) {
+        this.productApi = productApi;
+        this.configurationApi = configurationApi;
+        this.settings = settings;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .build();
+        this.configurations = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .build();
+        this.batcher = new ProductLookupBatcher(
+                productIds -> productApi.lookupProducts(new ProductLookupRequestDTO().productIds(productIds), null),
+                settings.getBatchWindow(), settings.getMaxBatchSize(), Schedulers.parallel());
+    }
+
+    /**
+     * Retrieves a product, from the cache when it is fresh, by revalidating it when it is stale, or as
+     * part of a batch lookup when it is not cached.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Mono emitting the product, or empty when it does not exist
+     */
+    public Mono<ProductDTO> getProduct(UUID productId) {
+        return Mono.defer(() -> {
+            CachedEntry<ProductDTO> cached = products.getIfPresent(productId);
+            if (cached != null && cached.isFresh(System.nanoTime(), settings.getFreshFor())) {
+                return Mono.just(cached.value());
+            }
+            return productCalls.execute(productId, () -> cached == null
+                    ? batcher.load(productId)
+                            .doOnNext(product -> products.put(productId,
+                                    new CachedEntry<>(product, etag(product.getRowVersion()), System.nanoTime())))
+                    : conditionalGet(productId, cached, products,
+                            etag -> productApi.getProductByIdWithHttpInfo(productId, null, etag)));
+        });
+    }
+
+    /**
+     * Retrieves many products. Products that are not cached are read by as few batch calls as the
+     * batch size allows.
+     *
+     * @param productIds the unique identifiers of the products; nulls and duplicates are ignored
+     * @return a Flux emitting the products that exist, in the order of their first ID
+     */
+    public Flux<ProductDTO> getProducts(Collection<UUID> productIds) {
+        return Flux.fromIterable(new LinkedHashSet<>(productIds))
+                .filter(Objects::nonNull)
+                .flatMapSequential(this::getProduct);
+    }
+
+    /**
+     * Retrieves a product configuration by its key, from the cache when it is fresh and by revalidating
+     * it when it is stale.
+     *
+     * @param productId the unique identifier of the product
+     * @param configKey the configuration key
+     * @return a Mono emitting the configuration, or empty when it does not exist
+     */
+    public Mono<ProductConfigurationDTO> getConfigurationByKey(UUID productId, String configKey) {
+        ConfigurationKey key = new ConfigurationKey(productId, configKey);
+        return Mono.defer(() -> {
+            CachedEntry<ProductConfigurationDTO> cached = configurations.getIfPresent(key);
+            if (cached != null && cached.isFresh(System.nanoTime(), settings.getFreshFor())) {
+                return Mono.just(cached.value());
+            }
+            return configurationCalls.execute(key, () -> conditionalGet(key, cached, configurations,
+                    etag -> configurationApi.getConfigurationByKeyWithHttpInfo(productId, configKey, null, etag)));
+        });
+    }
+
+    /**
+     * Removes a product and its configurations from the caches.
+     *
+     * @param productId the unique identifier of the product
+     */
+    public void invalidateProduct(UUID productId) {
+        products.invalidate(productId);
+        configurations.asMap().keySet().removeIf(key -> key.productId().equals(productId));
+    }
+
+    /**
+     * Removes every entry from the caches.
+     */
+    public void invalidateAll() {
+        products.invalidateAll();
+        configurations.invalidateAll();
+    }
+
+    /**
+     * Reads an entity, conditionally when a tagged entry is cached, and stores the outcome: a 304 renews
+     * the cached entry, a 200 replaces it and a 404 removes it.
+     */
+    private static <K, V> Mono<V> conditionalGet(K key, CachedEntry<V> cached, Cache<K, CachedEntry<V>> cache,
+                                                 Function<String, Mono<ResponseEntity<V>>> call) {
+        return call.apply(cached == null ? null : cached.etag())
+                .flatMap(response -> {
+                    long now = System.nanoTime();
+                    if (cached != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        cache.put(key, cached.revalidated(now));
+                        return Mono.just(cached.value());
+                    }
+                    V body = response.getBody();
+                    if (body == null) {
+                        cache.invalidate(key);
+                        return Mono.empty();
+                    }
+                    cache.put(key, new CachedEntry<>(body, response.getHeaders().getETag(), now));
+                    return Mono.just(body);
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, notFound -> {
+                    cache.invalidate(key);
+                    return Mono.empty();
+                });
+    }
+
+    private static String etag(Long rowVersion) {
+        return rowVersion == null ? null : "\"" + rowVersion + "\"";
+    }
+
+    private record ConfigurationKey(UUID productId, String configKey) {
+    }
+}
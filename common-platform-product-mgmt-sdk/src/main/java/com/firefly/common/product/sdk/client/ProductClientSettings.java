@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link CachingProductClient}.
+ */
+@Data
+public class ProductClientSettings {
+
+    /**
+     * Maximum number of products, and of configurations, kept in the local caches.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time a cached entry is served without asking the service. Once it has passed, the entry is
+     * revalidated with its ETag and only transferred again when it changed.
+     */
+    private Duration freshFor = Duration.ofSeconds(30);
+
+    /**
+     * Time an entry is kept after it was last loaded or revalidated.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    /**
+     * Time a product lookup waits for other lookups to join its batch.
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * Maximum number of products read by one batch call; must not exceed the
+     * {@code firefly.product.lookup.max-products} setting of the service.
+     */
+    private int maxBatchSize = 100;
+}
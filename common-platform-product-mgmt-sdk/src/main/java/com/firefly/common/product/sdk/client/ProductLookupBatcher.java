@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import com.firefly.common.product.sdk.model.ProductDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Micro-batches single product lookups: the IDs requested within one window are read by a single
+ * batch call. A batch is sent when its window closes or as soon as it holds the maximum number of
+ * IDs, whichever comes first. Lookups of an ID already waiting for the current batch share its result.
+ */
+final class ProductLookupBatcher {
+
+    private final Function<List<UUID>, Flux<ProductDTO>> lookup;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Scheduler scheduler;
+    private final Object lock = new Object();
+    private Map<UUID, Sinks.One<ProductDTO>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param lookup       reads the products of a batch; products that do not exist are left out
+     * @param window       time the first lookup of a batch waits for others to join
+     * @param maxBatchSize maximum number of IDs of one batch
+     * @param scheduler    scheduler closing the windows
+     */
+    ProductLookupBatcher(Function<List<UUID>, Flux<ProductDTO>> lookup, Duration window, int maxBatchSize,
+                         Scheduler scheduler) {
+        this.lookup = lookup;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Looks up one product as part of the next batch.
+     *
+     * @param productId the unique identifier of the product
+     * @return a Mono emitting the product, or empty when it does not exist
+     */
+    Mono<ProductDTO> load(UUID productId) {
+        return Mono.defer(() -> {
+            Sinks.One<ProductDTO> sink;
+            Map<UUID, Sinks.One<ProductDTO>> full = null;
+            boolean opened = false;
+            synchronized (lock) {
+                sink = pending.get(productId);
+                if (sink == null) {
+                    sink = Sinks.one();
+                    pending.put(productId, sink);
+                    opened = pending.size() == 1;
+                    if (pending.size() >= maxBatchSize) {
+                        full = pending;
+                        pending = new LinkedHashMap<>();
+                    }
+                }
+            }
+            if (full != null) {
+                send(full);
+            } else if (opened) {
+                scheduler.schedule(this::sendPending, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            return sink.asMono();
+        });
+    }
+
+    private void sendPending() {
+        Map<UUID, Sinks.One<ProductDTO>> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        send(batch);
+    }
+
+    private void send(Map<UUID, Sinks.One<ProductDTO>> batch) {
+        Flux.defer(() -> lookup.apply(List.copyOf(batch.keySet())))
+                .collectMap(ProductDTO::getProductId)
+                .subscribe(
+                        found -> batch.forEach((productId, sink) -> {
+                            ProductDTO product = found.get(productId);
+                            if (product == null) {
+                                sink.tryEmitEmpty();
+                            } else {
+                                sink.tryEmitValue(product);
+                            }
+                        }),
+                        error -> batch.values().forEach(sink -> sink.tryEmitError(error)));
+    }
+}
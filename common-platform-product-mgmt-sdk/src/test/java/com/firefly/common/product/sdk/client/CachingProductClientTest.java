@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import com.firefly.common.product.sdk.api.ProductApi;
+import com.firefly.common.product.sdk.api.ProductConfigurationApi;
+import com.firefly.common.product.sdk.model.ProductConfigurationDTO;
+import com.firefly.common.product.sdk.model.ProductDTO;
+import com.firefly.common.product.sdk.model.ProductLookupRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductClientTest {
+
+    @Mock
+    private ProductApi productApi;
+
+    @Mock
+    private ProductConfigurationApi configurationApi;
+
+    private CachingProductClient client;
+
+    private final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID OTHER_PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final String ETAG = "\"3\"";
+
+    @BeforeEach
+    void setUp() {
+        // Entries are always stale, so every read after the first one revalidates
+        ProductClientSettings settings = new ProductClientSettings();
+        settings.setFreshFor(Duration.ZERO);
+        settings.setBatchWindow(Duration.ofMillis(20));
+        client = new CachingProductClient(productApi, configurationApi, settings);
+    }
+
+    @Test
+    void getProduct_ConcurrentLookups_CoalescedIntoOneBatchCall() {
+        // Arrange
+        Sinks.Many<ProductDTO> response = Sinks.many().unicast().onBackpressureBuffer();
+        when(productApi.lookupProducts(any(ProductLookupRequestDTO.class), isNull())).thenReturn(response.asFlux());
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(client.getProduct(PRODUCT_ID), client.getProduct(PRODUCT_ID),
+                        client.getProduct(OTHER_PRODUCT_ID)))
+                .then(() -> {
+                    response.tryEmitNext(product(PRODUCT_ID));
+                    response.tryEmitNext(product(OTHER_PRODUCT_ID));
+                    response.tryEmitComplete();
+                })
+                .assertNext(products -> {
+                    assertEquals(PRODUCT_ID, products.getT1().getProductId());
+                    assertSame(products.getT1(), products.getT2());
+                    assertEquals(OTHER_PRODUCT_ID, products.getT3().getProductId());
+                })
+                .verifyComplete();
+
+        verify(productApi, times(1)).lookupProducts(
+                argThat(request -> request.getProductIds().equals(List.of(PRODUCT_ID, OTHER_PRODUCT_ID))), isNull());
+    }
+
+    @Test
+    void getProduct_StaleEntryUnchanged_RevalidatedWith304() {
+        // Arrange
+        ProductDTO cached = product(PRODUCT_ID);
+        when(productApi.lookupProducts(any(ProductLookupRequestDTO.class), isNull())).thenReturn(Flux.just(cached));
+        when(productApi.getProductByIdWithHttpInfo(PRODUCT_ID, null, ETAG))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+        client.getProduct(PRODUCT_ID).block(Duration.ofSeconds(5));
+
+        // Act & Assert - the cached body is served again without being transferred
+        StepVerifier.create(client.getProduct(PRODUCT_ID))
+                .expectNext(cached)
+                .verifyComplete();
+
+        verify(productApi).getProductByIdWithHttpInfo(PRODUCT_ID, null, ETAG);
+        verify(productApi, times(1)).lookupProducts(any(ProductLookupRequestDTO.class), isNull());
+    }
+
+    @Test
+    void getProduct_StaleEntryChanged_ReplacedBy200() {
+        // Arrange
+        when(productApi.lookupProducts(any(ProductLookupRequestDTO.class), isNull()))
+                .thenReturn(Flux.just(product(PRODUCT_ID)));
+        ProductDTO changed = product(PRODUCT_ID);
+        changed.setRowVersion(4L);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"4\"");
+        when(productApi.getProductByIdWithHttpInfo(PRODUCT_ID, null, ETAG))
+                .thenReturn(Mono.just(ResponseEntity.ok().headers(headers).body(changed)));
+        when(productApi.getProductByIdWithHttpInfo(PRODUCT_ID, null, "\"4\""))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+        client.getProduct(PRODUCT_ID).block(Duration.ofSeconds(5));
+
+        // Act & Assert - the next revalidation sends the new tag
+        StepVerifier.create(client.getProduct(PRODUCT_ID).then(client.getProduct(PRODUCT_ID)))
+                .expectNext(changed)
+                .verifyComplete();
+    }
+
+    @Test
+    void getProduct_DeletedSinceCached_CompletesEmptyAndForgetsEntry() {
+        // Arrange
+        when(productApi.lookupProducts(any(ProductLookupRequestDTO.class), isNull()))
+                .thenReturn(Flux.just(product(PRODUCT_ID)))
+                .thenReturn(Flux.empty());
+        when(productApi.getProductByIdWithHttpInfo(PRODUCT_ID, null, ETAG)).thenReturn(Mono.error(notFound()));
+        client.getProduct(PRODUCT_ID).block(Duration.ofSeconds(5));
+
+        // Act & Assert
+        StepVerifier.create(client.getProduct(PRODUCT_ID))
+                .verifyComplete();
+
+        // The entry is gone, so the next read goes back to the batch lookup
+        StepVerifier.create(client.getProduct(PRODUCT_ID))
+                .verifyComplete();
+        verify(productApi, times(2)).lookupProducts(any(ProductLookupRequestDTO.class), isNull());
+    }
+
+    @Test
+    void getConfigurationByKey_NotFound_CompletesEmpty() {
+        // Arrange
+        when(configurationApi.getConfigurationByKeyWithHttpInfo(PRODUCT_ID, "limit.daily", null, null))
+                .thenReturn(Mono.error(notFound()));
+
+        // Act & Assert
+        StepVerifier.create(client.getConfigurationByKey(PRODUCT_ID, "limit.daily"))
+                .verifyComplete();
+    }
+
+    @Test
+    void getConfigurationByKey_StaleEntryUnchanged_RevalidatedWith304() {
+        // Arrange
+        ProductConfigurationDTO configuration = new ProductConfigurationDTO();
+        configuration.setConfigKey("limit.daily");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"7\"");
+        when(configurationApi.getConfigurationByKeyWithHttpInfo(PRODUCT_ID, "limit.daily", null, null))
+                .thenReturn(Mono.just(ResponseEntity.ok().headers(headers).body(configuration)));
+        when(configurationApi.getConfigurationByKeyWithHttpInfo(PRODUCT_ID, "limit.daily", null, "\"7\""))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build()));
+        client.getConfigurationByKey(PRODUCT_ID, "limit.daily").block(Duration.ofSeconds(5));
+
+        // Act & Assert
+        StepVerifier.create(client.getConfigurationByKey(PRODUCT_ID, "limit.daily"))
+                .expectNext(configuration)
+                .verifyComplete();
+
+        verify(configurationApi)
+                .getConfigurationByKeyWithHttpInfo(eq(PRODUCT_ID), eq("limit.daily"), isNull(), eq("\"7\""));
+    }
+
+    private ProductDTO product(UUID productId) {
+        ProductDTO product = new ProductDTO();
+        product.setProductId(productId);
+        product.setRowVersion(3L);
+        return product;
+    }
+
+    private static WebClientResponseException notFound() {
+        return WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found",
+                HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
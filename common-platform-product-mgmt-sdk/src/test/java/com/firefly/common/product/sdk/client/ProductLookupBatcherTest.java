@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import com.firefly.common.product.sdk.model.ProductDTO;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductLookupBatcherTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(5);
+
+    private final UUID PRODUCT_ID_1 = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private final UUID PRODUCT_ID_2 = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+    private final UUID PRODUCT_ID_3 = UUID.fromString("550e8400-e29b-41d4-a716-446655440003");
+    private final UUID MISSING_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440009");
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+    private final List<List<UUID>> batches = new CopyOnWriteArrayList<>();
+
+    private ProductLookupBatcher batcher(int maxBatchSize) {
+        Set<UUID> existing = Set.of(PRODUCT_ID_1, PRODUCT_ID_2, PRODUCT_ID_3);
+        return new ProductLookupBatcher(productIds -> {
+            batches.add(productIds);
+            return Flux.fromIterable(productIds).filter(existing::contains).map(this::product);
+        }, WINDOW, maxBatchSize, scheduler);
+    }
+
+    @Test
+    void load_WindowCloses_SendsOneBatch() throws Exception {
+        // Arrange
+        ProductLookupBatcher batcher = batcher(100);
+
+        // Act
+        CompletableFuture<ProductDTO> first = batcher.load(PRODUCT_ID_1).toFuture();
+        CompletableFuture<ProductDTO> second = batcher.load(PRODUCT_ID_2).toFuture();
+
+        // Assert - nothing is sent before the window closes
+        assertTrue(batches.isEmpty());
+        assertFalse(first.isDone());
+
+        scheduler.advanceTimeBy(WINDOW);
+        assertEquals(List.of(List.of(PRODUCT_ID_1, PRODUCT_ID_2)), batches);
+        assertEquals(PRODUCT_ID_1, first.get().getProductId());
+        assertEquals(PRODUCT_ID_2, second.get().getProductId());
+    }
+
+    @Test
+    void load_BatchFull_SendsWithoutWaitingForWindow() throws Exception {
+        // Arrange
+        ProductLookupBatcher batcher = batcher(2);
+
+        // Act
+        CompletableFuture<ProductDTO> first = batcher.load(PRODUCT_ID_1).toFuture();
+        CompletableFuture<ProductDTO> second = batcher.load(PRODUCT_ID_2).toFuture();
+        CompletableFuture<ProductDTO> third = batcher.load(PRODUCT_ID_3).toFuture();
+
+        // Assert - the full batch leaves at once, the next ID opens a new window
+        assertEquals(List.of(List.of(PRODUCT_ID_1, PRODUCT_ID_2)), batches);
+        assertEquals(PRODUCT_ID_1, first.get().getProductId());
+        assertEquals(PRODUCT_ID_2, second.get().getProductId());
+        assertFalse(third.isDone());
+
+        scheduler.advanceTimeBy(WINDOW);
+        assertEquals(List.of(PRODUCT_ID_3), batches.get(1));
+        assertEquals(PRODUCT_ID_3, third.get().getProductId());
+    }
+
+    @Test
+    void load_SameIdTwice_SharesOneSlot() throws Exception {
+        // Arrange
+        ProductLookupBatcher batcher = batcher(100);
+
+        // Act
+        CompletableFuture<ProductDTO> first = batcher.load(PRODUCT_ID_1).toFuture();
+        CompletableFuture<ProductDTO> second = batcher.load(PRODUCT_ID_1).toFuture();
+        scheduler.advanceTimeBy(WINDOW);
+
+        // Assert
+        assertEquals(List.of(List.of(PRODUCT_ID_1)), batches);
+        assertSame(first.get(), second.get());
+    }
+
+    @Test
+    void load_MissingProduct_CompletesEmpty() throws Exception {
+        // Arrange
+        ProductLookupBatcher batcher = batcher(100);
+
+        // Act
+        CompletableFuture<ProductDTO> missing = batcher.load(MISSING_ID).toFuture();
+        CompletableFuture<ProductDTO> found = batcher.load(PRODUCT_ID_1).toFuture();
+        scheduler.advanceTimeBy(WINDOW);
+
+        // Assert
+        assertNull(missing.get());
+        assertEquals(PRODUCT_ID_1, found.get().getProductId());
+    }
+
+    @Test
+    void load_BatchFails_FailsEveryLookup() {
+        // Arrange
+        ProductLookupBatcher batcher = new ProductLookupBatcher(
+                productIds -> Flux.error(new IllegalStateException("Service unavailable")), WINDOW, 100, scheduler);
+
+        // Act
+        CompletableFuture<ProductDTO> first = batcher.load(PRODUCT_ID_1).toFuture();
+        CompletableFuture<ProductDTO> second = batcher.load(PRODUCT_ID_2).toFuture();
+        scheduler.advanceTimeBy(WINDOW);
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertThrows(ExecutionException.class, second::get);
+    }
+
+    private ProductDTO product(UUID productId) {
+        ProductDTO product = new ProductDTO();
+        product.setProductId(productId);
+        return product;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.common.product.sdk.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_ConcurrentCallsForSameKey_ShareOneCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+
+        // Act
+        Mono<String> first = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            calls.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // Assert
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.tryEmitValue("value"))
+                .assertNext(both -> {
+                    assertEquals("value", both.getT1());
+                    assertEquals("value", both.getT2());
+                })
+                .verifyComplete();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_AfterCompletion_StartsNewCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Mono<String>> call = () -> Mono.fromCallable(() -> "call " + calls.incrementAndGet());
+
+        // Act
+        singleFlight.execute("key", call).block();
+        String second = singleFlight.execute("key", call).block();
+
+        // Assert
+        assertEquals("call 2", second);
+    }
+
+    @Test
+    void execute_RetryFromErrorHandler_DoesNotReplayError() {
+        // Arrange - the first call fails, the caller retries while handling the error
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Mono<String>> call = () -> calls.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("Unavailable"))
+                : Mono.just("value");
+
+        // Act & Assert
+        StepVerifier.create(singleFlight.execute("key", call)
+                        .onErrorResume(error -> singleFlight.execute("key", call)))
+                .expectNext("value")
+                .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_DifferentKeys_DoNotShare() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Mono<String>> call = () -> Mono.fromCallable(() -> "call " + calls.incrementAndGet());
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(singleFlight.execute("first", call), singleFlight.execute("second", call)))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(2, calls.get());
+    }
+}
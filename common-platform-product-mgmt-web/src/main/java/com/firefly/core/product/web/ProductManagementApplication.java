@@ -39,7 +39,7 @@ import org.springframework.web.reactive.config.EnableWebFlux;
         basePackages = "com.firefly.core.product.models.repositories"
 )
 @EnableR2dbcAuditing
-@ConfigurationPropertiesScan
+@ConfigurationPropertiesScan("com.firefly.core.product")
 @OpenAPIDefinition(
         info = @Info(
                 title = "${spring.application.name}",
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.CatalogueChangeService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangeEventDTO;
+import com.firefly.core.product.interfaces.dtos.CatalogueChangesDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Catalogue Changes", description = "Feed of committed catalogue changes for incremental synchronisation")
+public class CatalogueChangeController {
+
+    private final CatalogueChangeService service;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get catalogue changes",
+            description = "Return the changes published after the given cursor in publication order. " +
+                    "With 'wait' the request is held until a change is published or the time is up (long poll)."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the changes",
+                    content = @Content(schema = @Schema(implementation = CatalogueChangesDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CatalogueChangesDTO>> getChanges(
+            @Parameter(description = "Cursor returned by the previous request; omit to start from the oldest retained change")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Seconds to wait for new changes when there are none (default 0)")
+            @RequestParam(required = false) Integer wait) {
+        return service.getChanges(since, limit, wait == null ? null : Duration.ofSeconds(wait))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream catalogue changes as server-sent events",
+            description = "Stream the changes published after the given cursor, then every new change as it is published. " +
+                    "Each event id is a cursor token, so reconnecting clients resume through the Last-Event-ID header."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully started the change stream",
+                    content = @Content(schema = @Schema(implementation = CatalogueChangeEventDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Flux<ServerSentEvent<CatalogueChangeEventDTO>> streamChanges(
+            @Parameter(description = "Cursor to resume the stream after; omit to start from the oldest retained change")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Last event id received before the connection dropped")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // Reconnecting EventSource clients replay the original URL, so Last-Event-ID wins over the query cursor
+        String resumeFrom = lastEventId != null && !lastEventId.isBlank() ? lastEventId : since;
+        return service.streamChanges(resumeFrom)
+                .map(change -> ServerSentEvent.builder(change)
+                        .id(change.getCursor())
+                        .event("change")
+                        .build());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.CatalogueDeltaService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CatalogueDeltaDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/delta")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Catalogue Delta", description = "Catalogue entities written or deleted since a watermark for incremental synchronisation")
+public class CatalogueDeltaController {
+
+    private final CatalogueDeltaService service;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get the catalogue delta",
+            description = "Return the current state of every product, category, configuration, documentation, documentation " +
+                    "requirement, localization, relationship and version written after the given watermark, and a tombstone " +
+                    "for every one deleted, ordered by write time. Without a watermark the whole catalogue is returned page by page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the delta",
+                    content = @Content(schema = @Schema(implementation = CatalogueDeltaDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid watermark token",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CatalogueDeltaDTO>> getDelta(
+            @Parameter(description = "Watermark returned by the previous request; omit to start a full sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of entities (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer limit) {
+        return service.getDelta(since, limit)
+                .map(ResponseEntity::ok);
+    }
+}
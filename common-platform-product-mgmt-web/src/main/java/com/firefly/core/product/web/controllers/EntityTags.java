@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.interfaces.dtos.BaseDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Conditional request handling shared by the controllers. The ETag of a catalogue entity is its
+ * row version, which changes on every committed update of the row.
+ */
+final class EntityTags {
+
+    /**
+     * Row version expected for an If-Match tag that cannot be one of ours; no row ever has it.
+     */
+    private static final long UNMATCHABLE_ROW_VERSION = -1L;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Formats a row version as a strong entity tag.
+     */
+    static String of(Long rowVersion) {
+        return rowVersion == null ? null : "\"" + rowVersion + "\"";
+    }
+
+    /**
+     * Builds a 200 response carrying the ETag of the entity.
+     */
+    static <T extends BaseDTO> ResponseEntity<T> ok(T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (body.getRowVersion() != null) {
+            response.eTag(of(body.getRowVersion()));
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Answers a conditional read from the row version alone, so an unchanged entity is neither
+     * loaded, mapped nor serialised.
+     *
+     * @param ifNoneMatch the If-None-Match header, may be null
+     * @param rowVersion  reads the current row version; only called when the header is present
+     * @return a Mono emitting a 304 response when a tag matches, empty when the entity must be returned
+     */
+    static <T> Mono<ResponseEntity<T>> notModified(String ifNoneMatch, Supplier<Mono<Long>> rowVersion) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Mono.empty();
+        }
+        return rowVersion.get()
+                .map(EntityTags::of)
+                .filter(etag -> matches(ifNoneMatch, etag))
+                .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<T>build());
+    }
+
+    /**
+     * Weak comparison of an If-None-Match header with an entity tag.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String expected = etag.replace("\"", "");
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .map(candidate -> candidate.replace("\"", ""))
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(expected));
+    }
+
+    /**
+     * Reads the row version required by an If-Match header. If-Match uses strong comparison, so weak
+     * tags, tag lists and tags that are not row versions can never match.
+     *
+     * @param ifMatch the If-Match header, may be null
+     * @return the expected row version, {@link RowVersionUtils#ANY_ROW_VERSION} for {@code *}, which only
+     *         the existing entity satisfies, or null when the header is absent
+     */
+    static Long expectedRowVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        if (ifMatch.trim().equals("*")) {
+            return RowVersionUtils.ANY_ROW_VERSION;
+        }
+        String tag = ifMatch.trim();
+        if (!tag.startsWith("\"") || !tag.endsWith("\"") || tag.length() < 3) {
+            return UNMATCHABLE_ROW_VERSION;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return UNMATCHABLE_ROW_VERSION;
+        }
+    }
+
+    /**
+     * Builds the 412 response of a write whose If-Match tag no longer matches.
+     */
+    static <T> ResponseEntity<T> preconditionFailed() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+}
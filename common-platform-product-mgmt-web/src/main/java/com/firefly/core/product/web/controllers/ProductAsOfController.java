@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductSnapshotService;
+import com.firefly.core.product.interfaces.dtos.ProductAsOfDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/products/{productId}/as-of")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Point-in-Time", description = "API for reading a product as it stood at a point in time")
+public class ProductAsOfController {
+
+    private final ProductSnapshotService service;
+
+    @GetMapping
+    @Operation(
+            summary = "Get product as of a point in time",
+            description = "Resolve the product version in effect at the given timestamp (the latest one whose effective date " +
+                    "is not after it) and return the product and its configurations as they stood when that version was created."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the product at the given time",
+                    content = @Content(schema = @Schema(implementation = ProductAsOfDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product not found or no version effective at the given time",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<ProductAsOfDTO>> getProductAsOf(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Point in time, as an ISO-8601 local date-time", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp) {
+        return service.getProductAsOf(productId, timestamp)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductBatchService;
+import com.firefly.core.product.interfaces.dtos.BatchResponseDTO;
+import com.firefly.core.product.interfaces.dtos.BatchUpdateItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/products/batch")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Batch", description = "APIs for creating, updating and deleting products in bulk")
+public class ProductBatchController {
+
+    private final ProductBatchService service;
+
+    @PostMapping
+    @Operation(
+            summary = "Create products in bulk",
+            description = "Create products from a JSON array or an NDJSON stream. Items are written in chunks with multi-row inserts and reported individually"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductDTO>>> createProducts(
+            @Parameter(description = "Products to create", required = true)
+            @Valid @RequestBody Flux<ProductDTO> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.createProducts(items, atomic)
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping
+    @Operation(
+            summary = "Update products in bulk",
+            description = "Update products from a JSON array or an NDJSON stream of identifier and data pairs. Null fields keep their current value"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductDTO>>> updateProducts(
+            @Parameter(description = "Identifiers of the products to update with the fields to change", required = true)
+            @Valid @RequestBody Flux<BatchUpdateItemDTO<ProductDTO>> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.updateProducts(items, atomic)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/delete")
+    @Operation(
+            summary = "Delete products in bulk",
+            description = "Delete products by identifier from a JSON array or an NDJSON stream"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductDTO>>> deleteProducts(
+            @Parameter(description = "Identifiers of the products to delete", required = true)
+            @RequestBody Flux<UUID> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.deleteProducts(items, atomic)
+                .map(ResponseEntity::ok);
+    }
+}
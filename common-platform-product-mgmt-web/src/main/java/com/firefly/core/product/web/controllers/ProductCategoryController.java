@@ -20,7 +20,10 @@ package com.firefly.core.product.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.services.ProductCategoryService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductCategoryDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,10 +33,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -74,7 +80,8 @@ public class ProductCategoryController {
     @GetMapping("/{categoryId}")
     @Operation(
             summary = "Get product category by ID",
-            description = "Retrieve a specific product category by its unique identifier"
+            description = "Retrieve a specific product category by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -82,6 +89,11 @@ public class ProductCategoryController {
                     description = "Successfully retrieved the product category",
                     content = @Content(schema = @Schema(implementation = ProductCategoryDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The category has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product category not found",
@@ -90,12 +102,94 @@ public class ProductCategoryController {
     })
     public Mono<ResponseEntity<ProductCategoryDTO>> getCategoryById(
             @Parameter(description = "Unique identifier of the product category", required = true)
-            @PathVariable UUID categoryId) {
-        return service.getCategoryById(categoryId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID categoryId,
+            @Parameter(description = "ETag of a previously retrieved category")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductCategoryDTO>notModified(ifNoneMatch, () -> service.getCategoryRowVersion(categoryId))
+                .switchIfEmpty(Mono.defer(() -> service.getCategoryById(categoryId).map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{categoryId}/subtree")
+    @Operation(
+            summary = "Get category subtree",
+            description = "Retrieve a product category and all of its descendants, ordered by depth"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the category subtree",
+                    content = @Content(schema = @Schema(implementation = ProductCategoryDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product category not found",
+                    content = @Content
+            )
+    })
+    public Flux<ProductCategoryDTO> getCategorySubtree(
+            @Parameter(description = "Unique identifier of the subtree root category", required = true)
+            @PathVariable UUID categoryId) {
+        return service.getCategorySubtree(categoryId);
+    }
+
+    @GetMapping("/{categoryId}/ancestors")
+    @Operation(
+            summary = "Get category ancestors",
+            description = "Retrieve the breadcrumb of a product category, from the root category down to the category itself"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the category ancestors",
+                    content = @Content(schema = @Schema(implementation = ProductCategoryDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product category not found",
+                    content = @Content
+            )
+    })
+    public Flux<ProductCategoryDTO> getCategoryAncestors(
+            @Parameter(description = "Unique identifier of the product category", required = true)
+            @PathVariable UUID categoryId) {
+        return service.getCategoryAncestors(categoryId);
+    }
+
+    @GetMapping("/{categoryId}/products")
+    @Operation(
+            summary = "List products under category",
+            description = "Retrieve a keyset paginated page of the products assigned to a category or any of its descendants, " +
+                    "ordered by product ID. Pass the returned 'nextCursor' as 'cursor' to fetch the following page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of products",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product category not found",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CursorPaginationResponse<ProductDTO>>> getProductsInCategory(
+            @Parameter(description = "Unique identifier of the subtree root category", required = true)
+            @PathVariable UUID categoryId,
+            @Parameter(description = "Cursor returned by the previous page; omit to start from the beginning")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer size) {
+        return service.getProductsInCategorySubtree(categoryId, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
     @PostMapping
     @Operation(
             summary = "Create product category",
@@ -123,7 +217,8 @@ public class ProductCategoryController {
     @PutMapping("/{categoryId}")
     @Operation(
             summary = "Update product category",
-            description = "Update the information of an existing product category by its unique identifier"
+            description = "Update the information of an existing product category by its unique identifier. " +
+                    "Send the ETag of the category in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -140,15 +235,23 @@ public class ProductCategoryController {
                     responseCode = "404",
                     description = "Product category not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The category has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductCategoryDTO>> updateCategory(
             @Parameter(description = "Unique identifier of the product category", required = true)
             @PathVariable UUID categoryId,
             @Parameter(description = "Updated category data", required = true)
-            @Valid @RequestBody ProductCategoryDTO categoryDTO) {
-        return service.updateCategory(categoryId, categoryDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductCategoryDTO categoryDTO,
+            @Parameter(description = "ETag of the category being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateCategory(categoryId, categoryDTO, EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductBatchService;
+import com.firefly.core.product.interfaces.dtos.BatchResponseDTO;
+import com.firefly.core.product.interfaces.dtos.BatchUpdateItemDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/products/{productId}/configurations/batch")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Configuration Batch", description = "APIs for creating, updating and deleting product configurations in bulk")
+public class ProductConfigurationBatchController {
+
+    private final ProductBatchService service;
+
+    @PostMapping
+    @Operation(
+            summary = "Create configurations in bulk",
+            description = "Create configurations from a JSON array or an NDJSON stream. Items are written in chunks with multi-row inserts and reported individually"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductConfigurationDTO>>> createConfigurations(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Configurations to create", required = true)
+            @Valid @RequestBody Flux<ProductConfigurationDTO> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.createConfigurations(productId, items, atomic)
+                .map(ResponseEntity::ok);
+    }
+
+    @PutMapping
+    @Operation(
+            summary = "Update configurations in bulk",
+            description = "Update configurations from a JSON array or an NDJSON stream of identifier and data pairs. Null fields keep their current value"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductConfigurationDTO>>> updateConfigurations(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Identifiers of the configurations to update with the fields to change", required = true)
+            @Valid @RequestBody Flux<BatchUpdateItemDTO<ProductConfigurationDTO>> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.updateConfigurations(productId, items, atomic)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/delete")
+    @Operation(
+            summary = "Delete configurations in bulk",
+            description = "Delete configurations by identifier from a JSON array or an NDJSON stream"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see the per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed batch",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<BatchResponseDTO<ProductConfigurationDTO>>> deleteConfigurations(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Identifiers of the configurations to delete", required = true)
+            @RequestBody Flux<UUID> items,
+            @Parameter(description = "Write all items or none; when false every item is written independently")
+            @RequestParam(defaultValue = "false") boolean atomic) {
+        return service.deleteConfigurations(productId, items, atomic)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -19,8 +19,10 @@ package com.firefly.core.product.web.controllers;
 
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
+import com.firefly.core.product.core.services.ProductConfigurationResolutionService;
 import com.firefly.core.product.core.services.ProductConfigurationService;
 import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ResolvedConfigurationsDTO;
 import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +34,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -49,6 +53,7 @@ import java.util.UUID;
 public class ProductConfigurationController {
 
     private final ProductConfigurationService service;
+    private final ProductConfigurationResolutionService resolutionService;
 
     @PostMapping("/filter")
     @Operation(
@@ -115,7 +120,8 @@ public class ProductConfigurationController {
     @GetMapping("/{configId}")
     @Operation(
             summary = "Get product configuration by ID",
-            description = "Retrieve a specific product configuration using its unique identifier"
+            description = "Retrieve a specific product configuration using its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -123,6 +129,11 @@ public class ProductConfigurationController {
                     description = "Successfully retrieved the product configuration",
                     content = @Content(schema = @Schema(implementation = ProductConfigurationDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The configuration has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product configuration not found",
@@ -133,16 +144,20 @@ public class ProductConfigurationController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the product configuration", required = true)
-            @PathVariable UUID configId) {
-        return service.getConfigurationById(productId, configId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID configId,
+            @Parameter(description = "ETag of a previously retrieved configuration")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductConfigurationDTO>notModified(ifNoneMatch,
+                        () -> service.getConfigurationRowVersion(productId, configId))
+                .switchIfEmpty(Mono.defer(() -> service.getConfigurationById(productId, configId).map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/by-key/{configKey}")
     @Operation(
             summary = "Get product configuration by key",
-            description = "Retrieve a specific product configuration using its key"
+            description = "Retrieve a specific product configuration using its key. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -150,6 +165,11 @@ public class ProductConfigurationController {
                     description = "Successfully retrieved the product configuration",
                     content = @Content(schema = @Schema(implementation = ProductConfigurationDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The configuration has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product configuration not found",
@@ -160,12 +180,41 @@ public class ProductConfigurationController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Configuration key", required = true)
-            @PathVariable String configKey) {
+            @PathVariable String configKey,
+            @Parameter(description = "ETag of a previously retrieved configuration")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Served from the configuration cache, so the tag is compared after the read
         return service.getConfigurationByKey(productId, configKey)
-                .map(ResponseEntity::ok)
+                .map(config -> config.getRowVersion() != null
+                        && EntityTags.matches(ifNoneMatch, EntityTags.of(config.getRowVersion()))
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(EntityTags.of(config.getRowVersion()))
+                                .<ProductConfigurationDTO>build()
+                        : EntityTags.ok(config))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/resolved")
+    @Operation(
+            summary = "Get resolved product configurations",
+            description = "Retrieve all configurations of a product in one call, with every value parsed into its " +
+                    "detected type (boolean, integer, decimal, ISO-8601 duration, JSON or string) and grouped by " +
+                    "configuration type and key"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the product configurations",
+                    content = @Content(schema = @Schema(implementation = ResolvedConfigurationsDTO.class))
+            )
+    })
+    public Mono<ResponseEntity<ResolvedConfigurationsDTO>> getResolvedConfigurations(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId) {
+        return resolutionService.getResolvedConfigurations(productId)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping("/by-type/{configType}")
     @Operation(
             summary = "Get product configurations by type",
@@ -194,7 +243,8 @@ public class ProductConfigurationController {
     @PutMapping("/{configId}")
     @Operation(
             summary = "Update product configuration",
-            description = "Update an existing configuration record associated with the specified product"
+            description = "Update an existing configuration record associated with the specified product. " +
+                    "Send the ETag of the configuration in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -211,6 +261,11 @@ public class ProductConfigurationController {
                     responseCode = "404",
                     description = "Product configuration not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The configuration has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductConfigurationDTO>> updateConfiguration(
@@ -219,12 +274,43 @@ public class ProductConfigurationController {
             @Parameter(description = "Unique identifier of the product configuration", required = true)
             @PathVariable UUID configId,
             @Parameter(description = "Updated configuration data", required = true)
-            @Valid @RequestBody ProductConfigurationDTO configDTO) {
-        return service.updateConfiguration(productId, configId, configDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductConfigurationDTO configDTO,
+            @Parameter(description = "ETag of the configuration being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateConfiguration(productId, configId, configDTO, EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @PutMapping("/by-key/{configKey}")
+    @Operation(
+            summary = "Create or replace product configuration by key",
+            description = "Create the configuration with the given key, or replace the type and value of the existing one, in a single statement"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Product configuration successfully created or replaced",
+                    content = @Content(schema = @Schema(implementation = ProductConfigurationDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid configuration data",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<ProductConfigurationDTO>> upsertConfigurationByKey(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Key of the product configuration", required = true)
+            @PathVariable String configKey,
+            @Parameter(description = "Type and value of the configuration", required = true)
+            @Valid @RequestBody ProductConfigurationDTO configDTO) {
+        return service.upsertConfigurationByKey(productId, configKey, configDTO)
+                .map(ResponseEntity::ok);
+    }
+
     @DeleteMapping("/{configId}")
     @Operation(
             summary = "Delete product configuration",
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductConfigurationLookupService;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupRequestDTO;
+import com.firefly.core.product.interfaces.dtos.ConfigurationLookupResponseDTO;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/configurations")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Configuration Lookup", description = "APIs for reading configurations of many products at once")
+public class ProductConfigurationLookupController {
+
+    private final ProductConfigurationLookupService service;
+
+    @PostMapping(value = "/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Look up configurations of many products",
+            description = "Return the values of the selected keys and types for every listed product, " +
+                    "read with a single query and grouped by product ID, then by configuration key"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the configuration values",
+                    content = @Content(schema = @Schema(implementation = ConfigurationLookupResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No product ID given or too many product IDs or keys",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<ConfigurationLookupResponseDTO>> lookupConfigurations(
+            @Parameter(description = "Products, keys and types to look up", required = true)
+            @RequestBody ConfigurationLookupRequestDTO request) {
+        return service.lookup(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping(value = "/lookup", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream configurations of many products",
+            description = "Stream the matching configurations as newline-delimited JSON ordered by product ID and key. " +
+                    "Rows are written as they are read, so large results are never held in memory."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully started the configuration stream",
+                    content = @Content(schema = @Schema(implementation = ProductConfigurationDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No product ID given or too many product IDs or keys",
+                    content = @Content
+            )
+    })
+    public Flux<ProductConfigurationDTO> streamConfigurations(
+            @Parameter(description = "Products, keys and types to look up", required = true)
+            @RequestBody ConfigurationLookupRequestDTO request) {
+        return service.streamLookup(request);
+    }
+}
@@ -20,9 +20,13 @@ package com.firefly.core.product.web.controllers;
 import com.firefly.common.core.filters.FilterRequest;
 import com.firefly.common.core.queries.PaginationResponse;
 import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
 import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductLookupRequestDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,10 +34,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -98,7 +108,8 @@ public class ProductController {
     @GetMapping("/{productId}")
     @Operation(
             summary = "Get product by ID",
-            description = "Retrieve a specific product by its unique identifier"
+            description = "Retrieve a specific product by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -106,6 +117,11 @@ public class ProductController {
                     description = "Successfully retrieved the product",
                     content = @Content(schema = @Schema(implementation = ProductDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The product has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product not found",
@@ -114,16 +130,139 @@ public class ProductController {
     })
     public Mono<ResponseEntity<ProductDTO>> getProductById(
             @Parameter(description = "Unique identifier of the product", required = true)
-            @PathVariable UUID productId) {
-        return service.getProductById(productId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID productId,
+            @Parameter(description = "ETag of a previously retrieved product")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductDTO>notModified(ifNoneMatch, () -> service.getProductRowVersion(productId))
+                .switchIfEmpty(Mono.defer(() -> service.getProductById(productId).map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @PostMapping(value = "/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Look up many products",
+            description = "Retrieve the listed products with a single query. Products that do not exist are left out, " +
+                    "and the order of the result is unspecified."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the products",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No product ID given or too many product IDs",
+                    content = @Content
+            )
+    })
+    public Flux<ProductDTO> lookupProducts(
+            @Parameter(description = "Products to look up", required = true)
+            @RequestBody ProductLookupRequestDTO request) {
+        return service.getProductsByIds(request.getProductIds());
+    }
+
+    @GetMapping("/by-tenant/{tenantId}")
+    @Operation(
+            summary = "List products by tenant",
+            description = "Retrieve a keyset paginated page of the products of a tenant ordered by product ID. " +
+                    "Pass the returned 'nextCursor' as 'cursor' to fetch the following page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of products",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CursorPaginationResponse<ProductDTO>>> getProductsByTenant(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Cursor returned by the previous page; omit to start from the beginning")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer size) {
+        return service.getProductsByTenantId(tenantId, cursor, size)
+                .map(ResponseEntity::ok)
+                .onErrorMap(IllegalArgumentException.class, ProductController::invalidCursor);
+    }
+
+    @GetMapping(value = "/by-tenant/{tenantId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream products by tenant",
+            description = "Stream all products of a tenant as newline-delimited JSON ordered by product ID. " +
+                    "Rows are read in keyset batches as the client consumes them."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully started the product stream",
+                    content = @Content(schema = @Schema(implementation = ProductDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Flux<ProductDTO> streamProductsByTenant(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Cursor to resume the stream after; omit to start from the beginning")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Rows fetched per database round trip (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer batchSize) {
+        return service.streamProductsByTenantId(tenantId, cursor, batchSize)
+                .onErrorMap(IllegalArgumentException.class, ProductController::invalidCursor);
+    }
+
+    @GetMapping(value = "/by-tenant/{tenantId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream products by tenant as server-sent events",
+            description = "Stream all products of a tenant as server-sent events ordered by product ID. " +
+                    "Each event id is a cursor token, so reconnecting clients resume through the Last-Event-ID header."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully started the product event stream",
+                    content = @Content(schema = @Schema(implementation = ProductDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Flux<ServerSentEvent<ProductDTO>> streamProductEventsByTenant(
+            @Parameter(description = "Unique identifier of the tenant", required = true)
+            @PathVariable UUID tenantId,
+            @Parameter(description = "Cursor to resume the stream after; omit to start from the beginning")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Rows fetched per database round trip (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer batchSize,
+            @Parameter(description = "Last event id received before the connection dropped")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        // Reconnecting EventSource clients replay the original URL, so Last-Event-ID wins over the query cursor
+        String resumeFrom = lastEventId != null && !lastEventId.isBlank() ? lastEventId : cursor;
+        return service.streamProductsByTenantId(tenantId, resumeFrom, batchSize)
+                .map(product -> ServerSentEvent.builder(product)
+                        .id(CursorUtils.encode(product.getProductId()))
+                        .event("product")
+                        .build())
+                .onErrorMap(IllegalArgumentException.class, ProductController::invalidCursor);
+    }
+
     @PutMapping("/{productId}")
     @Operation(
             summary = "Update product",
-            description = "Update the information of an existing product by its unique identifier"
+            description = "Update the information of an existing product by its unique identifier. " +
+                    "Send the ETag of the product in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -140,15 +279,23 @@ public class ProductController {
                     responseCode = "404",
                     description = "Product not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The product has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductDTO>> updateProduct(
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Updated product data", required = true)
-            @Valid @RequestBody ProductDTO productDTO) {
-        return service.updateProduct(productId, productDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductDTO productDTO,
+            @Parameter(description = "ETag of the product being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateProduct(productId, productDTO, EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -175,4 +322,12 @@ public class ProductController {
         return service.deleteProduct(productId)
                 .then(Mono.just(ResponseEntity.noContent().build()));
     }
+
+    /**
+     * The cursor is decoded before the first row is read, so a malformed one fails the request before
+     * the response is committed and can still be answered with 400.
+     */
+    private static ResponseStatusException invalidCursor(IllegalArgumentException error) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, error.getMessage(), error);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductDocumentationChecklistService;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistDTO;
+import com.firefly.core.product.interfaces.dtos.DocumentationChecklistRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/documentation-requirements")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Documentation Checklist", description = "APIs for checking supplied documents against the requirements of many products")
+public class ProductDocumentationChecklistController {
+
+    private final ProductDocumentationChecklistService service;
+
+    @PostMapping(value = "/checklist", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Evaluate a documentation checklist",
+            description = "Merge the documentation requirements of the listed products and return the mandatory " +
+                    "and optional document types the customer has not supplied yet. A type mandatory for any " +
+                    "product is mandatory for the application"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully evaluated the checklist",
+                    content = @Content(schema = @Schema(implementation = DocumentationChecklistDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No product ID given, too many product IDs or an unknown product ID",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<DocumentationChecklistDTO>> evaluateChecklist(
+            @Parameter(description = "Products applied for and document types already supplied", required = true)
+            @RequestBody DocumentationChecklistRequestDTO request) {
+        return service.evaluate(request)
+                .map(ResponseEntity::ok);
+    }
+}
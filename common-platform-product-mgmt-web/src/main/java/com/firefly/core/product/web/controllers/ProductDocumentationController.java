@@ -30,6 +30,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -112,7 +114,8 @@ public class ProductDocumentationController {
     @GetMapping("/{docId}")
     @Operation(
             summary = "Get product documentation by ID",
-            description = "Retrieve a specific documentation item by its unique identifier"
+            description = "Retrieve a specific documentation item by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -120,6 +123,11 @@ public class ProductDocumentationController {
                     description = "Successfully retrieved the product documentation",
                     content = @Content(schema = @Schema(implementation = ProductDocumentationDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The documentation item has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product documentation not found",
@@ -130,16 +138,20 @@ public class ProductDocumentationController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the documentation item", required = true)
-            @PathVariable UUID docId) {
-        return service.getDocumentationById(productId, docId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID docId,
+            @Parameter(description = "ETag of a previously retrieved documentation item")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductDocumentationDTO>notModified(ifNoneMatch,
+                        () -> service.getDocumentationRowVersion(productId, docId))
+                .switchIfEmpty(Mono.defer(() -> service.getDocumentationById(productId, docId).map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{docId}")
     @Operation(
             summary = "Update product documentation",
-            description = "Update an existing documentation item for a specific product"
+            description = "Update an existing documentation item for a specific product. " +
+                    "Send the ETag of the documentation item in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -156,6 +168,11 @@ public class ProductDocumentationController {
                     responseCode = "404",
                     description = "Product documentation not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The documentation item has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductDocumentationDTO>> updateDocumentation(
@@ -164,9 +181,12 @@ public class ProductDocumentationController {
             @Parameter(description = "Unique identifier of the documentation item", required = true)
             @PathVariable UUID docId,
             @Parameter(description = "Updated documentation data", required = true)
-            @Valid @RequestBody ProductDocumentationDTO documentationDTO) {
-        return service.updateDocumentation(productId, docId, documentationDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductDocumentationDTO documentationDTO,
+            @Parameter(description = "ETag of the documentation item being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateDocumentation(productId, docId, documentationDTO, EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
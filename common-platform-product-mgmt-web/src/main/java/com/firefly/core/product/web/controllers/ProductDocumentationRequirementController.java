@@ -31,6 +31,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -114,7 +116,8 @@ public class ProductDocumentationRequirementController {
     @GetMapping("/{requirementId}")
     @Operation(
             summary = "Get product documentation requirement by ID",
-            description = "Retrieve a specific documentation requirement by its unique identifier"
+            description = "Retrieve a specific documentation requirement by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -122,6 +125,11 @@ public class ProductDocumentationRequirementController {
                     description = "Successfully retrieved the product documentation requirement",
                     content = @Content(schema = @Schema(implementation = ProductDocumentationRequirementDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The documentation requirement has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product documentation requirement not found",
@@ -132,9 +140,13 @@ public class ProductDocumentationRequirementController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the documentation requirement", required = true)
-            @PathVariable UUID requirementId) {
-        return service.getDocumentationRequirementById(productId, requirementId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID requirementId,
+            @Parameter(description = "ETag of a previously retrieved documentation requirement")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductDocumentationRequirementDTO>notModified(ifNoneMatch,
+                        () -> service.getDocumentationRequirementRowVersion(productId, requirementId))
+                .switchIfEmpty(Mono.defer(() -> service.getDocumentationRequirementById(productId, requirementId)
+                        .map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -192,7 +204,8 @@ public class ProductDocumentationRequirementController {
     @PutMapping("/{requirementId}")
     @Operation(
             summary = "Update product documentation requirement",
-            description = "Update an existing documentation requirement for a specific product"
+            description = "Update an existing documentation requirement for a specific product. " +
+                    "Send the ETag of the documentation requirement in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -209,6 +222,11 @@ public class ProductDocumentationRequirementController {
                     responseCode = "404",
                     description = "Product documentation requirement not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The documentation requirement has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductDocumentationRequirementDTO>> updateDocumentationRequirement(
@@ -217,9 +235,13 @@ public class ProductDocumentationRequirementController {
             @Parameter(description = "Unique identifier of the documentation requirement", required = true)
             @PathVariable UUID requirementId,
             @Parameter(description = "Updated documentation requirement data", required = true)
-            @Valid @RequestBody ProductDocumentationRequirementDTO requirementDTO) {
-        return service.updateDocumentationRequirement(productId, requirementId, requirementDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductDocumentationRequirementDTO requirementDTO,
+            @Parameter(description = "ETag of the documentation requirement being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateDocumentationRequirement(productId, requirementId, requirementDTO,
+                        EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
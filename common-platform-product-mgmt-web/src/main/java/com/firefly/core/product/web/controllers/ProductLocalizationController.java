@@ -30,6 +30,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -112,7 +114,8 @@ public class ProductLocalizationController {
     @GetMapping("/{localizationId}")
     @Operation(
             summary = "Get product localization by ID",
-            description = "Retrieve a specific localization record by its unique identifier"
+            description = "Retrieve a specific localization record by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -120,6 +123,11 @@ public class ProductLocalizationController {
                     description = "Successfully retrieved the product localization",
                     content = @Content(schema = @Schema(implementation = ProductLocalizationDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The localization record has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product localization not found",
@@ -130,16 +138,21 @@ public class ProductLocalizationController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the localization record", required = true)
-            @PathVariable UUID localizationId) {
-        return service.getLocalizationById(productId, localizationId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID localizationId,
+            @Parameter(description = "ETag of a previously retrieved localization record")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductLocalizationDTO>notModified(ifNoneMatch,
+                        () -> service.getLocalizationRowVersion(productId, localizationId))
+                .switchIfEmpty(Mono.defer(() -> service.getLocalizationById(productId, localizationId)
+                        .map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{localizationId}")
     @Operation(
             summary = "Update product localization",
-            description = "Update an existing product localization record"
+            description = "Update an existing product localization record. " +
+                    "Send the ETag of the localization record in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -156,6 +169,11 @@ public class ProductLocalizationController {
                     responseCode = "404",
                     description = "Product localization not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The localization record has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductLocalizationDTO>> updateLocalization(
@@ -164,9 +182,13 @@ public class ProductLocalizationController {
             @Parameter(description = "Unique identifier of the localization record", required = true)
             @PathVariable UUID localizationId,
             @Parameter(description = "Updated localization data", required = true)
-            @Valid @RequestBody ProductLocalizationDTO localizationDTO) {
-        return service.updateLocalization(productId, localizationId, localizationDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductLocalizationDTO localizationDTO,
+            @Parameter(description = "ETag of the localization record being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateLocalization(productId, localizationId, localizationDTO,
+                        EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductLocalizationResolutionService;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionRequestDTO;
+import com.firefly.core.product.interfaces.dtos.LocalizationResolutionResponseDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/localizations")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Localization Resolution", description = "APIs for resolving product localizations in a locale")
+public class ProductLocalizationResolutionController {
+
+    private final ProductLocalizationResolutionService service;
+
+    @PostMapping(value = "/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Resolve localizations of many products",
+            description = "Return, for every listed product, its localization in the first language of the locale's " +
+                    "fallback chain that has one: the locale, its parent languages, then the default language"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the localizations",
+                    content = @Content(schema = @Schema(implementation = LocalizationResolutionResponseDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No product ID given or too many product IDs",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<LocalizationResolutionResponseDTO>> resolveLocalizations(
+            @Parameter(description = "Products and locale to resolve", required = true)
+            @RequestBody LocalizationResolutionRequestDTO request) {
+        return service.resolve(request)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductRecommendationService;
+import com.firefly.core.product.interfaces.dtos.CrossSellRecommendationsDTO;
+import com.firefly.core.product.interfaces.dtos.CrossSellRequestDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Recommendations", description = "APIs for recommending products from the relationship graph")
+public class ProductRecommendationController {
+
+    private final ProductRecommendationService service;
+
+    @PostMapping(value = "/cross-sell", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Recommend cross-sell products",
+            description = "Rank the products linked to the held products by cross-sell and complementary " +
+                    "relationships. Held, retired and deleted products are never recommended"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully ranked the candidates",
+                    content = @Content(schema = @Schema(implementation = CrossSellRecommendationsDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No held product ID given or too many held product IDs",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CrossSellRecommendationsDTO>> recommendCrossSell(
+            @Parameter(description = "Held products and maximum number of candidates", required = true)
+            @RequestBody CrossSellRequestDTO request) {
+        return service.recommendCrossSell(request)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -30,6 +30,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -112,7 +114,8 @@ public class ProductRelationshipController {
     @GetMapping("/{relationshipId}")
     @Operation(
             summary = "Get product relationship by ID",
-            description = "Retrieve a specific relationship record by its unique identifier"
+            description = "Retrieve a specific relationship record by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -120,6 +123,11 @@ public class ProductRelationshipController {
                     description = "Successfully retrieved the product relationship",
                     content = @Content(schema = @Schema(implementation = ProductRelationshipDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The relationship record has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product relationship not found",
@@ -130,16 +138,21 @@ public class ProductRelationshipController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the relationship record", required = true)
-            @PathVariable UUID relationshipId) {
-        return service.getRelationshipById(productId, relationshipId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID relationshipId,
+            @Parameter(description = "ETag of a previously retrieved relationship record")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductRelationshipDTO>notModified(ifNoneMatch,
+                        () -> service.getRelationshipRowVersion(productId, relationshipId))
+                .switchIfEmpty(Mono.defer(() -> service.getRelationshipById(productId, relationshipId)
+                        .map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{relationshipId}")
     @Operation(
             summary = "Update product relationship",
-            description = "Update an existing product relationship record"
+            description = "Update an existing product relationship record. " +
+                    "Send the ETag of the relationship record in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -156,6 +169,11 @@ public class ProductRelationshipController {
                     responseCode = "404",
                     description = "Product relationship not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The relationship record has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductRelationshipDTO>> updateRelationship(
@@ -164,9 +182,13 @@ public class ProductRelationshipController {
             @Parameter(description = "Unique identifier of the relationship record", required = true)
             @PathVariable UUID relationshipId,
             @Parameter(description = "Updated relationship data", required = true)
-            @Valid @RequestBody ProductRelationshipDTO productRelationshipDTO) {
-        return service.updateRelationship(productId, relationshipId, productRelationshipDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductRelationshipDTO productRelationshipDTO,
+            @Parameter(description = "ETag of the relationship record being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateRelationship(productId, relationshipId, productRelationshipDTO,
+                        EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
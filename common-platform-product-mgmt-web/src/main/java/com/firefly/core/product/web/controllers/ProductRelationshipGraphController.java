@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductRelationshipGraphService;
+import com.firefly.core.product.interfaces.dtos.ProductGraphNodeDTO;
+import com.firefly.core.product.interfaces.dtos.ProductPathDTO;
+import com.firefly.core.product.interfaces.enums.RelationshipDirectionEnum;
+import com.firefly.core.product.interfaces.enums.RelationshipTypeEnum;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/products/{productId}/graph")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Relationship Graph", description = "APIs for multi-hop queries over product relationships")
+public class ProductRelationshipGraphController {
+
+    private final ProductRelationshipGraphService service;
+
+    @GetMapping("/reachable")
+    @Operation(
+            summary = "Get reachable products",
+            description = "Retrieve every product reachable from the product through relationships of the given types, " +
+                    "e.g. all direct and indirect prerequisites, each once and nearest first"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the reachable products",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductGraphNodeDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No relationship type given or depth out of range",
+                    content = @Content
+            )
+    })
+    public Flux<ProductGraphNodeDTO> getReachableProducts(
+            @Parameter(description = "Unique identifier of the start product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Relationship types to follow", required = true)
+            @RequestParam List<RelationshipTypeEnum> types,
+            @Parameter(description = "Direction in which relationships are followed (default OUTGOING)")
+            @RequestParam(required = false) RelationshipDirectionEnum direction,
+            @Parameter(description = "Maximum number of relationships on a path (default and upper bound: " +
+                    "firefly.product.relationship-graph.max-depth)")
+            @RequestParam(required = false) Integer maxDepth) {
+        return service.getReachableProducts(productId, types, direction, maxDepth);
+    }
+
+    @GetMapping("/upgrade-path")
+    @Operation(
+            summary = "Get upgrade path",
+            description = "Retrieve the shortest chain of UPGRADE relationships from the product to the target product"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the upgrade path",
+                    content = @Content(schema = @Schema(implementation = ProductPathDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "The target product cannot be reached through upgrades",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<ProductPathDTO>> getUpgradePath(
+            @Parameter(description = "Unique identifier of the product to upgrade from", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Unique identifier of the product to upgrade to", required = true)
+            @RequestParam UUID targetProductId) {
+        return service.getUpgradePath(productId, targetProductId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/cross-sell")
+    @Operation(
+            summary = "Get cross-sell fan-out",
+            description = "Retrieve the products linked to the product through CROSS_SELL or COMPLIMENTARY relationships " +
+                    "in either direction, each once and nearest first"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the related products",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProductGraphNodeDTO.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Depth out of range",
+                    content = @Content
+            )
+    })
+    public Flux<ProductGraphNodeDTO> getCrossSellFanOut(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "Maximum number of relationships on a path (default " +
+                    "firefly.product.relationship-graph.cross-sell-depth)")
+            @RequestParam(required = false) Integer maxDepth) {
+        return service.getCrossSellFanOut(productId, maxDepth);
+    }
+}
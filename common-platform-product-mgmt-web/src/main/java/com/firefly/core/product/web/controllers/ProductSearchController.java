@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductSearchService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductSearchResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/products/search")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Search", description = "Ranked full-text and fuzzy search of products")
+public class ProductSearchController {
+
+    private final ProductSearchService service;
+
+    @GetMapping
+    @Operation(
+            summary = "Search products",
+            description = "Search products by name, code, description and category name, and by the localized name and " +
+                    "description of the given language. Every word must match, the last one as a prefix, and products " +
+                    "with a similar name match as well. Results are ordered by relevance; pass the returned 'nextCursor' " +
+                    "as 'cursor' to fetch the following page."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of matches",
+                    content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or invalid cursor token",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<CursorPaginationResponse<ProductSearchResultDTO>>> searchProducts(
+            @Parameter(description = "Text to search for", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Language code of the localizations to search (e.g. 'en'); omit to search the product only")
+            @RequestParam(required = false) String lang,
+            @Parameter(description = "Cursor returned by the previous page; omit to start from the best match")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default " + CursorUtils.DEFAULT_PAGE_SIZE + ", max " + CursorUtils.MAX_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer size) {
+        return service.searchProducts(q, lang, cursor, size)
+                .map(ResponseEntity::ok);
+    }
+}
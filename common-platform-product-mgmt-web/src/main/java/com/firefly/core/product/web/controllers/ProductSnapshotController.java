@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductSnapshotService;
+import com.firefly.core.product.interfaces.dtos.ProductSnapshotDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/products/{productId}/snapshot")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Snapshot", description = "API for reading a product together with all of its child entities")
+public class ProductSnapshotController {
+
+    private final ProductSnapshotService service;
+
+    @GetMapping
+    @Operation(
+            summary = "Get product snapshot",
+            description = "Retrieve a product with its configurations, localizations, documentation requirements, " +
+                    "relationships, versions and documentation in a single document. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the product snapshot",
+                    content = @Content(schema = @Schema(implementation = ProductSnapshotDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The snapshot has not changed since the supplied ETag",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Product not found",
+                    content = @Content
+            )
+    })
+    public Mono<ResponseEntity<ProductSnapshotDTO>> getProductSnapshot(
+            @Parameter(description = "Unique identifier of the product", required = true)
+            @PathVariable UUID productId,
+            @Parameter(description = "ETag of a previously retrieved snapshot")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return service.getProductSnapshot(productId)
+                .map(snapshot -> EntityTags.matches(ifNoneMatch, snapshot.getEtag())
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).<ProductSnapshotDTO>build()
+                        : ResponseEntity.ok().eTag(snapshot.getEtag()).body(snapshot))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -30,6 +30,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -112,7 +114,8 @@ public class ProductVersionController {
     @GetMapping("/{versionId}")
     @Operation(
             summary = "Get product version by ID",
-            description = "Retrieve a specific product version by its unique identifier"
+            description = "Retrieve a specific product version by its unique identifier. " +
+                    "The response carries an ETag; send it back in If-None-Match to receive 304 when nothing changed."
     )
     @ApiResponses({
             @ApiResponse(
@@ -120,6 +123,11 @@ public class ProductVersionController {
                     description = "Successfully retrieved the product version",
                     content = @Content(schema = @Schema(implementation = ProductVersionDTO.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The product version has not changed since the supplied ETag",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Product version not found",
@@ -130,16 +138,21 @@ public class ProductVersionController {
             @Parameter(description = "Unique identifier of the product", required = true)
             @PathVariable UUID productId,
             @Parameter(description = "Unique identifier of the product version", required = true)
-            @PathVariable UUID versionId) {
-        return service.getProductVersionById(productId, versionId)
-                .map(ResponseEntity::ok)
+            @PathVariable UUID versionId,
+            @Parameter(description = "ETag of a previously retrieved product version")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.<ProductVersionDTO>notModified(ifNoneMatch,
+                        () -> service.getProductVersionRowVersion(productId, versionId))
+                .switchIfEmpty(Mono.defer(() -> service.getProductVersionById(productId, versionId)
+                        .map(EntityTags::ok)))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{versionId}")
     @Operation(
             summary = "Update product version",
-            description = "Update an existing product version record"
+            description = "Update an existing product version record. " +
+                    "Send the ETag of the product version in If-Match to get 412 instead of overwriting a concurrent change."
     )
     @ApiResponses({
             @ApiResponse(
@@ -156,6 +169,11 @@ public class ProductVersionController {
                     responseCode = "404",
                     description = "Product version not found",
                     content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The product version has been modified since the supplied ETag",
+                    content = @Content
             )
     })
     public Mono<ResponseEntity<ProductVersionDTO>> updateProductVersion(
@@ -164,9 +182,13 @@ public class ProductVersionController {
             @Parameter(description = "Unique identifier of the product version", required = true)
             @PathVariable UUID versionId,
             @Parameter(description = "Updated version data", required = true)
-            @Valid @RequestBody ProductVersionDTO productVersionDTO) {
-        return service.updateProductVersion(productId, versionId, productVersionDTO)
-                .map(ResponseEntity::ok)
+            @Valid @RequestBody ProductVersionDTO productVersionDTO,
+            @Parameter(description = "ETag of the product version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return service.updateProductVersion(productId, versionId, productVersionDTO,
+                        EntityTags.expectedRowVersion(ifMatch))
+                .map(EntityTags::ok)
+                .onErrorResume(OptimisticLockingFailureException.class, conflict -> Mono.just(EntityTags.preconditionFailed()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.common.core.filters.FilterRequest;
+import com.firefly.common.core.filters.PaginationResponse;
+import com.firefly.core.product.core.services.ProductConfigurationService;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.enums.ProductConfigTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the configuration filter through the real service, then explains the statements it actually
+ * sent to PostgreSQL, as recorded by {@code pg_stat_statements}. This covers the whole path from
+ * {@code FilterRequestUtils.scoped} through the query builder, which the hand-written queries of
+ * {@code FilterPushdownBenchmarkIT} in the core module do not.
+ * <p>
+ * Run with {@code mvn -P integration-tests verify}; requires Docker.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"spring.cloud.config.enabled=false", "firefly.product.cache.follow-change-feed=false"})
+@Testcontainers
+class ConfigurationFilterPushdownIT {
+
+    private static final int PRODUCTS = 2_000;
+    private static final int ROWS_PER_PRODUCT = 50;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "shared_preload_libraries=pg_stat_statements");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getFirstMappedPort() + "/" + POSTGRES.getDatabaseName());
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.flyway.user", POSTGRES::getUsername);
+        registry.add("spring.flyway.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProductConfigurationService configurationService;
+
+    @Test
+    void filterConfigurations_IsScopedToProductAndServedByIndex() throws Exception {
+        // Arrange
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+            seed(statement);
+        }
+        UUID productId = anyProduct();
+        FilterRequest<ProductConfigurationDTO> request = OBJECT_MAPPER.readValue(
+                "{\"filters\":{\"configType\":\"LIMITS\"}}",
+                new TypeReference<FilterRequest<ProductConfigurationDTO>>() {
+                });
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_stat_statements_reset()");
+        }
+
+        // Act
+        PaginationResponse<ProductConfigurationDTO> page = configurationService
+                .filterConfigurations(productId, request)
+                .block(Duration.ofSeconds(30));
+
+        // Assert - the product scope and the caller's filter both reach the result
+        assertNotNull(page);
+        assertFalse(page.getContent().isEmpty());
+        assertTrue(page.getContent().stream().allMatch(configuration ->
+                productId.equals(configuration.getProductId())
+                        && configuration.getConfigType() == ProductConfigTypeEnum.LIMITS));
+        assertEquals(ROWS_PER_PRODUCT / 2, page.getTotalElements());
+
+        // Assert - every statement the filter issued carries the product predicate and uses an index
+        List<String> statements = executedConfigurationStatements();
+        assertFalse(statements.isEmpty(), "No product_configuration statement was recorded");
+        for (String sql : statements) {
+            assertTrue(sql.contains("product_id"), "Statement is not scoped to the product: " + sql);
+            String plan = genericPlan(sql);
+            assertTrue(plan.contains("Index") || plan.contains("Bitmap"),
+                    "Statement is not using an index:\n" + sql + "\n" + plan);
+        }
+    }
+
+    /**
+     * Inserts {@value #PRODUCTS} products with {@value #ROWS_PER_PRODUCT} configurations each, half of
+     * them limits, so that an unscoped filter would have to read the whole table.
+     */
+    private static void seed(Statement statement) throws SQLException {
+        statement.execute("""
+                INSERT INTO product_category (product_category_id, category_name, level)
+                VALUES ('00000000-0000-0000-0000-000000000001', 'Pushdown', 0)
+                ON CONFLICT DO NOTHING""");
+        statement.execute("""
+                WITH new_products AS (
+                    INSERT INTO product (tenant_id, product_category_id, product_type, product_name, product_status)
+                    SELECT gen_random_uuid(), '00000000-0000-0000-0000-000000000001',
+                           'FINANCIAL', 'Pushdown product ' || g, 'ACTIVE'
+                    FROM generate_series(1, %d) g
+                    RETURNING product_id
+                )
+                INSERT INTO product_configuration (product_id, config_type, config_key, config_value)
+                SELECT p.product_id,
+                       CASE WHEN k %% 2 = 0 THEN 'LIMITS' ELSE 'CUSTOM' END::product_config_type,
+                       'key.' || k, 'value ' || k
+                FROM new_products p CROSS JOIN generate_series(1, %d) k""".formatted(PRODUCTS, ROWS_PER_PRODUCT));
+        statement.execute("ANALYZE product_configuration");
+    }
+
+    private static UUID anyProduct() throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT product_id FROM product_configuration LIMIT 1")) {
+            resultSet.next();
+            return resultSet.getObject(1, UUID.class);
+        }
+    }
+
+    private static List<String> executedConfigurationStatements() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT query FROM pg_stat_statements
+                     WHERE query ILIKE '%product_configuration%'
+                       AND query NOT ILIKE '%pg_stat_statements%'""")) {
+            while (resultSet.next()) {
+                statements.add(resultSet.getString(1));
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Explains a normalized statement, whose parameters are {@code $n} placeholders, without values.
+     */
+    private static String genericPlan(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductManagementApplicationTest {
+
+    /**
+     * Returns every {@link ConfigurationProperties} class of the service, whichever module declares it.
+     */
+    static List<Class<?>> propertiesClasses() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ConfigurationProperties.class));
+        return scanner.findCandidateComponents("com.firefly.core.product").stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(name -> ClassUtils.resolveClassName(name, null))
+                .toList();
+    }
+
+    @Test
+    void configurationPropertiesScan_CoversEveryPropertiesClass() {
+        // Arrange
+        ConfigurationPropertiesScan scan = AnnotatedElementUtils.findMergedAnnotation(
+                ProductManagementApplication.class, ConfigurationPropertiesScan.class);
+        List<Class<?>> types = propertiesClasses();
+
+        // Assert
+        assertNotNull(scan);
+        assertFalse(types.isEmpty());
+        for (Class<?> type : types) {
+            assertTrue(Arrays.stream(scan.basePackages()).anyMatch(base -> type.getPackageName().startsWith(base)),
+                    type.getName() + " is not registered by the configuration properties scan");
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductConfigurationResolutionService;
+import com.firefly.core.product.core.services.ProductConfigurationService;
+import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.services.ProductSnapshotService;
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.interfaces.dtos.ProductConfigurationDTO;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import com.firefly.core.product.interfaces.dtos.ProductSnapshotDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exercises each shape of conditional request the controllers answer: reads short-circuited on the
+ * row version, reads compared after a cached load, reads of a computed snapshot tag, and If-Match writes.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConditionalRequestsTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    private static final UUID CONFIG_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductConfigurationService configurationService;
+
+    @Mock
+    private ProductConfigurationResolutionService resolutionService;
+
+    @Mock
+    private ProductSnapshotService snapshotService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(
+                        new ProductController(productService),
+                        new ProductConfigurationController(configurationService, resolutionService),
+                        new ProductSnapshotController(snapshotService))
+                .build();
+    }
+
+    private static ProductDTO product(long rowVersion) {
+        return ProductDTO.builder().productId(PRODUCT_ID).productName("Savings").rowVersion(rowVersion).build();
+    }
+
+    private static ProductConfigurationDTO configuration(long rowVersion) {
+        return ProductConfigurationDTO.builder()
+                .productConfigurationId(CONFIG_ID)
+                .productId(PRODUCT_ID)
+                .configKey("max_limit")
+                .configValue("10000")
+                .rowVersion(rowVersion)
+                .build();
+    }
+
+    @Test
+    void getProduct_MatchingTag_NotModifiedWithoutLoading() {
+        // Arrange
+        when(productService.getProductRowVersion(PRODUCT_ID)).thenReturn(Mono.just(3L));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+                .expectBody().isEmpty();
+
+        verify(productService, never()).getProductById(any());
+    }
+
+    @Test
+    void getProduct_ChangedTag_ReturnsBodyAndNewTag() {
+        // Arrange
+        when(productService.getProductRowVersion(PRODUCT_ID)).thenReturn(Mono.just(4L));
+        when(productService.getProductById(PRODUCT_ID)).thenReturn(Mono.just(product(4L)));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+                .expectBody().jsonPath("$.productName").isEqualTo("Savings");
+    }
+
+    @Test
+    void getProduct_WithoutTag_SkipsRowVersionRead() {
+        // Arrange
+        when(productService.getProductById(PRODUCT_ID)).thenReturn(Mono.just(product(3L)));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"");
+
+        verify(productService, never()).getProductRowVersion(any());
+    }
+
+    @Test
+    void getProduct_Missing_NotFound() {
+        // Arrange
+        when(productService.getProductRowVersion(PRODUCT_ID)).thenReturn(Mono.empty());
+        when(productService.getProductById(PRODUCT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getConfigurationById_WeakTagInList_NotModified() {
+        // Arrange
+        when(configurationService.getConfigurationRowVersion(PRODUCT_ID, CONFIG_ID)).thenReturn(Mono.just(2L));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/configurations/{configId}", PRODUCT_ID, CONFIG_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1\", W/\"2\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"");
+
+        verify(configurationService, never()).getConfigurationById(any(), any());
+    }
+
+    @Test
+    void getConfigurationByKey_MatchingTag_NotModifiedAfterRead() {
+        // Arrange
+        when(configurationService.getConfigurationByKey(PRODUCT_ID, "max_limit"))
+                .thenReturn(Mono.just(configuration(5L)));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/configurations/by-key/{configKey}", PRODUCT_ID, "max_limit")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"5\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getConfigurationByKey_ChangedTag_ReturnsBody() {
+        // Arrange
+        when(configurationService.getConfigurationByKey(PRODUCT_ID, "max_limit"))
+                .thenReturn(Mono.just(configuration(6L)));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/configurations/by-key/{configKey}", PRODUCT_ID, "max_limit")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"6\"")
+                .expectBody().jsonPath("$.configValue").isEqualTo("10000");
+    }
+
+    @Test
+    void getSnapshot_MatchingTag_NotModified() {
+        // Arrange
+        ProductSnapshotDTO snapshot = ProductSnapshotDTO.builder().product(product(3L)).etag("\"3-9-1\"").build();
+        when(snapshotService.getProductSnapshot(PRODUCT_ID)).thenReturn(Mono.just(snapshot));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/snapshot", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-9-1\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3-9-1\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getSnapshot_ChangedTag_ReturnsBodyAndNewTag() {
+        // Arrange
+        ProductSnapshotDTO snapshot = ProductSnapshotDTO.builder().product(product(3L)).etag("\"3-10-1\"").build();
+        when(snapshotService.getProductSnapshot(PRODUCT_ID)).thenReturn(Mono.just(snapshot));
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/snapshot", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-9-1\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3-10-1\"")
+                .expectBody().jsonPath("$.product.productName").isEqualTo("Savings");
+    }
+
+    @Test
+    void getSnapshot_MissingProduct_NotFound() {
+        // Arrange
+        when(snapshotService.getProductSnapshot(PRODUCT_ID)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/{productId}/snapshot", PRODUCT_ID)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3-9-1\"")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void updateProduct_MatchingTag_ReturnsNewTag() {
+        // Arrange
+        when(productService.updateProduct(eq(PRODUCT_ID), any(ProductDTO.class), eq(3L)))
+                .thenReturn(Mono.just(product(4L)));
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .bodyValue(product(3L))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"");
+    }
+
+    @Test
+    void updateProduct_StaleTag_PreconditionFailed() {
+        // Arrange
+        when(productService.updateProduct(eq(PRODUCT_ID), any(ProductDTO.class), eq(3L)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Product has been modified")));
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .bodyValue(product(3L))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void updateProduct_WithoutTag_SkipsCheck() {
+        // Arrange
+        when(productService.updateProduct(eq(PRODUCT_ID), any(ProductDTO.class), isNull()))
+                .thenReturn(Mono.just(product(4L)));
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .bodyValue(product(3L))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void updateProduct_WildcardOnMissingProduct_PreconditionFailed() {
+        // Arrange
+        when(productService.updateProduct(eq(PRODUCT_ID), any(ProductDTO.class), eq(RowVersionUtils.ANY_ROW_VERSION)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Product does not exist")));
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}", PRODUCT_ID)
+                .header(HttpHeaders.IF_MATCH, "*")
+                .bodyValue(product(3L))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void updateConfiguration_WeakTag_IsUnmatchable() {
+        // Arrange
+        when(configurationService.updateConfiguration(
+                eq(PRODUCT_ID), eq(CONFIG_ID), any(ProductConfigurationDTO.class), eq(-1L)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Configuration has been modified")));
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}/configurations/{configId}", PRODUCT_ID, CONFIG_ID)
+                .header(HttpHeaders.IF_MATCH, "W/\"5\"")
+                .bodyValue(configuration(5L))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void updateConfiguration_Missing_NotFound() {
+        // Arrange
+        when(configurationService.updateConfiguration(
+                eq(PRODUCT_ID), eq(CONFIG_ID), any(ProductConfigurationDTO.class), eq(5L)))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.put().uri("/api/v1/products/{productId}/configurations/{configId}", PRODUCT_ID, CONFIG_ID)
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .bodyValue(configuration(5L))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
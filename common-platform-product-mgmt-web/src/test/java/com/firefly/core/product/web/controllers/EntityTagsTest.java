@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.utils.RowVersionUtils;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    @Test
+    void of_FormatsStrongTag() {
+        assertEquals("\"3\"", EntityTags.of(3L));
+        assertNull(EntityTags.of(null));
+    }
+
+    @Test
+    void ok_CarriesTagOnlyWhenRowVersionIsKnown() {
+        // Arrange
+        ProductDTO versioned = ProductDTO.builder().rowVersion(4L).build();
+        ProductDTO unversioned = ProductDTO.builder().build();
+
+        // Act
+        ResponseEntity<ProductDTO> withTag = EntityTags.ok(versioned);
+        ResponseEntity<ProductDTO> withoutTag = EntityTags.ok(unversioned);
+
+        // Assert
+        assertEquals(HttpStatus.OK, withTag.getStatusCode());
+        assertEquals("\"4\"", withTag.getHeaders().getETag());
+        assertSame(versioned, withTag.getBody());
+        assertNull(withoutTag.getHeaders().getETag());
+    }
+
+    @Test
+    void matches_SingleTag() {
+        assertTrue(EntityTags.matches("\"3\"", "\"3\""));
+        assertFalse(EntityTags.matches("\"2\"", "\"3\""));
+    }
+
+    @Test
+    void matches_TagListMatchesAnyMember() {
+        assertTrue(EntityTags.matches("\"1\", \"3\",\"5\"", "\"3\""));
+        assertFalse(EntityTags.matches("\"1\", \"2\"", "\"3\""));
+    }
+
+    @Test
+    void matches_WeakTagsUseWeakComparison() {
+        assertTrue(EntityTags.matches("W/\"3\"", "\"3\""));
+        assertTrue(EntityTags.matches("\"1\", W/\"3\"", "\"3\""));
+    }
+
+    @Test
+    void matches_WildcardMatchesAnyTag() {
+        assertTrue(EntityTags.matches("*", "\"3\""));
+        assertTrue(EntityTags.matches("\"1\", *", "\"3\""));
+    }
+
+    @Test
+    void matches_AbsentHeaderNeverMatches() {
+        assertFalse(EntityTags.matches(null, "\"3\""));
+        assertFalse(EntityTags.matches("  ", "\"3\""));
+    }
+
+    @Test
+    void expectedRowVersion_AbsentHeaderSkipsCheck() {
+        assertNull(EntityTags.expectedRowVersion(null));
+        assertNull(EntityTags.expectedRowVersion(""));
+    }
+
+    @Test
+    void expectedRowVersion_WildcardRequiresExistingEntity() {
+        assertEquals(RowVersionUtils.ANY_ROW_VERSION, EntityTags.expectedRowVersion(" * "));
+    }
+
+    @Test
+    void expectedRowVersion_StrongTag() {
+        assertEquals(5L, EntityTags.expectedRowVersion("\"5\""));
+        assertEquals(5L, EntityTags.expectedRowVersion(" \"5\" "));
+    }
+
+    @Test
+    void expectedRowVersion_TagsThatCannotMatchAreUnmatchable() {
+        // If-Match uses strong comparison, so none of these may be treated as "no precondition"
+        assertEquals(-1L, EntityTags.expectedRowVersion("W/\"5\""));
+        assertEquals(-1L, EntityTags.expectedRowVersion("\"1\", \"2\""));
+        assertEquals(-1L, EntityTags.expectedRowVersion("\"abc\""));
+        assertEquals(-1L, EntityTags.expectedRowVersion("5"));
+        assertEquals(-1L, EntityTags.expectedRowVersion("\"\""));
+    }
+
+    @Test
+    void notModified_AbsentHeaderDoesNotReadRowVersion() {
+        // Arrange
+        Mono<Long> rowVersion = Mono.fromCallable(() -> {
+            throw new AssertionError("Row version must not be read without If-None-Match");
+        });
+
+        // Act & Assert
+        StepVerifier.create(EntityTags.<ProductDTO>notModified(null, () -> rowVersion))
+                .verifyComplete();
+        StepVerifier.create(EntityTags.<ProductDTO>notModified(" ", () -> rowVersion))
+                .verifyComplete();
+    }
+
+    @Test
+    void notModified_MatchingTagAnswers304() {
+        StepVerifier.create(EntityTags.<ProductDTO>notModified("W/\"7\"", () -> Mono.just(7L)))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+                    assertEquals("\"7\"", response.getHeaders().getETag());
+                    assertNull(response.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void notModified_ChangedOrMissingEntityIsLoaded() {
+        StepVerifier.create(EntityTags.<ProductDTO>notModified("\"7\"", () -> Mono.just(8L)))
+                .verifyComplete();
+        StepVerifier.create(EntityTags.<ProductDTO>notModified("\"7\"", Mono::empty))
+                .verifyComplete();
+    }
+
+    @Test
+    void preconditionFailed_Answers412() {
+        assertEquals(HttpStatus.PRECONDITION_FAILED, EntityTags.preconditionFailed().getStatusCode());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.core.product.web.controllers;
+
+import com.firefly.core.product.core.services.ProductService;
+import com.firefly.core.product.core.utils.CursorUtils;
+import com.firefly.core.product.interfaces.dtos.CursorPaginationResponse;
+import com.firefly.core.product.interfaces.dtos.ProductDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductControllerTest {
+
+    private static final UUID TENANT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final String GARBAGE_CURSOR = "not-a-cursor";
+
+    @Mock
+    private ProductService productService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToController(new ProductController(productService)).build();
+        // The service decodes the cursor lazily, as the real one does
+        lenient().when(productService.getProductsByTenantId(eq(TENANT_ID), anyString(), any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> CursorUtils.decode(invocation.getArgument(1)))
+                        .map(after -> CursorPaginationResponse.<ProductDTO>builder().content(List.of()).build()));
+        lenient().when(productService.streamProductsByTenantId(eq(TENANT_ID), anyString(), any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> CursorUtils.decode(invocation.getArgument(1)))
+                        .flatMapMany(after -> Flux.<ProductDTO>empty()));
+    }
+
+    @Test
+    void getProductsByTenant_InvalidCursor_BadRequest() {
+        // Act & Assert
+        client.get().uri("/api/v1/products/by-tenant/{tenantId}?cursor={cursor}", TENANT_ID, GARBAGE_CURSOR)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamProductsByTenant_InvalidCursor_BadRequest() {
+        // Act & Assert
+        client.get().uri("/api/v1/products/by-tenant/{tenantId}/stream?cursor={cursor}", TENANT_ID, GARBAGE_CURSOR)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void streamProductEventsByTenant_InvalidLastEventId_BadRequest() {
+        // Act & Assert
+        client.get().uri("/api/v1/products/by-tenant/{tenantId}/stream", TENANT_ID)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", GARBAGE_CURSOR)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getProductsByTenant_ValidCursor_Ok() {
+        // Arrange
+        String cursor = CursorUtils.encode(UUID.randomUUID());
+
+        // Act & Assert
+        client.get().uri("/api/v1/products/by-tenant/{tenantId}?cursor={cursor}", TENANT_ID, cursor)
+                .exchange()
+                .expectStatus().isOk();
+    }
+}